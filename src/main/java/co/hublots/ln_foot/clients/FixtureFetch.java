@@ -0,0 +1,131 @@
+package co.hublots.ln_foot.clients;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import co.hublots.ln_foot.dto.external.FixtureResponseItemDto;
+import co.hublots.ln_foot.dto.external.PagingDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.With;
+
+/**
+ * Result of a `/fixtures` call, for one page of the response. When
+ * {@link #isNotModified()} is true the API answered 304 or sent the same
+ * payload as the last processed fetch for these query parameters, and no
+ * fixture is returned.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class FixtureFetch {
+
+    // Items kept by the filter, or the leading items when none matched
+    private final List<FixtureResponseItemDto> fixtures;
+    private final boolean notModified;
+    // Items in the response, kept or not
+    private final int itemsRead;
+    // False when no item passed the filter and the fixtures are the fallback items
+    private final boolean filterMatched;
+    // Paging reported by the API, 1 of 1 when absent
+    private final int page;
+    private final int totalPages;
+    @With
+    private final long fetchDurationMs;
+
+    // Validators of this response, recorded once the caller has processed it
+    @Getter(AccessLevel.PACKAGE)
+    private final String cacheKey;
+    @Getter(AccessLevel.PACKAGE)
+    private final ResponseFingerprint fingerprint;
+
+    /**
+     * A single-page fetch without validators: processing it never short-circuits a
+     * later one.
+     */
+    public static FixtureFetch of(List<FixtureResponseItemDto> fixtures) {
+        return of(fixtures, 1, 1);
+    }
+
+    /**
+     * One page of a multi-page fetch, without validators.
+     */
+    public static FixtureFetch of(List<FixtureResponseItemDto> fixtures, int page, int totalPages) {
+        return new FixtureFetch(fixtures, false, fixtures.size(), true, page, totalPages, 0, null, null);
+    }
+
+    /**
+     * Applies a filter to already materialized items, the same way the streaming
+     * read of a response does.
+     */
+    public static FixtureFetch filtered(List<FixtureResponseItemDto> items, Predicate<FixtureResponseItemDto> filter,
+            int fallbackLimit) {
+        Collector collector = new Collector(filter, fallbackLimit);
+        items.forEach(collector::accept);
+        return collector.toFetch(null, null);
+    }
+
+    public static FixtureFetch notModified(String cacheKey) {
+        return notModified(cacheKey, 1, 1);
+    }
+
+    public static FixtureFetch notModified(String cacheKey, int page, int totalPages) {
+        return new FixtureFetch(Collections.emptyList(), true, 0, true, page, totalPages, 0, cacheKey, null);
+    }
+
+    /**
+     * Validators (ETag, Last-Modified), SHA-256 and page count of a response body.
+     */
+    record ResponseFingerprint(String etag, String lastModified, String contentHash, int totalPages) {
+    }
+
+    /**
+     * Keeps the items accepted by the filter as they are read. Until one matches,
+     * the first `fallbackLimit` items are kept aside so they can be returned when
+     * none does; after that nothing but the matches is retained.
+     */
+    static class Collector {
+        private final Predicate<FixtureResponseItemDto> filter;
+        private final int fallbackLimit;
+        private final List<FixtureResponseItemDto> matches = new ArrayList<>();
+        private List<FixtureResponseItemDto> fallback = new ArrayList<>();
+        private int itemsRead;
+        private int page = 1;
+        private int totalPages = 1;
+
+        Collector(Predicate<FixtureResponseItemDto> filter, int fallbackLimit) {
+            this.filter = filter;
+            this.fallbackLimit = fallbackLimit;
+        }
+
+        void accept(FixtureResponseItemDto item) {
+            itemsRead++;
+            if (filter.test(item)) {
+                matches.add(item);
+                fallback = null;
+            } else if (fallback != null && fallback.size() < fallbackLimit) {
+                fallback.add(item);
+            }
+        }
+
+        void paging(PagingDto paging) {
+            if (paging != null && paging.getCurrent() > 0) {
+                page = paging.getCurrent();
+                totalPages = Math.max(paging.getCurrent(), paging.getTotal());
+            }
+        }
+
+        int totalPages() {
+            return totalPages;
+        }
+
+        FixtureFetch toFetch(String cacheKey, ResponseFingerprint fingerprint) {
+            boolean matched = !matches.isEmpty();
+            List<FixtureResponseItemDto> fixtures = matched ? matches : fallback;
+            return new FixtureFetch(fixtures, false, itemsRead, matched || itemsRead == 0, page, totalPages, 0,
+                    cacheKey, fingerprint);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package co.hublots.ln_foot.clients;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown before a RapidAPI request is sent when the daily budget is used up or
+ * the next per-minute slot is further away than the configured maximum wait.
+ */
+public class QuotaExhaustedException extends RestClientException {
+
+    public QuotaExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,262 @@
+package co.hublots.ln_foot.clients;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.hublots.ln_foot.clients.FixtureFetch.ResponseFingerprint;
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.external.FixtureResponseItemDto;
+import co.hublots.ln_foot.dto.external.PagingDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP client for the RapidAPI football endpoints used by the sync.
+ * <p>
+ * Concurrent fetches run on a bounded pool sized by
+ * `application.sync.fetchParallelism`, so fanning out over many leagues never
+ * opens more connections than the API plan tolerates.
+ * <p>
+ * Responses are streamed: fixture items are deserialized one at a time and
+ * filtered as they are read, keeping heap usage flat for season-long pulls.
+ * <p>
+ * For each set of query parameters the client remembers the ETag,
+ * Last-Modified and SHA-256 of the last processed response. The validators are
+ * sent back as conditional headers, and a 304 or an identical body is reported
+ * as not modified so the caller skips all database work.
+ */
+@Slf4j
+@Component
+public class RapidApiFootballClient {
+
+    // Query parameter sets remembered; live polling and daily syncs only use a few dozen
+    private static final int MAX_FINGERPRINTS = 1024;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService fetchExecutor;
+    private final Map<String, ResponseFingerprint> fingerprints = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ResponseFingerprint> eldest) {
+                    return size() > MAX_FINGERPRINTS;
+                }
+            });
+
+    @Value("${external.api.sportsUrl}")
+    private String baseUrl;
+
+    @Value("${external.api.sportsKey}")
+    private String externalApiSportsKey;
+
+    @Value("${external.api.rapidApiHost}")
+    private String externalApiRapidApiHost;
+
+    public RapidApiFootballClient(RestTemplate restTemplate, ObjectMapper objectMapper,
+            SyncConfigProperties syncConfigProperties) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchExecutor = Executors.newFixedThreadPool(
+                Math.max(1, syncConfigProperties.getFetchParallelism()), new FetchThreadFactory());
+    }
+
+    /**
+     * Fetches all fixtures from `/fixtures` with the given query parameters.
+     *
+     * @see #fetchFixtures(Map, Predicate, int)
+     */
+    public FixtureFetch fetchFixtures(Map<String, String> queryParams) {
+        return fetchFixtures(queryParams, item -> true, 0);
+    }
+
+    /**
+     * Fetches fixtures from `/fixtures` with the given query parameters, streaming
+     * the response: items are deserialized one at a time and only those accepted
+     * by the filter are kept, so the full payload is never held in memory.
+     *
+     * @param filter        items to keep
+     * @param fallbackLimit number of leading items returned instead when no item
+     *                      passes the filter
+     * @return the kept fixtures, or a not-modified result when the payload is the
+     *         one last passed to {@link #markProcessed(FixtureFetch)}
+     * @throws RestClientException if the API call fails
+     */
+    public FixtureFetch fetchFixtures(Map<String, String> queryParams, Predicate<FixtureResponseItemDto> filter,
+            int fallbackLimit) {
+        String cacheKey = cacheKey(queryParams);
+        ResponseFingerprint previous = fingerprints.get(cacheKey);
+
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(baseUrl + "/fixtures");
+        queryParams.forEach(uriBuilder::queryParam);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RapidAPI-Key", externalApiSportsKey);
+        headers.set("x-rapidapi-host", externalApiRapidApiHost);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (previous != null && previous.etag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, previous.etag());
+        }
+        if (previous != null && previous.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+        }
+
+        long fetchStart = System.nanoTime();
+        FixtureFetch fetch = restTemplate.execute(
+                uriBuilder.build().toUri(),
+                HttpMethod.GET,
+                request -> request.getHeaders().addAll(headers),
+                response -> {
+                    if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        log.debug("Fixtures for {} not modified (304).", cacheKey);
+                        return FixtureFetch.notModified(cacheKey, requestedPage(queryParams),
+                                previous != null ? previous.totalPages() : 1);
+                    }
+                    return readFixtures(response, cacheKey, previous, new FixtureFetch.Collector(filter, fallbackLimit));
+                });
+        return fetch.withFetchDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fetchStart));
+    }
+
+    /**
+     * Same as {@link #fetchFixtures(Map)} but runs on the bounded fetch pool.
+     */
+    public CompletableFuture<FixtureFetch> fetchFixturesAsync(Map<String, String> queryParams) {
+        return fetchFixturesAsync(queryParams, item -> true, 0);
+    }
+
+    /**
+     * Same as {@link #fetchFixtures(Map, Predicate, int)} but runs on the bounded
+     * fetch pool.
+     */
+    public CompletableFuture<FixtureFetch> fetchFixturesAsync(Map<String, String> queryParams,
+            Predicate<FixtureResponseItemDto> filter, int fallbackLimit) {
+        return CompletableFuture.supplyAsync(() -> fetchFixtures(queryParams, filter, fallbackLimit), fetchExecutor);
+    }
+
+    /**
+     * Records the validators of a fetch once its fixtures are stored, so the next
+     * identical response for the same query parameters is skipped. Fetches that
+     * were never processed keep being returned in full.
+     */
+    public void markProcessed(FixtureFetch fetch) {
+        if (fetch.getCacheKey() != null && fetch.getFingerprint() != null) {
+            fingerprints.put(fetch.getCacheKey(), fetch.getFingerprint());
+        }
+    }
+
+    // The body is hashed while it is parsed, so an unchanged payload is only detected once it has been read.
+    private FixtureFetch readFixtures(ClientHttpResponse response, String cacheKey, ResponseFingerprint previous,
+            FixtureFetch.Collector collector) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream body = new DigestInputStream(response.getBody(), digest);
+                JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            readResponseItems(parser, collector);
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+        if (previous != null && contentHash.equals(previous.contentHash())) {
+            log.debug("Fixtures for {} unchanged since last sync.", cacheKey);
+            FixtureFetch unchanged = collector.toFetch(cacheKey, null);
+            return FixtureFetch.notModified(cacheKey, unchanged.getPage(), unchanged.getTotalPages());
+        }
+
+        ResponseFingerprint fingerprint = new ResponseFingerprint(
+                response.getHeaders().getETag(),
+                response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                contentHash,
+                collector.totalPages());
+        return collector.toFetch(cacheKey, fingerprint);
+    }
+
+    // Walks the top-level fields, deserializing "paging" and the elements of "response" one by one.
+    private void readResponseItems(JsonParser parser, FixtureFetch.Collector collector) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return; // Empty body
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("response".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    collector.accept(objectMapper.readValue(parser, FixtureResponseItemDto.class));
+                }
+            } else if ("paging".equals(field) && value == JsonToken.START_OBJECT) {
+                collector.paging(objectMapper.readValue(parser, PagingDto.class));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static int requestedPage(Map<String, String> queryParams) {
+        try {
+            return Integer.parseInt(queryParams.getOrDefault("page", "1"));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    // Parameters sorted by name, so the same query always maps to the same entry
+    private static String cacheKey(Map<String, String> queryParams) {
+        return new TreeMap<>(queryParams).entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&", "/fixtures?", ""));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    private static class FetchThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "rapidapi-fetch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package co.hublots.ln_foot.clients;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Throttles RapidAPI requests through {@link RapidApiRateLimiter} and retries
+ * them on 429 and 5xx with exponential backoff and jitter, honouring
+ * `Retry-After` when the API sends it. A `Retry-After` beyond `maxBackoff`
+ * (typically the daily quota being spent) is not waited for: the error response
+ * is returned at once, and the checkpointed sync resumes on a later run instead
+ * of holding its thread. Requests to other hosts pass through.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RapidApiRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String RAPIDAPI_HOST_HEADER = "x-rapidapi-host";
+
+    private final RapidApiRateLimiter rateLimiter;
+    private final SyncConfigProperties syncConfigProperties;
+
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body,
+            @NonNull ClientHttpRequestExecution execution) throws IOException {
+        if (!request.getHeaders().containsKey(RAPIDAPI_HOST_HEADER)) {
+            return execution.execute(request, body);
+        }
+
+        SyncConfigProperties.RateLimit config = syncConfigProperties.getRateLimit();
+        for (int attempt = 0;; attempt++) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a RapidAPI request slot");
+            }
+
+            ClientHttpResponse response = execution.execute(request, body);
+            rateLimiter.updateFromHeaders(response.getHeaders());
+
+            HttpStatusCode status = response.getStatusCode();
+            if (!isRetryable(status) || attempt >= config.getMaxRetries()) {
+                return response;
+            }
+
+            Duration retryAfter = retryAfter(response.getHeaders());
+            if (retryAfter != null && retryAfter.compareTo(config.getMaxBackoff()) > 0) {
+                log.warn("RapidAPI answered {} for {} with Retry-After {} s, beyond the {} ms backoff limit; "
+                        + "not retrying.", status.value(), request.getURI(), retryAfter.toSeconds(),
+                        config.getMaxBackoff().toMillis());
+                return response;
+            }
+
+            Duration backoff = backoff(attempt, response.getHeaders(), config);
+            response.close();
+            log.warn("RapidAPI answered {} for {}, retry {}/{} in {} ms.", status.value(), request.getURI(),
+                    attempt + 1, config.getMaxRetries(), backoff.toMillis());
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while backing off a RapidAPI retry");
+            }
+        }
+    }
+
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.value() == HttpStatus.TOO_MANY_REQUESTS.value() || status.is5xxServerError();
+    }
+
+    // Retry-After when present, otherwise initialBackoff * 2^attempt, either capped at maxBackoff; the exponential
+    // backoff is jittered to 50-100%.
+    static Duration backoff(int attempt, HttpHeaders headers, SyncConfigProperties.RateLimit config) {
+        Duration retryAfter = retryAfter(headers);
+        if (retryAfter != null) {
+            return retryAfter.compareTo(config.getMaxBackoff()) > 0 ? config.getMaxBackoff() : retryAfter;
+        }
+        long capMillis = config.getMaxBackoff().toMillis();
+        long exponentialMillis = Math.min(capMillis, config.getInitialBackoff().toMillis() << Math.min(attempt, 20));
+        long jitteredMillis = exponentialMillis / 2 + ThreadLocalRandom.current().nextLong(exponentialMillis / 2 + 1);
+        return Duration.ofMillis(jitteredMillis);
+    }
+
+    // Retry-After in seconds, or null when absent or in the HTTP-date form, which falls back to exponential backoff
+    static Duration retryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
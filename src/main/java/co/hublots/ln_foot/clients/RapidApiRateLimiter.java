@@ -0,0 +1,171 @@
+package co.hublots.ln_foot.clients;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.ApiQuotaDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Client-side view of the RapidAPI quota: a token bucket for the per-minute
+ * limit and a counter for the daily budget.
+ * <p>
+ * Both start from `application.sync.rateLimit` and are corrected from the
+ * `x-ratelimit-*` headers of every response, so the limiter follows the actual
+ * plan and the requests other clients of the same key have already spent.
+ */
+@Slf4j
+@Component
+public class RapidApiRateLimiter {
+
+    static final String DAILY_LIMIT_HEADER = "x-ratelimit-requests-limit";
+    static final String DAILY_REMAINING_HEADER = "x-ratelimit-requests-remaining";
+    static final String DAILY_RESET_HEADER = "x-ratelimit-requests-reset";
+    static final String MINUTE_LIMIT_HEADER = "x-ratelimit-limit";
+    static final String MINUTE_REMAINING_HEADER = "x-ratelimit-remaining";
+
+    private final SyncConfigProperties.RateLimit config;
+    private final Clock clock;
+
+    private int requestsPerMinute;
+    private double tokens;
+    private long lastRefillMillis;
+
+    private int dailyLimit;
+    private int dailyRemaining;
+    private Instant dailyResetAt;
+
+    @Autowired
+    public RapidApiRateLimiter(SyncConfigProperties syncConfigProperties) {
+        this(syncConfigProperties, Clock.systemUTC());
+    }
+
+    RapidApiRateLimiter(SyncConfigProperties syncConfigProperties, Clock clock) {
+        this.config = syncConfigProperties.getRateLimit();
+        this.clock = clock;
+        this.requestsPerMinute = Math.max(1, config.getRequestsPerMinute());
+        this.tokens = requestsPerMinute;
+        this.lastRefillMillis = clock.millis();
+        this.dailyLimit = config.getDailyBudget();
+        this.dailyRemaining = dailyLimit;
+        this.dailyResetAt = nextUtcMidnight();
+    }
+
+    /**
+     * Takes a request slot, sleeping until the bucket allows it.
+     *
+     * @throws QuotaExhaustedException if the daily budget is spent or the wait
+     *                                 would exceed `maxWait`
+     */
+    public void acquire() throws InterruptedException {
+        long waitMillis = reserve();
+        if (waitMillis > 0) {
+            log.debug("RapidAPI rate limit reached, waiting {} ms.", waitMillis);
+            Thread.sleep(waitMillis);
+        }
+    }
+
+    /**
+     * Reserves a request slot and returns how long the caller must wait before
+     * using it. Tokens may go negative: each waiting caller owns a later slot.
+     */
+    synchronized long reserve() {
+        resetDailyBudgetIfDue();
+        if (dailyRemaining <= 0) {
+            throw new QuotaExhaustedException("Daily RapidAPI budget exhausted, resets at " + dailyResetAt);
+        }
+        refill();
+        long waitMillis = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * 60_000.0 / requestsPerMinute);
+        if (waitMillis > config.getMaxWait().toMillis()) {
+            throw new QuotaExhaustedException("RapidAPI rate limit: next request slot in " + waitMillis + " ms");
+        }
+        tokens -= 1;
+        dailyRemaining--;
+        return waitMillis;
+    }
+
+    /**
+     * Aligns the local counters with the quota reported by the API.
+     */
+    public synchronized void updateFromHeaders(HttpHeaders headers) {
+        Integer minuteLimit = intHeader(headers, MINUTE_LIMIT_HEADER);
+        if (minuteLimit != null && minuteLimit > 0) {
+            requestsPerMinute = minuteLimit;
+            tokens = Math.min(tokens, requestsPerMinute);
+        }
+        Integer minuteRemaining = intHeader(headers, MINUTE_REMAINING_HEADER);
+        if (minuteRemaining != null) {
+            tokens = Math.min(tokens, minuteRemaining);
+        }
+
+        Integer limit = intHeader(headers, DAILY_LIMIT_HEADER);
+        if (limit != null) {
+            dailyLimit = limit;
+        }
+        Integer remaining = intHeader(headers, DAILY_REMAINING_HEADER);
+        if (remaining != null) {
+            dailyRemaining = remaining;
+        }
+        Integer resetSeconds = intHeader(headers, DAILY_RESET_HEADER);
+        if (resetSeconds != null) {
+            dailyResetAt = clock.instant().plusSeconds(resetSeconds);
+        }
+    }
+
+    /**
+     * @return requests left in the daily budget
+     */
+    public synchronized int remainingDailyRequests() {
+        resetDailyBudgetIfDue();
+        return Math.max(0, dailyRemaining);
+    }
+
+    public synchronized ApiQuotaDto getQuota() {
+        resetDailyBudgetIfDue();
+        refill();
+        return ApiQuotaDto.builder()
+                .requestsPerMinute(requestsPerMinute)
+                .availableRequests((int) Math.max(0, Math.floor(tokens)))
+                .dailyLimit(dailyLimit)
+                .dailyRemaining(Math.max(0, dailyRemaining))
+                .dailyResetAt(dailyResetAt)
+                .build();
+    }
+
+    private void refill() {
+        long now = clock.millis();
+        tokens = Math.min(requestsPerMinute, tokens + (now - lastRefillMillis) * requestsPerMinute / 60_000.0);
+        lastRefillMillis = now;
+    }
+
+    private void resetDailyBudgetIfDue() {
+        if (!clock.instant().isBefore(dailyResetAt)) {
+            dailyRemaining = dailyLimit;
+            dailyResetAt = nextUtcMidnight();
+        }
+    }
+
+    private Instant nextUtcMidnight() {
+        return LocalDate.now(clock.withZone(ZoneOffset.UTC)).plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static Integer intHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring non-numeric {} header: {}", name, value);
+            return null;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package co.hublots.ln_foot.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+
+import java.time.Duration;
 import java.util.List;
 // Map is not needed for this structure, List of Objects is fine.
 // import java.util.Map;
@@ -14,11 +16,81 @@ public class SyncConfigProperties {
 
     private List<InterestedLeague> interestedLeagues;
 
+    // Number of rows sent per JDBC batch or multi-row insert when the sync writes fixtures, teams and leagues
+    private int batchSize = 500;
+
+    // Fixtures written per transaction; a page larger than this is committed in several chunks
+    private int chunkSize = 200;
+
+    // Age after which the checkpoint of an unfinished multi-page sync is ignored
+    private Duration checkpointMaxAge = Duration.ofHours(6);
+
+    // Maximum number of concurrent API requests when a sync fans out per league
+    private int fetchParallelism = 4;
+
+    private Live live = new Live();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Lock lock = new Lock();
+
+    private Partitions partitions = new Partitions();
+
+    @Data
+    public static class Live {
+        private boolean enabled = true;
+        // Poll interval while at least one fixture is in progress
+        private Duration pollInterval = Duration.ofSeconds(30);
+        // Poll interval around kickoff, before the API reports the fixture as started
+        private Duration kickoffPollInterval = Duration.ofSeconds(60);
+        // Upper bound between two checks when nothing is on; these checks only hit the database
+        private Duration idleCheckInterval = Duration.ofMinutes(15);
+        // How long after kickoff a fixture that is not finished is still considered live
+        private Duration matchWindow = Duration.ofHours(3);
+        // How long before kickoff polling starts
+        private Duration kickoffLead = Duration.ofMinutes(5);
+        // Daily requests live polls leave to the scheduled syncs; polls are spaced so that the rest of the
+        // budget lasts until it resets
+        private int reservedRequests = 30;
+    }
+
+    // Defaults match the smallest RapidAPI plan; the x-ratelimit-* response headers replace them
+    @Data
+    public static class RateLimit {
+        private int requestsPerMinute = 10;
+        private int dailyBudget = 100;
+        // Longest a request waits for a token before failing
+        private Duration maxWait = Duration.ofMinutes(2);
+        // Retries of a request answered with 429 or 5xx
+        private int maxRetries = 3;
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+    }
+
+    // Lease that keeps scheduled syncs on a single instance
+    @Data
+    public static class Lock {
+        private boolean enabled = true;
+        // How long a lease outlives an instance that stopped renewing it
+        private Duration leaseDuration = Duration.ofMinutes(10);
+        // Minimum time a scheduled sync keeps its lease after starting
+        private Duration minHold = Duration.ofMinutes(1);
+    }
+
+    // Monthly partitions of lnfoot_web.fixtures, created ahead of the fixtures the sync brings in
+    @Data
+    public static class Partitions {
+        private boolean enabled = true;
+        // Months after the current one that must already have their partition
+        private int monthsAhead = 12;
+    }
+
     @Data
     public static class InterestedLeague {
         private String name;
         private String country;
-        // Optional: Add apiLeagueId if you want to pre-map them in config
-        // private String apiLeagueId;
+        // Optional: external API id of the league. When not set it is looked up by name and
+        // country among the leagues already synced.
+        private String apiLeagueId;
     }
 }
@@ -10,6 +10,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import co.hublots.ln_foot.clients.RapidApiRateLimitInterceptor;
 import co.hublots.ln_foot.resolvers.UserIdArgumentResolver;
 
 @Configuration
@@ -28,7 +29,9 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    RestTemplate restTemplate() {
-        return new RestTemplate();
+    RestTemplate restTemplate(RapidApiRateLimitInterceptor rapidApiRateLimitInterceptor) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(rapidApiRateLimitInterceptor);
+        return restTemplate;
     }
 }
@@ -0,0 +1,94 @@
+package co.hublots.ln_foot.controllers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import co.hublots.ln_foot.repositories.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Conditional GET for the public read endpoints. The validators come from a
+ * {@link ResourceVersion}: a weak ETag built from the row count, the latest
+ * update and the digest of the rows when there is one, and Last-Modified from
+ * the latest update. When the version is read with an aggregate query, a
+ * request whose If-None-Match or If-Modified-Since still matches gets a 304
+ * without the body being loaded. Pages, whose version can only be told from
+ * the rows they serve, and lists served from a cache load the body first and
+ * pass its version, so a 304 only saves the transfer.
+ * <p>
+ * Responses are public and fresh for `application.http-cache.maxAge`, after
+ * which clients and proxies revalidate. A deleted row does not move
+ * Last-Modified, only the ETag sees it; clients that send both (browsers do)
+ * get If-None-Match evaluated first.
+ */
+@Component
+public class ConditionalGet {
+
+    private final CacheControl cacheControl;
+
+    public ConditionalGet(@Value("${application.http-cache.maxAge:15s}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * @return a 304 when the client's copy matches {@code version}, otherwise
+     *         the response of {@code handler}, with the validators added when
+     *         it is a 200
+     */
+    public <T> ResponseEntity<T> respond(HttpServletRequest request, ResourceVersion version,
+            Supplier<ResponseEntity<T>> handler) {
+        return respond(request, version, List.of(), handler);
+    }
+
+    /**
+     * Same, for a response that varies by the given request headers: the Vary
+     * header is sent with the 304 as well as with the 200, so that caches
+     * keep the variants apart when they refresh a stored response.
+     */
+    public <T> ResponseEntity<T> respond(HttpServletRequest request, ResourceVersion version, List<String> varyBy,
+            Supplier<ResponseEntity<T>> handler) {
+        String eTag = "W/\"" + version.count() + "-" + lastModifiedMicros(version)
+                + (version.rowsDigest() != null ? "-" + version.rowsDigest() : "") + "\"";
+        long lastModified = version.lastModified() != null
+                ? version.lastModified().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : -1;
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag(eTag);
+        if (lastModified >= 0) {
+            validators.setLastModified(lastModified);
+        }
+        validators.setCacheControl(cacheControl);
+        if (!varyBy.isEmpty()) {
+            validators.setVary(varyBy);
+        }
+
+        // Without the response, checkNotModified only evaluates the conditions and leaves the headers to us
+        if (new ServletWebRequest(request).checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(validators).build();
+        }
+        ResponseEntity<T> response = handler.get();
+        if (response.getStatusCode().value() != HttpStatus.OK.value()) {
+            return response;
+        }
+        return ResponseEntity.ok().headers(response.getHeaders()).headers(validators).body(response.getBody());
+    }
+
+    private static long lastModifiedMicros(ResourceVersion version) {
+        if (version.lastModified() == null) {
+            return 0;
+        }
+        Instant instant = version.lastModified().toInstant(ZoneOffset.UTC);
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+}
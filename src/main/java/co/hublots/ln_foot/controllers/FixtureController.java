@@ -6,8 +6,11 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,19 +19,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import co.hublots.ln_foot.dto.CreateFixtureDto;
+import co.hublots.ln_foot.dto.CursorPageDto;
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
 import co.hublots.ln_foot.dto.FixtureDto;
 import co.hublots.ln_foot.dto.UpdateFixtureDto;
+import co.hublots.ln_foot.repositories.ResourceVersion;
 import co.hublots.ln_foot.services.FixtureService;
+import co.hublots.ln_foot.services.JsonPayload;
+import co.hublots.ln_foot.services.ResourceVersionService;
+import co.hublots.ln_foot.services.impl.LiveScoreBroadcaster;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Validated
@@ -38,34 +50,86 @@ import lombok.extern.slf4j.Slf4j;
 public class FixtureController {
 
     private final FixtureService fixtureService;
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+    private final ResourceVersionService resourceVersionService;
+    private final ConditionalGet conditionalGet;
 
     @GetMapping
     public ResponseEntity<Page<FixtureDto>> listFixtures(
             @RequestParam(required = false) String leagueApiId,
-            Pageable pageable) {
-        Page<FixtureDto> fixturePage = fixtureService.listFixtures(leagueApiId, pageable);
-        return ResponseEntity.ok(fixturePage);
+            Pageable pageable,
+            HttpServletRequest request) {
+        // Validators of the page served, not of the table: the rows and the total, which is part of the body
+        Page<FixtureDto> page = fixtureService.listFixtures(leagueApiId, pageable);
+        ResourceVersion version = ResourceVersion
+                .ofRows(page.getContent(), FixtureDto::getId, FixtureDto::getUpdatedAt)
+                .withCount(page.getTotalElements());
+        return conditionalGet.respond(request, version, () -> ResponseEntity.ok(page));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDto<FixtureDto>> scrollFixtures(
+            @RequestParam(required = false) String leagueApiId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            HttpServletRequest request) {
+        CursorPageDto<FixtureDto> page = fixtureService.scrollFixtures(leagueApiId, cursor, size);
+        return conditionalGet.respond(request,
+                ResourceVersion.ofRows(page.getContent(), FixtureDto::getId, FixtureDto::getUpdatedAt),
+                () -> ResponseEntity.ok(page));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<FixtureDto> findFixtureById(@PathVariable String id) {
-        return fixtureService.findFixtureById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<FixtureDto> findFixtureById(@PathVariable String id, HttpServletRequest request) {
+        return conditionalGet.respond(request, resourceVersionService.getFixtureVersion(id),
+                () -> fixtureService.findFixtureById(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/upcoming")
-    public List<FixtureDto> getUpcomingFixtures(
+    public ResponseEntity<List<FixtureDto>> getUpcomingFixtures(
             @RequestParam(defaultValue = "7") @Min(1) @Max(30) Integer days,
-            @RequestParam(required = false) String leagueId) {
-        return fixtureService.getUpcomingFixtures(days, leagueId);
+            @RequestParam(required = false) String leagueId,
+            HttpServletRequest request) {
+        // Validators of the cached list itself, which may not yet reflect a change committed elsewhere
+        List<FixtureDto> fixtures = fixtureService.getUpcomingFixtures(days, leagueId);
+        return conditionalGet.respond(request, ResourceVersion.of(fixtures, FixtureDto::getUpdatedAt),
+                () -> ResponseEntity.ok(fixtures));
     }
 
+    /**
+     * Server-sent events with the score and status changes found by the sync.
+     * Without filter every fixture is streamed, otherwise the fixtures of the
+     * given leagues and the given fixtures (comma-separated external API ids).
+     */
+    @GetMapping(path = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<FixtureDeltaDto>> streamLiveScores(
+            @RequestParam(required = false) List<String> leagueId,
+            @RequestParam(required = false) List<String> fixtureId) {
+        return liveScoreBroadcaster.stream(leagueId, fixtureId);
+    }
+
+    /**
+     * Written from the JSON bytes cached with the list, gzipped when the
+     * client accepts it, so a hit costs neither serialization nor compression.
+     * The validators are the version cached with the bytes.
+     */
     @GetMapping("/by-date")
-    public List<FixtureDto> getFixturesByDate(
+    public ResponseEntity<byte[]> getFixturesByDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @RequestParam(required = false) String leagueId) {
-        return fixtureService.getFixturesByDate(date, leagueId);
+            @RequestParam(required = false) String leagueId,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        JsonPayload payload = fixtureService.getFixturesByDateJson(date, leagueId);
+        return conditionalGet.respond(request, payload.version(), List.of(HttpHeaders.ACCEPT_ENCODING), () -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzipped());
+            }
+            return response.body(payload.json());
+        });
     }
 
     @PostMapping
@@ -89,4 +153,18 @@ public class FixtureController {
         fixtureService.deleteFixture(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    // True when gzip is listed without q=0
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
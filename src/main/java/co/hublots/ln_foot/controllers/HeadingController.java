@@ -20,7 +20,9 @@ import co.hublots.ln_foot.annotations.KeycloakUserId;
 import co.hublots.ln_foot.dto.HeadingDto;
 import co.hublots.ln_foot.models.Heading;
 import co.hublots.ln_foot.repositories.HeadingRepository;
+import co.hublots.ln_foot.services.ResourceVersionService;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -29,25 +31,31 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/headings")
 public class HeadingController {
     private final HeadingRepository headingRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final ConditionalGet conditionalGet;
 
     @GetMapping
-    public ResponseEntity<List<HeadingDto>> getHeadings() {
-        List<Heading> headings = headingRepository.findAll();
-        return new ResponseEntity<>(headings.stream().map(HeadingDto::fromEntity).collect(Collectors.toList()),
-                HttpStatus.OK);
+    public ResponseEntity<List<HeadingDto>> getHeadings(HttpServletRequest request) {
+        return conditionalGet.respond(request, resourceVersionService.getHeadingsVersion(), () -> {
+            List<Heading> headings = headingRepository.findAll();
+            return new ResponseEntity<>(headings.stream().map(HeadingDto::fromEntity).collect(Collectors.toList()),
+                    HttpStatus.OK);
+        });
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<HeadingDto> getOrderById(@PathVariable String id) {
-        Optional<Heading> heading = headingRepository.findById(id);
-        if (heading.isPresent()) {
-            return new ResponseEntity<>(
-                    HeadingDto.fromEntity(heading.get()),
-                    HttpStatus.OK);
+    public ResponseEntity<HeadingDto> getOrderById(@PathVariable String id, HttpServletRequest request) {
+        return conditionalGet.respond(request, resourceVersionService.getHeadingVersion(id), () -> {
+            Optional<Heading> heading = headingRepository.findById(id);
+            if (heading.isPresent()) {
+                return new ResponseEntity<>(
+                        HeadingDto.fromEntity(heading.get()),
+                        HttpStatus.OK);
 
-        }
+            }
 
-        return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        });
     }
 
     @PostMapping
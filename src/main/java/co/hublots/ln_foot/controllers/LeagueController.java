@@ -1,5 +1,7 @@
 package co.hublots.ln_foot.controllers;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -18,8 +20,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import co.hublots.ln_foot.dto.CreateLeagueDto;
 import co.hublots.ln_foot.dto.LeagueDto;
+import co.hublots.ln_foot.dto.StandingDto;
 import co.hublots.ln_foot.dto.UpdateLeagueDto;
 import co.hublots.ln_foot.services.LeagueService;
+import co.hublots.ln_foot.services.ResourceVersionService;
+import co.hublots.ln_foot.services.StandingsService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
@@ -32,29 +38,43 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LeagueController {
     private final LeagueService leagueService;
+    private final StandingsService standingsService;
+    private final ResourceVersionService resourceVersionService;
+    private final ConditionalGet conditionalGet;
 
     @GetMapping
     public ResponseEntity<Page<LeagueDto>> listLeagues( // Changed return type
             @RequestParam(required = false) @Size(max = 100, message = "Country parameter is too long") String country,
             @RequestParam(required = false) @Size(max = 50, message = "Type parameter is too long") String type,
-            Pageable pageable) {
-        Page<LeagueDto> leaguePage = leagueService.listLeagues(country, type, pageable);
-        return ResponseEntity.ok(leaguePage);
+            Pageable pageable,
+            HttpServletRequest request) {
+        // The type filter is ignored by listLeagues, so it does not narrow the version either
+        return conditionalGet.respond(request, resourceVersionService.getLeaguesVersion(country),
+                () -> ResponseEntity.ok(leagueService.listLeagues(country, type, pageable)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LeagueDto> findLeagueById(@PathVariable String id) {
-        try {
-            return leagueService.findLeagueById(id)
-                    .map(ResponseEntity::ok)
-                    .orElseGet(() -> {
-                        log.warn("League not found with ID: {}", id);
-                        return ResponseEntity.notFound().build();
-                    });
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid ID format for League: {}", id, e);
-            return ResponseEntity.badRequest().build();
-        }
+    public ResponseEntity<LeagueDto> findLeagueById(@PathVariable String id, HttpServletRequest request) {
+        return conditionalGet.respond(request, resourceVersionService.getLeagueVersion(id), () -> {
+            try {
+                return leagueService.findLeagueById(id)
+                        .map(ResponseEntity::ok)
+                        .orElseGet(() -> {
+                            log.warn("League not found with ID: {}", id);
+                            return ResponseEntity.notFound().build();
+                        });
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid ID format for League: {}", id, e);
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    // Defaults to the latest season with standings
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<List<StandingDto>> getStandings(@PathVariable String id,
+            @RequestParam(required = false) Integer season) {
+        return ResponseEntity.ok(standingsService.getStandings(id, season));
     }
 
     @PostMapping
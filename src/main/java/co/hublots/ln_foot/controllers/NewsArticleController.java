@@ -22,7 +22,9 @@ import co.hublots.ln_foot.dto.NewsArticleDto;
 import co.hublots.ln_foot.dto.UpdateNewsArticleDto;
 import co.hublots.ln_foot.models.NewsArticle.NewsStatus;
 import co.hublots.ln_foot.services.NewsArticleService;
+import co.hublots.ln_foot.services.ResourceVersionService;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
@@ -36,21 +38,26 @@ import lombok.extern.slf4j.Slf4j;
 public class NewsArticleController {
 
     private final NewsArticleService newsArticleService;
+    private final ResourceVersionService resourceVersionService;
+    private final ConditionalGet conditionalGet;
 
     @GetMapping
-    public List<NewsArticleDto> listNewsArticles(
-            @RequestParam(required = false) @Size(max = 20, message = "Status parameter is too long") Optional<NewsStatus> status) {
-        return newsArticleService.listNewsArticles(status);
+    public ResponseEntity<List<NewsArticleDto>> listNewsArticles(
+            @RequestParam(required = false) @Size(max = 20, message = "Status parameter is too long") Optional<NewsStatus> status,
+            HttpServletRequest request) {
+        return conditionalGet.respond(request, resourceVersionService.getNewsArticlesVersion(status.orElse(null)),
+                () -> ResponseEntity.ok(newsArticleService.listNewsArticles(status)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<NewsArticleDto> findNewsArticleById(@PathVariable String id) {
-        return newsArticleService.findNewsArticleById(id)
-                .map(ResponseEntity::ok)
-                .orElseGet(() -> {
-                    log.warn("NewsArticle not found with ID: {}", id);
-                    return ResponseEntity.notFound().build();
-                });
+    public ResponseEntity<NewsArticleDto> findNewsArticleById(@PathVariable String id, HttpServletRequest request) {
+        return conditionalGet.respond(request, resourceVersionService.getNewsArticleVersion(id),
+                () -> newsArticleService.findNewsArticleById(id)
+                        .map(ResponseEntity::ok)
+                        .orElseGet(() -> {
+                            log.warn("NewsArticle not found with ID: {}", id);
+                            return ResponseEntity.notFound().build();
+                        }));
     }
 
     @PostMapping
@@ -1,17 +1,27 @@
 package co.hublots.ln_foot.controllers;
 
+import co.hublots.ln_foot.clients.RapidApiRateLimiter;
+import co.hublots.ln_foot.dto.ApiQuotaDto;
+import co.hublots.ln_foot.dto.CacheStatsDto;
+import co.hublots.ln_foot.dto.StandingDto;
 import co.hublots.ln_foot.dto.SyncStatusDto;
-import co.hublots.ln_foot.dto.SyncStatusDto.SyncStatus;
-import co.hublots.ln_foot.services.DataSyncService;
+import co.hublots.ln_foot.services.StandingsService;
+import co.hublots.ln_foot.services.SyncJobService;
+import co.hublots.ln_foot.services.impl.FixtureReadCache;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -20,17 +30,71 @@ import java.util.HashMap;
 @RequestMapping("/api/v1/sync")
 public class SyncController {
 
-    private final DataSyncService dataSyncService;
+    private final SyncJobService syncJobService;
+    private final RapidApiRateLimiter rapidApiRateLimiter;
+    private final FixtureReadCache fixtureReadCache;
+    private final StandingsService standingsService;
+
+    @GetMapping("/quota")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiQuotaDto> getApiQuota() {
+        return ResponseEntity.ok(rapidApiRateLimiter.getQuota());
+    }
+
+    @GetMapping("/fixture-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsDto> getFixtureCacheStats() {
+        return ResponseEntity.ok(fixtureReadCache.getStats());
+    }
 
     @PostMapping("/all-fixtures")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<SyncStatusDto> syncAllFixtures(
             @RequestBody(required = false) Map<String, String> queryParams) {
         Map<String, String> params = (queryParams == null) ? new HashMap<>() : queryParams;
-        SyncStatusDto result = dataSyncService.syncMainFixtures(params);
-        if (SyncStatus.ERROR.equals(result.getStatus())) {
-            return ResponseEntity.status(500).body(result);
-        }
-        return ResponseEntity.ok(result);
+        SyncStatusDto job = syncJobService.submitMainFixturesSync(params);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/sync/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SyncStatusDto> getSyncJob(@PathVariable String jobId) {
+        return syncJobService.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Recomputes a league season from its stored results, e.g. after a backfill
+    @PostMapping("/standings/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StandingDto>> rebuildStandings(
+            @RequestParam String leagueApiId,
+            @RequestParam int season) {
+        standingsService.rebuildStandings(leagueApiId, season);
+        return ResponseEntity.ok(standingsService.getStandings(leagueApiId, season));
+    }
+
+    // Recomputes every team's form and head-to-head records from the stored results, as a background job
+    @PostMapping("/team-stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SyncStatusDto> rebuildTeamStats() {
+        SyncStatusDto job = syncJobService.submitTeamStatsRebuild();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/sync/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @PostMapping("/interested-leagues")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SyncStatusDto> syncInterestedLeagues(
+            @RequestParam String season,
+            @RequestBody(required = false) Map<String, String> queryParams) {
+        Map<String, String> params = (queryParams == null) ? new HashMap<>() : queryParams;
+        SyncStatusDto job = syncJobService.submitInterestedLeaguesSync(season, params);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/sync/jobs/" + job.getJobId()))
+                .body(job);
     }
 }
@@ -1,12 +1,23 @@
 package co.hublots.ln_foot.controllers;
 
+import co.hublots.ln_foot.dto.FixtureDto;
+import co.hublots.ln_foot.dto.HeadToHeadDto;
 import co.hublots.ln_foot.dto.TeamDto;
+import co.hublots.ln_foot.dto.TeamFormDto;
+import co.hublots.ln_foot.services.FixtureService;
+import co.hublots.ln_foot.services.ResourceVersionService;
 import co.hublots.ln_foot.services.TeamService;
+import co.hublots.ln_foot.services.TeamStatsService;
+import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 // import org.springframework.security.access.prepost.PreAuthorize; // If needed for read ops
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,25 +26,57 @@ import java.util.Optional;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamStatsService teamStatsService;
+    private final FixtureService fixtureService;
+    private final ResourceVersionService resourceVersionService;
+    private final ConditionalGet conditionalGet;
 
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService, TeamStatsService teamStatsService, FixtureService fixtureService,
+            ResourceVersionService resourceVersionService, ConditionalGet conditionalGet) {
         this.teamService = teamService;
+        this.teamStatsService = teamStatsService;
+        this.fixtureService = fixtureService;
+        this.resourceVersionService = resourceVersionService;
+        this.conditionalGet = conditionalGet;
     }
 
     // Example: /api/v1/teams?leagueId=XYZ
     @GetMapping
-    public List<TeamDto> listTeams(
-            @RequestParam Optional<String> leagueId) {
-        return teamService.listTeams(leagueId);
+    public ResponseEntity<List<TeamDto>> listTeams(
+            @RequestParam Optional<String> leagueId,
+            HttpServletRequest request) {
+        return conditionalGet.respond(request, resourceVersionService.getTeamsVersion(leagueId.orElse(null)),
+                () -> ResponseEntity.ok(teamService.listTeams(leagueId)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TeamDto> findTeamById(@PathVariable String id) {
+    public ResponseEntity<TeamDto> findTeamById(@PathVariable String id, HttpServletRequest request) {
         if (id == null || id.trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
-        return teamService.findTeamById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        return conditionalGet.respond(request, resourceVersionService.getTeamVersion(id),
+                () -> teamService.findTeamById(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+
+    // Example: /api/v1/teams/33/fixtures?from=2024-08-01&to=2025-05-31&page=0&size=20, in kickoff order
+    @GetMapping("/{id}/fixtures")
+    public ResponseEntity<Slice<FixtureDto>> listTeamFixtures(@PathVariable String id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Pageable pageable) {
+        return ResponseEntity.ok(fixtureService.listTeamFixtures(id, from, to, pageable));
+    }
+
+    @GetMapping("/{id}/form")
+    public ResponseEntity<TeamFormDto> getTeamForm(@PathVariable String id) {
+        return ResponseEntity.ok(teamStatsService.getTeamForm(id));
+    }
+
+    // Example: /api/v1/teams/33/h2h/34, counted from the point of view of team 33
+    @GetMapping("/{id}/h2h/{opponentId}")
+    public ResponseEntity<HeadToHeadDto> getHeadToHead(@PathVariable String id, @PathVariable String opponentId) {
+        return ResponseEntity.ok(teamStatsService.getHeadToHead(id, opponentId));
     }
 }
@@ -0,0 +1,20 @@
+package co.hublots.ln_foot.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiQuotaDto {
+    private Integer requestsPerMinute; // Per-minute limit of the plan
+    private Integer availableRequests; // Requests that can be sent right now without waiting
+    private Integer dailyLimit; // Daily request limit of the plan
+    private Integer dailyRemaining; // Requests left until the daily reset
+    private Instant dailyResetAt; // When the daily budget is restored
+}
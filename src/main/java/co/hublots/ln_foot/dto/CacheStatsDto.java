@@ -0,0 +1,19 @@
+package co.hublots.ln_foot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private Long size; // Entries currently cached
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate; // Hits over requests, 1.0 when nothing was requested yet
+    private Long evictionCount; // Entries dropped for size or age
+    private Long invalidationCount; // Entries dropped because their fixtures changed
+}
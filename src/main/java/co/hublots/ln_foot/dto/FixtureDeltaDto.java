@@ -0,0 +1,42 @@
+package co.hublots.ln_foot.dto;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Score or status change of a fixture, pushed on the live score stream. The
+ * scores are the fixture's current ones; {@code changes} tells which of them
+ * moved.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureDeltaDto {
+
+    public enum Change {
+        GOALS, STATUS, HALFTIME, FULLTIME, EXTRATIME, PENALTY
+    }
+
+    private String id; // Corresponds to apiFootballId
+    private String leagueId; // Corresponds to apiFootballId of the league
+    private Set<Change> changes;
+    private String previousStatusShortCode;
+    private String statusShortCode;
+    private Integer goalsHome;
+    private Integer goalsAway;
+    private Integer scoreHtHome;
+    private Integer scoreHtAway;
+    private Integer scoreFtHome;
+    private Integer scoreFtAway;
+    private Integer scoreEtHome;
+    private Integer scoreEtAway;
+    private Integer scorePtHome;
+    private Integer scorePtAway;
+    private OffsetDateTime detectedAt;
+}
@@ -0,0 +1,37 @@
+package co.hublots.ln_foot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+// Meetings between two teams, counted from the point of view of `team`
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadToHeadDto {
+    private SimpleTeamDto team;
+    private SimpleTeamDto opponent;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+    private LastMeeting lastMeeting; // Null until the teams have met
+    private OffsetDateTime updatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LastMeeting {
+        private OffsetDateTime date;
+        private String homeTeamId; // Corresponds to apiTeamId of the home team
+        private int goalsHome;
+        private int goalsAway;
+    }
+}
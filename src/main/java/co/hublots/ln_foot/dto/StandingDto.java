@@ -0,0 +1,29 @@
+package co.hublots.ln_foot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingDto {
+    private int rank;
+    private SimpleTeamDto team;
+    private String leagueId; // Corresponds to apiFootballId of the league
+    private Integer season;
+    private int played;
+    private int won;
+    private int drawn;
+    private int lost;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int goalDifference;
+    private int points;
+    private String form; // Last results, most recent first, e.g. "WWDLW"
+    private OffsetDateTime updatedAt;
+}
@@ -1,20 +1,61 @@
 package co.hublots.ln_foot.dto;
 
+import java.time.Instant;
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SyncStatusDto {
-    private SyncStatus status; // e.g., "SUCCESS", "ERROR", "NO_DATA"
+    private SyncStatus status; // e.g., "SUCCESS", "ERROR", "NO_DATA", "NOT_MODIFIED"
     private String message;
     private Integer itemsProcessed; // Number of primary items processed (e.g., fixtures)
+    private Integer itemsCreated; // Fixtures inserted because their apiFixtureId was unknown
+    private Integer itemsUpdated; // Existing fixtures whose synced columns changed
+    private Long writeDurationMs; // Time spent in the bulk write of leagues, teams and fixtures
+    private Double writeThroughputPerSecond; // Fixtures written per second during the bulk write
+    private Long fetchDurationMs; // Wall-clock time until the last page was received from the external API
+    private List<String> failedLeagues; // Leagues whose fetch failed or was skipped during a per-league sync
+    private Integer quotaRemaining; // External API requests left in the daily budget after the sync
+    private List<PageProgress> pages; // One entry per API response page, in the order they were saved
+
+    // Set when the sync runs as a background job
+    private String jobId;
+    private SyncPhase phase;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Double itemsPerSecond; // Items processed per second since the job started
+    private List<String> errors; // Failed pages and the error that ended the job, if any
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageProgress {
+        private String league; // API league id for a per-league sync, null otherwise
+        private int page;
+        private int totalPages;
+        private boolean notModified; // Same payload as the last sync, nothing was saved
+        private boolean failed; // The page could not be fetched
+        private int itemsRead; // Items in the response page
+        private int itemsKept; // Items left after the interested-league filter
+        private int itemsProcessed;
+        private long fetchDurationMs;
+        private long saveDurationMs; // Matching and writing the kept items
+    }
 
     public enum SyncStatus {
-        SUCCESS, ERROR, NO_DATA
+        SUCCESS, ERROR, NO_DATA, NOT_MODIFIED
+    }
+
+    public enum SyncPhase {
+        QUEUED, FETCHING, SAVING, COMPLETED, FAILED
     }
 }
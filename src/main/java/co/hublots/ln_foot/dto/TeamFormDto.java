@@ -0,0 +1,35 @@
+package co.hublots.ln_foot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamFormDto {
+    private SimpleTeamDto team;
+    private String form; // Last results in every competition, most recent first, e.g. "WWDLWLLDWW"
+    private OffsetDateTime lastResultAt;
+    private Tally overall;
+    private Tally home;
+    private Tally away;
+    private OffsetDateTime updatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tally {
+        private int played;
+        private int won;
+        private int drawn;
+        private int lost;
+        private int goalsFor;
+        private int goalsAgainst;
+    }
+}
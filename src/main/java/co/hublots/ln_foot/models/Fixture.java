@@ -29,9 +29,18 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+// The composite indexes follow the FixtureRepository query shapes: a league, a status or a team narrowed
+// to a kickoff window (or ordered by kickoff). FixtureQueryBenchmark shows the plans they get. The
+// database gets them from the Flyway migrations; they are declared here for schemas built from the mappings.
+// On Postgres the table is also partitioned by month of match_datetime (V4 migration), which makes the
+// primary key (id, match_datetime) and api_fixture_id unique per kickoff only.
 @Table(name = "fixtures", schema = "lnfoot_web", indexes = {
         @Index(name = "idx_fixture_api_id", columnList = "api_fixture_id"),
-        @Index(name = "idx_fixture_datetime", columnList = "match_datetime")
+        @Index(name = "idx_fixture_datetime", columnList = "match_datetime"),
+        @Index(name = "idx_fixture_league_datetime", columnList = "league_id, match_datetime"),
+        @Index(name = "idx_fixture_status_datetime", columnList = "status, match_datetime"),
+        @Index(name = "idx_fixture_team1_datetime", columnList = "team1_id, match_datetime"),
+        @Index(name = "idx_fixture_team2_datetime", columnList = "team2_id, match_datetime")
 })
 public class Fixture {
 
@@ -47,7 +56,9 @@ public class Fixture {
 
     private String round; // e.g., "Regular Season - 1", "Final"
 
-    @Column(name = "api_fixture_id", unique = true)
+    private Integer season; // Year the season starts, e.g., 2024 for 2024/25
+
+    @Column(name = "api_fixture_id")
     private String apiFixtureId;
 
     @Column(name = "api_source")
@@ -0,0 +1,82 @@
+package co.hublots.ln_foot.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Results of the meetings between two teams in every competition. There is
+ * one row per pair, teamA being the team with the lower id. Kept up to date
+ * by the sync, see TeamStatsServiceImpl.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "head_to_head", schema = "lnfoot_web", uniqueConstraints = @UniqueConstraint(
+        name = "uk_head_to_head_teams", columnNames = { "team_a_id", "team_b_id" }))
+public class HeadToHead {
+
+    @Id
+    @UuidGenerator
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_a_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team teamA;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_b_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team teamB;
+
+    @Column(nullable = false)
+    private int played;
+
+    @Column(name = "team_a_wins", nullable = false)
+    private int teamAWins;
+
+    @Column(name = "team_b_wins", nullable = false)
+    private int teamBWins;
+
+    @Column(nullable = false)
+    private int draws;
+
+    @Column(name = "team_a_goals", nullable = false)
+    private int teamAGoals;
+
+    @Column(name = "team_b_goals", nullable = false)
+    private int teamBGoals;
+
+    @Column(name = "last_match_at")
+    private OffsetDateTime lastMatchAt; // Kickoff of the latest meeting
+
+    @Column(name = "last_team_a_home")
+    private Boolean lastTeamAHome;
+
+    @Column(name = "last_team_a_goals")
+    private Integer lastTeamAGoals;
+
+    @Column(name = "last_team_b_goals")
+    private Integer lastTeamBGoals;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -7,9 +7,12 @@ import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -50,7 +53,9 @@ public class Highlight {
 
     private String type; // e.g., "goal", "foul", "card"
 
+    // Fixtures are partitioned by kickoff, so the reference is checked by a trigger instead of a foreign key
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fixture_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Fixture fixture;
 
     @CreationTimestamp
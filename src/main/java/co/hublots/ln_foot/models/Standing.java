@@ -0,0 +1,86 @@
+package co.hublots.ln_foot.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Row of a league table: the results of one team in one league season.
+ * Derived from the finished fixtures and kept up to date by the sync, see
+ * StandingsServiceImpl.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "standings", schema = "lnfoot_web", uniqueConstraints = @UniqueConstraint(
+        name = "uk_standings_league_season_team", columnNames = { "league_id", "season", "team_id" }))
+public class Standing {
+
+    @Id
+    @UuidGenerator
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "league_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private League league;
+
+    @Column(nullable = false)
+    private Integer season;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team team;
+
+    @Column(nullable = false)
+    private int played;
+
+    @Column(nullable = false)
+    private int won;
+
+    @Column(nullable = false)
+    private int drawn;
+
+    @Column(nullable = false)
+    private int lost;
+
+    @Column(name = "goals_for", nullable = false)
+    private int goalsFor;
+
+    @Column(name = "goals_against", nullable = false)
+    private int goalsAgainst;
+
+    @Column(nullable = false)
+    private int points;
+
+    @Column(length = 5)
+    private String form; // Last results, most recent first, e.g. "WWDLW"
+
+    @Column(name = "last_result_at")
+    private OffsetDateTime lastResultAt; // Kickoff of the most recent result in the form
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public int getGoalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+}
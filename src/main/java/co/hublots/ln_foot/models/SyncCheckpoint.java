@@ -0,0 +1,36 @@
+package co.hublots.ln_foot.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of a multi-page sync that has not finished yet. Written in the same
+ * transaction as the last chunk of each page, and deleted once every page is
+ * saved.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "sync_checkpoints", schema = "lnfoot_web")
+public class SyncCheckpoint {
+
+    @Id
+    @Column(name = "sync_key", length = 512)
+    private String syncKey; // Query parameters of the sync, sorted by name
+
+    @Column(name = "last_completed_page", nullable = false)
+    private int lastCompletedPage;
+
+    @Column(name = "total_pages", nullable = false)
+    private int totalPages;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,88 @@
+package co.hublots.ln_foot.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Results of one team in every competition, split by home and away games.
+ * Derived from the finished fixtures and kept up to date by the sync, see
+ * TeamStatsServiceImpl.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "team_stats", schema = "lnfoot_web")
+public class TeamStats {
+
+    @Id
+    @UuidGenerator
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team team;
+
+    @Column(name = "home_played", nullable = false)
+    private int homePlayed;
+
+    @Column(name = "home_won", nullable = false)
+    private int homeWon;
+
+    @Column(name = "home_drawn", nullable = false)
+    private int homeDrawn;
+
+    @Column(name = "home_lost", nullable = false)
+    private int homeLost;
+
+    @Column(name = "home_goals_for", nullable = false)
+    private int homeGoalsFor;
+
+    @Column(name = "home_goals_against", nullable = false)
+    private int homeGoalsAgainst;
+
+    @Column(name = "away_played", nullable = false)
+    private int awayPlayed;
+
+    @Column(name = "away_won", nullable = false)
+    private int awayWon;
+
+    @Column(name = "away_drawn", nullable = false)
+    private int awayDrawn;
+
+    @Column(name = "away_lost", nullable = false)
+    private int awayLost;
+
+    @Column(name = "away_goals_for", nullable = false)
+    private int awayGoalsFor;
+
+    @Column(name = "away_goals_against", nullable = false)
+    private int awayGoalsAgainst;
+
+    @Column(length = 10)
+    private String form; // Last results, most recent first, e.g. "WWDLWLLDWW"
+
+    @Column(name = "last_result_at")
+    private OffsetDateTime lastResultAt; // Kickoff of the most recent result in the form
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
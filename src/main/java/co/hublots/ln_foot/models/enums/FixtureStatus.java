@@ -50,6 +50,22 @@ public enum FixtureStatus {
     private static final Set<String> LIVE_STATUS_SHORT_CODES = Set.of(
             "1H", "HT", "2H", "ET", "P", "BT", "SUSP", "INT", "LIVE");
 
+    // Statuses after which a fixture will not change anymore during its match window
+    private static final Set<String> TERMINAL_STATUS_SHORT_CODES = Set.of(
+            "FT", "AET", "PEN", "PST", "CANC", "ABD", "AWD", "WO");
+
+    // Statuses whose goals are a final result and count in the league standings
+    private static final Set<String> RESULT_STATUS_SHORT_CODES = Set.of(
+            "FT", "AET", "PEN", "AWD", "WO");
+
+    public static Set<String> terminalShortCodes() {
+        return TERMINAL_STATUS_SHORT_CODES;
+    }
+
+    public static Set<String> resultShortCodes() {
+        return RESULT_STATUS_SHORT_CODES;
+    }
+
     // More robust isLive check based on a set of codes, can be used if enum
     // instance's isLive field isn't sufficient
     public static boolean isStatusLive(String shortCode) {
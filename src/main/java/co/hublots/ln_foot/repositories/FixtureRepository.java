@@ -1,41 +1,159 @@
 package co.hublots.ln_foot.repositories;
 
 import co.hublots.ln_foot.models.Fixture;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 @Repository
 public interface FixtureRepository extends JpaRepository<Fixture, String> {
-    Optional<Fixture> findByApiFixtureId(String apiFixtureId);
+    // Read endpoints select FixtureRow projections: one joined query, no entities in the persistence context
+    String FIXTURE_ROW_SELECT = "SELECT new co.hublots.ln_foot.repositories.FixtureRow("
+            + "f.id, f.apiFixtureId, f.matchDatetime, f.status, f.round, f.venueName, l.apiLeagueId, "
+            + "h.apiTeamId, h.teamName, h.logoUrl, a.apiTeamId, a.teamName, a.logoUrl, "
+            + "f.goalsTeam1, f.goalsTeam2, f.scoreHtHome, f.scoreHtAway, f.scoreFtHome, f.scoreFtAway, "
+            + "f.scoreEtHome, f.scoreEtAway, f.scorePtHome, f.scorePtAway, f.createdAt, f.updatedAt) "
+            + "FROM Fixture f JOIN f.league l JOIN f.team1 h JOIN f.team2 a ";
 
-    List<Fixture> findByLeague_Id(String leagueId);
+    // Keyset condition: strictly after (:afterDatetime, :afterId) in (matchDatetime, id) order. The leading
+    // range on matchDatetime lets the database seek the kickoff index instead of scanning past an offset.
+    String AFTER_KEYSET = "f.matchDatetime >= :afterDatetime "
+            + "AND (f.matchDatetime > :afterDatetime OR f.id > :afterId) ";
+    String KEYSET_ORDER = "ORDER BY f.matchDatetime, f.id";
+
+    // Finished fixtures, as counted in the standings and the team statistics
+    String FIXTURE_RESULT_SELECT = "SELECT new co.hublots.ln_foot.repositories.FixtureResult("
+            + "f.league.id, f.season, f.team1.id, f.team2.id, f.goalsTeam1, f.goalsTeam2, f.matchDatetime) "
+            + "FROM Fixture f WHERE f.status IN :statuses "
+            + "AND f.goalsTeam1 IS NOT NULL AND f.goalsTeam2 IS NOT NULL ";
+    String IN_LEAGUE_SEASON = "AND f.league.id = :leagueId AND f.season = :season ";
+
+    // Team schedule: a union of one range scan on each team index rather than an OR over both columns.
+    // Each branch stops after the rows the page needs, so a page costs the same however long the history is.
+    String TEAM_FIXTURE_IDS = "SELECT t.id FROM ("
+            + "(SELECT f.id, f.match_datetime FROM lnfoot_web.fixtures f WHERE f.team1_id = :teamId "
+            + "AND f.match_datetime BETWEEN :from AND :to ORDER BY f.match_datetime, f.id LIMIT :branchLimit) "
+            + "UNION ALL "
+            + "(SELECT f.id, f.match_datetime FROM lnfoot_web.fixtures f WHERE f.team2_id = :teamId "
+            + "AND f.match_datetime BETWEEN :from AND :to ORDER BY f.match_datetime, f.id LIMIT :branchLimit)"
+            + ") t ORDER BY t.match_datetime, t.id LIMIT :limit OFFSET :offset";
+
+    @Query(value = FIXTURE_ROW_SELECT, countQuery = "SELECT count(f) FROM Fixture f")
+    Page<FixtureRow> findFixtureRows(Pageable pageable);
+
+    @Query(ResourceVersion.SELECT + "FROM Fixture e WHERE e.apiFixtureId = :apiFixtureId")
+    ResourceVersion findVersionByApiFixtureId(@Param("apiFixtureId") String apiFixtureId);
+
+    @Query(value = FIXTURE_ROW_SELECT + "WHERE l.apiLeagueId = :leagueApiId",
+            countQuery = "SELECT count(f) FROM Fixture f WHERE f.league.apiLeagueId = :leagueApiId")
+    Page<FixtureRow> findFixtureRowsByLeagueApiId(@Param("leagueApiId") String leagueApiId, Pageable pageable);
+
+    @Query(FIXTURE_ROW_SELECT + "WHERE f.matchDatetime BETWEEN :from AND :to ORDER BY f.matchDatetime, f.id")
+    List<FixtureRow> findFixtureRowsBetween(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+    @Query(FIXTURE_ROW_SELECT + "WHERE l.id = :leagueId AND f.matchDatetime BETWEEN :from AND :to "
+            + "ORDER BY f.matchDatetime, f.id")
+    List<FixtureRow> findFixtureRowsByLeagueBetween(@Param("leagueId") String leagueId,
+            @Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+    @Query(FIXTURE_ROW_SELECT + KEYSET_ORDER)
+    List<FixtureRow> findFirstFixtureRows(Limit limit);
+
+    @Query(FIXTURE_ROW_SELECT + "WHERE " + AFTER_KEYSET + KEYSET_ORDER)
+    List<FixtureRow> findFixtureRowsAfter(@Param("afterDatetime") OffsetDateTime afterDatetime,
+            @Param("afterId") String afterId, Limit limit);
+
+    @Query(FIXTURE_ROW_SELECT + "WHERE l.apiLeagueId = :leagueApiId " + KEYSET_ORDER)
+    List<FixtureRow> findFirstFixtureRowsByLeagueApiId(@Param("leagueApiId") String leagueApiId, Limit limit);
 
-    // Renamed from findByTeam1IdOrTeam2Id to be more descriptive or provide separate methods if needed
-    // This query finds fixtures where the given teamId is either team1 or team2
-    @Query("SELECT f FROM Fixture f WHERE f.team1.id = :teamId OR f.team2.id = :teamId")
-    List<Fixture> findByTeamId(@Param("teamId") String teamId);
+    @Query(FIXTURE_ROW_SELECT + "WHERE l.apiLeagueId = :leagueApiId AND " + AFTER_KEYSET + KEYSET_ORDER)
+    List<FixtureRow> findFixtureRowsByLeagueApiIdAfter(@Param("leagueApiId") String leagueApiId,
+            @Param("afterDatetime") OffsetDateTime afterDatetime, @Param("afterId") String afterId, Limit limit);
 
-    List<Fixture> findByTeam1_Id(String team1Id);
-    List<Fixture> findByTeam2_Id(String team2Id);
+    // api_fixture_id is only unique per kickoff since the table is partitioned (V4): should overlapping syncs
+    // have stored a fixture under two kickoffs, the row updated last comes first
+    @Query(FIXTURE_ROW_SELECT + "WHERE f.apiFixtureId = :apiFixtureId ORDER BY f.updatedAt DESC")
+    List<FixtureRow> findFixtureRowsByApiFixtureId(@Param("apiFixtureId") String apiFixtureId, Limit limit);
 
-    List<Fixture> findByMatchDatetimeBetween(LocalDateTime startDateTime, LocalDateTime endDateTime);
+    // Loads the league and both teams in the same select, as the result is mapped to a FixtureDto. The row
+    // updated last when api_fixture_id has several, see findFixtureRowsByApiFixtureId
+    @EntityGraph(attributePaths = { "league", "team1", "team2" })
+    Optional<Fixture> findFirstByApiFixtureIdOrderByUpdatedAtDesc(String apiFixtureId);
 
-    List<Fixture> findByLeague_IdAndMatchDatetimeBetween(String leagueId, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    // Read-only: the sync diffs these rows in memory and writes changes through SyncBatchWriter. Locked in id
+    // order until the sync chunk commits, so that overlapping syncs read each other's results instead of both
+    // applying the same change to the standings and team statistics.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT f FROM Fixture f WHERE f.apiFixtureId IN :apiFixtureIds ORDER BY f.id")
+    List<Fixture> findForUpdateByApiFixtureIdIn(@Param("apiFixtureIds") Collection<String> apiFixtureIds);
+
+    List<Fixture> findByLeague_Id(String leagueId);
+
+    @Query(value = TEAM_FIXTURE_IDS, nativeQuery = true)
+    List<String> findTeamFixtureIds(@Param("teamId") String teamId, @Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to, @Param("branchLimit") long branchLimit, @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    // The kickoff window lets the database skip the partitions the ids cannot be in
+    @Query(FIXTURE_ROW_SELECT + "WHERE f.id IN :ids AND f.matchDatetime BETWEEN :from AND :to " + KEYSET_ORDER)
+    List<FixtureRow> findFixtureRowsByIdIn(@Param("ids") Collection<String> ids, @Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to);
 
     List<Fixture> findByStatus(String status);
 
+    // Fixtures whose kickoff falls in the window and that can still change (used by live polling)
+    List<Fixture> findByMatchDatetimeBetweenAndStatusNotIn(OffsetDateTime from, OffsetDateTime to,
+            Collection<String> excludedStatuses);
+
+    Optional<Fixture> findFirstByMatchDatetimeAfterAndStatusInOrderByMatchDatetimeAsc(OffsetDateTime after,
+            Collection<String> statuses);
+
     List<Fixture> findByLeague_IdAndStatus(String leagueId, String status);
 
     Optional<Fixture> findByApiFixtureIdAndApiSource(String apiFixtureId, String apiSource);
 
-    @Query("SELECT f FROM Fixture f WHERE f.league.apiLeagueId = :leagueApiId")
+    @EntityGraph(attributePaths = { "league", "team1", "team2" })
+    @Query(value = "SELECT f FROM Fixture f WHERE f.league.apiLeagueId = :leagueApiId",
+            countQuery = "SELECT count(f) FROM Fixture f WHERE f.league.apiLeagueId = :leagueApiId")
     Page<Fixture> findByLeagueApiLeagueId(@Param("leagueApiId") String leagueApiId, Pageable pageable); // Added for paginated search by league API ID
+
+    @Query(FIXTURE_RESULT_SELECT + IN_LEAGUE_SEASON + "ORDER BY f.matchDatetime")
+    List<FixtureResult> findResults(@Param("leagueId") String leagueId, @Param("season") Integer season,
+            @Param("statuses") Collection<String> statuses);
+
+    @Query(FIXTURE_RESULT_SELECT + IN_LEAGUE_SEASON + "AND (f.team1.id = :teamId OR f.team2.id = :teamId) "
+            + "ORDER BY f.matchDatetime DESC")
+    List<FixtureResult> findLatestResultsOfTeam(@Param("leagueId") String leagueId, @Param("season") Integer season,
+            @Param("teamId") String teamId, @Param("statuses") Collection<String> statuses, Limit limit);
+
+    @Query(FIXTURE_RESULT_SELECT + "ORDER BY f.matchDatetime")
+    List<FixtureResult> findAllResults(@Param("statuses") Collection<String> statuses);
+
+    // Only read when a team's stored form is stale, e.g. after a corrected result
+    @Query(FIXTURE_RESULT_SELECT + "AND (f.team1.id = :teamId OR f.team2.id = :teamId) "
+            + "ORDER BY f.matchDatetime DESC")
+    List<FixtureResult> findLatestResultsOfTeamInAnyLeague(@Param("teamId") String teamId,
+            @Param("statuses") Collection<String> statuses, Limit limit);
+
+    @Query(FIXTURE_RESULT_SELECT + "AND ((f.team1.id = :teamId AND f.team2.id = :opponentId) "
+            + "OR (f.team1.id = :opponentId AND f.team2.id = :teamId)) ORDER BY f.matchDatetime DESC")
+    List<FixtureResult> findLatestResultsBetween(@Param("teamId") String teamId,
+            @Param("opponentId") String opponentId, @Param("statuses") Collection<String> statuses, Limit limit);
 }
@@ -0,0 +1,40 @@
+package co.hublots.ln_foot.repositories;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.models.enums.FixtureStatus;
+
+/**
+ * Final result of a fixture as it counts in the league standings and the team
+ * statistics, keyed by internal ids. Built from a loaded fixture with {@link #of(Fixture)} or by the
+ * constructor expression in {@link FixtureRepository#FIXTURE_RESULT_SELECT}.
+ */
+public record FixtureResult(
+        String leagueId,
+        Integer season,
+        String homeTeamId,
+        String awayTeamId,
+        Integer homeGoals,
+        Integer awayGoals,
+        OffsetDateTime matchDatetime) {
+
+    /**
+     * @return the result of the fixture, empty while it has no final score;
+     *         the season may be null. The status is compared as stored, like
+     *         the {@code IN :statuses} of the result queries.
+     */
+    public static Optional<FixtureResult> of(Fixture fixture) {
+        if (fixture.getStatus() == null
+                || !FixtureStatus.resultShortCodes().contains(fixture.getStatus())
+                || fixture.getGoalsTeam1() == null || fixture.getGoalsTeam2() == null
+                || fixture.getLeague() == null
+                || fixture.getTeam1() == null || fixture.getTeam2() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new FixtureResult(fixture.getLeague().getId(), fixture.getSeason(),
+                fixture.getTeam1().getId(), fixture.getTeam2().getId(), fixture.getGoalsTeam1(),
+                fixture.getGoalsTeam2(), fixture.getMatchDatetime()));
+    }
+}
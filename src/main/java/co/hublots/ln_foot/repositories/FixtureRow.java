@@ -0,0 +1,38 @@
+package co.hublots.ln_foot.repositories;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Read-only projection of a fixture with its league and teams, holding exactly
+ * the columns served as a FixtureDto. Built by the constructor expression in
+ * {@link FixtureRepository#FIXTURE_ROW_SELECT}, so no entity is loaded or
+ * dirty-checked.
+ */
+public record FixtureRow(
+        String id,
+        String apiFixtureId,
+        OffsetDateTime matchDatetime,
+        String status,
+        String round,
+        String venueName,
+        String leagueApiId,
+        String homeTeamApiId,
+        String homeTeamName,
+        String homeTeamLogoUrl,
+        String awayTeamApiId,
+        String awayTeamName,
+        String awayTeamLogoUrl,
+        Integer goalsHome,
+        Integer goalsAway,
+        Integer scoreHtHome,
+        Integer scoreHtAway,
+        Integer scoreFtHome,
+        Integer scoreFtAway,
+        Integer scoreEtHome,
+        Integer scoreEtAway,
+        Integer scorePtHome,
+        Integer scorePtAway,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
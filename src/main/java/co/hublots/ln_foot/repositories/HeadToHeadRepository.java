@@ -0,0 +1,39 @@
+package co.hublots.ln_foot.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.hublots.ln_foot.models.HeadToHead;
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface HeadToHeadRepository extends JpaRepository<HeadToHead, String> {
+
+    // Creates the empty row of a pair unless it exists, teamAId being the lower id. A row inserted by a
+    // transaction that has not committed yet makes this one wait for it, then leaves that row as it is
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO lnfoot_web.head_to_head (id, team_a_id, team_b_id, played, "
+            + "team_a_wins, team_b_wins, draws, team_a_goals, team_b_goals, created_at, updated_at) "
+            + "VALUES (CAST(gen_random_uuid() AS varchar), :teamAId, :teamBId, 0, 0, 0, 0, 0, 0, "
+            + "LOCALTIMESTAMP, LOCALTIMESTAMP) ON CONFLICT (team_a_id, team_b_id) DO NOTHING")
+    int insertIfMissing(@Param("teamAId") String teamAId, @Param("teamBId") String teamBId);
+
+    // Locks every row between the given teams, a superset of the pairs a batch touches, in id order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM HeadToHead h WHERE h.teamA.id IN :teamIds AND h.teamB.id IN :teamIds ORDER BY h.id")
+    List<HeadToHead> findForUpdate(@Param("teamIds") Collection<String> teamIds);
+
+    Optional<HeadToHead> findByTeamA_IdAndTeamB_Id(String teamAId, String teamBId);
+
+    @Modifying
+    @Query("DELETE FROM HeadToHead h")
+    int deleteAllMeetings();
+}
@@ -1,10 +1,18 @@
 package co.hublots.ln_foot.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.hublots.ln_foot.models.Heading;
 
 @Repository
 public interface HeadingRepository extends JpaRepository<Heading, String> {
+
+    @Query(ResourceVersion.SELECT + "FROM Heading e")
+    ResourceVersion findVersion();
+
+    @Query(ResourceVersion.SELECT + "FROM Heading e WHERE e.id = :id")
+    ResourceVersion findVersionById(@Param("id") String id);
 }
@@ -1,10 +1,17 @@
 package co.hublots.ln_foot.repositories;
 
 import co.hublots.ln_foot.models.League;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -12,6 +19,19 @@ import java.util.List;
 public interface LeagueRepository extends JpaRepository<League, String>, JpaSpecificationExecutor<League> {
     Optional<League> findByApiLeagueId(String apiLeagueId);
 
+    // Read-only: the sync diffs these rows in memory and writes changes through SyncBatchWriter
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<League> findByApiLeagueIdIn(Collection<String> apiLeagueIds);
+
     Optional<League> findByApiLeagueIdAndApiSource(String apiLeagueId, String apiSource);
     List<League> findByCountryAndTier(String country, Integer tier);
+
+    @Query(ResourceVersion.SELECT + "FROM League e")
+    ResourceVersion findVersion();
+
+    @Query(ResourceVersion.SELECT + "FROM League e WHERE e.country = :country")
+    ResourceVersion findVersionByCountry(@Param("country") String country);
+
+    @Query(ResourceVersion.SELECT + "FROM League e WHERE e.apiLeagueId = :apiLeagueId")
+    ResourceVersion findVersionByApiLeagueId(@Param("apiLeagueId") String apiLeagueId);
 }
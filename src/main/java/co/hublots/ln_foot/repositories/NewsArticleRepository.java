@@ -3,6 +3,8 @@ package co.hublots.ln_foot.repositories;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.hublots.ln_foot.models.NewsArticle;
@@ -12,4 +14,12 @@ import co.hublots.ln_foot.models.NewsArticle.NewsStatus;
 public interface NewsArticleRepository extends JpaRepository<NewsArticle, String> {
     List<NewsArticle> findByStatusOrderByPublicationDateDesc(NewsStatus status);
 
+    @Query(ResourceVersion.SELECT + "FROM NewsArticle e")
+    ResourceVersion findVersion();
+
+    @Query(ResourceVersion.SELECT + "FROM NewsArticle e WHERE e.status = :status")
+    ResourceVersion findVersionByStatus(@Param("status") NewsStatus status);
+
+    @Query(ResourceVersion.SELECT + "FROM NewsArticle e WHERE e.id = :id")
+    ResourceVersion findVersionById(@Param("id") String id);
 }
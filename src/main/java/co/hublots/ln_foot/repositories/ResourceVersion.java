@@ -0,0 +1,87 @@
+package co.hublots.ln_foot.repositories;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Number of rows and latest {@code updatedAt} behind a read endpoint, read
+ * with one aggregate query instead of loading the rows. An update moves the
+ * latest change and an insert or a delete changes the count, so the pair
+ * changes whenever the rows do. Built by the {@link #SELECT} constructor
+ * expression, or by {@link #of} from rows already loaded; {@code lastModified}
+ * is null when there is no row.
+ * <p>
+ * The pair does not hold for a window over the rows, such as a page: a row
+ * leaving it can be replaced by an older one. {@link #ofRows} adds a digest of
+ * the ids and update times of the rows served, which moves with any of them.
+ */
+public record ResourceVersion(Long count, LocalDateTime lastModified, String rowsDigest) {
+
+    // Followed by the FROM clause; the selected entity must be aliased `e`
+    public static final String SELECT = "SELECT new co.hublots.ln_foot.repositories.ResourceVersion("
+            + "COUNT(e), MAX(e.updatedAt)) ";
+
+    public ResourceVersion(Long count, LocalDateTime lastModified) {
+        this(count, lastModified, null);
+    }
+
+    /**
+     * The version of loaded rows, equal to the one {@link #SELECT} reads for
+     * the same rows: {@code updatedAt} maps the timestamp the rows were read
+     * with, in UTC.
+     */
+    public static <T> ResourceVersion of(Collection<T> rows, Function<T, OffsetDateTime> updatedAt) {
+        LocalDateTime lastModified = rows.stream()
+                .map(updatedAt)
+                .filter(Objects::nonNull)
+                .map(time -> time.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime())
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new ResourceVersion((long) rows.size(), lastModified);
+    }
+
+    /**
+     * The version of a window over the rows, with the digest of the rows
+     * served in their order: two windows with the same count and latest
+     * update but different rows get different versions.
+     */
+    public static <T> ResourceVersion ofRows(Collection<T> rows, Function<T, String> id,
+            Function<T, OffsetDateTime> updatedAt) {
+        MessageDigest digest = sha256();
+        for (T row : rows) {
+            OffsetDateTime time = updatedAt.apply(row);
+            String key = id.apply(row) + "@" + (time != null ? time.toInstant() : "") + "\n";
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+        }
+        String rowsDigest = HexFormat.of().formatHex(digest.digest(), 0, 8);
+        return of(rows, updatedAt).withDigest(rowsDigest);
+    }
+
+    /**
+     * The same version with another count, e.g. the total of a page.
+     */
+    public ResourceVersion withCount(long newCount) {
+        return new ResourceVersion(newCount, lastModified, rowsDigest);
+    }
+
+    private ResourceVersion withDigest(String newRowsDigest) {
+        return new ResourceVersion(count, lastModified, newRowsDigest);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
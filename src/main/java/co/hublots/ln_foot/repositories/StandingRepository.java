@@ -0,0 +1,49 @@
+package co.hublots.ln_foot.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.hublots.ln_foot.models.Standing;
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface StandingRepository extends JpaRepository<Standing, String> {
+
+    // Creates the empty rows missing among the given teams, in team order. A row inserted by a transaction that
+    // has not committed yet makes this one wait for it, then leaves that row as it is
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO lnfoot_web.standings (id, league_id, season, team_id, played, "
+            + "won, drawn, lost, goals_for, goals_against, points, created_at, updated_at) "
+            + "SELECT CAST(gen_random_uuid() AS varchar), :leagueId, :season, t.id, 0, 0, 0, 0, 0, 0, 0, "
+            + "LOCALTIMESTAMP, LOCALTIMESTAMP FROM lnfoot_web.web_teams t WHERE t.id IN (:teamIds) ORDER BY t.id "
+            + "ON CONFLICT (league_id, season, team_id) DO NOTHING")
+    int insertMissing(@Param("leagueId") String leagueId, @Param("season") Integer season,
+            @Param("teamIds") Collection<String> teamIds);
+
+    // The rows a batch of results touches, locked in id order until the transaction that updates them commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Standing s WHERE s.league.id = :leagueId AND s.season = :season AND s.team.id IN :teamIds "
+            + "ORDER BY s.id")
+    List<Standing> findForUpdate(@Param("leagueId") String leagueId, @Param("season") Integer season,
+            @Param("teamIds") Collection<String> teamIds);
+
+    // League table order: points, goal difference, goals scored, then team name
+    @Query("SELECT s FROM Standing s JOIN FETCH s.team t WHERE s.league.id = :leagueId AND s.season = :season "
+            + "ORDER BY s.points DESC, s.goalsFor - s.goalsAgainst DESC, s.goalsFor DESC, t.teamName")
+    List<Standing> findTable(@Param("leagueId") String leagueId, @Param("season") Integer season);
+
+    @Query("SELECT max(s.season) FROM Standing s WHERE s.league.id = :leagueId")
+    Optional<Integer> findLatestSeason(@Param("leagueId") String leagueId);
+
+    @Modifying
+    @Query("DELETE FROM Standing s WHERE s.league.id = :leagueId AND s.season = :season")
+    int deleteByLeagueAndSeason(@Param("leagueId") String leagueId, @Param("season") Integer season);
+}
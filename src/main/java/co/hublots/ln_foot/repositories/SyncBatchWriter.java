@@ -0,0 +1,313 @@
+package co.hublots.ln_foot.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.models.Team;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk persistence path used by the fixture sync.
+ * <p>
+ * Rows are written in chunks of {@code application.sync.batchSize} instead of
+ * one {@code save} per entity. Entities without an id are inserted with one
+ * multi-row {@code INSERT} per chunk (the id is generated here, like
+ * {@code @UuidGenerator} would); the others are updated by id in a JDBC batch.
+ * When a league or team with the same external API id was created
+ * concurrently, the insert updates that row instead ({@code ON CONFLICT DO
+ * UPDATE}), and the {@code RETURNING} clause hands its id and creation time
+ * back to the entity, so fixtures written afterwards reference rows that exist.
+ * A fixture created concurrently is left as it is ({@code ON CONFLICT DO
+ * NOTHING}) and its entity without an id: the caller locks and reads that row,
+ * whose result it must know before overwriting it, and saves the fixture again
+ * as an update. Fixtures are partitioned by kickoff, so their API id is only
+ * unique per kickoff.
+ * <p>
+ * The counts returned are rows the database reports as written. The entities
+ * of one call must have distinct API ids: a statement cannot update the same
+ * row twice.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SyncBatchWriter {
+
+    private static final String INSERT_LEAGUE_SQL = "INSERT INTO lnfoot_web.leagues "
+            + "(id, api_league_id, league_name, country, created_at, updated_at) VALUES ";
+
+    private static final String UPSERT_LEAGUE_SQL = " ON CONFLICT (api_league_id) DO UPDATE "
+            + "SET league_name = EXCLUDED.league_name, country = EXCLUDED.country, updated_at = EXCLUDED.updated_at "
+            + "RETURNING id, api_league_id, created_at";
+
+    private static final String UPDATE_LEAGUE_SQL = "UPDATE lnfoot_web.leagues "
+            + "SET league_name = ?, country = ?, updated_at = ? WHERE id = ?";
+
+    private static final String INSERT_TEAM_SQL = "INSERT INTO lnfoot_web.web_teams "
+            + "(id, api_team_id, team_name, logo_url, created_at, updated_at) VALUES ";
+
+    private static final String UPSERT_TEAM_SQL = " ON CONFLICT (api_team_id) DO UPDATE "
+            + "SET team_name = EXCLUDED.team_name, logo_url = EXCLUDED.logo_url, updated_at = EXCLUDED.updated_at "
+            + "RETURNING id, api_team_id, created_at";
+
+    private static final String UPDATE_TEAM_SQL = "UPDATE lnfoot_web.web_teams "
+            + "SET team_name = ?, logo_url = ?, updated_at = ? WHERE id = ?";
+
+    private static final String INSERT_FIXTURE_SQL = "INSERT INTO lnfoot_web.fixtures "
+            + "(id, api_fixture_id, league_id, team1_id, team2_id, status, match_datetime, "
+            + "goals_team1, goals_team2, score_ht_home, score_ht_away, score_ft_home, score_ft_away, "
+            + "score_et_home, score_et_away, score_pt_home, score_pt_away, season, created_at, updated_at) VALUES ";
+
+    private static final String UPSERT_FIXTURE_SQL = " ON CONFLICT (api_fixture_id, match_datetime) DO NOTHING "
+            + "RETURNING id, api_fixture_id, created_at";
+
+    private static final String UPDATE_FIXTURE_SQL = "UPDATE lnfoot_web.fixtures "
+            + "SET league_id = ?, team1_id = ?, team2_id = ?, status = ?, match_datetime = ?, "
+            + "goals_team1 = ?, goals_team2 = ?, score_ht_home = ?, score_ht_away = ?, score_ft_home = ?, "
+            + "score_ft_away = ?, score_et_home = ?, score_et_away = ?, score_pt_home = ?, score_pt_away = ?, "
+            + "season = ?, updated_at = ? WHERE id = ?";
+
+    // Postgres binds at most this many parameters in one statement
+    private static final int MAX_PARAMETERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncConfigProperties syncConfigProperties;
+
+    /**
+     * Inserts new leagues and updates changed ones. New leagues get the id of
+     * the row they were written to.
+     *
+     * @return number of league rows written
+     */
+    public int saveLeagues(Collection<League> leagues) {
+        LocalDateTime now = LocalDateTime.now();
+        List<League> inserts = new ArrayList<>();
+        List<League> updates = new ArrayList<>();
+        for (League league : leagues) {
+            if (league.getId() == null) {
+                league.setId(UUID.randomUUID().toString());
+                league.setCreatedAt(now);
+                inserts.add(league);
+            } else {
+                updates.add(league);
+            }
+            league.setUpdatedAt(now);
+        }
+
+        int inserted = insertChunks(INSERT_LEAGUE_SQL, UPSERT_LEAGUE_SQL, 6, inserts, League::getApiLeagueId,
+                (ps, index, league) -> {
+                    ps.setString(index++, league.getId());
+                    ps.setString(index++, league.getApiLeagueId());
+                    ps.setString(index++, league.getLeagueName());
+                    ps.setString(index++, league.getCountry());
+                    ps.setTimestamp(index++, Timestamp.valueOf(league.getCreatedAt()));
+                    ps.setTimestamp(index++, Timestamp.valueOf(league.getUpdatedAt()));
+                    return index;
+                },
+                (league, row) -> {
+                    league.setId(row.id());
+                    league.setCreatedAt(row.createdAt());
+                });
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_LEAGUE_SQL, updates, batchSize(), (ps, league) -> {
+            ps.setString(1, league.getLeagueName());
+            ps.setString(2, league.getCountry());
+            ps.setTimestamp(3, Timestamp.valueOf(league.getUpdatedAt()));
+            ps.setString(4, league.getId());
+        });
+        return inserted + rowsAffected(updated);
+    }
+
+    /**
+     * Inserts new teams and updates changed ones. New teams get the id of the
+     * row they were written to.
+     *
+     * @return number of team rows written
+     */
+    public int saveTeams(Collection<Team> teams) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Team> inserts = new ArrayList<>();
+        List<Team> updates = new ArrayList<>();
+        for (Team team : teams) {
+            if (team.getId() == null) {
+                team.setId(UUID.randomUUID().toString());
+                team.setCreatedAt(now);
+                inserts.add(team);
+            } else {
+                updates.add(team);
+            }
+            team.setUpdatedAt(now);
+        }
+
+        int inserted = insertChunks(INSERT_TEAM_SQL, UPSERT_TEAM_SQL, 6, inserts, Team::getApiTeamId,
+                (ps, index, team) -> {
+                    ps.setString(index++, team.getId());
+                    ps.setString(index++, team.getApiTeamId());
+                    ps.setString(index++, team.getTeamName());
+                    ps.setString(index++, team.getLogoUrl());
+                    ps.setTimestamp(index++, Timestamp.valueOf(team.getCreatedAt()));
+                    ps.setTimestamp(index++, Timestamp.valueOf(team.getUpdatedAt()));
+                    return index;
+                },
+                (team, row) -> {
+                    team.setId(row.id());
+                    team.setCreatedAt(row.createdAt());
+                });
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_TEAM_SQL, updates, batchSize(), (ps, team) -> {
+            ps.setString(1, team.getTeamName());
+            ps.setString(2, team.getLogoUrl());
+            ps.setTimestamp(3, Timestamp.valueOf(team.getUpdatedAt()));
+            ps.setString(4, team.getId());
+        });
+        return inserted + rowsAffected(updated);
+    }
+
+    /**
+     * Inserts new fixtures and updates changed ones. Leagues and teams referenced
+     * by the fixtures must have been written first. New fixtures get the id of
+     * the row they were written to; those whose row another transaction created
+     * in the meantime are left without an id and are not counted.
+     *
+     * @return number of fixture rows written
+     */
+    public int saveFixtures(Collection<Fixture> fixtures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Fixture> inserts = new ArrayList<>();
+        List<Fixture> updates = new ArrayList<>();
+        for (Fixture fixture : fixtures) {
+            if (fixture.getId() == null) {
+                fixture.setId(UUID.randomUUID().toString());
+                fixture.setCreatedAt(now);
+                inserts.add(fixture);
+            } else {
+                updates.add(fixture);
+            }
+            fixture.setUpdatedAt(now);
+        }
+
+        int inserted = insertChunks(INSERT_FIXTURE_SQL, UPSERT_FIXTURE_SQL, 20, inserts, Fixture::getApiFixtureId,
+                (ps, index, fixture) -> {
+                    ps.setString(index++, fixture.getId());
+                    ps.setString(index++, fixture.getApiFixtureId());
+                    index = setFixtureColumns(ps, index, fixture);
+                    ps.setTimestamp(index++, Timestamp.valueOf(fixture.getCreatedAt()));
+                    ps.setTimestamp(index++, Timestamp.valueOf(fixture.getUpdatedAt()));
+                    return index;
+                },
+                (fixture, row) -> {
+                    fixture.setId(row.id());
+                    fixture.setCreatedAt(row.createdAt());
+                });
+        int updated = rowsAffected(jdbcTemplate.batchUpdate(UPDATE_FIXTURE_SQL, updates, batchSize(),
+                (ps, fixture) -> {
+                    int next = setFixtureColumns(ps, 1, fixture);
+                    ps.setTimestamp(next, Timestamp.valueOf(fixture.getUpdatedAt()));
+                    ps.setString(next + 1, fixture.getId());
+                }));
+        log.debug("Batch wrote {} new and {} updated fixtures (batch size {}).", inserted, updated, batchSize());
+        return inserted + updated;
+    }
+
+    /**
+     * Writes {@code rows} with one multi-row insert per chunk and hands each
+     * returned row to {@code adopt}, matched on the API id. A row the database
+     * did not return, because it skipped the conflict, is left without an id.
+     *
+     * @return number of rows returned, inserted or updated on conflict
+     */
+    private <T> int insertChunks(String insertSql, String upsertSql, int columns, List<T> rows,
+            Function<T, String> apiId, RowBinder<T> binder, BiConsumer<T, WrittenRow> adopt) {
+        int written = 0;
+        int chunkSize = Math.min(batchSize(), MAX_PARAMETERS / columns);
+        String tuple = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<T> chunk = rows.subList(from, Math.min(rows.size(), from + chunkSize));
+            String sql = insertSql + String.join(", ", Collections.nCopies(chunk.size(), tuple)) + upsertSql;
+            List<WrittenRow> returned = jdbcTemplate.query(sql, ps -> {
+                int index = 1;
+                for (T row : chunk) {
+                    index = binder.bind(ps, index, row);
+                }
+            }, (rs, rowNum) -> new WrittenRow(rs.getString(1), rs.getString(2),
+                    rs.getTimestamp(3).toLocalDateTime()));
+
+            Map<String, T> byApiId = new HashMap<>();
+            chunk.forEach(row -> byApiId.put(apiId.apply(row), row));
+            for (WrittenRow row : returned) {
+                T entity = byApiId.remove(row.apiId());
+                if (entity != null) {
+                    adopt.accept(entity, row);
+                    written++;
+                }
+            }
+            byApiId.forEach((key, entity) -> {
+                log.debug("Row with API id {} already existed and was not written.", key);
+                adopt.accept(entity, new WrittenRow(null, key, null));
+            });
+        }
+        return written;
+    }
+
+    // Postgres reports SUCCESS_NO_INFO for rewritten batches; each such statement wrote a row
+    private static int rowsAffected(int[][] counts) {
+        int rows = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+            }
+        }
+        return rows;
+    }
+
+    // Binds the synced columns shared by the insert and update statements, returns the next index.
+    private int setFixtureColumns(PreparedStatement ps, int index, Fixture fixture) throws SQLException {
+        ps.setString(index++, fixture.getLeague().getId());
+        ps.setString(index++, fixture.getTeam1().getId());
+        ps.setString(index++, fixture.getTeam2().getId());
+        ps.setString(index++, fixture.getStatus());
+        ps.setObject(index++, fixture.getMatchDatetime());
+        ps.setObject(index++, fixture.getGoalsTeam1(), Types.INTEGER);
+        ps.setObject(index++, fixture.getGoalsTeam2(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScoreHtHome(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScoreHtAway(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScoreFtHome(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScoreFtAway(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScoreEtHome(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScoreEtAway(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScorePtHome(), Types.INTEGER);
+        ps.setObject(index++, fixture.getScorePtAway(), Types.INTEGER);
+        ps.setObject(index++, fixture.getSeason(), Types.INTEGER);
+        return index;
+    }
+
+    private int batchSize() {
+        return Math.max(1, syncConfigProperties.getBatchSize());
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        // Binds one row from index on, returns the next index
+        int bind(PreparedStatement ps, int index, T row) throws SQLException;
+    }
+
+    private record WrittenRow(String id, String apiId, LocalDateTime createdAt) {
+    }
+}
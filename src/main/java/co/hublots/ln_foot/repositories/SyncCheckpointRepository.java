@@ -0,0 +1,10 @@
+package co.hublots.ln_foot.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import co.hublots.ln_foot.models.SyncCheckpoint;
+
+@Repository
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpoint, String> {
+}
@@ -0,0 +1,29 @@
+package co.hublots.ln_foot.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.hublots.ln_foot.models.SyncLease;
+
+@Repository
+public interface SyncLeaseRepository extends JpaRepository<SyncLease, String> {
+
+    // Takes the lease if it has expired or already belongs to the owner; returns 0 when another instance holds it.
+    // The times are the database's, read by SyncLeaseLock in the same transaction, so that every instance
+    // compares them with the same clock
+    @Modifying
+    @Query("UPDATE SyncLease l SET l.owner = :owner, l.lockedAt = :now, l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name AND (l.lockedUntil <= :now OR l.owner = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE SyncLease l SET l.lockedUntil = :lockedUntil WHERE l.name = :name AND l.owner = :owner")
+    int updateLockedUntil(@Param("name") String name, @Param("owner") String owner,
+            @Param("lockedUntil") Instant lockedUntil);
+}
@@ -1,19 +1,27 @@
 package co.hublots.ln_foot.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.hublots.ln_foot.models.Team;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, String> {
     Optional<Team> findByApiTeamId(String apiTeamId);
 
+    // Read-only: the sync diffs these rows in memory and writes changes through SyncBatchWriter
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Team> findByApiTeamIdIn(Collection<String> apiTeamIds);
+
     Optional<Team> findByApiTeamIdAndApiSource(String apiTeamId, String apiSource);
 
     @Query("SELECT DISTINCT t FROM Fixture f " +
@@ -22,4 +30,15 @@ public interface TeamRepository extends JpaRepository<Team, String> {
             "LEFT JOIN f.team2 t2 " +
             "WHERE l.apiLeagueId = :leagueApiId AND (t IS NOT NULL OR t2 IS NOT NULL)")
     List<Team> findDistinctTeamsByLeagueApiId(@Param("leagueApiId") String leagueApiId);
+
+    @Query(ResourceVersion.SELECT + "FROM Team e")
+    ResourceVersion findVersion();
+
+    // Same teams as findDistinctTeamsByLeagueApiId
+    @Query("SELECT new co.hublots.ln_foot.repositories.ResourceVersion(COUNT(DISTINCT e), MAX(e.updatedAt)) "
+            + "FROM Fixture f JOIN f.league l JOIN f.team1 e WHERE l.apiLeagueId = :leagueApiId")
+    ResourceVersion findVersionByLeagueApiId(@Param("leagueApiId") String leagueApiId);
+
+    @Query(ResourceVersion.SELECT + "FROM Team e WHERE e.apiTeamId = :apiTeamId")
+    ResourceVersion findVersionByApiTeamId(@Param("apiTeamId") String apiTeamId);
 }
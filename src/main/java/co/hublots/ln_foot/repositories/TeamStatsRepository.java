@@ -0,0 +1,41 @@
+package co.hublots.ln_foot.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.hublots.ln_foot.models.TeamStats;
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface TeamStatsRepository extends JpaRepository<TeamStats, String> {
+
+    // Creates the empty rows missing among the given teams, in team order. A row inserted by a transaction that
+    // has not committed yet makes this one wait for it, then leaves that row as it is
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO lnfoot_web.team_stats (id, team_id, home_played, home_won, "
+            + "home_drawn, home_lost, home_goals_for, home_goals_against, away_played, away_won, away_drawn, "
+            + "away_lost, away_goals_for, away_goals_against, created_at, updated_at) "
+            + "SELECT CAST(gen_random_uuid() AS varchar), t.id, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, "
+            + "LOCALTIMESTAMP, LOCALTIMESTAMP FROM lnfoot_web.web_teams t WHERE t.id IN (:teamIds) ORDER BY t.id "
+            + "ON CONFLICT (team_id) DO NOTHING")
+    int insertMissing(@Param("teamIds") Collection<String> teamIds);
+
+    // The rows a batch of results touches, locked in id order until the transaction that updates them commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TeamStats s WHERE s.team.id IN :teamIds ORDER BY s.id")
+    List<TeamStats> findForUpdate(@Param("teamIds") Collection<String> teamIds);
+
+    Optional<TeamStats> findByTeam_Id(String teamId);
+
+    @Modifying
+    @Query("DELETE FROM TeamStats s")
+    int deleteAllStats();
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import co.hublots.ln_foot.config.SyncConfigProperties;
 import co.hublots.ln_foot.services.DataSyncService;
 
 import java.time.LocalDate;
@@ -17,13 +18,18 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DataSyncScheduler {
 
+    static final String DAILY_SYNC_LEASE = "daily-fixture-sync";
+    static final String HOURLY_SYNC_LEASE = "hourly-fixture-sync";
+
     private final DataSyncService dataSyncService;
+    private final SyncLeaseLock syncLeaseLock;
+    private final SyncConfigProperties syncConfigProperties;
 
     /**
      * Periodically performs a comprehensive sync of fixtures, typically for the
      * current day.
      * Configurable via `application.sync.dailyCron`, defaults to daily at 00:05 AM
-     * UTC.
+     * UTC. Runs on a single instance, see {@link SyncLeaseLock}.
      */
 
     @Scheduled(cron = "${application.sync.dailyCron:0 5 0 * * ?}", zone = "UTC")
@@ -41,8 +47,13 @@ public class DataSyncScheduler {
             // or if API requires league ID for date-based queries.
             // For now, relying on date and the service-side interestedLeagues filtering.
 
-            dataSyncService.syncMainFixtures(queryParams);
-            log.info("Scheduled daily full fixture sync completed successfully.");
+            boolean ran = syncLeaseLock.runExclusively(DAILY_SYNC_LEASE, syncConfigProperties.getLock().getMinHold(),
+                    () -> dataSyncService.syncMainFixtures(queryParams));
+            if (ran) {
+                log.info("Scheduled daily full fixture sync completed successfully.");
+            } else {
+                log.info("Daily full fixture sync is running on another instance, skipped.");
+            }
         } catch (Exception e) {
             log.error("Error during scheduled daily full fixture sync:", e);
         }
@@ -51,7 +62,7 @@ public class DataSyncScheduler {
     /**
      * Periodically syncs recent or live fixtures.
      * Configurable via `application.sync.hourlyCron`, defaults to hourly at the
-     * start of the hour UTC.
+     * start of the hour UTC. Runs on a single instance, see {@link SyncLeaseLock}.
      */
     @Scheduled(cron = "${application.sync.hourlyCron:0 0 */1 * * ?}", zone = "UTC")
     public void scheduleHourlyRecentFixturesSync() {
@@ -68,8 +79,13 @@ public class DataSyncScheduler {
             // Or, for example, fetch today's fixtures again, hoping for live updates:
             // queryParams.put("date", LocalDate.now(ZoneOffset.UTC).toString());
 
-            dataSyncService.syncMainFixtures(queryParams);
-            log.info("Scheduled hourly recent fixtures sync completed successfully.");
+            boolean ran = syncLeaseLock.runExclusively(HOURLY_SYNC_LEASE, syncConfigProperties.getLock().getMinHold(),
+                    () -> dataSyncService.syncMainFixtures(queryParams));
+            if (ran) {
+                log.info("Scheduled hourly recent fixtures sync completed successfully.");
+            } else {
+                log.info("Hourly recent fixtures sync is running on another instance, skipped.");
+            }
         } catch (Exception e) {
             log.error("Error during scheduled hourly recent fixtures sync:", e);
         }
@@ -0,0 +1,75 @@
+package co.hublots.ln_foot.scheduler;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a monthly partition of `lnfoot_web.fixtures` ready for the current
+ * month and the next `application.sync.partitions.monthsAhead` ones, so that
+ * fixtures synced ahead of time land in their own partition rather than in
+ * `fixtures_default`.
+ * <p>
+ * Runs at startup and daily (`application.sync.partitions.cron`). The
+ * partitions are created by `lnfoot_web.ensure_fixture_partition`, which
+ * serialises concurrent callers and skips existing partitions, so every
+ * instance can run it.
+ */
+@Slf4j
+@Component
+public class FixturePartitionMaintainer {
+
+    private static final String ENSURE_PARTITION_SQL = "SELECT lnfoot_web.ensure_fixture_partition(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncConfigProperties.Partitions config;
+    private final Clock clock;
+
+    @Autowired
+    public FixturePartitionMaintainer(JdbcTemplate jdbcTemplate, SyncConfigProperties syncConfigProperties) {
+        this(jdbcTemplate, syncConfigProperties, Clock.systemUTC());
+    }
+
+    FixturePartitionMaintainer(JdbcTemplate jdbcTemplate, SyncConfigProperties syncConfigProperties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = syncConfigProperties.getPartitions();
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureUpcomingPartitions();
+    }
+
+    @Scheduled(cron = "${application.sync.partitions.cron:0 30 0 * * ?}", zone = "UTC")
+    public void ensureUpcomingPartitions() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDate currentMonth = LocalDate.now(clock.withZone(ZoneOffset.UTC)).withDayOfMonth(1);
+        try {
+            int created = 0;
+            for (int i = 0; i <= config.getMonthsAhead(); i++) {
+                LocalDate month = currentMonth.plusMonths(i);
+                if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(ENSURE_PARTITION_SQL, Boolean.class, month))) {
+                    log.info("Created fixture partition for {}", month);
+                    created++;
+                }
+            }
+            log.debug("Fixture partitions checked up to {}, {} created.",
+                    currentMonth.plusMonths(config.getMonthsAhead()), created);
+        } catch (Exception e) {
+            log.error("Error while creating upcoming fixture partitions:", e);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package co.hublots.ln_foot.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import co.hublots.ln_foot.clients.RapidApiRateLimiter;
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.ApiQuotaDto;
+import co.hublots.ln_foot.dto.SyncStatusDto;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncStatus;
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.models.enums.FixtureStatus;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.services.DataSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the external API for score updates only while matches are on.
+ * <p>
+ * The next run is computed after each execution from the fixtures stored
+ * locally: every `pollInterval` while a fixture is in progress, every
+ * `kickoffPollInterval` around kickoff, otherwise the scheduler sleeps until
+ * the next kickoff (checking the database at most every `idleCheckInterval`)
+ * and makes no API call at all. Configured under `application.sync.live`.
+ * <p>
+ * Polls never spend the last `reservedRequests` of the daily API budget, which
+ * are left to the scheduled syncs, and are spaced further apart than the
+ * configured intervals when the rest of the budget would not otherwise last
+ * until it resets.
+ * <p>
+ * Every instance computes its own schedule, but a poll only runs on the
+ * instance holding the lease: the lease is kept for one poll interval, so the
+ * instance that polled last keeps polling and the others skip.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveMatchPollingScheduler implements SchedulingConfigurer {
+
+    static final String LIVE_POLL_LEASE = "live-fixture-poll";
+
+    static final int MAX_IDS_PER_REQUEST = 20; // API-Football limit for the ids parameter
+
+    private static final Set<String> NOT_STARTED_STATUS_CODES = Set.of(
+            FixtureStatus.NOT_STARTED.getShortCode(), FixtureStatus.TIME_TO_BE_DEFINED.getShortCode());
+
+    private final DataSyncService dataSyncService;
+    private final FixtureRepository fixtureRepository;
+    private final SyncConfigProperties syncConfigProperties;
+    private final SyncLeaseLock syncLeaseLock;
+    private final RapidApiRateLimiter rateLimiter;
+
+    @Override
+    public void configureTasks(@NonNull ScheduledTaskRegistrar taskRegistrar) {
+        if (!syncConfigProperties.getLive().isEnabled()) {
+            log.info("Live match polling is disabled.");
+            return;
+        }
+        taskRegistrar.addTriggerTask(this::pollLiveFixtures, this::nextExecution);
+    }
+
+    /**
+     * Re-syncs the fixtures currently in their live window by id, up to
+     * {@link #MAX_IDS_PER_REQUEST} per request. Unlike `live=all`, a query by
+     * id also returns the final status of matches that just ended. Fixtures
+     * without an API id, and those of an id request that failed, are re-synced
+     * with their whole match day instead.
+     */
+    public void pollLiveFixtures() {
+        try {
+            boolean ran = syncLeaseLock.runExclusively(LIVE_POLL_LEASE,
+                    syncConfigProperties.getLive().getPollInterval(), this::syncLiveFixtures);
+            if (!ran) {
+                log.debug("Live poll is running on another instance, skipped.");
+            }
+        } catch (Exception e) {
+            log.error("Error during live fixtures poll:", e);
+        }
+    }
+
+    private void syncLiveFixtures() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Fixture> liveWindowFixtures = findFixturesInLiveWindow(now);
+        if (liveWindowFixtures.isEmpty()) {
+            log.debug("No fixture in its live window, skipping live poll.");
+            return;
+        }
+
+        List<List<String>> idBatches = idBatches(liveWindowFixtures);
+        Set<LocalDate> matchDays = matchDays(withoutApiId(liveWindowFixtures));
+        if (spendableRequests() < idBatches.size() + matchDays.size()) {
+            log.info("Live poll skipped: the remaining daily API budget is reserved for the scheduled syncs.");
+            return;
+        }
+
+        log.info("Live poll for {} fixture(s) in {} request(s) by id{}", liveWindowFixtures.size(),
+                idBatches.size(), matchDays.isEmpty() ? "" : " and match day(s) " + matchDays);
+        Set<LocalDate> fallbackDays = new TreeSet<>();
+        for (List<String> ids : idBatches) {
+            SyncStatusDto status = dataSyncService.syncMainFixtures(Map.of("ids", String.join("-", ids)));
+            if (status != null && status.getStatus() == SyncStatus.ERROR) {
+                log.warn("Live poll by id failed for {}, falling back to their match day: {}", ids,
+                        status.getMessage());
+                fallbackDays.addAll(matchDays(liveWindowFixtures.stream()
+                        .filter(fixture -> ids.contains(fixture.getApiFixtureId())).toList()));
+            }
+        }
+        fallbackDays.removeAll(matchDays);
+        if (!fallbackDays.isEmpty() && spendableRequests() < matchDays.size() + fallbackDays.size()) {
+            log.info("Live poll fallback by date skipped: the remaining daily API budget is reserved.");
+            fallbackDays.clear();
+        }
+        matchDays.addAll(fallbackDays);
+        for (LocalDate matchDay : matchDays) {
+            dataSyncService.syncMainFixtures(Map.of("date", matchDay.toString()));
+        }
+    }
+
+    private int spendableRequests() {
+        return rateLimiter.remainingDailyRequests() - syncConfigProperties.getLive().getReservedRequests();
+    }
+
+    private Instant nextExecution(TriggerContext triggerContext) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return now.plus(nextPollDelay(now)).toInstant();
+    }
+
+    /**
+     * Computes how long to wait before the next poll, based on the fixtures
+     * stored locally.
+     */
+    Duration nextPollDelay(OffsetDateTime now) {
+        SyncConfigProperties.Live live = syncConfigProperties.getLive();
+        try {
+            List<Fixture> liveWindowFixtures = findFixturesInLiveWindow(now);
+            boolean inProgress = liveWindowFixtures.stream()
+                    .anyMatch(fixture -> FixtureStatus.fromShortCode(fixture.getStatus()).isLive());
+            if (inProgress) {
+                return withinBudget(live.getPollInterval(), now, requestsPerPoll(liveWindowFixtures));
+            }
+            if (!liveWindowFixtures.isEmpty()) {
+                return withinBudget(live.getKickoffPollInterval(), now, requestsPerPoll(liveWindowFixtures));
+            }
+
+            Optional<Fixture> nextFixture = fixtureRepository
+                    .findFirstByMatchDatetimeAfterAndStatusInOrderByMatchDatetimeAsc(now, NOT_STARTED_STATUS_CODES);
+            if (nextFixture.isPresent()) {
+                Duration untilWindow = Duration.between(now,
+                        nextFixture.get().getMatchDatetime().minus(live.getKickoffLead()));
+                if (untilWindow.isNegative() || untilWindow.isZero()) {
+                    return live.getKickoffPollInterval();
+                }
+                if (untilWindow.compareTo(live.getIdleCheckInterval()) < 0) {
+                    return untilWindow;
+                }
+            }
+            return live.getIdleCheckInterval();
+        } catch (Exception e) {
+            log.error("Could not compute next live poll, retrying in {}:", live.getIdleCheckInterval(), e);
+            return live.getIdleCheckInterval();
+        }
+    }
+
+    /**
+     * Stretches {@code interval} so that polls of {@code requestsPerPoll}
+     * requests leave the reserved requests untouched until
+     * the daily budget resets. With nothing left to spend, waits for the reset,
+     * checking again at least every `idleCheckInterval`.
+     */
+    private Duration withinBudget(Duration interval, OffsetDateTime now, int requestsPerPoll) {
+        SyncConfigProperties.Live live = syncConfigProperties.getLive();
+        ApiQuotaDto quota = rateLimiter.getQuota();
+        Duration untilReset = Duration.between(now.toInstant(), quota.getDailyResetAt());
+        long affordablePolls = (quota.getDailyRemaining() - live.getReservedRequests()) / Math.max(1, requestsPerPoll);
+        if (affordablePolls <= 0) {
+            return untilReset.isNegative() || untilReset.isZero() || untilReset.compareTo(live.getIdleCheckInterval()) > 0
+                    ? live.getIdleCheckInterval()
+                    : untilReset;
+        }
+        Duration budgeted = untilReset.dividedBy(affordablePolls);
+        return budgeted.compareTo(interval) > 0 ? budgeted : interval;
+    }
+
+    // One request per batch of ids, plus one per match day of the fixtures without an API id
+    private static int requestsPerPoll(List<Fixture> fixtures) {
+        return idBatches(fixtures).size() + matchDays(withoutApiId(fixtures)).size();
+    }
+
+    private static List<List<String>> idBatches(List<Fixture> fixtures) {
+        List<String> ids = fixtures.stream()
+                .map(Fixture::getApiFixtureId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_REQUEST) {
+            batches.add(ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_REQUEST)));
+        }
+        return batches;
+    }
+
+    private static List<Fixture> withoutApiId(List<Fixture> fixtures) {
+        return fixtures.stream().filter(fixture -> fixture.getApiFixtureId() == null).toList();
+    }
+
+    private static Set<LocalDate> matchDays(List<Fixture> fixtures) {
+        return fixtures.stream()
+                .map(fixture -> fixture.getMatchDatetime().withOffsetSameInstant(ZoneOffset.UTC).toLocalDate())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private List<Fixture> findFixturesInLiveWindow(OffsetDateTime now) {
+        SyncConfigProperties.Live live = syncConfigProperties.getLive();
+        return fixtureRepository.findByMatchDatetimeBetweenAndStatusNotIn(
+                now.minus(live.getMatchWindow()),
+                now.plus(live.getKickoffLead()),
+                FixtureStatus.terminalShortCodes());
+    }
+}
@@ -0,0 +1,226 @@
+package co.hublots.ln_foot.scheduler;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.models.SyncLease;
+import co.hublots.ln_foot.repositories.SyncLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes sure a scheduled sync runs on a single instance when the API is
+ * scaled horizontally.
+ * <p>
+ * Each task has a row in `sync_leases`. An instance runs the task only after
+ * taking the lease with a conditional update, which succeeds when the lease
+ * has expired or is already its own. While the task runs the lease is
+ * extended every third of `application.sync.lock.leaseDuration`; if the
+ * instance dies the lease simply expires and another instance takes over.
+ * Lease times are read from the database clock, so instances whose clocks
+ * drift apart still agree on when a lease expires.
+ * <p>
+ * An instance that finds its lease taken over when renewing it, e.g. after a
+ * pause longer than the lease, interrupts its task: the other instance may
+ * already be running it.
+ */
+@Slf4j
+@Component
+public class SyncLeaseLock {
+
+    private final SyncLeaseRepository syncLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncConfigProperties.Lock config;
+    private final String owner = instanceName();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sync-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SyncLeaseLock(SyncLeaseRepository syncLeaseRepository, PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate, SyncConfigProperties syncConfigProperties) {
+        this.syncLeaseRepository = syncLeaseRepository;
+        // Lease changes commit on their own, whatever transaction the caller is in
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = syncConfigProperties.getLock();
+    }
+
+    /**
+     * Runs the task if this instance can take the lease, and releases it
+     * afterwards. Exceptions thrown by the task are propagated.
+     *
+     * @param holdAtLeast how long the lease stays taken after the task started,
+     *                    so instances whose clocks or schedules are slightly
+     *                    apart do not run the same occurrence one after the
+     *                    other
+     * @return false if another instance holds the lease and the task was skipped
+     */
+    public boolean runExclusively(String lockName, Duration holdAtLeast, Runnable task) {
+        if (!config.isEnabled()) {
+            task.run();
+            return true;
+        }
+
+        Instant lockedAt = tryAcquire(lockName);
+        if (lockedAt == null) {
+            log.debug("Lease {} is held by another instance, skipping.", lockName);
+            return false;
+        }
+
+        Renewal renewal = new Renewal(lockName, Thread.currentThread());
+        long renewEveryMs = Math.max(1L, config.getLeaseDuration().toMillis() / 3);
+        ScheduledFuture<?> renewals = heartbeat.scheduleAtFixedRate(renewal, renewEveryMs, renewEveryMs,
+                TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+            return true;
+        } finally {
+            renewals.cancel(false);
+            if (renewal.finish()) {
+                release(lockName, lockedAt.plus(holdAtLeast));
+            }
+        }
+    }
+
+    // The database time the lease was taken at, or null if another instance holds it
+    Instant tryAcquire(String lockName) {
+        Instant now = transactionTemplate.execute(status -> {
+            Instant databaseNow = databaseNow();
+            return syncLeaseRepository.acquire(lockName, owner, databaseNow,
+                    databaseNow.plus(config.getLeaseDuration())) > 0 ? databaseNow : null;
+        });
+        if (now != null) {
+            return now;
+        }
+        try {
+            // First run of this task anywhere: create the lease. Two instances racing here hit the primary key.
+            return transactionTemplate.execute(status -> {
+                if (syncLeaseRepository.existsById(lockName)) {
+                    return null;
+                }
+                Instant databaseNow = databaseNow();
+                syncLeaseRepository.saveAndFlush(SyncLease.builder().name(lockName).owner(owner)
+                        .lockedAt(databaseNow).lockedUntil(databaseNow.plus(config.getLeaseDuration())).build());
+                return databaseNow;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    // False when the lease now belongs to another instance, which took it over after it expired
+    private boolean renew(String lockName) {
+        try {
+            Integer updated = transactionTemplate.execute(status -> syncLeaseRepository.updateLockedUntil(lockName,
+                    owner, databaseNow().plus(config.getLeaseDuration())));
+            return updated == null || updated > 0;
+        } catch (Exception e) {
+            // Still ours until it expires; the next beat tries again
+            log.warn("Could not renew lease {}: {}", lockName, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String lockName, Instant holdUntil) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Instant now = databaseNow();
+                syncLeaseRepository.updateLockedUntil(lockName, owner, holdUntil.isAfter(now) ? holdUntil : now);
+            });
+        } catch (Exception e) {
+            // The lease expires on its own
+            log.warn("Could not release lease {}: {}", lockName, e.getMessage());
+        }
+    }
+
+    private Instant databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class).toInstant();
+    }
+
+    String owner() {
+        return owner;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    /**
+     * Heartbeat of a running task. Run by the heartbeat thread, finished by
+     * the task's thread.
+     */
+    private final class Renewal implements Runnable {
+        private final String lockName;
+        private final Thread taskThread;
+        private boolean finished;
+        private boolean lost;
+
+        Renewal(String lockName, Thread taskThread) {
+            this.lockName = lockName;
+            this.taskThread = taskThread;
+        }
+
+        @Override
+        public void run() {
+            if (isDone() || renew(lockName)) {
+                return;
+            }
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                lost = true;
+                log.error("Lease {} was taken over by another instance while its task was running, "
+                        + "interrupting the task.", lockName);
+                taskThread.interrupt();
+            }
+        }
+
+        private synchronized boolean isDone() {
+            return finished || lost;
+        }
+
+        // Called once the task has returned; false if the lease was lost meanwhile
+        synchronized boolean finish() {
+            finished = true;
+            if (lost) {
+                // The interrupt was meant for the task, not for whatever the thread runs next
+                Thread.interrupted();
+                log.warn("Task of lease {} ended after the lease was lost.", lockName);
+            }
+            return !lost;
+        }
+    }
+
+    private static String instanceName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown-host";
+        }
+        // Unique per process, so two instances on the same host never share a lease
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
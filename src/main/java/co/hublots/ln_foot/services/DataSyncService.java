@@ -10,4 +10,25 @@ public interface DataSyncService {
     void syncFixturesByLeague(String externalLeagueApiId, String season);
 
     SyncStatusDto syncMainFixtures(Map<String, String> queryParams);
+
+    /**
+     * Same as {@link #syncMainFixtures(Map)}, reporting each phase and saved page
+     * to the listener.
+     */
+    SyncStatusDto syncMainFixtures(Map<String, String> queryParams, SyncProgressListener listener);
+
+    /**
+     * Fetches the fixtures of every interested league for a season, the first
+     * page of each league in parallel, and saves them page by page.
+     *
+     * @param extraParams additional query parameters sent with every request (e.g. from/to)
+     */
+    SyncStatusDto syncInterestedLeagues(String season, Map<String, String> extraParams);
+
+    /**
+     * Same as {@link #syncInterestedLeagues(String, Map)}, reporting each phase
+     * and saved page to the listener.
+     */
+    SyncStatusDto syncInterestedLeagues(String season, Map<String, String> extraParams,
+            SyncProgressListener listener);
 }
@@ -0,0 +1,14 @@
+package co.hublots.ln_foot.services;
+
+import java.util.List;
+
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
+
+/**
+ * Published inside the sync transaction that changed the scores or status of
+ * fixtures. Listeners pushing the deltas to clients should react after commit.
+ *
+ * @param deltas one entry per changed fixture
+ */
+public record FixtureDeltasEvent(List<FixtureDeltaDto> deltas) {
+}
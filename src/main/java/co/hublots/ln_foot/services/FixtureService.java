@@ -1,6 +1,7 @@
 package co.hublots.ln_foot.services;
 
 import co.hublots.ln_foot.dto.CreateFixtureDto;
+import co.hublots.ln_foot.dto.CursorPageDto;
 import co.hublots.ln_foot.dto.FixtureDto;
 import co.hublots.ln_foot.dto.UpdateFixtureDto;
 
@@ -10,12 +11,20 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page; 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface FixtureService {
     Page<FixtureDto> listFixtures(String leagueApiId, Pageable pageable);
+    // Keyset pagination in kickoff order: no count query, and the cost of a page does not grow with its depth
+    CursorPageDto<FixtureDto> scrollFixtures(String leagueApiId, String cursor, int size);
     Optional<FixtureDto> findFixtureById(String apiFixtureId);
+    // Fixtures of a team, home or away, in kickoff order; an absent bound leaves the window open on that side.
+    // A slice rather than a page: counting a team's whole history on every page costs more than the page.
+    Slice<FixtureDto> listTeamFixtures(String apiTeamId, LocalDate from, LocalDate to, Pageable pageable);
     List<FixtureDto> getUpcomingFixtures(Integer days, String leagueApiId);
     List<FixtureDto> getFixturesByDate(LocalDate date, String leagueApiId);
+    // The same list, serialized once per cached list rather than once per request
+    JsonPayload getFixturesByDateJson(LocalDate date, String leagueApiId);
     FixtureDto createFixture(CreateFixtureDto createDto);
     FixtureDto updateFixture(String apiFixtureId, UpdateFixtureDto updateDto);
     void deleteFixture(String apiFixtureId);
@@ -0,0 +1,56 @@
+package co.hublots.ln_foot.services;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import co.hublots.ln_foot.models.Fixture;
+
+/**
+ * Published inside the transaction that inserts, updates or deletes fixtures.
+ * Listeners that serve fixture data should react after commit.
+ *
+ * @param matchDates    days whose fixture lists changed, including the previous
+ *                      day of a rescheduled fixture
+ * @param leagueApiIds  leagues of the changed fixtures
+ * @param apiFixtureIds the changed fixtures
+ */
+public record FixturesChangedEvent(Set<LocalDate> matchDates, Set<String> leagueApiIds, Set<String> apiFixtureIds) {
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEmpty() {
+        return apiFixtureIds.isEmpty();
+    }
+
+    public static class Builder {
+        private final Set<LocalDate> matchDates = new HashSet<>();
+        private final Set<String> leagueApiIds = new HashSet<>();
+        private final Set<String> apiFixtureIds = new HashSet<>();
+
+        public Builder fixture(Fixture fixture) {
+            apiFixtureIds.add(fixture.getApiFixtureId());
+            if (fixture.getLeague() != null && fixture.getLeague().getApiLeagueId() != null) {
+                leagueApiIds.add(fixture.getLeague().getApiLeagueId());
+            }
+            return matchDatetime(fixture.getMatchDatetime());
+        }
+
+        // Days are UTC, as the by-date endpoints read them
+        public Builder matchDatetime(OffsetDateTime matchDatetime) {
+            if (matchDatetime != null) {
+                matchDates.add(matchDatetime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+            }
+            return this;
+        }
+
+        public FixturesChangedEvent build() {
+            return new FixturesChangedEvent(Set.copyOf(matchDates), Set.copyOf(leagueApiIds),
+                    Set.copyOf(apiFixtureIds));
+        }
+    }
+}
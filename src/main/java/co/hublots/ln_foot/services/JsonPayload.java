@@ -0,0 +1,15 @@
+package co.hublots.ln_foot.services;
+
+import co.hublots.ln_foot.repositories.ResourceVersion;
+
+/**
+ * A response body serialized once and kept as bytes, along with its gzip
+ * encoding, so that serving it again is a copy to the output stream.
+ *
+ * @param json    the UTF-8 JSON
+ * @param gzipped the same JSON, gzip-compressed
+ * @param version the version of the rows serialized, for the validators of
+ *                the response
+ */
+public record JsonPayload(byte[] json, byte[] gzipped, ResourceVersion version) {
+}
@@ -0,0 +1,23 @@
+package co.hublots.ln_foot.services;
+
+import co.hublots.ln_foot.models.NewsArticle.NewsStatus;
+import co.hublots.ln_foot.repositories.ResourceVersion;
+
+/**
+ * Versions of the rows behind the public read endpoints, each read with one
+ * aggregate query. A null or empty filter means no filter, as in the
+ * matching list methods of the other services. Fixture lists have no
+ * version here: the table is too large for an aggregate per request, so their
+ * validators come from the rows served, or from FixtureReadCache.
+ */
+public interface ResourceVersionService {
+    ResourceVersion getFixtureVersion(String apiFixtureId);
+    ResourceVersion getLeaguesVersion(String country);
+    ResourceVersion getLeagueVersion(String apiLeagueId);
+    ResourceVersion getTeamsVersion(String leagueApiId);
+    ResourceVersion getTeamVersion(String apiTeamId);
+    ResourceVersion getNewsArticlesVersion(NewsStatus status);
+    ResourceVersion getNewsArticleVersion(String id);
+    ResourceVersion getHeadingsVersion();
+    ResourceVersion getHeadingVersion(String id);
+}
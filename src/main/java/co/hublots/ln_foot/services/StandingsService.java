@@ -0,0 +1,32 @@
+package co.hublots.ln_foot.services;
+
+import java.util.Collection;
+import java.util.List;
+
+import co.hublots.ln_foot.dto.StandingDto;
+import co.hublots.ln_foot.repositories.FixtureResult;
+
+public interface StandingsService {
+
+    /**
+     * League table in rank order.
+     *
+     * @param season season to read; the latest one with results when null
+     * @throws java.util.NoSuchElementException if the league does not exist
+     */
+    List<StandingDto> getStandings(String leagueApiId, Integer season);
+
+    /**
+     * Replaces the previous results of changed fixtures by their current ones,
+     * touching only the rows of the teams involved. Runs in the caller's
+     * transaction, after the fixtures are written.
+     */
+    void applyResults(Collection<FixtureResult> previousResults, Collection<FixtureResult> currentResults);
+
+    /**
+     * Recomputes the standings of a league season from its fixtures.
+     *
+     * @return number of results counted
+     */
+    int rebuildStandings(String leagueApiId, int season);
+}
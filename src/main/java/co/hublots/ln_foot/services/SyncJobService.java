@@ -0,0 +1,31 @@
+package co.hublots.ln_foot.services;
+
+import java.util.Map;
+import java.util.Optional;
+
+import co.hublots.ln_foot.dto.SyncStatusDto;
+
+public interface SyncJobService {
+
+    /**
+     * Queues a fixture sync and returns at once with the id of the job.
+     */
+    SyncStatusDto submitMainFixturesSync(Map<String, String> queryParams);
+
+    /**
+     * Queues a sync of every interested league for a season and returns at
+     * once with the id of the job.
+     */
+    SyncStatusDto submitInterestedLeaguesSync(String season, Map<String, String> extraParams);
+
+    /**
+     * Queues a rebuild of every team's statistics and head-to-head records
+     * from the stored results and returns at once with the id of the job.
+     */
+    SyncStatusDto submitTeamStatsRebuild();
+
+    /**
+     * Current progress of a job, or its result once it has finished.
+     */
+    Optional<SyncStatusDto> findJob(String jobId);
+}
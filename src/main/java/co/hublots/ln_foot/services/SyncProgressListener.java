@@ -0,0 +1,21 @@
+package co.hublots.ln_foot.services;
+
+import co.hublots.ln_foot.dto.SyncStatusDto.PageProgress;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncPhase;
+
+/**
+ * Receives the progress of a running sync. Called on the thread running the
+ * sync.
+ */
+public interface SyncProgressListener {
+
+    SyncProgressListener NONE = new SyncProgressListener() {
+    };
+
+    default void phaseChanged(SyncPhase phase) {
+    }
+
+    // Called once per page, saved or failed
+    default void pageCompleted(PageProgress page) {
+    }
+}
@@ -0,0 +1,40 @@
+package co.hublots.ln_foot.services;
+
+import java.util.Collection;
+
+import co.hublots.ln_foot.dto.HeadToHeadDto;
+import co.hublots.ln_foot.dto.TeamFormDto;
+import co.hublots.ln_foot.repositories.FixtureResult;
+
+public interface TeamStatsService {
+
+    /**
+     * Form and home/away record of a team in every competition.
+     *
+     * @throws java.util.NoSuchElementException if the team does not exist
+     */
+    TeamFormDto getTeamForm(String apiTeamId);
+
+    /**
+     * Meetings between two teams, from the point of view of the first one.
+     *
+     * @throws java.util.NoSuchElementException if either team does not exist
+     * @throws IllegalArgumentException         if both ids are the same team
+     */
+    HeadToHeadDto getHeadToHead(String apiTeamId, String opponentApiTeamId);
+
+    /**
+     * Replaces the previous results of changed fixtures by their current ones,
+     * touching only the rows of the teams and pairs involved. Runs in the
+     * caller's transaction, after the fixtures are written.
+     */
+    void applyResults(Collection<FixtureResult> previousResults, Collection<FixtureResult> currentResults);
+
+    /**
+     * Recomputes every team's statistics and head-to-head records from the
+     * stored fixtures.
+     *
+     * @return number of results counted
+     */
+    int rebuildTeamStats();
+}
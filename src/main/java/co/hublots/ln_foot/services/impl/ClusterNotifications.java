@@ -0,0 +1,200 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Messages between the instances of the API, over Postgres LISTEN/NOTIFY.
+ * <p>
+ * {@link #publish} sends a notification on the current transaction's
+ * connection, so Postgres delivers it when that transaction commits and drops
+ * it on rollback. Every instance keeps one pooled connection listening on the
+ * subscribed channels and hands what other instances sent to the subscribers,
+ * on a single thread; an instance never receives its own messages, its local
+ * listeners already had the Spring event. A payload is limited to
+ * {@link #MAX_PAYLOAD_BYTES}.
+ * <p>
+ * When the listening connection is lost it is reopened after
+ * `application.cluster-notifications.reconnectDelay`, and subscribers are told
+ * that what was sent in between is lost. Disabled with
+ * `application.cluster-notifications.enabled` (tests on H2, a single instance).
+ */
+@Slf4j
+@Component
+public class ClusterNotifications {
+
+    /** Postgres rejects payloads of 8000 bytes or more; this leaves room for the sender prefix. */
+    public static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_]+");
+    private static final String SEPARATOR = "|";
+
+    public interface Subscriber {
+        void onNotification(String payload);
+
+        // Notifications sent while the listening connection was down were lost
+        default void onReconnect() {
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final Duration reconnectDelay;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listener;
+
+    public ClusterNotifications(JdbcTemplate jdbcTemplate, DataSource dataSource,
+            @Value("${application.cluster-notifications.enabled:true}") boolean enabled,
+            @Value("${application.cluster-notifications.reconnectDelay:5s}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Registers {@code subscriber} for the messages other instances publish on
+     * {@code channel}. Subscriptions are made while the context starts, before
+     * the listening connection opens.
+     */
+    public void subscribe(String channel, Subscriber subscriber) {
+        subscribers.computeIfAbsent(checkChannel(channel), key -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    /**
+     * Sends {@code payload} to the other instances when the current transaction
+     * commits, or right away outside a transaction.
+     *
+     * @throws IllegalArgumentException if the payload is too large
+     */
+    public void publish(String channel, String payload) {
+        if (!enabled) {
+            return;
+        }
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            throw new IllegalArgumentException("Notification payload on " + channel + " exceeds "
+                    + MAX_PAYLOAD_BYTES + " bytes");
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, checkChannel(channel),
+                instanceId + SEPARATOR + payload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running || subscribers.isEmpty()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cluster-notifications");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : subscribers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                log.info("Listening for cluster notifications on {}.", subscribers.keySet());
+                if (reconnecting) {
+                    subscribers.values().forEach(list -> list.forEach(this::notifyReconnect));
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getName(), notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster notification connection lost, reconnecting in {}: {}", reconnectDelay,
+                        e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    void dispatch(String channel, String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator < 0 || message.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        String payload = message.substring(separator + 1);
+        for (Subscriber subscriber : subscribers.getOrDefault(channel, List.of())) {
+            try {
+                subscriber.onNotification(payload);
+            } catch (RuntimeException e) {
+                log.warn("Cluster notification on {} failed: {}", channel, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void notifyReconnect(Subscriber subscriber) {
+        try {
+            subscriber.onReconnect();
+        } catch (RuntimeException e) {
+            log.warn("Cluster notification subscriber failed after reconnect: {}", e.getMessage(), e);
+        }
+    }
+
+    String instanceId() {
+        return instanceId;
+    }
+
+    // Channels are identifiers in LISTEN, which takes no bind parameter
+    private static String checkChannel(String channel) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        return channel;
+    }
+}
@@ -1,43 +1,60 @@
 package co.hublots.ln_foot.services.impl;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import co.hublots.ln_foot.clients.FixtureFetch;
+import co.hublots.ln_foot.clients.RapidApiFootballClient;
+import co.hublots.ln_foot.clients.RapidApiRateLimiter;
 import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
 import co.hublots.ln_foot.dto.SyncStatusDto;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncPhase;
 import co.hublots.ln_foot.dto.SyncStatusDto.SyncStatus;
 import co.hublots.ln_foot.dto.external.ExternalLeagueInFixtureDto;
 import co.hublots.ln_foot.dto.external.ExternalTeamInFixtureDto;
 import co.hublots.ln_foot.dto.external.FixtureResponseItemDto;
 import co.hublots.ln_foot.dto.external.GoalsDto;
-import co.hublots.ln_foot.dto.external.RapidApiFootballResponseDto;
 import co.hublots.ln_foot.dto.external.ScoreDetailsDto;
 import co.hublots.ln_foot.dto.external.ScoreDto;
 import co.hublots.ln_foot.models.Fixture;
 import co.hublots.ln_foot.models.League;
 import co.hublots.ln_foot.models.Team;
 import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
 import co.hublots.ln_foot.repositories.LeagueRepository;
+import co.hublots.ln_foot.repositories.SyncBatchWriter;
 import co.hublots.ln_foot.repositories.TeamRepository;
 import co.hublots.ln_foot.services.DataSyncService;
+import co.hublots.ln_foot.services.FixtureDeltasEvent;
+import co.hublots.ln_foot.services.FixturesChangedEvent;
+import co.hublots.ln_foot.services.StandingsService;
+import co.hublots.ln_foot.services.TeamStatsService;
+import co.hublots.ln_foot.services.SyncProgressListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,20 +63,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DataSyncServiceImpl implements DataSyncService {
 
+    // Fixtures kept from a date or live sync when none belongs to an interested league
+    private static final int FALLBACK_FIXTURE_COUNT = 10;
+
     private final LeagueRepository leagueRepository;
     private final TeamRepository teamRepository;
     private final FixtureRepository fixtureRepository;
+    private final InterestedLeagueMatcher interestedLeagueMatcher;
+    private final RapidApiFootballClient rapidApiFootballClient;
+    private final RapidApiRateLimiter rapidApiRateLimiter;
+    private final SyncBatchWriter syncBatchWriter;
+    private final SyncCheckpointStore syncCheckpointStore;
     private final SyncConfigProperties syncConfigProperties;
-    private final RestTemplate restTemplate;
-
-    @Value("${external.api.sportsUrl}")
-    private String baseUrl;
-
-    @Value("${external.api.sportsKey}")
-    private String externalApiSportsKey;
-
-    @Value("${external.api.rapidApiHost}")
-    private String externalApiRapidApiHost;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StandingsService standingsService;
+    private final TeamStatsService teamStatsService;
 
     @Override
     public void syncLeagues(String sportId, String countryName) {
@@ -92,44 +111,37 @@ public class DataSyncServiceImpl implements DataSyncService {
     }
 
     @Override
-    @Transactional
     public SyncStatusDto syncMainFixtures(Map<String, String> queryParams) {
-        try {
-            String url = baseUrl + "/fixtures";
-            UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(url);
-            queryParams.forEach(uriBuilder::queryParam);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-RapidAPI-Key", externalApiSportsKey);
-            headers.set("x-rapidapi-host", externalApiRapidApiHost);
-
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<RapidApiFootballResponseDto<FixtureResponseItemDto>> response = restTemplate.exchange(
-                    uriBuilder.build().toUri(),
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<>() {
-                    });
-
-            List<FixtureResponseItemDto> allFixturesFromApi = Optional.ofNullable(response.getBody())
-                    .map(RapidApiFootballResponseDto::getResponse)
-                    .orElse(Collections.emptyList());
-
-            if (allFixturesFromApi.isEmpty()) {
-                log.info("No fixtures returned. Clearing old data.");
-                return SyncStatusDto.builder().status(SyncStatus.NO_DATA).message("No fixtures returned from API.")
-                        .itemsProcessed(0).build();
-            }
+        return syncMainFixtures(queryParams, SyncProgressListener.NONE);
+    }
 
-            List<FixtureResponseItemDto> filteredFixtures = filterFixtures(allFixturesFromApi, queryParams);
+    // No surrounding transaction: each chunk of fixtures commits on its own, see savePage
+    @Override
+    public SyncStatusDto syncMainFixtures(Map<String, String> queryParams, SyncProgressListener listener) {
+        SyncStatusDto status = fetchAndSaveFixtures(queryParams, listener);
+        status.setQuotaRemaining(rapidApiRateLimiter.remainingDailyRequests());
+        return status;
+    }
 
-            if (filteredFixtures.isEmpty()) {
-                return SyncStatusDto.builder().status(SyncStatus.SUCCESS).message("No relevant fixtures to process.")
-                        .itemsProcessed(0).build();
+    private SyncStatusDto fetchAndSaveFixtures(Map<String, String> queryParams, SyncProgressListener listener) {
+        try {
+            // The interested-league filter runs while each page is streamed, only matches are kept
+            Map<String, String> params = pushDownInterestedLeagues(queryParams);
+            Predicate<FixtureResponseItemDto> filter = interestedLeagueFilter();
+            PageSync pageSync = new PageSync(listener);
+            listener.phaseChanged(SyncPhase.FETCHING);
+            FixtureFetch firstPage = rapidApiFootballClient.fetchFixtures(resumeParams(params), filter,
+                    FALLBACK_FIXTURE_COUNT);
+            syncAllPages(params, firstPage, filter, null, pageSync);
+
+            SyncStatusDto status = pageSync.toStatus();
+            if (status.getStatus() == SyncStatus.NOT_MODIFIED) {
+                log.info("Fixtures unchanged since last sync, skipping processing.");
             }
-
-            return processAndSaveFixtures(filteredFixtures);
+            if (pageSync.failedPages() > 0) {
+                status.setMessage(status.getMessage() + " (" + pageSync.failedPages() + " page(s) failed)");
+            }
+            return status;
 
         } catch (RestClientException e) {
             log.error("RestClientException during sync: {}", e.getMessage(), e);
@@ -144,151 +156,678 @@ public class DataSyncServiceImpl implements DataSyncService {
         }
     }
 
-    private List<FixtureResponseItemDto> filterFixtures(List<FixtureResponseItemDto> allFixturesFromApi,
-            Map<String, String> queryParams) {
-        List<FixtureResponseItemDto> filteredFixtures;
-
-        if (syncConfigProperties != null && syncConfigProperties.getInterestedLeagues() != null
-                && !syncConfigProperties.getInterestedLeagues().isEmpty()) {
-            filteredFixtures = allFixturesFromApi.stream()
-                    .filter(item -> item.getLeague() != null &&
-                            syncConfigProperties.getInterestedLeagues().stream()
-                                    .anyMatch(interestedLeague -> interestedLeague.getName()
-                                            .equalsIgnoreCase(item.getLeague().getName()) &&
-                                            interestedLeague.getCountry()
-                                                    .equalsIgnoreCase(item.getLeague().getCountry())))
-                    .collect(Collectors.toList());
-
-            if (filteredFixtures.isEmpty()) {
-                log.warn("No fixtures matched interested leagues. Using first 10 fixtures as fallback.");
-                filteredFixtures = allFixturesFromApi.stream().limit(10).collect(Collectors.toList());
+    // Starts at the page after the checkpoint of an interrupted run of the same query, if any
+    private Map<String, String> resumeParams(Map<String, String> params) {
+        int resumePage = syncCheckpointStore.resumePage(params);
+        if (resumePage <= 1) {
+            return params;
+        }
+        Map<String, String> pageParams = new HashMap<>(params);
+        pageParams.put("page", String.valueOf(resumePage));
+        return pageParams;
+    }
+
+    /**
+     * Saves the first page of a query, then fetches the remaining pages
+     * concurrently and saves them in page order as they arrive. At most
+     * `fetchParallelism` pages are in flight, and no more than the rate limiter
+     * can grant right away, so a large pull neither queues every page behind the
+     * limiter nor holds more than a few pages. A page that cannot be fetched is
+     * recorded as failed; the pages around it are still saved.
+     * <p>
+     * For a multi-page query a checkpoint tracks the last page committed before
+     * any failure, and is cleared once every page is saved.
+     *
+     * @return false if at least one page failed
+     */
+    private boolean syncAllPages(Map<String, String> params, FixtureFetch firstPage,
+            Predicate<FixtureResponseItemDto> filter, String apiLeagueId, PageSync pageSync) {
+        boolean checkpointed = firstPage.getTotalPages() > 1;
+        savePage(firstPage, apiLeagueId, pageSync, checkpointed ? params : null);
+
+        // A page is requested when one in flight is taken, so the pages waiting on the rate limiter never exceed
+        // what it can grant at once, instead of timing out behind it
+        int inFlightLimit = Math.max(1, Math.min(syncConfigProperties.getFetchParallelism(),
+                rapidApiRateLimiter.getQuota().getAvailableRequests()));
+        Deque<Map.Entry<Integer, CompletableFuture<FixtureFetch>>> laterPages = new ArrayDeque<>();
+        int nextPage = firstPage.getPage() + 1;
+        boolean complete = true;
+        while (nextPage <= firstPage.getTotalPages() || !laterPages.isEmpty()) {
+            for (; nextPage <= firstPage.getTotalPages() && laterPages.size() < inFlightLimit; nextPage++) {
+                Map<String, String> pageParams = new HashMap<>(params);
+                pageParams.put("page", String.valueOf(nextPage));
+                // The fallback fixtures only come from the first page
+                laterPages.add(Map.entry(nextPage, rapidApiFootballClient.fetchFixturesAsync(pageParams, filter, 0)));
             }
-        } else {
-            log.warn("No interested leagues configured. Using first 10 fixtures as fallback.");
-            filteredFixtures = allFixturesFromApi.stream().limit(10).collect(Collectors.toList());
+            Map.Entry<Integer, CompletableFuture<FixtureFetch>> laterPage = laterPages.poll();
+            FixtureFetch fetch;
+            try {
+                fetch = join(laterPage.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Fetch failed for page {}/{} of {}: {}", laterPage.getKey(), firstPage.getTotalPages(),
+                        params, e.getMessage());
+                pageSync.pageFailed(apiLeagueId, laterPage.getKey(), firstPage.getTotalPages());
+                complete = false;
+                continue;
+            }
+            // The checkpoint stops at the page before the first failure, a later run resumes there
+            savePage(fetch, apiLeagueId, pageSync, checkpointed && complete ? params : null);
+        }
+        if (checkpointed && complete) {
+            syncCheckpointStore.completed(params);
         }
+        return complete;
+    }
 
-        return filteredFixtures;
+    /**
+     * Saves a page in chunks of `application.sync.chunkSize` fixtures, each in
+     * its own transaction, so a sync never holds row locks or a connection for
+     * longer than one chunk. When `checkpointParams` is set the checkpoint of
+     * that query moves to this page together with its last chunk.
+     */
+    private void savePage(FixtureFetch fetch, String apiLeagueId, PageSync pageSync,
+            Map<String, String> checkpointParams) {
+        pageSync.pageReceived();
+        long saveStart = System.nanoTime();
+        List<FixtureResponseItemDto> fixtures = fetch.isNotModified() ? List.of() : fetch.getFixtures();
+        if (!fixtures.isEmpty()) {
+            pageSync.listener.phaseChanged(SyncPhase.SAVING);
+            if (!fetch.isFilterMatched()) {
+                log.warn("No fixtures matched interested leagues. Using first {} fixtures as fallback.",
+                        fixtures.size());
+            }
+        }
+
+        List<List<FixtureResponseItemDto>> chunks = chunks(fixtures);
+        if (chunks.isEmpty() && checkpointParams != null) {
+            chunks = List.of(List.of());
+        }
+        SyncStatusDto saved = null;
+        for (int i = 0; i < chunks.size(); i++) {
+            List<FixtureResponseItemDto> chunk = chunks.get(i);
+            boolean lastChunk = i == chunks.size() - 1;
+            SyncStatusDto chunkStatus = transactionTemplate.execute(status -> {
+                SyncStatusDto written = chunk.isEmpty() ? null : processAndSaveFixtures(chunk);
+                if (lastChunk && checkpointParams != null) {
+                    syncCheckpointStore.pageCommitted(checkpointParams, fetch.getPage(), fetch.getTotalPages());
+                }
+                return written;
+            });
+            saved = mergeChunkStatus(saved, chunkStatus);
+        }
+
+        // The page is committed: an identical payload can now be skipped
+        if (!fetch.isNotModified()) {
+            rapidApiFootballClient.markProcessed(fetch);
+        }
+        pageSync.pageSaved(apiLeagueId, fetch, saved, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - saveStart));
+        pageSync.listener.phaseChanged(SyncPhase.FETCHING);
     }
 
-    private SyncStatusDto processAndSaveFixtures(List<FixtureResponseItemDto> fixturesToProcess) {
-        // Fetch old entities BEFORE processing and creating new ones.
-        List<Team> oldTeams = teamRepository.findAll();
-        List<League> oldLeagues = leagueRepository.findAll();
-        List<Fixture> oldFixtures = fixtureRepository.findAll();
+    private List<List<FixtureResponseItemDto>> chunks(List<FixtureResponseItemDto> fixtures) {
+        int configured = syncConfigProperties.getChunkSize();
+        int chunkSize = configured > 0 ? configured : Math.max(1, fixtures.size());
+        List<List<FixtureResponseItemDto>> chunks = new ArrayList<>();
+        for (int from = 0; from < fixtures.size(); from += chunkSize) {
+            chunks.add(fixtures.subList(from, Math.min(fixtures.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
 
-        Map<Long, League> processedLeagues = new HashMap<>();
-        Map<Long, Team> processedTeams = new HashMap<>();
+    // Sums the chunks of a page; a chunk without valid fixtures reports NO_DATA and adds nothing.
+    private static SyncStatusDto mergeChunkStatus(SyncStatusDto total, SyncStatusDto chunk) {
+        if (total == null || total.getStatus() != SyncStatus.SUCCESS) {
+            return chunk != null ? chunk : total;
+        }
+        if (chunk == null || chunk.getStatus() != SyncStatus.SUCCESS) {
+            return total;
+        }
+        return SyncStatusDto.builder()
+                .status(SyncStatus.SUCCESS)
+                .message(total.getMessage())
+                .itemsProcessed(total.getItemsProcessed() + chunk.getItemsProcessed())
+                .itemsCreated(total.getItemsCreated() + chunk.getItemsCreated())
+                .itemsUpdated(total.getItemsUpdated() + chunk.getItemsUpdated())
+                .writeDurationMs(total.getWriteDurationMs() + chunk.getWriteDurationMs())
+                .build();
+    }
 
-        int count = 0;
-        List<Fixture> fixturesToSave = new ArrayList<Fixture>(fixturesToProcess.size());
+    // Unwraps the failure of an async fetch so it surfaces like a synchronous one.
+    private static FixtureFetch join(CompletableFuture<FixtureFetch> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
+    @Override
+    public SyncStatusDto syncInterestedLeagues(String season, Map<String, String> extraParams) {
+        return syncInterestedLeagues(season, extraParams, SyncProgressListener.NONE);
+    }
+
+    @Override
+    public SyncStatusDto syncInterestedLeagues(String season, Map<String, String> extraParams,
+            SyncProgressListener listener) {
+        SyncStatusDto status = fetchAndSaveInterestedLeagues(season, extraParams, listener);
+        status.setQuotaRemaining(rapidApiRateLimiter.remainingDailyRequests());
+        return status;
+    }
+
+    private SyncStatusDto fetchAndSaveInterestedLeagues(String season, Map<String, String> extraParams,
+            SyncProgressListener listener) {
+        try {
+            List<String> apiLeagueIds = interestedLeagueMatcher.resolvedApiLeagueIds();
+            if (apiLeagueIds.isEmpty()) {
+                log.warn("No interested league could be resolved to an API league id, skipping per-league sync.");
+                return SyncStatusDto.builder().status(SyncStatus.NO_DATA)
+                        .message("No interested league resolved to an API league id.")
+                        .itemsProcessed(0).build();
+            }
+
+            // Only start the leagues the daily budget can pay for, rather than failing halfway through
+            List<String> failedLeagues = new ArrayList<>();
+            int affordableRequests = rapidApiRateLimiter.remainingDailyRequests();
+            if (affordableRequests < apiLeagueIds.size()) {
+                failedLeagues.addAll(apiLeagueIds.subList(affordableRequests, apiLeagueIds.size()));
+                apiLeagueIds = apiLeagueIds.subList(0, affordableRequests);
+                log.warn("Daily API budget covers {} of {} leagues, skipping {}.", affordableRequests,
+                        affordableRequests + failedLeagues.size(), failedLeagues);
+            }
+            if (apiLeagueIds.isEmpty()) {
+                return SyncStatusDto.builder().status(SyncStatus.NO_DATA)
+                        .message("Daily API request budget exhausted.")
+                        .itemsProcessed(0).failedLeagues(failedLeagues).build();
+            }
+
+            // First page of every league in flight at once on the client's bounded pool
+            Map<String, Map<String, String>> paramsByLeague = new LinkedHashMap<>();
+            Map<String, CompletableFuture<FixtureFetch>> firstPages = new LinkedHashMap<>();
+            for (String apiLeagueId : apiLeagueIds) {
+                Map<String, String> params = new HashMap<>(extraParams);
+                params.put("league", apiLeagueId);
+                params.put("season", season);
+                paramsByLeague.put(apiLeagueId, params);
+                firstPages.put(apiLeagueId, rapidApiFootballClient.fetchFixturesAsync(resumeParams(params)));
+            }
+
+            PageSync pageSync = new PageSync(listener);
+            listener.phaseChanged(SyncPhase.FETCHING);
+            int leaguesFetched = 0;
+            for (Map.Entry<String, CompletableFuture<FixtureFetch>> firstPage : firstPages.entrySet()) {
+                String apiLeagueId = firstPage.getKey();
+                FixtureFetch fetch;
+                try {
+                    fetch = join(firstPage.getValue());
+                } catch (RuntimeException e) {
+                    log.warn("Fetch failed for league {} season {}: {}", apiLeagueId, season, e.getMessage());
+                    failedLeagues.add(apiLeagueId);
+                    continue;
+                }
+                leaguesFetched++;
+                // Every league is requested by id, so its pages need no interested-league filtering
+                if (!syncAllPages(paramsByLeague.get(apiLeagueId), fetch, item -> true, apiLeagueId, pageSync)) {
+                    failedLeagues.add(apiLeagueId);
+                }
+            }
+
+            SyncStatusDto status = pageSync.toStatus();
+            log.info("Synced {} page(s) for {} league(s), last page received after {} ms ({} failed or skipped).",
+                    status.getPages().size(), apiLeagueIds.size(), status.getFetchDurationMs(), failedLeagues.size());
+
+            if (leaguesFetched == 0) {
+                return SyncStatusDto.builder().status(SyncStatus.ERROR)
+                        .message("API Error: fetch failed for every requested league.")
+                        .itemsProcessed(0).fetchDurationMs(status.getFetchDurationMs())
+                        .failedLeagues(failedLeagues).build();
+            }
+            if (!failedLeagues.isEmpty()) {
+                status.setFailedLeagues(failedLeagues);
+                status.setMessage(status.getMessage() + " (failed or skipped leagues: " + failedLeagues + ")");
+            }
+            return status;
+        } catch (Exception e) {
+            log.error("Unexpected error during per-league sync: {}", e.getMessage(), e);
+            return SyncStatusDto.builder().status(SyncStatus.ERROR).message("Sync Error: " + e.getMessage())
+                    .itemsProcessed(0)
+                    .build();
+        }
+    }
+
+    // Without interested leagues nothing matches, so the fallback fixtures are used.
+    private Predicate<FixtureResponseItemDto> interestedLeagueFilter() {
+        if (!interestedLeagueMatcher.hasInterestedLeagues()) {
+            log.warn("No interested leagues configured.");
+            return item -> false;
+        }
+        return interestedLeagueMatcher::matches;
+    }
+
+    /**
+     * Narrows `live=all` to the interested leagues (`live=id-id-...`) once all of
+     * them have a known API id, so the API only returns fixtures we keep.
+     */
+    private Map<String, String> pushDownInterestedLeagues(Map<String, String> queryParams) {
+        if (!"all".equalsIgnoreCase(queryParams.get("live")) || !interestedLeagueMatcher.isFullyResolved()) {
+            return queryParams;
+        }
+        Map<String, String> narrowed = new HashMap<>(queryParams);
+        narrowed.put("live", String.join("-", interestedLeagueMatcher.resolvedApiLeagueIds()));
+        return narrowed;
+    }
+
+    private SyncStatusDto processAndSaveFixtures(List<FixtureResponseItemDto> fixturesToProcess) {
+        List<FixtureResponseItemDto> validItems = new ArrayList<>(fixturesToProcess.size());
         for (FixtureResponseItemDto item : fixturesToProcess) {
-            if (item.getFixture() == null || item.getTeams() == null || item.getLeague() == null) {
+            if (item.getFixture() == null || item.getTeams() == null || item.getLeague() == null
+                    || item.getTeams().getHome() == null || item.getTeams().getAway() == null) {
                 log.warn("Skipping incomplete fixture data: {}", item);
                 continue; // Skip incomplete fixtures
             }
-            // Save League
-            ExternalLeagueInFixtureDto extLeague = item.getLeague();
-            League league = processedLeagues.computeIfAbsent(extLeague.getLeagueApiId(), id -> {
-                League l = new League();
-                l.setApiLeagueId(String.valueOf(id));
-                l.setLeagueName(extLeague.getName());
-                l.setCountry(extLeague.getCountry());
-                return leagueRepository.save(l);
-            });
+            validItems.add(item);
+        }
 
-            // Save Teams
-            ExternalTeamInFixtureDto homeTeamDto = item.getTeams().getHome();
-            Team homeTeam = processedTeams.computeIfAbsent(homeTeamDto.getTeamApiId(), id -> {
-                Team t = new Team();
-                t.setApiTeamId(String.valueOf(id));
-                t.setTeamName(homeTeamDto.getName());
-                t.setLogoUrl(homeTeamDto.getLogo());
-                return teamRepository.save(t);
-            });
+        if (validItems.isEmpty()) {
+            log.info("No valid fixtures to save after processing.");
+            return SyncStatusDto.builder().status(SyncStatus.NO_DATA).message("No valid fixtures to save.")
+                    .itemsProcessed(0)
+                    .build();
+        }
 
-            ExternalTeamInFixtureDto awayTeamDto = item.getTeams().getAway();
-            Team awayTeam = processedTeams.computeIfAbsent(awayTeamDto.getTeamApiId(), id -> {
-                Team t = new Team();
-                t.setApiTeamId(String.valueOf(id));
-                t.setTeamName(awayTeamDto.getName());
-                t.setLogoUrl(awayTeamDto.getLogo());
-                return teamRepository.save(t);
-            });
+        // Load only the rows this payload can touch, keyed by their external API ids.
+        // Leagues and teams are loaded first so fixture associations resolve to the same instances.
+        Map<String, League> leaguesByApiId = leagueRepository.findByApiLeagueIdIn(collectApiLeagueIds(validItems))
+                .stream()
+                .collect(Collectors.toMap(League::getApiLeagueId, Function.identity(), (a, b) -> a));
+        Map<String, Team> teamsByApiId = teamRepository.findByApiTeamIdIn(collectApiTeamIds(validItems))
+                .stream()
+                .collect(Collectors.toMap(Team::getApiTeamId, Function.identity(), (a, b) -> a));
+        // Locked: the results read here are the ones the standings are moved from
+        Map<String, Fixture> fixturesByApiId = fixtureRepository
+                .findForUpdateByApiFixtureIdIn(collectApiFixtureIds(validItems))
+                .stream()
+                .collect(Collectors.toMap(Fixture::getApiFixtureId, Function.identity(), (a, b) -> a));
+
+        Map<String, League> leaguesToSave = new LinkedHashMap<>();
+        Map<String, Team> teamsToSave = new LinkedHashMap<>();
+        Map<String, Fixture> fixturesToSave = new LinkedHashMap<>();
+        int created = 0;
+        int updated = 0;
+        FixturesChangedEvent.Builder changed = FixturesChangedEvent.builder();
+        List<FixtureDeltaDto> deltas = new ArrayList<>();
+        Map<String, FixtureResult> previousResults = new HashMap<>();
+        OffsetDateTime detectedAt = OffsetDateTime.now(ZoneOffset.UTC);
+
+        for (FixtureResponseItemDto item : validItems) {
+            League league = upsertLeague(item.getLeague(), leaguesByApiId, leaguesToSave);
+            Team homeTeam = upsertTeam(item.getTeams().getHome(), teamsByApiId, teamsToSave);
+            Team awayTeam = upsertTeam(item.getTeams().getAway(), teamsByApiId, teamsToSave);
+
+            String apiFixtureId = String.valueOf(item.getFixture().getFixtureApiId());
+            Fixture fixture = fixturesByApiId.get(apiFixtureId);
+            if (fixture == null) {
+                fixture = new Fixture();
+                fixture.setApiFixtureId(apiFixtureId);
+                fixturesByApiId.put(apiFixtureId, fixture);
+                applyFixtureData(fixture, item, league, homeTeam, awayTeam);
+                fixturesToSave.put(apiFixtureId, fixture);
+                created++;
+            } else {
+                OffsetDateTime previousMatchDatetime = fixture.getMatchDatetime();
+                FixtureScoreSnapshot previousScores = FixtureScoreSnapshot.of(fixture);
+                if (fixture.getId() != null && !previousResults.containsKey(apiFixtureId)) {
+                    FixtureResult.of(fixture).ifPresent(result -> previousResults.put(apiFixtureId, result));
+                }
+                if (applyFixtureData(fixture, item, league, homeTeam, awayTeam)) {
+                    changed.matchDatetime(previousMatchDatetime);
+                    previousScores.deltaTo(fixture, detectedAt).ifPresent(deltas::add);
+                    if (fixturesToSave.put(apiFixtureId, fixture) == null) {
+                        updated++;
+                    }
+                }
+            }
+        }
+        fixturesToSave.values().forEach(changed::fixture);
+
+        int unchanged = fixturesByApiId.size() - created - updated;
+
+        long writeStart = System.nanoTime();
+        int fixturesWritten;
+        try {
+            // Leagues and teams first: new fixtures reference their generated ids.
+            int leaguesWritten = syncBatchWriter.saveLeagues(leaguesToSave.values());
+            int teamsWritten = syncBatchWriter.saveTeams(teamsToSave.values());
+            fixturesWritten = syncBatchWriter.saveFixtures(fixturesToSave.values());
+            fixturesWritten += updateConcurrentlyCreated(fixturesToSave.values(), previousResults);
+            applyResultChanges(fixturesToSave.values(), previousResults);
+            // Listeners act after this chunk commits
+            eventPublisher.publishEvent(changed.build());
+            if (!deltas.isEmpty()) {
+                eventPublisher.publishEvent(new FixtureDeltasEvent(deltas));
+            }
+            log.info("Fixture sync applied: {} created, {} updated, {} unchanged ({} leagues, {} teams written).",
+                    created, updated, unchanged, leaguesWritten, teamsWritten);
+        } catch (Exception e) {
+            log.error("Failed to save fixtures: {}", e.getMessage(), e);
+            throw e; // Let transaction rollback
+        }
+        long writeDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - writeStart);
+
+        return SyncStatusDto.builder()
+                .status(SyncStatus.SUCCESS)
+                .message("Synced fixtures successfully")
+                .itemsProcessed(validItems.size())
+                .itemsCreated(created)
+                .itemsUpdated(updated)
+                .writeDurationMs(writeDurationMs)
+                .writeThroughputPerSecond(writeThroughput(fixturesWritten, writeDurationMs))
+                .build();
+    }
+
+    /**
+     * Updates the new fixtures whose row another sync created after this chunk
+     * read the table: the insert left them without an id. Their rows are locked
+     * and their results recorded as the previous ones, as for the fixtures that
+     * already existed, so a result both syncs saw is not counted twice.
+     *
+     * @return number of fixture rows written
+     */
+    private int updateConcurrentlyCreated(Collection<Fixture> savedFixtures,
+            Map<String, FixtureResult> previousResults) {
+        Map<String, Fixture> unwritten = savedFixtures.stream()
+                .filter(fixture -> fixture.getId() == null)
+                .collect(Collectors.toMap(Fixture::getApiFixtureId, Function.identity(), (a, b) -> a));
+        if (unwritten.isEmpty()) {
+            return 0;
+        }
+        List<Fixture> updates = new ArrayList<>();
+        for (Fixture existing : fixtureRepository.findForUpdateByApiFixtureIdIn(unwritten.keySet())) {
+            Fixture fixture = unwritten.get(existing.getApiFixtureId());
+            // The insert only conflicts with the row of the same kickoff
+            if (fixture == null || !existing.getMatchDatetime().isEqual(fixture.getMatchDatetime())) {
+                continue;
+            }
+            unwritten.remove(existing.getApiFixtureId());
+            FixtureResult.of(existing).ifPresent(result -> previousResults.put(fixture.getApiFixtureId(), result));
+            fixture.setId(existing.getId());
+            fixture.setCreatedAt(existing.getCreatedAt());
+            updates.add(fixture);
+        }
+        unwritten.keySet().forEach(apiFixtureId -> log.warn("Fixture {} was neither inserted nor found.", apiFixtureId));
+        return updates.isEmpty() ? 0 : syncBatchWriter.saveFixtures(updates);
+    }
+
+    // Moves the standings and team statistics from the stored results of the written fixtures to their new ones
+    private void applyResultChanges(Collection<Fixture> savedFixtures, Map<String, FixtureResult> previousResults) {
+        List<FixtureResult> removed = new ArrayList<>();
+        List<FixtureResult> added = new ArrayList<>();
+        for (Fixture fixture : savedFixtures) {
+            FixtureResult previous = previousResults.get(fixture.getApiFixtureId());
+            FixtureResult current = FixtureResult.of(fixture).orElse(null);
+            if (!Objects.equals(previous, current)) {
+                if (previous != null) {
+                    removed.add(previous);
+                }
+                if (current != null) {
+                    added.add(current);
+                }
+            }
+        }
+        standingsService.applyResults(removed, added);
+        teamStatsService.applyResults(removed, added);
+    }
 
-            // Save Fixture
-            Fixture fixture = new Fixture();
-            fixture.setApiFixtureId(String.valueOf(item.getFixture().getFixtureApiId()));
+    // Fixtures written per second; a sub-millisecond write is reported against 1 ms.
+    private static double writeThroughput(int fixturesWritten, long writeDurationMs) {
+        return fixturesWritten * 1000.0 / Math.max(1L, writeDurationMs);
+    }
+
+    private League upsertLeague(ExternalLeagueInFixtureDto extLeague, Map<String, League> leaguesByApiId,
+            Map<String, League> leaguesToSave) {
+        String apiLeagueId = String.valueOf(extLeague.getLeagueApiId());
+        League league = leaguesByApiId.get(apiLeagueId);
+        if (league == null) {
+            league = new League();
+            league.setApiLeagueId(apiLeagueId);
+            leaguesByApiId.put(apiLeagueId, league);
+            leaguesToSave.put(apiLeagueId, league);
+        }
+
+        boolean changed = updateIfChanged(league.getLeagueName(), extLeague.getName(), league::setLeagueName);
+        changed |= updateIfChanged(league.getCountry(), extLeague.getCountry(), league::setCountry);
+        if (changed) {
+            leaguesToSave.put(apiLeagueId, league);
+        }
+        return league;
+    }
+
+    private Team upsertTeam(ExternalTeamInFixtureDto extTeam, Map<String, Team> teamsByApiId,
+            Map<String, Team> teamsToSave) {
+        String apiTeamId = String.valueOf(extTeam.getTeamApiId());
+        Team team = teamsByApiId.get(apiTeamId);
+        if (team == null) {
+            team = new Team();
+            team.setApiTeamId(apiTeamId);
+            teamsByApiId.put(apiTeamId, team);
+            teamsToSave.put(apiTeamId, team);
+        }
+
+        boolean changed = updateIfChanged(team.getTeamName(), extTeam.getName(), team::setTeamName);
+        changed |= updateIfChanged(team.getLogoUrl(), extTeam.getLogo(), team::setLogoUrl);
+        if (changed) {
+            teamsToSave.put(apiTeamId, team);
+        }
+        return team;
+    }
+
+    /**
+     * Copies the synced columns of an API item onto the fixture, touching only the
+     * columns whose value differs.
+     *
+     * @return true if at least one column was changed
+     */
+    private boolean applyFixtureData(Fixture fixture, FixtureResponseItemDto item, League league, Team homeTeam,
+            Team awayTeam) {
+        boolean changed = false;
+
+        if (!isSameEntity(fixture.getLeague(), league, League::getId)) {
             fixture.setLeague(league);
+            changed = true;
+        }
+        if (!isSameEntity(fixture.getTeam1(), homeTeam, Team::getId)) {
             fixture.setTeam1(homeTeam);
+            changed = true;
+        }
+        if (!isSameEntity(fixture.getTeam2(), awayTeam, Team::getId)) {
             fixture.setTeam2(awayTeam);
-            fixture.setStatus(item.getFixture().getStatus().getShortStatus());
-            fixture.setMatchDatetime(item.getFixture().getDate());
+            changed = true;
+        }
+
+        if (item.getLeague().getSeason() != null) {
+            changed |= updateIfChanged(fixture.getSeason(), item.getLeague().getSeason(), fixture::setSeason);
+        }
+
+        String status = item.getFixture().getStatus() != null ? item.getFixture().getStatus().getShortStatus() : null;
+        changed |= updateIfChanged(fixture.getStatus(), status, fixture::setStatus);
 
-            GoalsDto goals = item.getGoals();
-            fixture.setGoalsTeam1(goals.getHome());
-            fixture.setGoalsTeam2(goals.getAway());
+        OffsetDateTime matchDatetime = item.getFixture().getDate();
+        if (matchDatetime != null
+                && (fixture.getMatchDatetime() == null || !fixture.getMatchDatetime().isEqual(matchDatetime))) {
+            fixture.setMatchDatetime(matchDatetime);
+            changed = true;
+        }
 
-            ScoreDto scores = item.getScore();
+        GoalsDto goals = item.getGoals();
+        if (goals != null) {
+            changed |= updateIfChanged(fixture.getGoalsTeam1(), goals.getHome(), fixture::setGoalsTeam1);
+            changed |= updateIfChanged(fixture.getGoalsTeam2(), goals.getAway(), fixture::setGoalsTeam2);
+        }
 
+        ScoreDto scores = item.getScore();
+        if (scores != null) {
             ScoreDetailsDto halftime = scores.getHalftime();
             if (halftime != null) {
-                fixture.setScoreHtAway(halftime.getAway());
-                fixture.setScoreHtHome(halftime.getHome());
+                changed |= updateIfChanged(fixture.getScoreHtHome(), halftime.getHome(), fixture::setScoreHtHome);
+                changed |= updateIfChanged(fixture.getScoreHtAway(), halftime.getAway(), fixture::setScoreHtAway);
             }
 
             ScoreDetailsDto fulltime = scores.getFulltime();
             if (fulltime != null) {
-                fixture.setScoreFtHome(fulltime.getHome());
-                fixture.setScoreFtAway(fulltime.getAway());
+                changed |= updateIfChanged(fixture.getScoreFtHome(), fulltime.getHome(), fixture::setScoreFtHome);
+                changed |= updateIfChanged(fixture.getScoreFtAway(), fulltime.getAway(), fixture::setScoreFtAway);
             }
 
             ScoreDetailsDto extratime = scores.getExtratime();
-            if (fulltime != null) {
-                fixture.setScoreEtAway(extratime.getAway());
-                fixture.setScoreEtHome(extratime.getHome());
+            if (extratime != null) {
+                changed |= updateIfChanged(fixture.getScoreEtHome(), extratime.getHome(), fixture::setScoreEtHome);
+                changed |= updateIfChanged(fixture.getScoreEtAway(), extratime.getAway(), fixture::setScoreEtAway);
             }
 
             ScoreDetailsDto penalty = scores.getPenalty();
             if (penalty != null) {
-                fixture.setScorePtAway(penalty.getAway());
-                fixture.setScorePtHome(penalty.getHome());
+                changed |= updateIfChanged(fixture.getScorePtHome(), penalty.getHome(), fixture::setScorePtHome);
+                changed |= updateIfChanged(fixture.getScorePtAway(), penalty.getAway(), fixture::setScorePtAway);
             }
+        }
+
+        return changed;
+    }
 
-            fixturesToSave.add(fixture);
-            count++;
+    private static <T> boolean updateIfChanged(T currentValue, T newValue, Consumer<T> setter) {
+        if (Objects.equals(currentValue, newValue)) {
+            return false;
         }
+        setter.accept(newValue);
+        return true;
+    }
 
-        if (fixturesToSave.isEmpty()) {
-            log.info("No valid fixtures to save after processing.");
-            return SyncStatusDto.builder().status(SyncStatus.NO_DATA).message("No valid fixtures to save.")
-                    .itemsProcessed(0)
-                    .build();
+    // Compares by reference first, then by id, so lazy proxies are never initialized.
+    private static <T> boolean isSameEntity(T current, T candidate, Function<T, String> idGetter) {
+        if (current == candidate) {
+            return true;
         }
+        if (current == null || candidate == null) {
+            return false;
+        }
+        String currentId = idGetter.apply(current);
+        return currentId != null && currentId.equals(idGetter.apply(candidate));
+    }
 
-        try {
-            // Save new fixtures first
-            List<Fixture> savedFixtures = fixtureRepository.saveAll(fixturesToSave);
-            log.info("Successfully saved {} fixtures.", savedFixtures.size());
+    private static Set<String> collectApiLeagueIds(List<FixtureResponseItemDto> items) {
+        return items.stream()
+                .map(item -> String.valueOf(item.getLeague().getLeagueApiId()))
+                .collect(Collectors.toSet());
+    }
 
-            // Only clear old data after successful save
-            clearAllSyncData(oldFixtures, oldTeams, oldLeagues);
-        } catch (Exception e) {
-            log.error("Failed to save fixtures: {}", e.getMessage(), e);
-            throw e; // Let transaction rollback
+    private static Set<String> collectApiTeamIds(List<FixtureResponseItemDto> items) {
+        Set<String> apiTeamIds = new HashSet<>();
+        for (FixtureResponseItemDto item : items) {
+            apiTeamIds.add(String.valueOf(item.getTeams().getHome().getTeamApiId()));
+            apiTeamIds.add(String.valueOf(item.getTeams().getAway().getTeamApiId()));
         }
+        return apiTeamIds;
+    }
 
-        return SyncStatusDto.builder()
-                .status(SyncStatus.SUCCESS)
-                .message("Synced fixtures successfully")
-                .itemsProcessed(count)
-                .build();
+    private static Set<String> collectApiFixtureIds(List<FixtureResponseItemDto> items) {
+        return items.stream()
+                .map(item -> String.valueOf(item.getFixture().getFixtureApiId()))
+                .collect(Collectors.toSet());
     }
 
-    private void clearAllSyncData(List<Fixture> fixtures, List<Team> teams, List<League> leagues) {
-        fixtureRepository.deleteAllInBatch(fixtures);
-        teamRepository.deleteAllInBatch(teams);
-        leagueRepository.deleteAllInBatch(leagues);
+    /**
+     * Totals and per-page progress of a sync whose pages are saved one at a
+     * time.
+     */
+    private static final class PageSync {
+        private final SyncProgressListener listener;
+        private final long startNanos = System.nanoTime();
+        private long lastPageReceivedNanos = startNanos;
+        private final List<SyncStatusDto.PageProgress> pages = new ArrayList<>();
+        private int modifiedPages;
+        private int itemsRead;
+        private int itemsKept;
+        private int itemsProcessed;
+        private int itemsCreated;
+        private int itemsUpdated;
+        private long writeDurationMs;
+        private int failedPages;
+
+        PageSync(SyncProgressListener listener) {
+            this.listener = listener;
+        }
+
+        void pageReceived() {
+            lastPageReceivedNanos = System.nanoTime();
+        }
+
+        void pageSaved(String apiLeagueId, FixtureFetch fetch, SyncStatusDto saved, long saveDurationMs) {
+            int processed = saved != null ? saved.getItemsProcessed() : 0;
+            SyncStatusDto.PageProgress progress = SyncStatusDto.PageProgress.builder()
+                    .league(apiLeagueId)
+                    .page(fetch.getPage())
+                    .totalPages(fetch.getTotalPages())
+                    .notModified(fetch.isNotModified())
+                    .itemsRead(fetch.getItemsRead())
+                    .itemsKept(fetch.getFixtures().size())
+                    .itemsProcessed(processed)
+                    .fetchDurationMs(fetch.getFetchDurationMs())
+                    .saveDurationMs(saveDurationMs)
+                    .build();
+            pages.add(progress);
+            listener.pageCompleted(progress);
+            if (fetch.isNotModified()) {
+                return;
+            }
+            modifiedPages++;
+            itemsRead += fetch.getItemsRead();
+            itemsKept += fetch.getFixtures().size();
+            itemsProcessed += processed;
+            if (saved != null && saved.getStatus() == SyncStatus.SUCCESS) {
+                itemsCreated += saved.getItemsCreated();
+                itemsUpdated += saved.getItemsUpdated();
+                writeDurationMs += saved.getWriteDurationMs();
+            }
+        }
+
+        void pageFailed(String apiLeagueId, int page, int totalPages) {
+            failedPages++;
+            SyncStatusDto.PageProgress progress = SyncStatusDto.PageProgress.builder()
+                    .league(apiLeagueId).page(page).totalPages(totalPages).failed(true).build();
+            pages.add(progress);
+            listener.pageCompleted(progress);
+        }
+
+        int failedPages() {
+            return failedPages;
+        }
+
+        SyncStatusDto toStatus() {
+            SyncStatusDto.SyncStatusDtoBuilder status = SyncStatusDto.builder()
+                    .itemsProcessed(itemsProcessed)
+                    .fetchDurationMs(TimeUnit.NANOSECONDS.toMillis(lastPageReceivedNanos - startNanos))
+                    .pages(pages);
+            if (modifiedPages == 0 && pages.size() > failedPages) {
+                return status.status(SyncStatus.NOT_MODIFIED).message("Fixtures unchanged since last sync.").build();
+            }
+            if (itemsRead == 0) {
+                return status.status(SyncStatus.NO_DATA).message("No fixtures returned from API.").build();
+            }
+            if (itemsKept == 0) {
+                return status.status(SyncStatus.SUCCESS).message("No relevant fixtures to process.").build();
+            }
+            if (itemsProcessed == 0) {
+                return status.status(SyncStatus.NO_DATA).message("No valid fixtures to save.").build();
+            }
+            return status.status(SyncStatus.SUCCESS)
+                    .message("Synced fixtures successfully")
+                    .itemsCreated(itemsCreated)
+                    .itemsUpdated(itemsUpdated)
+                    .writeDurationMs(writeDurationMs)
+                    .writeThroughputPerSecond(writeThroughput(itemsCreated + itemsUpdated, writeDurationMs))
+                    .build();
+        }
     }
 }
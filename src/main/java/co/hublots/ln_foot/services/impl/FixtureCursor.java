@@ -0,0 +1,43 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import co.hublots.ln_foot.repositories.FixtureRow;
+
+/**
+ * Position of the last fixture of a keyset page, in (matchDatetime, id)
+ * order. Clients get it as an opaque URL-safe token and must not build it
+ * themselves.
+ */
+record FixtureCursor(OffsetDateTime matchDatetime, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    static FixtureCursor after(FixtureRow row) {
+        return new FixtureCursor(row.matchDatetime(), row.id());
+    }
+
+    String encode() {
+        String position = matchDatetime.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static FixtureCursor decode(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == position.length() - 1) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            Instant matchInstant = Instant.parse(position.substring(0, separator));
+            return new FixtureCursor(matchInstant.atOffset(ZoneOffset.UTC), position.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid fixture cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
+import co.hublots.ln_foot.services.FixtureDeltasEvent;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands the deltas of a {@link FixtureDeltasEvent} to the
+ * {@link LiveScoreBroadcaster} of the other instances, so that live score
+ * clients get them whichever instance they are connected to. The deltas are
+ * published within the sync transaction, split into as many notifications as
+ * the payload limit requires, and reach the other instances once it commits.
+ * Deltas sent while an instance's listening connection was down are lost to
+ * its clients, as they would be to a client that was disconnected.
+ */
+@Slf4j
+@Component
+public class FixtureDeltasRelay {
+
+    static final String CHANNEL = "lnfoot_fixture_deltas";
+
+    private static final TypeReference<List<FixtureDeltaDto>> DELTAS = new TypeReference<>() {
+    };
+
+    private final ClusterNotifications clusterNotifications;
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+    private final ObjectMapper objectMapper;
+
+    public FixtureDeltasRelay(ClusterNotifications clusterNotifications, LiveScoreBroadcaster liveScoreBroadcaster,
+            ObjectMapper objectMapper) {
+        this.clusterNotifications = clusterNotifications;
+        this.liveScoreBroadcaster = liveScoreBroadcaster;
+        this.objectMapper = objectMapper;
+        clusterNotifications.subscribe(CHANNEL, this::broadcast);
+    }
+
+    // Not transactional: the notifications have to be sent inside the transaction to be delivered at its commit
+    @EventListener
+    public void onFixtureDeltas(FixtureDeltasEvent event) {
+        for (String payload : encode(event.deltas())) {
+            clusterNotifications.publish(CHANNEL, payload);
+        }
+    }
+
+    // JSON arrays of deltas, each within the notification payload limit
+    List<String> encode(List<FixtureDeltaDto> deltas) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder("[");
+        int payloadBytes = 2;
+        for (FixtureDeltaDto delta : deltas) {
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(delta);
+            } catch (JsonProcessingException e) {
+                log.warn("Fixture delta {} not relayed to the other instances: {}", delta.getId(), e.getMessage());
+                continue;
+            }
+            int deltaBytes = json.getBytes(StandardCharsets.UTF_8).length;
+            if (deltaBytes + 2 > ClusterNotifications.MAX_PAYLOAD_BYTES) {
+                log.warn("Fixture delta {} is too large to be relayed to the other instances.", delta.getId());
+                continue;
+            }
+            if (payloadBytes + 1 + deltaBytes > ClusterNotifications.MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.append(']').toString());
+                payload = new StringBuilder("[");
+                payloadBytes = 2;
+            }
+            if (payload.length() > 1) {
+                payload.append(',');
+                payloadBytes++;
+            }
+            payload.append(json);
+            payloadBytes += deltaBytes;
+        }
+        if (payload.length() > 1) {
+            payloads.add(payload.append(']').toString());
+        }
+        return payloads;
+    }
+
+    void broadcast(String payload) {
+        try {
+            liveScoreBroadcaster.onFixtureDeltas(new FixtureDeltasEvent(objectMapper.readValue(payload, DELTAS)));
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable fixture delta notification, dropped: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import co.hublots.ln_foot.dto.CacheStatsDto;
+import co.hublots.ln_foot.dto.FixtureDto;
+import co.hublots.ln_foot.repositories.ResourceVersion;
+import co.hublots.ln_foot.services.FixturesChangedEvent;
+import co.hublots.ln_foot.services.JsonPayload;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process cache of the fixture lists served by date and as upcoming
+ * fixtures. Fixture data only changes through the sync and the admin
+ * endpoints, which publish a {@link FixturesChangedEvent}; after their commit
+ * the lists of the affected days are evicted, along with every upcoming list.
+ * The size and age bounds (`application.cache.fixtures.*`) only cap memory and
+ * the drift of the upcoming window. Changes committed by other instances
+ * arrive through {@link FixturesChangedRelay}.
+ * <p>
+ * Hits are served without opening a transaction; misses load in a read-only
+ * one. A list asked for as JSON is serialized and gzipped once, and the bytes
+ * are kept with the list until it is evicted, along with the version of the
+ * list: the validators of a response always describe the body it carries.
+ */
+@Slf4j
+@Component
+public class FixtureReadCache {
+
+    private record Key(LocalDate date, Integer days, String leagueApiId) {
+    }
+
+    private static final class Entry {
+        private final List<FixtureDto> fixtures;
+        private final ResourceVersion version;
+        // Serialized on the first request for the JSON
+        private volatile JsonPayload payload;
+
+        private Entry(List<FixtureDto> fixtures) {
+            this.fixtures = fixtures;
+            this.version = ResourceVersion.of(fixtures, FixtureDto::getUpdatedAt);
+        }
+    }
+
+    private final Cache<Key, Entry> cache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    // Bumped by every invalidation; a list loaded across one is not cached as it may predate the change
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public FixtureReadCache(PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            @Value("${application.cache.fixtures.maximumSize:1000}") long maximumSize,
+            @Value("${application.cache.fixtures.expireAfterWrite:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<FixtureDto> getFixturesByDate(LocalDate date, String leagueApiId, Supplier<List<FixtureDto>> loader) {
+        return get(new Key(date, null, normalize(leagueApiId)), loader).fixtures;
+    }
+
+    public JsonPayload getFixturesByDateJson(LocalDate date, String leagueApiId, Supplier<List<FixtureDto>> loader) {
+        Entry entry = get(new Key(date, null, normalize(leagueApiId)), loader);
+        JsonPayload payload = entry.payload;
+        if (payload == null) {
+            // Concurrent first readers may both serialize; they produce the same bytes
+            payload = serialize(entry);
+            entry.payload = payload;
+        }
+        return payload;
+    }
+
+    public List<FixtureDto> getUpcomingFixtures(int days, String leagueApiId, Supplier<List<FixtureDto>> loader) {
+        return get(new Key(null, days, normalize(leagueApiId)), loader).fixtures;
+    }
+
+    private Entry get(Key key, Supplier<List<FixtureDto>> loader) {
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        Entry loaded = new Entry(List.copyOf(readOnlyTransaction.execute(status -> loader.get())));
+        // Checked under the key's lock: an invalidation either bumps the generation first and the list is
+        // dropped, or its removal waits for this insert and evicts it
+        Entry stored = cache.asMap().compute(key, (k, current) -> current != null ? current
+                : loadGeneration == generation.get() ? loaded : null);
+        return stored != null ? stored : loaded;
+    }
+
+    private JsonPayload serialize(Entry entry) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(entry.fixtures);
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(json);
+            }
+            return new JsonPayload(json, gzipped.toByteArray(), entry.version);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize a fixture list", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFixturesChanged(FixturesChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        evict(event.matchDates(), event.leagueApiIds());
+    }
+
+    /**
+     * Evicts the lists of the given days, whole or filtered on one of the
+     * given leagues, and every upcoming list.
+     */
+    public void evict(Set<LocalDate> matchDates, Set<String> leagueApiIds) {
+        generation.incrementAndGet();
+        long before = cache.estimatedSize();
+        cache.asMap().keySet().removeIf(key -> key.days() != null
+                || (matchDates.contains(key.date())
+                        && (key.leagueApiId() == null || leagueApiIds.contains(key.leagueApiId()))));
+        long evicted = Math.max(0, before - cache.estimatedSize());
+        invalidationCount.addAndGet(evicted);
+        log.debug("Evicted {} cached fixture list(s) after changes on {}", evicted, matchDates);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        long before = cache.estimatedSize();
+        cache.invalidateAll();
+        invalidationCount.addAndGet(before);
+        log.debug("Evicted all {} cached fixture list(s)", before);
+    }
+
+    public CacheStatsDto getStats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidationCount(invalidationCount.get())
+                .build();
+    }
+
+    private static String normalize(String leagueApiId) {
+        return leagueApiId == null || leagueApiId.isEmpty() ? null : leagueApiId;
+    }
+}
@@ -0,0 +1,74 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
+import co.hublots.ln_foot.dto.FixtureDeltaDto.Change;
+import co.hublots.ln_foot.models.Fixture;
+
+/**
+ * Status and scores of a fixture taken before the sync applies an API item,
+ * compared afterwards to build the delta pushed on the live score stream.
+ */
+record FixtureScoreSnapshot(String status, Integer goalsHome, Integer goalsAway, Integer htHome, Integer htAway,
+        Integer ftHome, Integer ftAway, Integer etHome, Integer etAway, Integer ptHome, Integer ptAway) {
+
+    static FixtureScoreSnapshot of(Fixture fixture) {
+        return new FixtureScoreSnapshot(fixture.getStatus(), fixture.getGoalsTeam1(), fixture.getGoalsTeam2(),
+                fixture.getScoreHtHome(), fixture.getScoreHtAway(), fixture.getScoreFtHome(),
+                fixture.getScoreFtAway(), fixture.getScoreEtHome(), fixture.getScoreEtAway(),
+                fixture.getScorePtHome(), fixture.getScorePtAway());
+    }
+
+    /**
+     * @return the delta between this snapshot and the fixture's current state,
+     *         empty if neither the status nor a score changed
+     */
+    Optional<FixtureDeltaDto> deltaTo(Fixture fixture, OffsetDateTime detectedAt) {
+        FixtureScoreSnapshot current = of(fixture);
+        Set<Change> changes = EnumSet.noneOf(Change.class);
+        if (!Objects.equals(status, current.status)) {
+            changes.add(Change.STATUS);
+        }
+        if (!Objects.equals(goalsHome, current.goalsHome) || !Objects.equals(goalsAway, current.goalsAway)) {
+            changes.add(Change.GOALS);
+        }
+        if (!Objects.equals(htHome, current.htHome) || !Objects.equals(htAway, current.htAway)) {
+            changes.add(Change.HALFTIME);
+        }
+        if (!Objects.equals(ftHome, current.ftHome) || !Objects.equals(ftAway, current.ftAway)) {
+            changes.add(Change.FULLTIME);
+        }
+        if (!Objects.equals(etHome, current.etHome) || !Objects.equals(etAway, current.etAway)) {
+            changes.add(Change.EXTRATIME);
+        }
+        if (!Objects.equals(ptHome, current.ptHome) || !Objects.equals(ptAway, current.ptAway)) {
+            changes.add(Change.PENALTY);
+        }
+        if (changes.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(FixtureDeltaDto.builder()
+                .id(fixture.getApiFixtureId())
+                .leagueId(fixture.getLeague() != null ? fixture.getLeague().getApiLeagueId() : null)
+                .changes(changes)
+                .previousStatusShortCode(status)
+                .statusShortCode(current.status)
+                .goalsHome(current.goalsHome)
+                .goalsAway(current.goalsAway)
+                .scoreHtHome(current.htHome)
+                .scoreHtAway(current.htAway)
+                .scoreFtHome(current.ftHome)
+                .scoreFtAway(current.ftAway)
+                .scoreEtHome(current.etHome)
+                .scoreEtAway(current.etAway)
+                .scorePtHome(current.ptHome)
+                .scorePtAway(current.ptAway)
+                .detectedAt(detectedAt)
+                .build());
+    }
+}
@@ -1,19 +1,26 @@
 package co.hublots.ln_foot.services.impl;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.hublots.ln_foot.dto.CreateFixtureDto;
+import co.hublots.ln_foot.dto.CursorPageDto;
 import co.hublots.ln_foot.dto.FixtureDto;
 import co.hublots.ln_foot.dto.SimpleTeamDto;
 import co.hublots.ln_foot.dto.UpdateFixtureDto;
@@ -22,9 +29,15 @@ import co.hublots.ln_foot.models.League;
 import co.hublots.ln_foot.models.Team;
 import co.hublots.ln_foot.models.enums.FixtureStatus;
 import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
+import co.hublots.ln_foot.repositories.FixtureRow;
 import co.hublots.ln_foot.repositories.LeagueRepository;
 import co.hublots.ln_foot.repositories.TeamRepository;
 import co.hublots.ln_foot.services.FixtureService;
+import co.hublots.ln_foot.services.FixturesChangedEvent;
+import co.hublots.ln_foot.services.JsonPayload;
+import co.hublots.ln_foot.services.StandingsService;
+import co.hublots.ln_foot.services.TeamStatsService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,9 +47,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class FixtureServiceImpl implements FixtureService {
 
+    // Bounds of an open team schedule window, within the range of a Postgres timestamp
+    private static final OffsetDateTime EARLIEST_KICKOFF = OffsetDateTime.of(1900, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime LATEST_KICKOFF = OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
     private final FixtureRepository fixtureRepository;
     private final LeagueRepository leagueRepository;
     private final TeamRepository teamRepository;
+    private final FixtureReadCache fixtureReadCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StandingsService standingsService;
+    private final TeamStatsService teamStatsService;
 
     private SimpleTeamDto mapTeamToSimpleTeamDto(Team entity) {
         if (entity == null)
@@ -48,16 +69,19 @@ public class FixtureServiceImpl implements FixtureService {
                 .build();
     }
 
-    private FixtureDto mapToDto(Fixture entity) {
-        if (entity == null)
-            return null;
-        FixtureStatus statusEnum;
+    private FixtureStatus parseStatus(String status) {
         try {
-            statusEnum = FixtureStatus.fromShortCode(entity.getStatus());
+            return FixtureStatus.fromShortCode(status);
         } catch (Exception e) {
-            log.warn("Invalid fixture status code: {}", entity.getStatus());
-            statusEnum = FixtureStatus.NOT_STARTED; // or another sensible default
+            log.warn("Invalid fixture status code: {}", status);
+            return FixtureStatus.NOT_STARTED; // or another sensible default
         }
+    }
+
+    private FixtureDto mapToDto(Fixture entity) {
+        if (entity == null)
+            return null;
+        FixtureStatus statusEnum = parseStatus(entity.getStatus());
 
         return FixtureDto.builder()
                 .id(entity.getApiFixtureId())
@@ -86,6 +110,44 @@ public class FixtureServiceImpl implements FixtureService {
                 .build();
     }
 
+    private FixtureDto mapToDto(FixtureRow row) {
+        FixtureStatus statusEnum = parseStatus(row.status());
+
+        return FixtureDto.builder()
+                .id(row.apiFixtureId())
+                .date(row.matchDatetime())
+                .timestamp(row.matchDatetime() != null ? row.matchDatetime().toEpochSecond() : null)
+                .venueName(row.venueName())
+                .statusShortCode(statusEnum.getShortCode())
+                .statusDescription(statusEnum.getDescription())
+                .isLive(statusEnum.isLive())
+                .leagueId(row.leagueApiId())
+                .round(row.round())
+                .homeTeam(SimpleTeamDto.builder()
+                        .id(row.homeTeamApiId())
+                        .name(row.homeTeamName())
+                        .logoUrl(row.homeTeamLogoUrl())
+                        .build())
+                .awayTeam(SimpleTeamDto.builder()
+                        .id(row.awayTeamApiId())
+                        .name(row.awayTeamName())
+                        .logoUrl(row.awayTeamLogoUrl())
+                        .build())
+                .goalsHome(row.goalsHome())
+                .goalsAway(row.goalsAway())
+                .scoreEtAway(row.scoreEtAway())
+                .scoreEtHome(row.scoreEtHome())
+                .scoreFtAway(row.scoreFtAway())
+                .scoreFtHome(row.scoreFtHome())
+                .scoreHtAway(row.scoreHtAway())
+                .scoreHtHome(row.scoreHtHome())
+                .scorePtAway(row.scorePtAway())
+                .scorePtHome(row.scorePtHome())
+                .createdAt(row.createdAt() != null ? row.createdAt().atOffset(ZoneOffset.UTC) : null)
+                .updatedAt(row.updatedAt() != null ? row.updatedAt().atOffset(ZoneOffset.UTC) : null)
+                .build();
+    }
+
     private void mapToEntityForCreate(CreateFixtureDto dto, Fixture entity, League league, Team homeTeam,
             Team awayTeam) {
         entity.setApiFixtureId(dto.getId());
@@ -93,20 +155,43 @@ public class FixtureServiceImpl implements FixtureService {
         entity.setTeam1(homeTeam);
         entity.setTeam2(awayTeam);
         entity.setMatchDatetime(dto.getDate() != null ? dto.getDate() : null);
-        entity.setStatus(dto.getStatusShort() != null ? dto.getStatusShort() : "SCHEDULED");
+        entity.setStatus(dto.getStatusShort() != null ? normalizeStatus(dto.getStatusShort()) : "SCHEDULED");
         entity.setRound(dto.getRound());
+        entity.setSeason(parseSeason(dto.getSeason()));
         entity.setVenueName(dto.getVenueName());
         entity.setGoalsTeam1(dto.getGoalsHome());
         entity.setGoalsTeam2(dto.getGoalsAway());
 
     }
 
+    // Stored like the synced short codes, which the result queries compare case-sensitively
+    private static String normalizeStatus(String statusShort) {
+        return statusShort.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private Integer parseSeason(String season) {
+        if (season == null || season.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(season.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid fixture season: {}", season);
+            return null;
+        }
+    }
+
+    private void applyResults(List<FixtureResult> previousResults, List<FixtureResult> currentResults) {
+        standingsService.applyResults(previousResults, currentResults);
+        teamStatsService.applyResults(previousResults, currentResults);
+    }
+
     private void mapToEntityForUpdate(UpdateFixtureDto dto, Fixture entity) {
         if (dto.getDate() != null) {
             entity.setMatchDatetime(dto.getDate());
         }
         if (dto.getStatusShort() != null) {
-            entity.setStatus(dto.getStatusShort());
+            entity.setStatus(normalizeStatus(dto.getStatusShort()));
         }
         if (dto.getVenueName() != null) {
             entity.setVenueName(dto.getVenueName());
@@ -123,54 +208,121 @@ public class FixtureServiceImpl implements FixtureService {
     @Override
     @Transactional(readOnly = true)
     public Page<FixtureDto> listFixtures(String leagueApiId, Pageable pageable) {
-        Page<Fixture> fixturePage;
+        Page<FixtureRow> fixturePage;
         if (leagueApiId != null && !leagueApiId.isEmpty()) {
 
-            fixturePage = fixtureRepository.findByLeagueApiLeagueId(leagueApiId, pageable);
+            fixturePage = fixtureRepository.findFixtureRowsByLeagueApiId(leagueApiId, pageable);
         } else {
-            fixturePage = fixtureRepository.findAll(pageable);
+            fixturePage = fixtureRepository.findFixtureRows(pageable);
         }
         return fixturePage.map(this::mapToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<FixtureDto> scrollFixtures(String leagueApiId, String cursor, int size) {
+        boolean byLeague = leagueApiId != null && !leagueApiId.isEmpty();
+        // One extra row tells whether there is a next page
+        Limit limit = Limit.of(size + 1);
+        List<FixtureRow> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = byLeague
+                    ? fixtureRepository.findFirstFixtureRowsByLeagueApiId(leagueApiId, limit)
+                    : fixtureRepository.findFirstFixtureRows(limit);
+        } else {
+            FixtureCursor after = FixtureCursor.decode(cursor);
+            rows = byLeague
+                    ? fixtureRepository.findFixtureRowsByLeagueApiIdAfter(leagueApiId, after.matchDatetime(),
+                            after.id(), limit)
+                    : fixtureRepository.findFixtureRowsAfter(after.matchDatetime(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<FixtureRow> page = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageDto.<FixtureDto>builder()
+                .content(page.stream().map(this::mapToDto).collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? FixtureCursor.after(page.get(size - 1)).encode() : null)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<FixtureDto> findFixtureById(String apiFixtureId) {
-        return fixtureRepository.findByApiFixtureId(apiFixtureId).map(this::mapToDto);
+        return fixtureRepository.findFixtureRowsByApiFixtureId(apiFixtureId, Limit.of(1)).stream().findFirst()
+                .map(this::mapToDto);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public Slice<FixtureDto> listTeamFixtures(String apiTeamId, LocalDate from, LocalDate to, Pageable pageable) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from (" + from + ") must not be after to (" + to + ")");
+        }
+        Team team = teamRepository.findByApiTeamId(apiTeamId)
+                .orElseThrow(() -> new NoSuchElementException("Team with apiTeamId " + apiTeamId + " not found"));
+        OffsetDateTime start = from != null ? from.atStartOfDay().atOffset(ZoneOffset.UTC) : EARLIEST_KICKOFF;
+        OffsetDateTime end = to != null ? to.atTime(LocalTime.MAX).atOffset(ZoneOffset.UTC) : LATEST_KICKOFF;
+
+        // One row past the page tells whether there is a next one, without counting the whole history. Each
+        // side of the union may hold all of them, so both read offset + size + 1 rows at most.
+        int fetch = pageable.getPageSize() + 1;
+        List<String> ids = fixtureRepository.findTeamFixtureIds(team.getId(), start, end,
+                pageable.getOffset() + fetch, fetch, pageable.getOffset());
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<String> pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+        List<FixtureDto> content = pageIds.isEmpty() ? List.of()
+                : fixtureRepository.findFixtureRowsByIdIn(pageIds, start, end).stream().map(this::mapToDto).toList();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // Served from FixtureReadCache, which opens the read-only transaction on a miss
+    @Override
     public List<FixtureDto> getUpcomingFixtures(Integer days, String leagueApiId) {
-        LocalDateTime startDate = LocalDateTime.now();
-        LocalDateTime endDate = LocalDateTime.now().plusDays(days != null ? days : 7);
-        List<Fixture> fixtures;
+        int upcomingDays = days != null ? days : 7;
+        return fixtureReadCache.getUpcomingFixtures(upcomingDays, leagueApiId,
+                () -> loadUpcomingFixtures(upcomingDays, leagueApiId));
+    }
+
+    private List<FixtureDto> loadUpcomingFixtures(int days, String leagueApiId) {
+        OffsetDateTime startDate = OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime endDate = startDate.plusDays(days);
+        List<FixtureRow> fixtures;
         if (leagueApiId != null && !leagueApiId.isEmpty()) {
             League league = leagueRepository.findByApiLeagueId(leagueApiId)
                     .orElseThrow(() -> new EntityNotFoundException(
                             "League with apiLeagueId " + leagueApiId + " not found for upcoming fixtures."));
 
-            fixtures = fixtureRepository.findByLeague_IdAndMatchDatetimeBetween(league.getId(), startDate, endDate);
+            fixtures = fixtureRepository.findFixtureRowsByLeagueBetween(league.getId(), startDate, endDate);
         } else {
-            fixtures = fixtureRepository.findByMatchDatetimeBetween(startDate, endDate);
+            fixtures = fixtureRepository.findFixtureRowsBetween(startDate, endDate);
         }
         return fixtures.stream().map(this::mapToDto).collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<FixtureDto> getFixturesByDate(LocalDate date, String leagueApiId) {
-        LocalDateTime startDate = date.atStartOfDay();
-        LocalDateTime endDate = date.atTime(LocalTime.MAX);
-        List<Fixture> fixtures;
+        return fixtureReadCache.getFixturesByDate(date, leagueApiId, () -> loadFixturesByDate(date, leagueApiId));
+    }
+
+    @Override
+    public JsonPayload getFixturesByDateJson(LocalDate date, String leagueApiId) {
+        return fixtureReadCache.getFixturesByDateJson(date, leagueApiId, () -> loadFixturesByDate(date, leagueApiId));
+    }
+
+    private List<FixtureDto> loadFixturesByDate(LocalDate date, String leagueApiId) {
+        OffsetDateTime startDate = date.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime endDate = date.atTime(LocalTime.MAX).atOffset(ZoneOffset.UTC);
+        List<FixtureRow> fixtures;
         if (leagueApiId != null && !leagueApiId.isEmpty()) {
             League league = leagueRepository.findByApiLeagueId(leagueApiId)
                     .orElseThrow(() -> new EntityNotFoundException(
                             "League with apiLeagueId " + leagueApiId + " not found for fixtures by date."));
 
-            fixtures = fixtureRepository.findByLeague_IdAndMatchDatetimeBetween(league.getId(), startDate, endDate);
+            fixtures = fixtureRepository.findFixtureRowsByLeagueBetween(league.getId(), startDate, endDate);
         } else {
-            fixtures = fixtureRepository.findByMatchDatetimeBetween(startDate, endDate);
+            fixtures = fixtureRepository.findFixtureRowsBetween(startDate, endDate);
         }
         return fixtures.stream().map(this::mapToDto).collect(Collectors.toList());
     }
@@ -178,7 +330,7 @@ public class FixtureServiceImpl implements FixtureService {
     @Override
     @Transactional
     public FixtureDto createFixture(CreateFixtureDto createDto) {
-        fixtureRepository.findByApiFixtureId(createDto.getId()).ifPresent(f -> {
+        fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(createDto.getId()).ifPresent(f -> {
             throw new IllegalStateException("Fixture with apiFixtureId " + createDto.getId() + " already exists.");
         });
 
@@ -196,26 +348,35 @@ public class FixtureServiceImpl implements FixtureService {
         mapToEntityForCreate(createDto, fixture, league, homeTeam, awayTeam);
 
         Fixture savedFixture = fixtureRepository.save(fixture);
+        applyResults(List.of(), FixtureResult.of(savedFixture).stream().toList());
+        eventPublisher.publishEvent(FixturesChangedEvent.builder().fixture(savedFixture).build());
         return mapToDto(savedFixture);
     }
 
     @Override
     @Transactional
     public FixtureDto updateFixture(String apiFixtureId, UpdateFixtureDto updateDto) {
-        Fixture fixture = fixtureRepository.findByApiFixtureId(apiFixtureId)
+        Fixture fixture = fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId)
                 .orElseThrow(
                         () -> new EntityNotFoundException("Fixture with apiFixtureId " + apiFixtureId + " not found"));
+        // The previous date is evicted too when the fixture is rescheduled
+        FixturesChangedEvent.Builder changed = FixturesChangedEvent.builder().matchDatetime(fixture.getMatchDatetime());
+        List<FixtureResult> previousResult = FixtureResult.of(fixture).stream().toList();
         mapToEntityForUpdate(updateDto, fixture);
         Fixture updatedFixture = fixtureRepository.save(fixture);
+        applyResults(previousResult, FixtureResult.of(updatedFixture).stream().toList());
+        eventPublisher.publishEvent(changed.fixture(updatedFixture).build());
         return mapToDto(updatedFixture);
     }
 
     @Override
     @Transactional
     public void deleteFixture(String apiFixtureId) {
-        Fixture fixture = fixtureRepository.findByApiFixtureId(apiFixtureId)
+        Fixture fixture = fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Fixture with apiFixtureId " + apiFixtureId + " not found for deletion."));
         fixtureRepository.delete(fixture);
+        applyResults(FixtureResult.of(fixture).stream().toList(), List.of());
+        eventPublisher.publishEvent(FixturesChangedEvent.builder().fixture(fixture).build());
     }
 }
@@ -0,0 +1,89 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.hublots.ln_foot.services.FixturesChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts the {@link FixtureReadCache} of the other instances when fixtures
+ * change here. The days and leagues of a {@link FixturesChangedEvent} are
+ * published within the transaction that changed the fixtures, so the other
+ * instances evict once it commits; a change too large for one notification,
+ * or notifications lost while the listening connection was down, empty the
+ * whole cache.
+ */
+@Slf4j
+@Component
+public class FixturesChangedRelay {
+
+    static final String CHANNEL = "lnfoot_fixtures_changed";
+    static final String EVERYTHING = "*";
+
+    record Eviction(Set<LocalDate> matchDates, Set<String> leagueApiIds) {
+    }
+
+    private final ClusterNotifications clusterNotifications;
+    private final FixtureReadCache fixtureReadCache;
+    private final ObjectMapper objectMapper;
+
+    public FixturesChangedRelay(ClusterNotifications clusterNotifications, FixtureReadCache fixtureReadCache,
+            ObjectMapper objectMapper) {
+        this.clusterNotifications = clusterNotifications;
+        this.fixtureReadCache = fixtureReadCache;
+        this.objectMapper = objectMapper;
+        clusterNotifications.subscribe(CHANNEL, new ClusterNotifications.Subscriber() {
+            @Override
+            public void onNotification(String payload) {
+                evict(payload);
+            }
+
+            @Override
+            public void onReconnect() {
+                fixtureReadCache.invalidateAll();
+            }
+        });
+    }
+
+    // Not transactional: the notification has to be sent inside the transaction to be delivered at its commit
+    @EventListener
+    public void onFixturesChanged(FixturesChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        clusterNotifications.publish(CHANNEL, encode(event));
+    }
+
+    String encode(FixturesChangedEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(new Eviction(event.matchDates(), event.leagueApiIds()));
+            return payload.getBytes(StandardCharsets.UTF_8).length <= ClusterNotifications.MAX_PAYLOAD_BYTES
+                    ? payload
+                    : EVERYTHING;
+        } catch (JsonProcessingException e) {
+            return EVERYTHING;
+        }
+    }
+
+    void evict(String payload) {
+        if (EVERYTHING.equals(payload)) {
+            fixtureReadCache.invalidateAll();
+            return;
+        }
+        try {
+            Eviction eviction = objectMapper.readValue(payload, Eviction.class);
+            fixtureReadCache.evict(eviction.matchDates(), eviction.leagueApiIds());
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable fixture change notification, evicting every list: {}", e.getMessage());
+            fixtureReadCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.external.ExternalLeagueInFixtureDto;
+import co.hublots.ln_foot.dto.external.FixtureResponseItemDto;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.repositories.LeagueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Matches API fixtures against `application.sync.interestedLeagues`.
+ * <p>
+ * The configured leagues are compiled once into a set of normalized
+ * "name|country" keys, so matching a fixture is a hash lookup instead of a scan
+ * of the configuration. The API id of each interested league is learned from
+ * the configuration, from the leagues already stored, or on first sighting in
+ * a response; known ids are matched directly and can be pushed down to the API
+ * as query parameters.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestedLeagueMatcher {
+
+    private final SyncConfigProperties syncConfigProperties;
+    private final LeagueRepository leagueRepository;
+
+    private volatile Compiled compiled;
+
+    private record Compiled(Set<String> keys, Map<String, String> apiLeagueIdsByKey, Set<String> apiLeagueIds) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void compileOnStartup() {
+        Compiled result = compiled();
+        log.info("Compiled {} interested leagues, {} resolved to an API league id.", result.keys().size(),
+                result.apiLeagueIdsByKey().size());
+    }
+
+    public boolean hasInterestedLeagues() {
+        return !compiled().keys().isEmpty();
+    }
+
+    /**
+     * @return true if the fixture belongs to an interested league
+     */
+    public boolean matches(FixtureResponseItemDto item) {
+        ExternalLeagueInFixtureDto league = item.getLeague();
+        if (league == null) {
+            return false;
+        }
+        Compiled current = compiled();
+        String apiLeagueId = String.valueOf(league.getLeagueApiId());
+        if (current.apiLeagueIds().contains(apiLeagueId)) {
+            return true;
+        }
+        String key = key(league.getName(), league.getCountry());
+        if (key == null || !current.keys().contains(key)) {
+            return false;
+        }
+        if (current.apiLeagueIdsByKey().putIfAbsent(key, apiLeagueId) == null) {
+            current.apiLeagueIds().add(apiLeagueId);
+            log.info("Interested league {} ({}) resolved to API league id {}.", league.getName(), league.getCountry(),
+                    apiLeagueId);
+        }
+        return true;
+    }
+
+    /**
+     * @return the API ids known for interested leagues, in ascending order
+     */
+    public List<String> resolvedApiLeagueIds() {
+        return List.copyOf(new TreeSet<>(compiled().apiLeagueIds()));
+    }
+
+    /**
+     * @return true once every interested league has a known API id, so
+     *         filtering the API by id loses nothing
+     */
+    public boolean isFullyResolved() {
+        Compiled current = compiled();
+        return !current.keys().isEmpty() && current.apiLeagueIdsByKey().size() == current.keys().size();
+    }
+
+    private Compiled compiled() {
+        Compiled current = compiled;
+        if (current == null) {
+            synchronized (this) {
+                current = compiled;
+                if (current == null) {
+                    current = compile();
+                    compiled = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Compiled compile() {
+        List<SyncConfigProperties.InterestedLeague> interestedLeagues = syncConfigProperties.getInterestedLeagues();
+        if (interestedLeagues == null || interestedLeagues.isEmpty()) {
+            return new Compiled(Collections.emptySet(), new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        }
+
+        Set<String> keys = new HashSet<>();
+        Map<String, String> apiLeagueIdsByKey = new ConcurrentHashMap<>();
+        for (SyncConfigProperties.InterestedLeague interestedLeague : interestedLeagues) {
+            String key = key(interestedLeague.getName(), interestedLeague.getCountry());
+            if (key == null) {
+                log.warn("Ignoring interested league without name or country: {}", interestedLeague);
+                continue;
+            }
+            keys.add(key);
+            String apiLeagueId = interestedLeague.getApiLeagueId();
+            if (apiLeagueId != null && !apiLeagueId.isBlank()) {
+                apiLeagueIdsByKey.put(key, apiLeagueId.trim());
+            }
+        }
+
+        // Leagues stored by earlier syncs carry the ids the configuration leaves out
+        if (apiLeagueIdsByKey.size() < keys.size()) {
+            for (League league : leagueRepository.findAll()) {
+                String key = key(league.getLeagueName(), league.getCountry());
+                if (key != null && keys.contains(key) && league.getApiLeagueId() != null) {
+                    apiLeagueIdsByKey.putIfAbsent(key, league.getApiLeagueId());
+                }
+            }
+        }
+
+        Set<String> apiLeagueIds = ConcurrentHashMap.newKeySet();
+        apiLeagueIds.addAll(apiLeagueIdsByKey.values());
+        return new Compiled(Set.copyOf(keys), apiLeagueIdsByKey, apiLeagueIds);
+    }
+
+    // Case-insensitive and whitespace-tolerant, like the equalsIgnoreCase comparison it replaces
+    static String key(String name, String country) {
+        if (name == null || country == null) {
+            return null;
+        }
+        return normalize(name) + "|" + normalize(country);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
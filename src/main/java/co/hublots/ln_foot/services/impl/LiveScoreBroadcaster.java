@@ -0,0 +1,122 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
+import co.hublots.ln_foot.services.FixtureDeltasEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Pushes the score and status changes detected by the sync to the clients of
+ * the live score stream.
+ * <p>
+ * Every stream is a subscription to one multicast sink, so an idle connection
+ * costs a subscriber and a heartbeat timer but no thread; the events are
+ * written by the MVC async executor. Each subscriber buffers up to
+ * `application.live-stream.maxBufferedEvents` deltas; a client that falls
+ * further behind is disconnected and reconnects with a fresh view, rather than
+ * slowing the others down.
+ * <p>
+ * The instance that ran the sync pushes its deltas once the sync transaction
+ * commits; the other instances get them through {@link FixtureDeltasRelay}.
+ */
+@Slf4j
+@Component
+public class LiveScoreBroadcaster {
+
+    static final String EVENT_NAME = "fixture-delta";
+
+    private record Sequenced(long id, FixtureDeltaDto delta) {
+    }
+
+    private final Sinks.Many<Sequenced> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Duration heartbeatInterval;
+    private final int maxBufferedEvents;
+
+    public LiveScoreBroadcaster(
+            @Value("${application.live-stream.heartbeatInterval:20s}") Duration heartbeatInterval,
+            @Value("${application.live-stream.maxBufferedEvents:256}") int maxBufferedEvents) {
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxBufferedEvents = maxBufferedEvents;
+    }
+
+    /**
+     * Stream of fixture deltas. With no filter every delta is sent, otherwise
+     * the deltas of the given leagues and of the given fixtures.
+     *
+     * @param leagueApiIds  external API ids of leagues, may be null
+     * @param apiFixtureIds external API ids of fixtures, may be null
+     */
+    public Flux<ServerSentEvent<FixtureDeltaDto>> stream(Collection<String> leagueApiIds,
+            Collection<String> apiFixtureIds) {
+        Set<String> leagues = normalize(leagueApiIds);
+        Set<String> fixtures = normalize(apiFixtureIds);
+        boolean everything = leagues.isEmpty() && fixtures.isEmpty();
+
+        Flux<ServerSentEvent<FixtureDeltaDto>> deltas = sink.asFlux()
+                .filter(event -> everything || leagues.contains(event.delta().getLeagueId())
+                        || fixtures.contains(event.delta().getId()))
+                .onBackpressureBuffer(maxBufferedEvents)
+                .map(event -> ServerSentEvent.builder(event.delta())
+                        .id(String.valueOf(event.id()))
+                        .event(EVENT_NAME)
+                        .build());
+        // Keeps proxies from closing idle streams and detects clients that went away; stops at shutdown
+        Flux<ServerSentEvent<FixtureDeltaDto>> heartbeats = Flux.interval(heartbeatInterval)
+                .onBackpressureDrop()
+                .takeUntilOther(sink.asFlux().ignoreElements())
+                .map(tick -> ServerSentEvent.<FixtureDeltaDto>builder().comment("heartbeat").build());
+
+        // Prefetch of one: a stalled client's backlog stays in the bounded buffer above
+        return Flux.merge(1, deltas, heartbeats)
+                .startWith(ServerSentEvent.<FixtureDeltaDto>builder().comment("connected").build())
+                .doOnSubscribe(subscription -> log.debug("Live score stream opened, {} open.",
+                        subscriberCount.incrementAndGet()))
+                .doFinally(signal -> log.debug("Live score stream closed ({}), {} open.", signal,
+                        subscriberCount.decrementAndGet()));
+    }
+
+    // Synchronized: the sink does not accept concurrent emissions
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFixtureDeltas(FixtureDeltasEvent event) {
+        for (FixtureDeltaDto delta : event.deltas()) {
+            sink.tryEmitNext(new Sequenced(sequence.incrementAndGet(), delta));
+        }
+        log.debug("Pushed {} fixture delta(s) to {} live score stream(s).", event.deltas().size(),
+                subscriberCount.get());
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sink.tryEmitComplete();
+    }
+
+    private static Set<String> normalize(Collection<String> ids) {
+        if (ids == null) {
+            return Set.of();
+        }
+        return ids.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
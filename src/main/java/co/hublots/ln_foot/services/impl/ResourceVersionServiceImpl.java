@@ -0,0 +1,88 @@
+package co.hublots.ln_foot.services.impl;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import co.hublots.ln_foot.models.NewsArticle.NewsStatus;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.HeadingRepository;
+import co.hublots.ln_foot.repositories.LeagueRepository;
+import co.hublots.ln_foot.repositories.NewsArticleRepository;
+import co.hublots.ln_foot.repositories.ResourceVersion;
+import co.hublots.ln_foot.repositories.TeamRepository;
+import co.hublots.ln_foot.services.ResourceVersionService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Each version covers the rows the matching list or lookup returns: the
+ * filters are the ones of FixtureServiceImpl,
+ * LeagueServiceImpl, TeamServiceImpl and NewsArticleServiceImpl.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final FixtureRepository fixtureRepository;
+    private final LeagueRepository leagueRepository;
+    private final TeamRepository teamRepository;
+    private final NewsArticleRepository newsArticleRepository;
+    private final HeadingRepository headingRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getFixtureVersion(String apiFixtureId) {
+        return fixtureRepository.findVersionByApiFixtureId(apiFixtureId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getLeaguesVersion(String country) {
+        return StringUtils.hasText(country) ? leagueRepository.findVersionByCountry(country)
+                : leagueRepository.findVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getLeagueVersion(String apiLeagueId) {
+        return leagueRepository.findVersionByApiLeagueId(apiLeagueId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getTeamsVersion(String leagueApiId) {
+        return leagueApiId != null ? teamRepository.findVersionByLeagueApiId(leagueApiId)
+                : teamRepository.findVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getTeamVersion(String apiTeamId) {
+        return teamRepository.findVersionByApiTeamId(apiTeamId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getNewsArticlesVersion(NewsStatus status) {
+        return status != null ? newsArticleRepository.findVersionByStatus(status)
+                : newsArticleRepository.findVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getNewsArticleVersion(String id) {
+        return newsArticleRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getHeadingsVersion() {
+        return headingRepository.findVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getHeadingVersion(String id) {
+        return headingRepository.findVersionById(id);
+    }
+}
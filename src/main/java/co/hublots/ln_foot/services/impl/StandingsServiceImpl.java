@@ -0,0 +1,241 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.hublots.ln_foot.dto.SimpleTeamDto;
+import co.hublots.ln_foot.dto.StandingDto;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.models.Standing;
+import co.hublots.ln_foot.models.enums.FixtureStatus;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
+import co.hublots.ln_foot.repositories.LeagueRepository;
+import co.hublots.ln_foot.repositories.StandingRepository;
+import co.hublots.ln_foot.services.StandingsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * League standings kept in the `standings` table and updated incrementally:
+ * a changed result only moves the counters of its two teams, so reading a
+ * table is one indexed query whatever the number of fixtures.
+ * <p>
+ * The form is extended in place while results arrive in kickoff order. A
+ * result that is corrected, removed or older than the latest one reloads the
+ * team's last results instead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StandingsServiceImpl implements StandingsService {
+
+    static final int FORM_LENGTH = 5;
+
+    private record TeamSeason(String leagueId, Integer season, String teamId) {
+    }
+
+    private static final Comparator<TeamSeason> LEAGUE_SEASON_ORDER = Comparator.comparing(TeamSeason::leagueId)
+            .thenComparing(TeamSeason::season);
+
+    private final StandingRepository standingRepository;
+    private final FixtureRepository fixtureRepository;
+    private final LeagueRepository leagueRepository;
+
+    private StandingDto mapToDto(Standing entity, int rank, String leagueApiId) {
+        return StandingDto.builder()
+                .rank(rank)
+                .team(SimpleTeamDto.builder()
+                        .id(entity.getTeam().getApiTeamId())
+                        .name(entity.getTeam().getTeamName())
+                        .logoUrl(entity.getTeam().getLogoUrl())
+                        .build())
+                .leagueId(leagueApiId)
+                .season(entity.getSeason())
+                .played(entity.getPlayed())
+                .won(entity.getWon())
+                .drawn(entity.getDrawn())
+                .lost(entity.getLost())
+                .goalsFor(entity.getGoalsFor())
+                .goalsAgainst(entity.getGoalsAgainst())
+                .goalDifference(entity.getGoalDifference())
+                .points(entity.getPoints())
+                .form(entity.getForm())
+                .updatedAt(entity.getUpdatedAt() != null ? entity.getUpdatedAt().atOffset(ZoneOffset.UTC) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StandingDto> getStandings(String leagueApiId, Integer season) {
+        League league = findLeague(leagueApiId);
+        Integer tableSeason = season != null ? season
+                : standingRepository.findLatestSeason(league.getId()).orElse(null);
+        if (tableSeason == null) {
+            return List.of();
+        }
+        List<Standing> table = standingRepository.findTable(league.getId(), tableSeason);
+        List<StandingDto> standings = new ArrayList<>(table.size());
+        for (Standing standing : table) {
+            standings.add(mapToDto(standing, standings.size() + 1, leagueApiId));
+        }
+        return standings;
+    }
+
+    @Override
+    @Transactional
+    public void applyResults(Collection<FixtureResult> previousResults, Collection<FixtureResult> currentResults) {
+        // A result without a season has no table to count in
+        previousResults = previousResults.stream().filter(result -> result.season() != null).toList();
+        currentResults = currentResults.stream().filter(result -> result.season() != null).toList();
+        if (previousResults.isEmpty() && currentResults.isEmpty()) {
+            return;
+        }
+        Map<TeamSeason, Standing> rows = lockRows(Stream.concat(previousResults.stream(), currentResults.stream())
+                .flatMap(result -> Stream.of(home(result), away(result)))
+                .collect(Collectors.toSet()));
+
+        Set<TeamSeason> staleForms = new HashSet<>();
+        for (FixtureResult result : previousResults) {
+            count(rows.get(home(result)), result.homeGoals(), result.awayGoals(), -1);
+            count(rows.get(away(result)), result.awayGoals(), result.homeGoals(), -1);
+            staleForms.add(home(result));
+            staleForms.add(away(result));
+        }
+        List<FixtureResult> inKickoffOrder = currentResults.stream()
+                .sorted(Comparator.comparing(FixtureResult::matchDatetime,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        for (FixtureResult result : inKickoffOrder) {
+            count(rows.get(home(result)), result.homeGoals(), result.awayGoals(), 1);
+            count(rows.get(away(result)), result.awayGoals(), result.homeGoals(), 1);
+            extendForm(rows.get(home(result)), home(result), result.homeGoals(), result.awayGoals(),
+                    result.matchDatetime(), staleForms);
+            extendForm(rows.get(away(result)), away(result), result.awayGoals(), result.homeGoals(),
+                    result.matchDatetime(), staleForms);
+        }
+        standingRepository.saveAll(rows.values());
+
+        for (TeamSeason key : staleForms) {
+            reloadForm(rows.get(key), key);
+        }
+        log.debug("Standings updated for {} team(s): {} result(s) removed, {} added.", rows.size(),
+                previousResults.size(), currentResults.size());
+    }
+
+    @Override
+    @Transactional
+    public int rebuildStandings(String leagueApiId, int season) {
+        League league = findLeague(leagueApiId);
+        int deleted = standingRepository.deleteByLeagueAndSeason(league.getId(), season);
+        List<FixtureResult> results = fixtureRepository.findResults(league.getId(), season,
+                FixtureStatus.resultShortCodes());
+        applyResults(List.of(), results);
+        log.info("Rebuilt standings of league {} season {} from {} result(s), replacing {} row(s).", leagueApiId,
+                season, results.size(), deleted);
+        return results.size();
+    }
+
+    private League findLeague(String leagueApiId) {
+        return leagueRepository.findByApiLeagueId(leagueApiId)
+                .orElseThrow(() -> new NoSuchElementException("League with apiLeagueId " + leagueApiId + " not found"));
+    }
+
+    // Creates the missing rows, then locks them all. League seasons are handled in the same order by every
+    // transaction, and the rows of each one in id order, so that two overlapping batches cannot deadlock
+    private Map<TeamSeason, Standing> lockRows(Set<TeamSeason> keys) {
+        Map<TeamSeason, Set<String>> teamIdsBySeason = keys.stream().collect(Collectors.groupingBy(
+                key -> new TeamSeason(key.leagueId(), key.season(), null),
+                () -> new TreeMap<>(LEAGUE_SEASON_ORDER),
+                Collectors.mapping(TeamSeason::teamId, Collectors.toCollection(TreeSet::new))));
+        teamIdsBySeason.forEach((leagueSeason, teamIds) -> standingRepository
+                .insertMissing(leagueSeason.leagueId(), leagueSeason.season(), teamIds));
+
+        Map<TeamSeason, Standing> rows = new HashMap<>();
+        teamIdsBySeason.forEach((leagueSeason, teamIds) -> standingRepository
+                .findForUpdate(leagueSeason.leagueId(), leagueSeason.season(), teamIds)
+                .forEach(standing -> rows.put(new TeamSeason(leagueSeason.leagueId(), leagueSeason.season(),
+                        standing.getTeam().getId()), standing)));
+        for (TeamSeason key : keys) {
+            if (!rows.containsKey(key)) {
+                // Only when the team or the league was deleted meanwhile
+                throw new IllegalStateException("No standing row for team " + key.teamId() + " in league "
+                        + key.leagueId() + " season " + key.season());
+            }
+        }
+        return rows;
+    }
+
+    private static TeamSeason home(FixtureResult result) {
+        return new TeamSeason(result.leagueId(), result.season(), result.homeTeamId());
+    }
+
+    private static TeamSeason away(FixtureResult result) {
+        return new TeamSeason(result.leagueId(), result.season(), result.awayTeamId());
+    }
+
+    // Adds (sign 1) or removes (sign -1) one result from a team's row
+    private static void count(Standing standing, int goalsFor, int goalsAgainst, int sign) {
+        standing.setPlayed(standing.getPlayed() + sign);
+        standing.setGoalsFor(standing.getGoalsFor() + sign * goalsFor);
+        standing.setGoalsAgainst(standing.getGoalsAgainst() + sign * goalsAgainst);
+        if (goalsFor > goalsAgainst) {
+            standing.setWon(standing.getWon() + sign);
+            standing.setPoints(standing.getPoints() + 3 * sign);
+        } else if (goalsFor == goalsAgainst) {
+            standing.setDrawn(standing.getDrawn() + sign);
+            standing.setPoints(standing.getPoints() + sign);
+        } else {
+            standing.setLost(standing.getLost() + sign);
+        }
+    }
+
+    private static void extendForm(Standing standing, TeamSeason key, int goalsFor, int goalsAgainst,
+            OffsetDateTime matchDatetime, Set<TeamSeason> staleForms) {
+        if (staleForms.contains(key)) {
+            return;
+        }
+        if (matchDatetime == null
+                || (standing.getLastResultAt() != null && matchDatetime.isBefore(standing.getLastResultAt()))) {
+            staleForms.add(key);
+            return;
+        }
+        String form = outcome(goalsFor, goalsAgainst) + (standing.getForm() != null ? standing.getForm() : "");
+        standing.setForm(form.substring(0, Math.min(FORM_LENGTH, form.length())));
+        standing.setLastResultAt(matchDatetime);
+    }
+
+    private void reloadForm(Standing standing, TeamSeason key) {
+        List<FixtureResult> latest = fixtureRepository.findLatestResultsOfTeam(key.leagueId(), key.season(),
+                key.teamId(), FixtureStatus.resultShortCodes(), Limit.of(FORM_LENGTH));
+        StringBuilder form = new StringBuilder(FORM_LENGTH);
+        for (FixtureResult result : latest) {
+            boolean home = key.teamId().equals(result.homeTeamId());
+            form.append(home ? outcome(result.homeGoals(), result.awayGoals())
+                    : outcome(result.awayGoals(), result.homeGoals()));
+        }
+        standing.setForm(form.isEmpty() ? null : form.toString());
+        standing.setLastResultAt(latest.isEmpty() ? null : latest.get(0).matchDatetime());
+    }
+
+    private static char outcome(int goalsFor, int goalsAgainst) {
+        return goalsFor > goalsAgainst ? 'W' : goalsFor == goalsAgainst ? 'D' : 'L';
+    }
+}
@@ -0,0 +1,88 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.models.SyncCheckpoint;
+import co.hublots.ln_foot.repositories.SyncCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers how far a multi-page sync got, so a sync interrupted by a crash
+ * or a failed page resumes after the last page it committed instead of
+ * starting over. Checkpoints older than `application.sync.checkpointMaxAge`
+ * are ignored: the pages before them may have changed since.
+ */
+@Slf4j
+@Component
+public class SyncCheckpointStore {
+
+    private final SyncCheckpointRepository syncCheckpointRepository;
+    private final SyncConfigProperties syncConfigProperties;
+    private final Clock clock;
+
+    @Autowired
+    public SyncCheckpointStore(SyncCheckpointRepository syncCheckpointRepository,
+            SyncConfigProperties syncConfigProperties) {
+        this(syncCheckpointRepository, syncConfigProperties, Clock.systemUTC());
+    }
+
+    SyncCheckpointStore(SyncCheckpointRepository syncCheckpointRepository, SyncConfigProperties syncConfigProperties,
+            Clock clock) {
+        this.syncCheckpointRepository = syncCheckpointRepository;
+        this.syncConfigProperties = syncConfigProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the page to start from: 1, or the page after the last one committed
+     *         by a recent unfinished run of the same query
+     */
+    public int resumePage(Map<String, String> queryParams) {
+        Instant oldest = clock.instant().minus(syncConfigProperties.getCheckpointMaxAge());
+        return syncCheckpointRepository.findById(syncKey(queryParams))
+                .filter(checkpoint -> checkpoint.getUpdatedAt().isAfter(oldest))
+                .filter(checkpoint -> checkpoint.getLastCompletedPage() < checkpoint.getTotalPages())
+                .map(checkpoint -> {
+                    log.info("Resuming sync of {} at page {}/{}.", checkpoint.getSyncKey(),
+                            checkpoint.getLastCompletedPage() + 1, checkpoint.getTotalPages());
+                    return checkpoint.getLastCompletedPage() + 1;
+                })
+                .orElse(1);
+    }
+
+    /**
+     * Records a committed page. Must run in the transaction that wrote the page,
+     * so the checkpoint never gets ahead of the data.
+     */
+    public void pageCommitted(Map<String, String> queryParams, int page, int totalPages) {
+        syncCheckpointRepository.save(SyncCheckpoint.builder()
+                .syncKey(syncKey(queryParams))
+                .lastCompletedPage(page)
+                .totalPages(totalPages)
+                .updatedAt(clock.instant())
+                .build());
+    }
+
+    public void completed(Map<String, String> queryParams) {
+        String syncKey = syncKey(queryParams);
+        if (syncCheckpointRepository.existsById(syncKey)) {
+            syncCheckpointRepository.deleteById(syncKey);
+        }
+    }
+
+    // Parameters sorted by name, without the page, so every page of a query shares the checkpoint
+    static String syncKey(Map<String, String> queryParams) {
+        return new TreeMap<>(queryParams).entrySet().stream()
+                .filter(entry -> !"page".equals(entry.getKey()))
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&", "fixtures?", ""));
+    }
+}
@@ -0,0 +1,198 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import co.hublots.ln_foot.dto.SyncStatusDto;
+import co.hublots.ln_foot.dto.SyncStatusDto.PageProgress;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncPhase;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncStatus;
+import co.hublots.ln_foot.services.DataSyncService;
+import co.hublots.ln_foot.services.SyncJobService;
+import co.hublots.ln_foot.services.SyncProgressListener;
+import co.hublots.ln_foot.services.TeamStatsService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs admin-triggered syncs and rebuilds in the background, one at a time, so
+ * a request thread never waits on the external API or holds a database
+ * connection for the length of a sync. Jobs are kept in memory: the last 100 can be queried
+ * until the application restarts.
+ */
+@Slf4j
+@Service
+public class SyncJobServiceImpl implements SyncJobService {
+
+    private static final int MAX_JOBS = 100;
+
+    private final DataSyncService dataSyncService;
+    private final TeamStatsService teamStatsService;
+    private final Executor jobExecutor;
+    private final Clock clock;
+    private final Map<String, SyncJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SyncJob> eldest) {
+            return size() > MAX_JOBS;
+        }
+    });
+
+    @Autowired
+    public SyncJobServiceImpl(DataSyncService dataSyncService, TeamStatsService teamStatsService) {
+        // A single worker: two syncs never write the same fixtures concurrently
+        this(dataSyncService, teamStatsService, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sync-job");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    SyncJobServiceImpl(DataSyncService dataSyncService, TeamStatsService teamStatsService, Executor jobExecutor,
+            Clock clock) {
+        this.dataSyncService = dataSyncService;
+        this.teamStatsService = teamStatsService;
+        this.jobExecutor = jobExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public SyncStatusDto submitMainFixturesSync(Map<String, String> queryParams) {
+        Map<String, String> params = new HashMap<>(queryParams);
+        return submit("params " + params, listener -> dataSyncService.syncMainFixtures(params, listener));
+    }
+
+    @Override
+    public SyncStatusDto submitInterestedLeaguesSync(String season, Map<String, String> extraParams) {
+        Map<String, String> params = new HashMap<>(extraParams);
+        return submit("interested leagues of season " + season + ", params " + params,
+                listener -> dataSyncService.syncInterestedLeagues(season, params, listener));
+    }
+
+    @Override
+    public SyncStatusDto submitTeamStatsRebuild() {
+        return submit("team statistics rebuild", listener -> {
+            listener.phaseChanged(SyncPhase.SAVING);
+            int resultsCounted = teamStatsService.rebuildTeamStats();
+            return SyncStatusDto.builder().status(SyncStatus.SUCCESS)
+                    .message("Team statistics rebuilt from " + resultsCounted + " result(s).")
+                    .itemsProcessed(resultsCounted).build();
+        });
+    }
+
+    private SyncStatusDto submit(String description, Function<SyncProgressListener, SyncStatusDto> sync) {
+        SyncJob job = new SyncJob(UUID.randomUUID().toString(), clock.instant());
+        jobs.put(job.id, job);
+        log.info("Queued sync job {} with {}", job.id, description);
+        jobExecutor.execute(() -> run(job, sync));
+        return job.snapshot(clock.instant());
+    }
+
+    @Override
+    public Optional<SyncStatusDto> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(job -> job.snapshot(clock.instant()));
+    }
+
+    private void run(SyncJob job, Function<SyncProgressListener, SyncStatusDto> sync) {
+        job.started(clock.instant());
+        try {
+            SyncStatusDto result = sync.apply(job);
+            job.finished(result, clock.instant());
+            log.info("Sync job {} finished with status {}", job.id, result.getStatus());
+        } catch (Exception e) {
+            log.error("Sync job {} failed: {}", job.id, e.getMessage(), e);
+            job.finished(SyncStatusDto.builder().status(SyncStatus.ERROR).message("Sync Error: " + e.getMessage())
+                    .itemsProcessed(0).build(), clock.instant());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (jobExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * State of one job. Written by the worker thread, read by request threads.
+     */
+    private static final class SyncJob implements SyncProgressListener {
+        private final String id;
+        private final Instant submittedAt;
+        private final List<PageProgress> pages = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private SyncPhase phase = SyncPhase.QUEUED;
+        private Instant startedAt;
+        private Instant finishedAt;
+        private SyncStatusDto result;
+
+        SyncJob(String id, Instant submittedAt) {
+            this.id = id;
+            this.submittedAt = submittedAt;
+        }
+
+        synchronized void started(Instant now) {
+            startedAt = now;
+            phase = SyncPhase.FETCHING;
+        }
+
+        @Override
+        public synchronized void phaseChanged(SyncPhase newPhase) {
+            phase = newPhase;
+        }
+
+        @Override
+        public synchronized void pageCompleted(PageProgress page) {
+            pages.add(page);
+            if (page.isFailed()) {
+                errors.add("Page " + page.getPage() + "/" + page.getTotalPages()
+                        + (page.getLeague() != null ? " of league " + page.getLeague() : "") + " failed");
+            }
+        }
+
+        synchronized void finished(SyncStatusDto syncResult, Instant now) {
+            result = syncResult;
+            finishedAt = now;
+            phase = syncResult.getStatus() == SyncStatus.ERROR ? SyncPhase.FAILED : SyncPhase.COMPLETED;
+            if (syncResult.getStatus() == SyncStatus.ERROR) {
+                errors.add(syncResult.getMessage());
+            }
+        }
+
+        synchronized SyncStatusDto snapshot(Instant now) {
+            SyncStatusDto.SyncStatusDtoBuilder status = result != null
+                    ? result.toBuilder()
+                    : SyncStatusDto.builder()
+                            .itemsProcessed(pages.stream().mapToInt(PageProgress::getItemsProcessed).sum())
+                            .pages(List.copyOf(pages));
+            SyncStatusDto snapshot = status
+                    .jobId(id)
+                    .phase(phase)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errors(errors.isEmpty() ? null : List.copyOf(errors))
+                    .build();
+            if (startedAt != null) {
+                long elapsedMs = Duration.between(startedAt, finishedAt != null ? finishedAt : now).toMillis();
+                snapshot.setItemsPerSecond(snapshot.getItemsProcessed() * 1000.0 / Math.max(1L, elapsedMs));
+            }
+            return snapshot;
+        }
+    }
+}
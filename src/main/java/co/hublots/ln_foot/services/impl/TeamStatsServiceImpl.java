@@ -0,0 +1,368 @@
+package co.hublots.ln_foot.services.impl;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.hublots.ln_foot.dto.HeadToHeadDto;
+import co.hublots.ln_foot.dto.SimpleTeamDto;
+import co.hublots.ln_foot.dto.TeamFormDto;
+import co.hublots.ln_foot.models.HeadToHead;
+import co.hublots.ln_foot.models.Team;
+import co.hublots.ln_foot.models.TeamStats;
+import co.hublots.ln_foot.models.enums.FixtureStatus;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
+import co.hublots.ln_foot.repositories.HeadToHeadRepository;
+import co.hublots.ln_foot.repositories.TeamRepository;
+import co.hublots.ln_foot.repositories.TeamStatsRepository;
+import co.hublots.ln_foot.services.TeamStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Team form and head-to-head records kept in the `team_stats` and
+ * `head_to_head` tables and updated incrementally, like the standings: a
+ * changed result only moves the rows of its two teams and of their pair, so
+ * both reads are a single row lookup whatever the length of the history.
+ * <p>
+ * The form and the latest meeting are extended in place while results arrive
+ * in kickoff order; a result that is corrected, removed or older than the
+ * stored one reloads them from the fixtures instead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamStatsServiceImpl implements TeamStatsService {
+
+    static final int FORM_LENGTH = 10;
+
+    // Teams of a meeting, lower id first, as stored in head_to_head
+    private record Pair(String teamAId, String teamBId) {
+        static Pair of(FixtureResult result) {
+            return result.homeTeamId().compareTo(result.awayTeamId()) < 0
+                    ? new Pair(result.homeTeamId(), result.awayTeamId())
+                    : new Pair(result.awayTeamId(), result.homeTeamId());
+        }
+    }
+
+    private static final Comparator<Pair> PAIR_ORDER = Comparator.comparing(Pair::teamAId)
+            .thenComparing(Pair::teamBId);
+
+    private final TeamStatsRepository teamStatsRepository;
+    private final HeadToHeadRepository headToHeadRepository;
+    private final FixtureRepository fixtureRepository;
+    private final TeamRepository teamRepository;
+
+    private static SimpleTeamDto mapTeamToSimpleTeamDto(Team team) {
+        return SimpleTeamDto.builder()
+                .id(team.getApiTeamId())
+                .name(team.getTeamName())
+                .logoUrl(team.getLogoUrl())
+                .build();
+    }
+
+    private TeamFormDto mapToDto(TeamStats entity, Team team) {
+        return TeamFormDto.builder()
+                .team(mapTeamToSimpleTeamDto(team))
+                .form(entity.getForm())
+                .lastResultAt(entity.getLastResultAt())
+                .overall(TeamFormDto.Tally.builder()
+                        .played(entity.getHomePlayed() + entity.getAwayPlayed())
+                        .won(entity.getHomeWon() + entity.getAwayWon())
+                        .drawn(entity.getHomeDrawn() + entity.getAwayDrawn())
+                        .lost(entity.getHomeLost() + entity.getAwayLost())
+                        .goalsFor(entity.getHomeGoalsFor() + entity.getAwayGoalsFor())
+                        .goalsAgainst(entity.getHomeGoalsAgainst() + entity.getAwayGoalsAgainst())
+                        .build())
+                .home(TeamFormDto.Tally.builder()
+                        .played(entity.getHomePlayed())
+                        .won(entity.getHomeWon())
+                        .drawn(entity.getHomeDrawn())
+                        .lost(entity.getHomeLost())
+                        .goalsFor(entity.getHomeGoalsFor())
+                        .goalsAgainst(entity.getHomeGoalsAgainst())
+                        .build())
+                .away(TeamFormDto.Tally.builder()
+                        .played(entity.getAwayPlayed())
+                        .won(entity.getAwayWon())
+                        .drawn(entity.getAwayDrawn())
+                        .lost(entity.getAwayLost())
+                        .goalsFor(entity.getAwayGoalsFor())
+                        .goalsAgainst(entity.getAwayGoalsAgainst())
+                        .build())
+                .updatedAt(entity.getUpdatedAt() != null ? entity.getUpdatedAt().atOffset(ZoneOffset.UTC) : null)
+                .build();
+    }
+
+    // Counted from the point of view of team, which is the row's teamA or teamB
+    private HeadToHeadDto mapToDto(HeadToHead entity, Team team, Team opponent) {
+        boolean teamIsA = team.getId().equals(entity.getTeamA().getId());
+        HeadToHeadDto.LastMeeting lastMeeting = null;
+        if (entity.getLastMatchAt() != null) {
+            boolean aAtHome = Boolean.TRUE.equals(entity.getLastTeamAHome());
+            Team homeTeam = aAtHome == teamIsA ? team : opponent;
+            lastMeeting = HeadToHeadDto.LastMeeting.builder()
+                    .date(entity.getLastMatchAt())
+                    .homeTeamId(homeTeam.getApiTeamId())
+                    .goalsHome(aAtHome ? entity.getLastTeamAGoals() : entity.getLastTeamBGoals())
+                    .goalsAway(aAtHome ? entity.getLastTeamBGoals() : entity.getLastTeamAGoals())
+                    .build();
+        }
+        return HeadToHeadDto.builder()
+                .team(mapTeamToSimpleTeamDto(team))
+                .opponent(mapTeamToSimpleTeamDto(opponent))
+                .played(entity.getPlayed())
+                .wins(teamIsA ? entity.getTeamAWins() : entity.getTeamBWins())
+                .draws(entity.getDraws())
+                .losses(teamIsA ? entity.getTeamBWins() : entity.getTeamAWins())
+                .goalsFor(teamIsA ? entity.getTeamAGoals() : entity.getTeamBGoals())
+                .goalsAgainst(teamIsA ? entity.getTeamBGoals() : entity.getTeamAGoals())
+                .lastMeeting(lastMeeting)
+                .updatedAt(entity.getUpdatedAt() != null ? entity.getUpdatedAt().atOffset(ZoneOffset.UTC) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamFormDto getTeamForm(String apiTeamId) {
+        Team team = findTeam(apiTeamId);
+        TeamStats stats = teamStatsRepository.findByTeam_Id(team.getId())
+                .orElseGet(() -> TeamStats.builder().team(team).build());
+        return mapToDto(stats, team);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HeadToHeadDto getHeadToHead(String apiTeamId, String opponentApiTeamId) {
+        Team team = findTeam(apiTeamId);
+        Team opponent = findTeam(opponentApiTeamId);
+        if (team.getId().equals(opponent.getId())) {
+            throw new IllegalArgumentException("A head-to-head needs two different teams, got " + apiTeamId + " twice");
+        }
+        boolean teamIsA = team.getId().compareTo(opponent.getId()) < 0;
+        Team teamA = teamIsA ? team : opponent;
+        Team teamB = teamIsA ? opponent : team;
+        HeadToHead meetings = headToHeadRepository.findByTeamA_IdAndTeamB_Id(teamA.getId(), teamB.getId())
+                .orElseGet(() -> HeadToHead.builder().teamA(teamA).teamB(teamB).build());
+        return mapToDto(meetings, team, opponent);
+    }
+
+    @Override
+    @Transactional
+    public void applyResults(Collection<FixtureResult> previousResults, Collection<FixtureResult> currentResults) {
+        if (previousResults.isEmpty() && currentResults.isEmpty()) {
+            return;
+        }
+        Set<String> teamIds = Stream.concat(previousResults.stream(), currentResults.stream())
+                .flatMap(result -> Stream.of(result.homeTeamId(), result.awayTeamId()))
+                .collect(Collectors.toSet());
+        Map<String, TeamStats> teams = lockTeams(teamIds);
+        Map<Pair, HeadToHead> pairs = lockPairs(teamIds, Stream.concat(previousResults.stream(),
+                currentResults.stream()).map(Pair::of).collect(Collectors.toSet()));
+
+        Set<String> staleForms = new HashSet<>();
+        Set<Pair> staleMeetings = new HashSet<>();
+        for (FixtureResult result : previousResults) {
+            count(teams.get(result.homeTeamId()), true, result.homeGoals(), result.awayGoals(), -1);
+            count(teams.get(result.awayTeamId()), false, result.awayGoals(), result.homeGoals(), -1);
+            count(pairs.get(Pair.of(result)), result, -1);
+            staleForms.add(result.homeTeamId());
+            staleForms.add(result.awayTeamId());
+            staleMeetings.add(Pair.of(result));
+        }
+        List<FixtureResult> inKickoffOrder = currentResults.stream()
+                .sorted(Comparator.comparing(FixtureResult::matchDatetime,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        for (FixtureResult result : inKickoffOrder) {
+            count(teams.get(result.homeTeamId()), true, result.homeGoals(), result.awayGoals(), 1);
+            count(teams.get(result.awayTeamId()), false, result.awayGoals(), result.homeGoals(), 1);
+            count(pairs.get(Pair.of(result)), result, 1);
+            extendForm(teams.get(result.homeTeamId()), result.homeGoals(), result.awayGoals(),
+                    result.matchDatetime(), staleForms);
+            extendForm(teams.get(result.awayTeamId()), result.awayGoals(), result.homeGoals(),
+                    result.matchDatetime(), staleForms);
+            updateLastMeeting(pairs.get(Pair.of(result)), result, staleMeetings);
+        }
+        teamStatsRepository.saveAll(teams.values());
+        headToHeadRepository.saveAll(pairs.values());
+
+        for (String teamId : staleForms) {
+            reloadForm(teams.get(teamId), teamId);
+        }
+        for (Pair pair : staleMeetings) {
+            reloadLastMeeting(pairs.get(pair), pair);
+        }
+        log.debug("Team statistics updated for {} team(s) and {} pair(s): {} result(s) removed, {} added.",
+                teams.size(), pairs.size(), previousResults.size(), currentResults.size());
+    }
+
+    @Override
+    @Transactional
+    public int rebuildTeamStats() {
+        int deletedTeams = teamStatsRepository.deleteAllStats();
+        int deletedPairs = headToHeadRepository.deleteAllMeetings();
+        List<FixtureResult> results = fixtureRepository.findAllResults(FixtureStatus.resultShortCodes());
+        applyResults(List.of(), results);
+        log.info("Rebuilt team statistics from {} result(s), replacing {} team and {} head-to-head row(s).",
+                results.size(), deletedTeams, deletedPairs);
+        return results.size();
+    }
+
+    private Team findTeam(String apiTeamId) {
+        return teamRepository.findByApiTeamId(apiTeamId)
+                .orElseThrow(() -> new NoSuchElementException("Team with apiTeamId " + apiTeamId + " not found"));
+    }
+
+    // Creates the missing rows, then locks them all. The rows are created in team order and locked in id
+    // order by every transaction, so that two overlapping batches cannot deadlock
+    private Map<String, TeamStats> lockTeams(Set<String> teamIds) {
+        teamStatsRepository.insertMissing(new TreeSet<>(teamIds));
+        Map<String, TeamStats> rows = new HashMap<>();
+        teamStatsRepository.findForUpdate(teamIds).forEach(stats -> rows.put(stats.getTeam().getId(), stats));
+        for (String teamId : teamIds) {
+            if (!rows.containsKey(teamId)) {
+                // Only when the team was deleted meanwhile
+                throw new IllegalStateException("No statistics row for team " + teamId);
+            }
+        }
+        return rows;
+    }
+
+    private Map<Pair, HeadToHead> lockPairs(Set<String> teamIds, Set<Pair> keys) {
+        keys.stream().sorted(PAIR_ORDER).forEach(key -> headToHeadRepository.insertIfMissing(key.teamAId(),
+                key.teamBId()));
+        Map<Pair, HeadToHead> rows = new HashMap<>();
+        headToHeadRepository.findForUpdate(teamIds).forEach(meetings -> rows.put(
+                new Pair(meetings.getTeamA().getId(), meetings.getTeamB().getId()), meetings));
+        rows.keySet().retainAll(keys);
+        for (Pair key : keys) {
+            if (!rows.containsKey(key)) {
+                throw new IllegalStateException("No head-to-head row for teams " + key.teamAId() + " and "
+                        + key.teamBId());
+            }
+        }
+        return rows;
+    }
+
+    // Adds (sign 1) or removes (sign -1) one result from a team's home or away record
+    private static void count(TeamStats stats, boolean home, int goalsFor, int goalsAgainst, int sign) {
+        int won = goalsFor > goalsAgainst ? sign : 0;
+        int drawn = goalsFor == goalsAgainst ? sign : 0;
+        int lost = goalsFor < goalsAgainst ? sign : 0;
+        if (home) {
+            stats.setHomePlayed(stats.getHomePlayed() + sign);
+            stats.setHomeWon(stats.getHomeWon() + won);
+            stats.setHomeDrawn(stats.getHomeDrawn() + drawn);
+            stats.setHomeLost(stats.getHomeLost() + lost);
+            stats.setHomeGoalsFor(stats.getHomeGoalsFor() + sign * goalsFor);
+            stats.setHomeGoalsAgainst(stats.getHomeGoalsAgainst() + sign * goalsAgainst);
+        } else {
+            stats.setAwayPlayed(stats.getAwayPlayed() + sign);
+            stats.setAwayWon(stats.getAwayWon() + won);
+            stats.setAwayDrawn(stats.getAwayDrawn() + drawn);
+            stats.setAwayLost(stats.getAwayLost() + lost);
+            stats.setAwayGoalsFor(stats.getAwayGoalsFor() + sign * goalsFor);
+            stats.setAwayGoalsAgainst(stats.getAwayGoalsAgainst() + sign * goalsAgainst);
+        }
+    }
+
+    // Adds (sign 1) or removes (sign -1) one result from the meetings of its two teams
+    private static void count(HeadToHead meetings, FixtureResult result, int sign) {
+        boolean homeIsA = result.homeTeamId().equals(meetings.getTeamA().getId());
+        int teamAGoals = homeIsA ? result.homeGoals() : result.awayGoals();
+        int teamBGoals = homeIsA ? result.awayGoals() : result.homeGoals();
+        meetings.setPlayed(meetings.getPlayed() + sign);
+        meetings.setTeamAGoals(meetings.getTeamAGoals() + sign * teamAGoals);
+        meetings.setTeamBGoals(meetings.getTeamBGoals() + sign * teamBGoals);
+        if (teamAGoals > teamBGoals) {
+            meetings.setTeamAWins(meetings.getTeamAWins() + sign);
+        } else if (teamAGoals < teamBGoals) {
+            meetings.setTeamBWins(meetings.getTeamBWins() + sign);
+        } else {
+            meetings.setDraws(meetings.getDraws() + sign);
+        }
+    }
+
+    private static void extendForm(TeamStats stats, int goalsFor, int goalsAgainst, OffsetDateTime matchDatetime,
+            Set<String> staleForms) {
+        String teamId = stats.getTeam().getId();
+        if (staleForms.contains(teamId)) {
+            return;
+        }
+        if (matchDatetime == null
+                || (stats.getLastResultAt() != null && matchDatetime.isBefore(stats.getLastResultAt()))) {
+            staleForms.add(teamId);
+            return;
+        }
+        String form = outcome(goalsFor, goalsAgainst) + (stats.getForm() != null ? stats.getForm() : "");
+        stats.setForm(form.substring(0, Math.min(FORM_LENGTH, form.length())));
+        stats.setLastResultAt(matchDatetime);
+    }
+
+    private static void updateLastMeeting(HeadToHead meetings, FixtureResult result, Set<Pair> staleMeetings) {
+        Pair pair = new Pair(meetings.getTeamA().getId(), meetings.getTeamB().getId());
+        if (staleMeetings.contains(pair)) {
+            return;
+        }
+        if (result.matchDatetime() == null
+                || (meetings.getLastMatchAt() != null && result.matchDatetime().isBefore(meetings.getLastMatchAt()))) {
+            staleMeetings.add(pair);
+            return;
+        }
+        setLastMeeting(meetings, result);
+    }
+
+    private static void setLastMeeting(HeadToHead meetings, FixtureResult result) {
+        if (result == null) {
+            meetings.setLastMatchAt(null);
+            meetings.setLastTeamAHome(null);
+            meetings.setLastTeamAGoals(null);
+            meetings.setLastTeamBGoals(null);
+            return;
+        }
+        boolean homeIsA = result.homeTeamId().equals(meetings.getTeamA().getId());
+        meetings.setLastMatchAt(result.matchDatetime());
+        meetings.setLastTeamAHome(homeIsA);
+        meetings.setLastTeamAGoals(homeIsA ? result.homeGoals() : result.awayGoals());
+        meetings.setLastTeamBGoals(homeIsA ? result.awayGoals() : result.homeGoals());
+    }
+
+    private void reloadForm(TeamStats stats, String teamId) {
+        List<FixtureResult> latest = fixtureRepository.findLatestResultsOfTeamInAnyLeague(teamId,
+                FixtureStatus.resultShortCodes(), Limit.of(FORM_LENGTH));
+        StringBuilder form = new StringBuilder(FORM_LENGTH);
+        for (FixtureResult result : latest) {
+            boolean home = teamId.equals(result.homeTeamId());
+            form.append(home ? outcome(result.homeGoals(), result.awayGoals())
+                    : outcome(result.awayGoals(), result.homeGoals()));
+        }
+        stats.setForm(form.isEmpty() ? null : form.toString());
+        stats.setLastResultAt(latest.isEmpty() ? null : latest.get(0).matchDatetime());
+    }
+
+    private void reloadLastMeeting(HeadToHead meetings, Pair pair) {
+        List<FixtureResult> latest = fixtureRepository.findLatestResultsBetween(pair.teamAId(), pair.teamBId(),
+                FixtureStatus.resultShortCodes(), Limit.of(1));
+        setLastMeeting(meetings, latest.isEmpty() ? null : latest.get(0));
+    }
+
+    private static char outcome(int goalsFor, int goalsAgainst) {
+        return goalsFor > goalsAgainst ? 'W' : goalsFor == goalsAgainst ? 'D' : 'L';
+    }
+}
@@ -0,0 +1,278 @@
+-- Baseline: the schema Hibernate (ddl-auto=update) created before migrations were introduced.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and skip this script; new databases are built from it.
+
+CREATE SCHEMA IF NOT EXISTS lnfoot_web;
+CREATE SCHEMA IF NOT EXISTS lnfoot_api;
+
+-- lnfoot_web: football data and editorial content
+
+CREATE TABLE lnfoot_web.leagues (
+    id varchar(255) NOT NULL,
+    league_name varchar(255) NOT NULL,
+    country varchar(255),
+    logo_url varchar(255),
+    sport_id varchar(255),
+    api_league_id varchar(255),
+    api_source varchar(255),
+    tier integer,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT leagues_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_leagues_api_league_id UNIQUE (api_league_id)
+);
+
+CREATE TABLE lnfoot_web.web_teams (
+    id varchar(255) NOT NULL,
+    team_name varchar(255) NOT NULL,
+    country varchar(255),
+    logo_url varchar(255),
+    api_team_id varchar(255),
+    api_source varchar(255),
+    founded_year integer,
+    stadium_name varchar(255),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT web_teams_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_web_teams_api_team_id UNIQUE (api_team_id)
+);
+
+CREATE TABLE lnfoot_web.fixtures (
+    id varchar(255) NOT NULL,
+    match_datetime timestamp(6) with time zone NOT NULL,
+    status varchar(255) NOT NULL,
+    round varchar(255),
+    api_fixture_id varchar(255),
+    api_source varchar(255),
+    goals_team1 integer,
+    goals_team2 integer,
+    venue_name varchar(255),
+    spectators integer,
+    league_id varchar(255) NOT NULL,
+    team1_id varchar(255) NOT NULL,
+    team2_id varchar(255) NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    score_ht_home integer,
+    score_ht_away integer,
+    score_ft_home integer,
+    score_ft_away integer,
+    score_et_home integer,
+    score_et_away integer,
+    score_pt_home integer,
+    score_pt_away integer,
+    CONSTRAINT fixtures_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_fixtures_api_fixture_id UNIQUE (api_fixture_id),
+    CONSTRAINT fk_fixtures_league FOREIGN KEY (league_id) REFERENCES lnfoot_web.leagues (id),
+    CONSTRAINT fk_fixtures_team1 FOREIGN KEY (team1_id) REFERENCES lnfoot_web.web_teams (id),
+    CONSTRAINT fk_fixtures_team2 FOREIGN KEY (team2_id) REFERENCES lnfoot_web.web_teams (id)
+);
+
+CREATE INDEX idx_fixture_api_id ON lnfoot_web.fixtures (api_fixture_id);
+CREATE INDEX idx_fixture_datetime ON lnfoot_web.fixtures (match_datetime);
+
+CREATE TABLE lnfoot_web.highlights (
+    id varchar(255) NOT NULL,
+    title varchar(255),
+    video_url varchar(2048) NOT NULL,
+    thumbnail_url varchar(255),
+    source varchar(255),
+    duration_seconds integer CHECK (duration_seconds >= 1),
+    description oid,
+    type varchar(255),
+    fixture_id varchar(255),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT highlights_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_highlights_fixture FOREIGN KEY (fixture_id) REFERENCES lnfoot_web.fixtures (id)
+);
+
+CREATE TABLE lnfoot_web.news_articles (
+    id varchar(255) NOT NULL,
+    title varchar(255) NOT NULL,
+    summary oid NOT NULL,
+    is_major_update boolean NOT NULL,
+    content oid NOT NULL,
+    author_name varchar(255),
+    publication_date timestamp(6),
+    source_url varchar(2048),
+    image_url varchar(2048),
+    category varchar(255)
+        CHECK (category IN ('GENERAL', 'TRANSFERS', 'MATCH_PREVIEW', 'MATCH_REVIEW', 'INJURY_UPDATE', 'OTHER')),
+    status varchar(255) CHECK (status IN ('DRAFT', 'PUBLISHED', 'ARCHIVED')),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT news_articles_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE lnfoot_web.news_article_tags (
+    news_article_id varchar(255) NOT NULL,
+    tag varchar(255),
+    CONSTRAINT fk_news_article_tags_article FOREIGN KEY (news_article_id) REFERENCES lnfoot_web.news_articles (id)
+);
+
+CREATE TABLE lnfoot_web.advertisements (
+    id varchar(255) NOT NULL,
+    title varchar(255) NOT NULL,
+    description oid,
+    image_url varchar(255),
+    video_url varchar(255),
+    reference_url varchar(255),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT advertisements_pkey PRIMARY KEY (id)
+);
+
+-- lnfoot_api: shop
+
+CREATE TABLE lnfoot_api.categories (
+    id varchar(255) NOT NULL,
+    name varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT categories_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE lnfoot_api.sizes (
+    id varchar(255) NOT NULL,
+    name varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT sizes_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE lnfoot_api.headings (
+    id varchar(255) NOT NULL,
+    title varchar(255),
+    image_url varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT headings_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE lnfoot_api.products (
+    id varchar(255) NOT NULL,
+    name varchar(255),
+    description varchar(255),
+    price numeric(38, 2),
+    stock_quantity integer NOT NULL,
+    image_url varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT products_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE lnfoot_api.product_categories (
+    product_id varchar(255) NOT NULL,
+    category_id varchar(255) NOT NULL,
+    CONSTRAINT fk_product_categories_product FOREIGN KEY (product_id) REFERENCES lnfoot_api.products (id),
+    CONSTRAINT fk_product_categories_category FOREIGN KEY (category_id) REFERENCES lnfoot_api.categories (id)
+);
+
+CREATE TABLE lnfoot_api.product_sizes (
+    product_id varchar(255) NOT NULL,
+    size_id varchar(255) NOT NULL,
+    CONSTRAINT fk_product_sizes_product FOREIGN KEY (product_id) REFERENCES lnfoot_api.products (id),
+    CONSTRAINT fk_product_sizes_size FOREIGN KEY (size_id) REFERENCES lnfoot_api.sizes (id)
+);
+
+CREATE TABLE lnfoot_api.product_variants (
+    id varchar(255) NOT NULL,
+    price numeric(19, 4),
+    stock_quantity integer NOT NULL,
+    color_code varchar(255),
+    image_url varchar(255) NOT NULL,
+    product_id varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT product_variants_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_product_variants_product FOREIGN KEY (product_id) REFERENCES lnfoot_api.products (id)
+);
+
+CREATE TABLE lnfoot_api.product_variant_sizes (
+    product_variant_id varchar(255) NOT NULL,
+    size_id varchar(255) NOT NULL,
+    CONSTRAINT fk_product_variant_sizes_variant FOREIGN KEY (product_variant_id)
+        REFERENCES lnfoot_api.product_variants (id),
+    CONSTRAINT fk_product_variant_sizes_size FOREIGN KEY (size_id) REFERENCES lnfoot_api.sizes (id)
+);
+
+CREATE TABLE lnfoot_api.promotion_products (
+    id varchar(255) NOT NULL,
+    product_variant_id varchar(255),
+    discounted_price float(53) NOT NULL,
+    start_date date,
+    end_date date,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT promotion_products_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_promotion_products_variant FOREIGN KEY (product_variant_id)
+        REFERENCES lnfoot_api.product_variants (id)
+);
+
+CREATE TABLE lnfoot_api.reviews (
+    id varchar(255) NOT NULL,
+    product_id varchar(255),
+    rating integer NOT NULL,
+    comment varchar(255),
+    user_id varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT reviews_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_reviews_product FOREIGN KEY (product_id) REFERENCES lnfoot_api.products (id)
+);
+
+CREATE TABLE lnfoot_api.orders (
+    id varchar(255) NOT NULL,
+    order_date timestamp(6),
+    updated_at timestamp(6),
+    status varchar(255) NOT NULL,
+    user_id varchar(255) NOT NULL,
+    delivery_fee numeric(19, 4),
+    delivery_address varchar(255),
+    total_amount numeric(19, 4),
+    CONSTRAINT orders_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE lnfoot_api.order_items (
+    id varchar(255) NOT NULL,
+    order_id varchar(255),
+    product_variant_id varchar(255),
+    size varchar(255),
+    price numeric(19, 4),
+    quantity integer NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT order_items_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES lnfoot_api.orders (id),
+    CONSTRAINT fk_order_items_variant FOREIGN KEY (product_variant_id) REFERENCES lnfoot_api.product_variants (id)
+);
+
+CREATE TABLE lnfoot_api.payments (
+    id varchar(255) NOT NULL,
+    order_id varchar(255),
+    payment_ref varchar(255),
+    payment_page_url varchar(255),
+    status varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT payments_pkey PRIMARY KEY (id)
+);
+
+-- User has no schema on its entity and lives in the connection's default one
+CREATE TABLE public.users (
+    id varchar(255) NOT NULL,
+    keycloak_id varchar(255),
+    username varchar(255),
+    email varchar(255),
+    first_name varchar(255),
+    last_name varchar(255),
+    avatar_url varchar(255),
+    role smallint CHECK (role BETWEEN 0 AND 2),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_keycloak_id UNIQUE (keycloak_id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
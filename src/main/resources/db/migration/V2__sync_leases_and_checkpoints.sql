@@ -0,0 +1,17 @@
+-- Tables added shortly before migrations; databases baselined at V1 may already have them from ddl-auto.
+
+CREATE TABLE IF NOT EXISTS lnfoot_web.sync_leases (
+    name varchar(64) NOT NULL,
+    owner varchar(255) NOT NULL,
+    locked_at timestamp(6) with time zone NOT NULL,
+    locked_until timestamp(6) with time zone NOT NULL,
+    CONSTRAINT sync_leases_pkey PRIMARY KEY (name)
+);
+
+CREATE TABLE IF NOT EXISTS lnfoot_web.sync_checkpoints (
+    sync_key varchar(512) NOT NULL,
+    last_completed_page integer NOT NULL,
+    total_pages integer NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT sync_checkpoints_pkey PRIMARY KEY (sync_key)
+);
@@ -0,0 +1,9 @@
+-- Composite indexes matching the FixtureRepository query shapes (see FixtureQueryBenchmark).
+-- IF NOT EXISTS: ddl-auto may already have created them on databases baselined at V1.
+-- CONCURRENTLY keeps fixture writes going while the indexes build, which needs the script to run
+-- outside a transaction (see the .conf file next to it).
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_fixture_league_datetime ON lnfoot_web.fixtures (league_id, match_datetime);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_fixture_status_datetime ON lnfoot_web.fixtures (status, match_datetime);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_fixture_team1_datetime ON lnfoot_web.fixtures (team1_id, match_datetime);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_fixture_team2_datetime ON lnfoot_web.fixtures (team2_id, match_datetime);
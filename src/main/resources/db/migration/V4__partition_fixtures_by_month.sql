@@ -0,0 +1,166 @@
+-- Range-partitions lnfoot_web.fixtures by month of match_datetime (UTC), so date-bounded queries only
+-- scan the partitions of the requested window and an old season can be archived by detaching its
+-- partitions (ALTER TABLE lnfoot_web.fixtures DETACH PARTITION lnfoot_web.fixtures_2021_08).
+--
+-- A unique constraint on a partitioned table has to include the partition key:
+--   * the primary key becomes (id, match_datetime) and api_fixture_id is unique per kickoff only.
+--     The sync and the admin endpoints look fixtures up by api_fixture_id before inserting them.
+--   * highlights.fixture_id can no longer be a foreign key; the triggers at the end enforce it.
+
+-- Named fk_highlights_fixture by V1, but FK<hash> on databases created by ddl-auto and baselined at V1:
+-- drop the foreign key on highlights.fixture_id that references fixtures, whatever its name
+DO $$
+DECLARE
+    fk_name name;
+BEGIN
+    FOR fk_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.contype = 'f'
+          AND c.conrelid = 'lnfoot_web.highlights'::regclass
+          AND c.confrelid = 'lnfoot_web.fixtures'::regclass
+          AND a.attname = 'fixture_id'
+    LOOP
+        EXECUTE format('ALTER TABLE lnfoot_web.highlights DROP CONSTRAINT %I', fk_name);
+    END LOOP;
+END;
+$$;
+
+ALTER TABLE lnfoot_web.fixtures RENAME TO fixtures_unpartitioned;
+ALTER TABLE lnfoot_web.fixtures_unpartitioned RENAME CONSTRAINT fixtures_pkey TO fixtures_unpartitioned_pkey;
+DROP INDEX IF EXISTS lnfoot_web.idx_fixture_api_id;
+DROP INDEX IF EXISTS lnfoot_web.idx_fixture_datetime;
+DROP INDEX IF EXISTS lnfoot_web.idx_fixture_league_datetime;
+DROP INDEX IF EXISTS lnfoot_web.idx_fixture_status_datetime;
+DROP INDEX IF EXISTS lnfoot_web.idx_fixture_team1_datetime;
+DROP INDEX IF EXISTS lnfoot_web.idx_fixture_team2_datetime;
+
+CREATE TABLE lnfoot_web.fixtures (
+    id varchar(255) NOT NULL,
+    match_datetime timestamp(6) with time zone NOT NULL,
+    status varchar(255) NOT NULL,
+    round varchar(255),
+    api_fixture_id varchar(255),
+    api_source varchar(255),
+    goals_team1 integer,
+    goals_team2 integer,
+    venue_name varchar(255),
+    spectators integer,
+    league_id varchar(255) NOT NULL,
+    team1_id varchar(255) NOT NULL,
+    team2_id varchar(255) NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    score_ht_home integer,
+    score_ht_away integer,
+    score_ft_home integer,
+    score_ft_away integer,
+    score_et_home integer,
+    score_et_away integer,
+    score_pt_home integer,
+    score_pt_away integer,
+    CONSTRAINT fixtures_pkey PRIMARY KEY (id, match_datetime),
+    CONSTRAINT uk_fixtures_api_fixture_id_datetime UNIQUE (api_fixture_id, match_datetime),
+    CONSTRAINT fk_fixtures_league FOREIGN KEY (league_id) REFERENCES lnfoot_web.leagues (id),
+    CONSTRAINT fk_fixtures_team1 FOREIGN KEY (team1_id) REFERENCES lnfoot_web.web_teams (id),
+    CONSTRAINT fk_fixtures_team2 FOREIGN KEY (team2_id) REFERENCES lnfoot_web.web_teams (id)
+) PARTITION BY RANGE (match_datetime);
+
+-- Indexes created on the parent are created on every partition, including the ones attached later
+CREATE INDEX idx_fixture_api_id ON lnfoot_web.fixtures (api_fixture_id);
+CREATE INDEX idx_fixture_datetime ON lnfoot_web.fixtures (match_datetime);
+CREATE INDEX idx_fixture_league_datetime ON lnfoot_web.fixtures (league_id, match_datetime);
+CREATE INDEX idx_fixture_status_datetime ON lnfoot_web.fixtures (status, match_datetime);
+CREATE INDEX idx_fixture_team1_datetime ON lnfoot_web.fixtures (team1_id, match_datetime);
+CREATE INDEX idx_fixture_team2_datetime ON lnfoot_web.fixtures (team2_id, match_datetime);
+
+-- Catches fixtures dated beyond the last monthly partition until FixturePartitionMaintainer creates it
+CREATE TABLE lnfoot_web.fixtures_default PARTITION OF lnfoot_web.fixtures DEFAULT;
+
+-- Creates the partition of the month containing month_start (UTC bounds) unless it exists, moving the
+-- rows of that month out of the default partition first. Returns true when the partition was created.
+CREATE OR REPLACE FUNCTION lnfoot_web.ensure_fixture_partition(month_start date) RETURNS boolean
+LANGUAGE plpgsql AS $$
+DECLARE
+    first_day date := date_trunc('month', month_start)::date;
+    partition_name text := 'fixtures_' || to_char(first_day, 'YYYY_MM');
+    lower_bound timestamptz := first_day::timestamp AT TIME ZONE 'UTC';
+    upper_bound timestamptz := (first_day + interval '1 month')::timestamp AT TIME ZONE 'UTC';
+BEGIN
+    -- Every instance runs the maintainer at startup
+    PERFORM pg_advisory_xact_lock(hashtext('lnfoot_web.fixtures partitions'));
+    IF to_regclass(format('lnfoot_web.%I', partition_name)) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE lnfoot_web.%I (LIKE lnfoot_web.fixtures INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM lnfoot_web.fixtures_default '
+            || 'WHERE match_datetime >= %L AND match_datetime < %L RETURNING *) '
+            || 'INSERT INTO lnfoot_web.%I SELECT * FROM moved', lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE lnfoot_web.fixtures ATTACH PARTITION lnfoot_web.%I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, lower_bound, upper_bound);
+    RETURN true;
+END;
+$$;
+
+-- One partition per month from the oldest fixture to a year ahead
+SELECT lnfoot_web.ensure_fixture_partition(month::date)
+FROM generate_series(
+        date_trunc('month', LEAST(now(), (SELECT min(match_datetime) FROM lnfoot_web.fixtures_unpartitioned))
+                AT TIME ZONE 'UTC'),
+        date_trunc('month', now() AT TIME ZONE 'UTC') + interval '12 months',
+        interval '1 month') AS month;
+
+INSERT INTO lnfoot_web.fixtures (id, match_datetime, status, round, api_fixture_id, api_source, goals_team1,
+        goals_team2, venue_name, spectators, league_id, team1_id, team2_id, created_at, updated_at, score_ht_home,
+        score_ht_away, score_ft_home, score_ft_away, score_et_home, score_et_away, score_pt_home, score_pt_away)
+SELECT id, match_datetime, status, round, api_fixture_id, api_source, goals_team1, goals_team2, venue_name,
+        spectators, league_id, team1_id, team2_id, created_at, updated_at, score_ht_home, score_ht_away,
+        score_ft_home, score_ft_away, score_et_home, score_et_away, score_pt_home, score_pt_away
+FROM lnfoot_web.fixtures_unpartitioned;
+
+DROP TABLE lnfoot_web.fixtures_unpartitioned;
+
+ANALYZE lnfoot_web.fixtures;
+
+-- Stand-in for fk_highlights_fixture
+CREATE INDEX idx_highlights_fixture_id ON lnfoot_web.highlights (fixture_id);
+
+CREATE OR REPLACE FUNCTION lnfoot_web.check_highlight_fixture() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF NEW.fixture_id IS NOT NULL THEN
+        -- Locked like a foreign key would: a concurrent delete of the fixture waits for this transaction,
+        -- then sees the highlight; a fixture deleted first is not found
+        PERFORM 1 FROM lnfoot_web.fixtures WHERE id = NEW.fixture_id FOR KEY SHARE;
+        IF NOT FOUND THEN
+            RAISE foreign_key_violation USING MESSAGE = format('fixture %s of highlight %s does not exist',
+                    NEW.fixture_id, NEW.id);
+        END IF;
+    END IF;
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER trg_highlights_fixture_exists
+BEFORE INSERT OR UPDATE OF fixture_id ON lnfoot_web.highlights
+FOR EACH ROW EXECUTE FUNCTION lnfoot_web.check_highlight_fixture();
+
+-- AFTER trigger: a rescheduled fixture moving to another partition is deleted and re-inserted within
+-- the statement, and is back in place by the time this runs
+CREATE OR REPLACE FUNCTION lnfoot_web.check_fixture_highlights() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM lnfoot_web.highlights WHERE fixture_id = OLD.id)
+            AND NOT EXISTS (SELECT 1 FROM lnfoot_web.fixtures WHERE id = OLD.id) THEN
+        RAISE foreign_key_violation USING MESSAGE = format('fixture %s is still referenced by highlights',
+                OLD.id);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_fixtures_highlights_restrict
+AFTER DELETE ON lnfoot_web.fixtures
+FOR EACH ROW EXECUTE FUNCTION lnfoot_web.check_fixture_highlights();
@@ -0,0 +1,27 @@
+-- League standings maintained by the sync (see StandingsServiceImpl). Fixtures now record their season,
+-- which the table is keyed by; rows synced before this migration get it on their next sync.
+
+ALTER TABLE lnfoot_web.fixtures ADD COLUMN season integer;
+
+CREATE TABLE lnfoot_web.standings (
+    id varchar(255) NOT NULL,
+    league_id varchar(255) NOT NULL,
+    season integer NOT NULL,
+    team_id varchar(255) NOT NULL,
+    played integer NOT NULL,
+    won integer NOT NULL,
+    drawn integer NOT NULL,
+    lost integer NOT NULL,
+    goals_for integer NOT NULL,
+    goals_against integer NOT NULL,
+    points integer NOT NULL,
+    form varchar(5),
+    last_result_at timestamp(6) with time zone,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT standings_pkey PRIMARY KEY (id),
+    -- Also serves the table read: WHERE league_id = ? AND season = ?
+    CONSTRAINT uk_standings_league_season_team UNIQUE (league_id, season, team_id),
+    CONSTRAINT fk_standings_league FOREIGN KEY (league_id) REFERENCES lnfoot_web.leagues (id) ON DELETE CASCADE,
+    CONSTRAINT fk_standings_team FOREIGN KEY (team_id) REFERENCES lnfoot_web.web_teams (id) ON DELETE CASCADE
+);
@@ -0,0 +1,53 @@
+-- Team form and head-to-head aggregates maintained by the sync (see TeamStatsServiceImpl). Existing
+-- results are counted by POST /api/v1/sync/team-stats/rebuild.
+
+CREATE TABLE lnfoot_web.team_stats (
+    id varchar(255) NOT NULL,
+    team_id varchar(255) NOT NULL,
+    home_played integer NOT NULL,
+    home_won integer NOT NULL,
+    home_drawn integer NOT NULL,
+    home_lost integer NOT NULL,
+    home_goals_for integer NOT NULL,
+    home_goals_against integer NOT NULL,
+    away_played integer NOT NULL,
+    away_won integer NOT NULL,
+    away_drawn integer NOT NULL,
+    away_lost integer NOT NULL,
+    away_goals_for integer NOT NULL,
+    away_goals_against integer NOT NULL,
+    form varchar(10),
+    last_result_at timestamp(6) with time zone,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT team_stats_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_team_stats_team UNIQUE (team_id),
+    CONSTRAINT fk_team_stats_team FOREIGN KEY (team_id) REFERENCES lnfoot_web.web_teams (id) ON DELETE CASCADE
+);
+
+CREATE TABLE lnfoot_web.head_to_head (
+    id varchar(255) NOT NULL,
+    team_a_id varchar(255) NOT NULL,
+    team_b_id varchar(255) NOT NULL,
+    played integer NOT NULL,
+    team_a_wins integer NOT NULL,
+    team_b_wins integer NOT NULL,
+    draws integer NOT NULL,
+    team_a_goals integer NOT NULL,
+    team_b_goals integer NOT NULL,
+    last_match_at timestamp(6) with time zone,
+    last_team_a_home boolean,
+    last_team_a_goals integer,
+    last_team_b_goals integer,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    CONSTRAINT head_to_head_pkey PRIMARY KEY (id),
+    -- One row per pair whatever the order the teams are given in; "C" compares like String.compareTo
+    CONSTRAINT ck_head_to_head_team_order CHECK (team_a_id < team_b_id COLLATE "C"),
+    CONSTRAINT uk_head_to_head_teams UNIQUE (team_a_id, team_b_id),
+    CONSTRAINT fk_head_to_head_team_a FOREIGN KEY (team_a_id) REFERENCES lnfoot_web.web_teams (id) ON DELETE CASCADE,
+    CONSTRAINT fk_head_to_head_team_b FOREIGN KEY (team_b_id) REFERENCES lnfoot_web.web_teams (id) ON DELETE CASCADE
+);
+
+-- Serves the cascade from web_teams on team_b_id; team_a_id leads the unique index
+CREATE INDEX idx_head_to_head_team_b ON lnfoot_web.head_to_head (team_b_id);
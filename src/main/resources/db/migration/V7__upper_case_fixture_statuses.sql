@@ -0,0 +1,5 @@
+-- Statuses entered through the admin API were stored as typed, while the result queries match the
+-- upper-case short codes. Run POST /api/v1/sync/standings/rebuild and /team-stats/rebuild afterwards
+-- to count the results this brings in.
+
+UPDATE lnfoot_web.fixtures SET status = upper(btrim(status)) WHERE status <> upper(btrim(status));
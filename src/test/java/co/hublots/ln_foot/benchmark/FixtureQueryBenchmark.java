@@ -0,0 +1,192 @@
+package co.hublots.ln_foot.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds several seasons of fixtures and reports, for each FixtureRepository
+ * query shape, the plan the database picks and its latency. Run with
+ * {@code ./gradlew benchmark}; it uses the in-memory H2 database unless
+ * {@code -Dspring.datasource.url} (with username, password,
+ * {@code -Dspring.flyway.enabled=true} and
+ * {@code -Dspring.jpa.hibernate.ddl-auto=validate}) points it at Postgres.
+ * Seeded rows are tagged with api_source 'benchmark' and deleted afterwards.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.root=INFO")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FixtureQueryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureQueryBenchmark.class);
+
+    private static final String SOURCE = "benchmark";
+    private static final int SEASONS = 4;
+    private static final int LEAGUES = 20;
+    private static final int TEAMS_PER_LEAGUE = 20;
+    private static final int MATCHDAYS = 38;
+    private static final int WARMUP_RUNS = 50;
+    private static final int MEASURED_RUNS = 300;
+
+    private static final String SELECT = "SELECT f.* FROM lnfoot_web.fixtures f ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(42);
+    private final List<String> leagueIds = new ArrayList<>();
+    private final List<String> teamIds = new ArrayList<>();
+    private boolean h2;
+
+    private record QueryShape(String name, String sql, String expectedIndex, Object... args) {
+    }
+
+    @BeforeAll
+    void seed() {
+        h2 = "H2".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> leagues = new ArrayList<>();
+        List<Object[]> teams = new ArrayList<>();
+        for (int l = 0; l < LEAGUES; l++) {
+            String leagueId = UUID.randomUUID().toString();
+            leagueIds.add(leagueId);
+            leagues.add(new Object[] { leagueId, "Benchmark League " + l, "bench-l" + l, SOURCE, now, now });
+            for (int t = 0; t < TEAMS_PER_LEAGUE; t++) {
+                String teamId = UUID.randomUUID().toString();
+                teamIds.add(teamId);
+                teams.add(new Object[] { teamId, "Benchmark Team " + l + "-" + t, "bench-t" + l + "-" + t, SOURCE,
+                        now, now });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO lnfoot_web.leagues (id, league_name, api_league_id, api_source, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", leagues);
+        jdbcTemplate.batchUpdate("INSERT INTO lnfoot_web.web_teams (id, team_name, api_team_id, api_source, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", teams);
+
+        List<Object[]> fixtures = new ArrayList<>();
+        OffsetDateTime cutoff = OffsetDateTime.of(2024, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        for (int season = 0; season < SEASONS; season++) {
+            OffsetDateTime seasonStart = OffsetDateTime.of(2021 + season, 8, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+            for (int l = 0; l < LEAGUES; l++) {
+                for (int matchday = 0; matchday < MATCHDAYS; matchday++) {
+                    for (int match = 0; match < TEAMS_PER_LEAGUE / 2; match++) {
+                        int home = random.nextInt(TEAMS_PER_LEAGUE);
+                        int away = (home + 1 + random.nextInt(TEAMS_PER_LEAGUE - 1)) % TEAMS_PER_LEAGUE;
+                        OffsetDateTime kickoff = seasonStart.plusWeeks(matchday).plusMinutes(15L * match);
+                        String status = kickoff.isBefore(cutoff) ? (random.nextInt(100) == 0 ? "PST" : "FT") : "NS";
+                        fixtures.add(new Object[] { UUID.randomUUID().toString(), kickoff, status,
+                                "bench-f" + fixtures.size(), SOURCE, leagueIds.get(l),
+                                teamIds.get(l * TEAMS_PER_LEAGUE + home), teamIds.get(l * TEAMS_PER_LEAGUE + away),
+                                now, now });
+                    }
+                }
+            }
+        }
+        for (int from = 0; from < fixtures.size(); from += 1000) {
+            jdbcTemplate.batchUpdate("INSERT INTO lnfoot_web.fixtures (id, match_datetime, status, api_fixture_id, "
+                    + "api_source, league_id, team1_id, team2_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    fixtures.subList(from, Math.min(from + 1000, fixtures.size())));
+        }
+        if (!h2) {
+            jdbcTemplate.execute("ANALYZE lnfoot_web.fixtures");
+        }
+        log.info("Seeded {} leagues, {} teams and {} fixtures over {} seasons.", leagues.size(), teams.size(),
+                fixtures.size(), SEASONS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM lnfoot_web.fixtures WHERE api_source = ?", SOURCE);
+        jdbcTemplate.update("DELETE FROM lnfoot_web.web_teams WHERE api_source = ?", SOURCE);
+        jdbcTemplate.update("DELETE FROM lnfoot_web.leagues WHERE api_source = ?", SOURCE);
+    }
+
+    @Test
+    void fixtureQueryShapes() {
+        String league = leagueIds.get(7);
+        String team = teamIds.get(7 * TEAMS_PER_LEAGUE + 3);
+        OffsetDateTime monthStart = OffsetDateTime.of(2023, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime dayStart = OffsetDateTime.of(2023, 10, 14, 0, 0, 0, 0, ZoneOffset.UTC);
+
+        List<QueryShape> shapes = List.of(
+                new QueryShape("league + kickoff window",
+                        SELECT + "WHERE f.league_id = ? AND f.match_datetime BETWEEN ? AND ?",
+                        "idx_fixture_league_datetime", league, monthStart, monthStart.plusMonths(1)),
+                new QueryShape("league + status",
+                        SELECT + "WHERE f.league_id = ? AND f.status = ?",
+                        "idx_fixture_league_datetime", league, "NS"),
+                new QueryShape("status",
+                        SELECT + "WHERE f.status = ?",
+                        "idx_fixture_status_datetime", "PST"),
+                new QueryShape("status + kickoff window (live polling)",
+                        SELECT + "WHERE f.status = ? AND f.match_datetime BETWEEN ? AND ?",
+                        "idx_fixture_status_datetime", "FT", dayStart, dayStart.plusDays(1)),
+                new QueryShape("team as home or away",
+                        SELECT + "WHERE f.team1_id = ? OR f.team2_id = ? ORDER BY f.match_datetime",
+                        null, team, team), // Postgres ORs both team indexes in a bitmap scan, H2 cannot
+                new QueryShape("kickoff window (by date)",
+                        SELECT + "WHERE f.match_datetime BETWEEN ? AND ?",
+                        "idx_fixture_datetime", dayStart, dayStart.plusDays(1)));
+
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%n%-40s %6s %10s %10s%n",
+                "query", "rows", "p50 (us)", "p95 (us)"));
+        List<String> plans = new ArrayList<>();
+        for (QueryShape shape : shapes) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + shape.sql(), String.class,
+                    shape.args()));
+            plans.add(shape.name() + ":\n" + plan);
+            int rows = jdbcTemplate.queryForList(shape.sql(), shape.args()).size();
+            long[] micros = measure(shape);
+            report.append(String.format(Locale.ROOT, "%-40s %6d %10d %10d%n", shape.name(), rows,
+                    percentile(micros, 50), percentile(micros, 95)));
+            if (h2 && shape.expectedIndex() != null) {
+                // Postgres may prefer a scan on small or unselective data; H2 always reports the index it uses
+                assertTrue(plan.toLowerCase(Locale.ROOT).contains(shape.expectedIndex()),
+                        shape.name() + " should use " + shape.expectedIndex() + ":\n" + plan);
+            }
+        }
+        log.info("Fixture query latencies over {} runs:{}", MEASURED_RUNS, report);
+        log.info("Fixture query plans:\n{}", String.join("\n\n", plans));
+    }
+
+    private long[] measure(QueryShape shape) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            jdbcTemplate.queryForList(shape.sql(), shape.args());
+        }
+        long[] micros = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            jdbcTemplate.queryForList(shape.sql(), shape.args());
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,239 @@
+package co.hublots.ln_foot.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.jayway.jsonpath.JsonPath;
+
+import co.hublots.ln_foot.repositories.FixtureRepository;
+
+/**
+ * Grows the fixture history season by season and reports, at each size, the
+ * latency of the first page of a team's schedule for the current season: the
+ * union over the two team indexes (FixtureRepository.TEAM_FIXTURE_IDS), the
+ * same page with an OR over both columns, and GET /api/v1/teams/{id}/fixtures
+ * as served, with the season window and without one, serialization included.
+ * Run with {@code ./gradlew benchmark},
+ * against H2 or Postgres as described in FixtureQueryBenchmark. Seeded rows are
+ * tagged with api_source 'benchmark' and deleted afterwards.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.root=INFO")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TeamScheduleBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamScheduleBenchmark.class);
+
+    private static final String SOURCE = "benchmark";
+    private static final int LEAGUES = 10;
+    private static final int TEAMS_PER_LEAGUE = 20;
+    private static final int MATCHDAYS = 38;
+    // Total seasons of history at each measurement; older seasons are added, the current one stays the same
+    private static final int[] HISTORY_SEASONS = { 1, 4, 16 };
+    private static final int CURRENT_SEASON = 2024;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_RUNS = 50;
+    private static final int MEASURED_RUNS = 300;
+
+    private static final String OR_PAGE = "SELECT f.id FROM lnfoot_web.fixtures f "
+            + "WHERE (f.team1_id = :teamId OR f.team2_id = :teamId) AND f.match_datetime BETWEEN :from AND :to "
+            + "ORDER BY f.match_datetime, f.id LIMIT :limit OFFSET :offset";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final Random random = new Random(42);
+    private final List<String> leagueIds = new ArrayList<>();
+    private final List<String> teamIds = new ArrayList<>();
+    private int seededFixtures;
+    private boolean h2;
+
+    @BeforeAll
+    void seedTeams() {
+        h2 = "H2".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> leagues = new ArrayList<>();
+        List<Object[]> teams = new ArrayList<>();
+        for (int l = 0; l < LEAGUES; l++) {
+            String leagueId = UUID.randomUUID().toString();
+            leagueIds.add(leagueId);
+            leagues.add(new Object[] { leagueId, "Schedule League " + l, "sched-l" + l, SOURCE, now, now });
+            for (int t = 0; t < TEAMS_PER_LEAGUE; t++) {
+                String teamId = UUID.randomUUID().toString();
+                teamIds.add(teamId);
+                teams.add(new Object[] { teamId, "Schedule Team " + l + "-" + t, "sched-t" + l + "-" + t, SOURCE,
+                        now, now });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO lnfoot_web.leagues (id, league_name, api_league_id, api_source, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", leagues);
+        jdbcTemplate.batchUpdate("INSERT INTO lnfoot_web.web_teams (id, team_name, api_team_id, api_source, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", teams);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM lnfoot_web.fixtures WHERE api_source = ?", SOURCE);
+        jdbcTemplate.update("DELETE FROM lnfoot_web.web_teams WHERE api_source = ?", SOURCE);
+        jdbcTemplate.update("DELETE FROM lnfoot_web.leagues WHERE api_source = ?", SOURCE);
+    }
+
+    private void seedSeason(int season) {
+        Timestamp now = Timestamp.from(Instant.now());
+        OffsetDateTime seasonStart = OffsetDateTime.of(season, 8, 10, 15, 0, 0, 0, ZoneOffset.UTC);
+        List<Object[]> fixtures = new ArrayList<>();
+        for (int l = 0; l < LEAGUES; l++) {
+            for (int matchday = 0; matchday < MATCHDAYS; matchday++) {
+                for (int match = 0; match < TEAMS_PER_LEAGUE / 2; match++) {
+                    int home = random.nextInt(TEAMS_PER_LEAGUE);
+                    int away = (home + 1 + random.nextInt(TEAMS_PER_LEAGUE - 1)) % TEAMS_PER_LEAGUE;
+                    fixtures.add(new Object[] { UUID.randomUUID().toString(),
+                            seasonStart.plusWeeks(matchday).plusMinutes(15L * match), "FT",
+                            "sched-f" + (seededFixtures + fixtures.size()), SOURCE, leagueIds.get(l),
+                            teamIds.get(l * TEAMS_PER_LEAGUE + home), teamIds.get(l * TEAMS_PER_LEAGUE + away),
+                            season, now, now });
+                }
+            }
+        }
+        for (int from = 0; from < fixtures.size(); from += 1000) {
+            jdbcTemplate.batchUpdate("INSERT INTO lnfoot_web.fixtures (id, match_datetime, status, api_fixture_id, "
+                    + "api_source, league_id, team1_id, team2_id, season, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    fixtures.subList(from, Math.min(from + 1000, fixtures.size())));
+        }
+        seededFixtures += fixtures.size();
+    }
+
+    @Test
+    void teamSchedulePageAsHistoryGrows() {
+        String team = teamIds.get(3);
+        String apiTeamId = "sched-t0-3";
+        LocalDate seasonFrom = LocalDate.of(CURRENT_SEASON, 8, 1);
+        LocalDate seasonTo = LocalDate.of(CURRENT_SEASON + 1, 5, 31);
+        Map<String, Object> params = Map.of(
+                "teamId", team,
+                "from", seasonFrom.atStartOfDay().atOffset(ZoneOffset.UTC),
+                "to", seasonTo.atTime(LocalTime.MAX).atOffset(ZoneOffset.UTC),
+                // The service reads one row past the page to tell whether there is a next one
+                "branchLimit", PAGE_SIZE + 1,
+                "limit", PAGE_SIZE + 1,
+                "offset", 0);
+        RequestBuilder seasonRequest = get("/api/v1/teams/{id}/fixtures", apiTeamId)
+                .param("from", seasonFrom.toString())
+                .param("to", seasonTo.toString())
+                .param("size", String.valueOf(PAGE_SIZE));
+        RequestBuilder historyRequest = get("/api/v1/teams/{id}/fixtures", apiTeamId)
+                .param("size", String.valueOf(PAGE_SIZE));
+
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%n%9s %21s %21s %21s %21s%n",
+                "fixtures", "union p50/p95 (us)", "OR p50/p95 (us)", "season GET p50/p95", "all GET p50/p95"));
+        List<String> plans = new ArrayList<>();
+        int seasons = 0;
+        for (int historySeasons : HISTORY_SEASONS) {
+            for (; seasons < historySeasons; seasons++) {
+                seedSeason(CURRENT_SEASON - seasons);
+            }
+            if (!h2) {
+                jdbcTemplate.execute("ANALYZE lnfoot_web.fixtures");
+            }
+
+            List<String> unionPage = namedParameterJdbcTemplate.queryForList(FixtureRepository.TEAM_FIXTURE_IDS,
+                    params, String.class);
+            assertEquals(unionPage, namedParameterJdbcTemplate.queryForList(OR_PAGE, params, String.class),
+                    "the union must return the same page as the OR");
+            List<String> servedPage = JsonPath.read(perform(seasonRequest).getResponse().getContentAsString(),
+                    "$.content[*].id");
+            assertEquals(Math.min(unionPage.size(), PAGE_SIZE), servedPage.size());
+
+            long[] union = measure(() -> namedParameterJdbcTemplate.queryForList(FixtureRepository.TEAM_FIXTURE_IDS,
+                    params, String.class));
+            long[] or = measure(() -> namedParameterJdbcTemplate.queryForList(OR_PAGE, params, String.class));
+            long[] season = measure(() -> perform(seasonRequest));
+            long[] history = measure(() -> perform(historyRequest));
+            report.append(String.format(Locale.ROOT, "%9d %10d/%-10d %10d/%-10d %10d/%-10d %10d/%-10d%n",
+                    seededFixtures, percentile(union, 50), percentile(union, 95), percentile(or, 50),
+                    percentile(or, 95), percentile(season, 50), percentile(season, 95), percentile(history, 50),
+                    percentile(history, 95)));
+
+            String plan = String.join("\n", namedParameterJdbcTemplate.queryForList(
+                    "EXPLAIN " + FixtureRepository.TEAM_FIXTURE_IDS, params, String.class));
+            plans.add(seededFixtures + " fixtures:\n" + plan);
+            if (h2) {
+                // Postgres may prefer a scan on small data; H2 always reports the index it uses
+                String lowerPlan = plan.toLowerCase(Locale.ROOT);
+                assertTrue(lowerPlan.contains("idx_fixture_team1_datetime")
+                        && lowerPlan.contains("idx_fixture_team2_datetime"),
+                        "the union should read both team indexes:\n" + plan);
+            }
+        }
+        log.info("Team schedule first page ({} rows) over {} runs:{}", PAGE_SIZE, MEASURED_RUNS, report);
+        log.info("Team schedule union plans:\n{}", String.join("\n\n", plans));
+    }
+
+    private MvcResult perform(RequestBuilder request) {
+        try {
+            MvcResult result = mockMvc.perform(request).andReturn();
+            assertEquals(200, result.getResponse().getStatus());
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long[] measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            query.get();
+        }
+        long[] micros = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,207 @@
+package co.hublots.ln_foot.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.external.FixtureResponseItemDto;
+
+class RapidApiFootballClientTest {
+
+    private static final String FIXTURES_JSON = """
+            {"get": "fixtures", "results": 1, "response": [
+              {"fixture": {"id": 100}, "league": {"id": 39, "name": "Premier League", "country": "England"},
+               "teams": {"home": {"id": 10, "name": "Team A"}, "away": {"id": 11, "name": "Team B"}}}
+            ]}
+            """;
+
+    private static final String TWO_LEAGUES_JSON = """
+            {"get": "fixtures", "parameters": {"date": "2025-05-10"}, "errors": [], "results": 2,
+             "paging": {"current": 1, "total": 1}, "response": [
+              {"fixture": {"id": 100}, "league": {"id": 39, "name": "Premier League", "country": "England"},
+               "teams": {"home": {"id": 10, "name": "Team A"}, "away": {"id": 11, "name": "Team B"}}},
+              {"fixture": {"id": 200}, "league": {"id": 999, "name": "Other League", "country": "Otherland"},
+               "teams": {"home": {"id": 20, "name": "Team C"}, "away": {"id": 21, "name": "Team D"}}}
+            ]}
+            """;
+
+    private MockRestServiceServer server;
+    private RapidApiFootballClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new RapidApiFootballClient(restTemplate, Jackson2ObjectMapperBuilder.json().build(),
+                new SyncConfigProperties());
+        ReflectionTestUtils.setField(client, "baseUrl", "http://mockapi.com");
+        ReflectionTestUtils.setField(client, "externalApiSportsKey", "mock_key");
+        ReflectionTestUtils.setField(client, "externalApiRapidApiHost", "mock_host");
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    void fetchFixtures_sendsQueryAndApiHeaders_andReturnsResponseItems() {
+        server.expect(requestTo("http://mockapi.com/fixtures?league=39&season=2024"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-RapidAPI-Key", "mock_key"))
+                .andExpect(header("x-rapidapi-host", "mock_host"))
+                .andRespond(withSuccess(FIXTURES_JSON, MediaType.APPLICATION_JSON));
+
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("league", "39");
+        params.put("season", "2024");
+        List<FixtureResponseItemDto> fixtures = client.fetchFixtures(params).getFixtures();
+
+        server.verify();
+        assertEquals(1, fixtures.size());
+        assertEquals(100L, fixtures.get(0).getFixture().getFixtureApiId());
+        assertEquals("Premier League", fixtures.get(0).getLeague().getName());
+    }
+
+    @Test
+    void fetchFixtures_withoutResponseArray_returnsEmptyList() {
+        server.expect(requestTo("http://mockapi.com/fixtures?date=2025-05-10"))
+                .andRespond(withSuccess("{\"get\": \"fixtures\", \"results\": 0}", MediaType.APPLICATION_JSON));
+
+        assertTrue(client.fetchFixtures(Map.of("date", "2025-05-10")).getFixtures().isEmpty());
+    }
+
+    @Test
+    void fetchFixturesAsync_whenApiFails_completesExceptionally() {
+        server.expect(requestTo("http://mockapi.com/fixtures?league=39"))
+                .andRespond(withServerError());
+
+        CompletionException thrown = assertThrows(CompletionException.class,
+                () -> client.fetchFixturesAsync(Map.of("league", "39")).join());
+        assertTrue(thrown.getCause() instanceof RestClientException);
+    }
+
+    @Test
+    void fetchFixtures_samePayloadAfterProcessing_isNotModified() {
+        server.expect(requestTo("http://mockapi.com/fixtures?date=2025-05-10"))
+                .andRespond(withSuccess(FIXTURES_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://mockapi.com/fixtures?date=2025-05-10"))
+                .andRespond(withSuccess(FIXTURES_JSON, MediaType.APPLICATION_JSON));
+
+        FixtureFetch first = client.fetchFixtures(Map.of("date", "2025-05-10"));
+        client.markProcessed(first);
+        FixtureFetch second = client.fetchFixtures(Map.of("date", "2025-05-10"));
+
+        server.verify();
+        assertFalse(first.isNotModified());
+        assertTrue(second.isNotModified());
+        assertTrue(second.getFixtures().isEmpty());
+    }
+
+    @Test
+    void fetchFixtures_samePayloadNeverProcessed_isReturnedAgain() {
+        server.expect(requestTo("http://mockapi.com/fixtures?date=2025-05-10"))
+                .andRespond(withSuccess(FIXTURES_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://mockapi.com/fixtures?date=2025-05-10"))
+                .andRespond(withSuccess(FIXTURES_JSON, MediaType.APPLICATION_JSON));
+
+        client.fetchFixtures(Map.of("date", "2025-05-10"));
+        FixtureFetch second = client.fetchFixtures(Map.of("date", "2025-05-10"));
+
+        assertFalse(second.isNotModified());
+        assertEquals(1, second.getFixtures().size());
+    }
+
+    @Test
+    void fetchFixtures_sendsEtagBack_andTreats304AsNotModified() {
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"v1\"");
+        server.expect(requestTo("http://mockapi.com/fixtures?live=all"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(FIXTURES_JSON, MediaType.APPLICATION_JSON).headers(validators));
+        server.expect(requestTo("http://mockapi.com/fixtures?live=all"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        client.markProcessed(client.fetchFixtures(Map.of("live", "all")));
+        FixtureFetch second = client.fetchFixtures(Map.of("live", "all"));
+
+        server.verify();
+        assertTrue(second.isNotModified());
+    }
+
+    @Test
+    void fetchFixtures_readsPagingAndKeepsPageCountWhenNotModified() {
+        String pageOne = FIXTURES_JSON.replace("\"results\": 1,",
+                "\"results\": 1, \"paging\": {\"current\": 1, \"total\": 3},");
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"v1\"");
+        server.expect(requestTo("http://mockapi.com/fixtures?league=39"))
+                .andRespond(withSuccess(pageOne, MediaType.APPLICATION_JSON).headers(validators));
+        server.expect(requestTo("http://mockapi.com/fixtures?league=39"))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        FixtureFetch first = client.fetchFixtures(Map.of("league", "39"));
+        client.markProcessed(first);
+        FixtureFetch second = client.fetchFixtures(Map.of("league", "39"));
+
+        server.verify();
+        assertEquals(1, first.getPage());
+        assertEquals(3, first.getTotalPages());
+        assertTrue(second.isNotModified());
+        assertEquals(3, second.getTotalPages());
+    }
+
+    @Test
+    void fetchFixtures_withFilter_keepsOnlyMatchingItemsWhileStreaming() {
+        server.expect(requestTo("http://mockapi.com/fixtures?date=2025-05-10"))
+                .andRespond(withSuccess(TWO_LEAGUES_JSON, MediaType.APPLICATION_JSON));
+
+        FixtureFetch fetch = client.fetchFixtures(Map.of("date", "2025-05-10"),
+                item -> "England".equals(item.getLeague().getCountry()), 10);
+
+        assertEquals(2, fetch.getItemsRead());
+        assertTrue(fetch.isFilterMatched());
+        assertEquals(1, fetch.getFixtures().size());
+        assertEquals(100L, fetch.getFixtures().get(0).getFixture().getFixtureApiId());
+    }
+
+    @Test
+    void fetchFixtures_withFilterMatchingNothing_returnsLeadingFallbackItems() {
+        server.expect(requestTo("http://mockapi.com/fixtures?date=2025-05-10"))
+                .andRespond(withSuccess(TWO_LEAGUES_JSON, MediaType.APPLICATION_JSON));
+
+        FixtureFetch fetch = client.fetchFixtures(Map.of("date", "2025-05-10"), item -> false, 1);
+
+        assertFalse(fetch.isFilterMatched());
+        assertEquals(1, fetch.getFixtures().size());
+        assertEquals(100L, fetch.getFixtures().get(0).getFixture().getFixtureApiId());
+    }
+}
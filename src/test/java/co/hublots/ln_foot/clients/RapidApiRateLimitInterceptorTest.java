@@ -0,0 +1,125 @@
+package co.hublots.ln_foot.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+
+class RapidApiRateLimitInterceptorTest {
+
+    private static final String URL = "http://mockapi.com/fixtures";
+
+    private MockRestServiceServer server;
+    private RestTemplate restTemplate;
+    private RapidApiRateLimiter rateLimiter;
+    private SyncConfigProperties syncConfigProperties;
+
+    @BeforeEach
+    void setUp() {
+        syncConfigProperties = new SyncConfigProperties();
+        syncConfigProperties.getRateLimit().setRequestsPerMinute(100);
+        syncConfigProperties.getRateLimit().setInitialBackoff(Duration.ofMillis(1));
+        syncConfigProperties.getRateLimit().setMaxBackoff(Duration.ofMillis(5));
+        rateLimiter = new RapidApiRateLimiter(syncConfigProperties);
+
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new RapidApiRateLimitInterceptor(rateLimiter, syncConfigProperties));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    private String getFromRapidApi() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-rapidapi-host", "mock_host");
+        return restTemplate.exchange(URL, HttpMethod.GET, new HttpEntity<>(headers), String.class).getBody();
+    }
+
+    @Test
+    void intercept_retriesTooManyRequestsThenSucceeds() {
+        HttpHeaders quotaHeaders = new HttpHeaders();
+        quotaHeaders.set("x-ratelimit-requests-remaining", "42");
+        server.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo(URL)).andRespond(withSuccess("{}", MediaType.APPLICATION_JSON).headers(quotaHeaders));
+
+        assertEquals("{}", getFromRapidApi());
+        server.verify();
+        assertEquals(42, rateLimiter.remainingDailyRequests());
+    }
+
+    @Test
+    void intercept_givesUpAfterMaxRetries() {
+        syncConfigProperties.getRateLimit().setMaxRetries(2);
+        server.expect(times(3), requestTo(URL)).andRespond(withServerError());
+
+        assertThrows(HttpServerErrorException.class, this::getFromRapidApi);
+        server.verify();
+    }
+
+    @Test
+    void intercept_withoutRapidApiHostHeader_passesThroughUnthrottled() {
+        server.expect(requestTo(URL)).andRespond(withServerError());
+
+        assertThrows(HttpServerErrorException.class,
+                () -> restTemplate.getForObject(URL, String.class));
+        server.verify();
+        assertEquals(100, rateLimiter.remainingDailyRequests());
+    }
+
+    @Test
+    void intercept_withRetryAfterBeyondMaxBackoff_returnsTheErrorWithoutRetrying() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "86400");
+        server.expect(times(1), requestTo(URL))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(headers));
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, this::getFromRapidApi);
+        server.verify();
+    }
+
+    @Test
+    void backoff_prefersRetryAfterHeader() {
+        SyncConfigProperties.RateLimit config = new SyncConfigProperties.RateLimit();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+
+        assertEquals(Duration.ofSeconds(7), RapidApiRateLimitInterceptor.backoff(0, headers, config));
+    }
+
+    @Test
+    void backoff_capsRetryAfterAtMaxBackoff() {
+        SyncConfigProperties.RateLimit config = new SyncConfigProperties.RateLimit();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "3600");
+
+        assertEquals(config.getMaxBackoff(), RapidApiRateLimitInterceptor.backoff(0, headers, config));
+    }
+
+    @Test
+    void backoff_isExponentialWithJitterAndCapped() {
+        SyncConfigProperties.RateLimit config = new SyncConfigProperties.RateLimit();
+        Duration first = RapidApiRateLimitInterceptor.backoff(0, new HttpHeaders(), config);
+        Duration capped = RapidApiRateLimitInterceptor.backoff(10, new HttpHeaders(), config);
+
+        assertTrue(first.toMillis() >= 500 && first.toMillis() <= 1000);
+        assertTrue(capped.toMillis() >= 15_000 && capped.toMillis() <= 30_000);
+    }
+}
@@ -0,0 +1,116 @@
+package co.hublots.ln_foot.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+
+class RapidApiRateLimiterTest {
+
+    private MutableClock clock;
+    private SyncConfigProperties syncConfigProperties;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-05-10T12:00:00Z"));
+        syncConfigProperties = new SyncConfigProperties();
+        syncConfigProperties.getRateLimit().setRequestsPerMinute(2);
+        syncConfigProperties.getRateLimit().setDailyBudget(10);
+    }
+
+    @Test
+    void reserve_withinBurst_doesNotWait_thenWaitsForRefill() {
+        RapidApiRateLimiter limiter = new RapidApiRateLimiter(syncConfigProperties, clock);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        // 2 requests per minute: the next token arrives in 30 seconds
+        assertEquals(30_000, limiter.reserve());
+        // The following caller queues behind the previous reservation
+        assertEquals(60_000, limiter.reserve());
+    }
+
+    @Test
+    void reserve_whenWaitExceedsMaxWait_failsFast() {
+        syncConfigProperties.getRateLimit().setMaxWait(Duration.ofSeconds(10));
+        RapidApiRateLimiter limiter = new RapidApiRateLimiter(syncConfigProperties, clock);
+        limiter.reserve();
+        limiter.reserve();
+
+        assertThrows(QuotaExhaustedException.class, limiter::reserve);
+        assertEquals(8, limiter.remainingDailyRequests());
+    }
+
+    @Test
+    void reserve_whenDailyBudgetSpent_failsUntilReset() {
+        syncConfigProperties.getRateLimit().setRequestsPerMinute(100);
+        RapidApiRateLimiter limiter = new RapidApiRateLimiter(syncConfigProperties, clock);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-ratelimit-requests-remaining", "0");
+        headers.set("x-ratelimit-requests-reset", "3600");
+        limiter.updateFromHeaders(headers);
+
+        assertThrows(QuotaExhaustedException.class, limiter::reserve);
+
+        clock.advance(Duration.ofHours(1));
+        assertEquals(10, limiter.remainingDailyRequests());
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    void updateFromHeaders_appliesPlanLimitsReportedByTheApi() {
+        RapidApiRateLimiter limiter = new RapidApiRateLimiter(syncConfigProperties, clock);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Limit", "300");
+        headers.set("X-RateLimit-Remaining", "299");
+        headers.set("x-ratelimit-requests-limit", "7500");
+        headers.set("x-ratelimit-requests-remaining", "7000");
+        limiter.updateFromHeaders(headers);
+
+        clock.advance(Duration.ofMinutes(1));
+        var quota = limiter.getQuota();
+        assertEquals(300, quota.getRequestsPerMinute());
+        assertEquals(300, quota.getAvailableRequests());
+        assertEquals(7500, quota.getDailyLimit());
+        assertEquals(7000, quota.getDailyRemaining());
+        assertTrue(quota.getDailyResetAt().isAfter(clock.instant()));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package co.hublots.ln_foot.controllers;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -10,38 +14,56 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import co.hublots.ln_foot.dto.CreateFixtureDto;
+import co.hublots.ln_foot.dto.CursorPageDto;
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
 import co.hublots.ln_foot.dto.FixtureDto;
 import co.hublots.ln_foot.dto.SimpleTeamDto;
 import co.hublots.ln_foot.dto.UpdateFixtureDto;
+import co.hublots.ln_foot.repositories.ResourceVersion;
 import co.hublots.ln_foot.services.FixtureService;
+import co.hublots.ln_foot.services.JsonPayload;
+import co.hublots.ln_foot.services.impl.LiveScoreBroadcaster;
+
+import reactor.core.publisher.Flux;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -53,6 +75,9 @@ class FixtureControllerTest {
     @MockitoBean
     private FixtureService fixtureService;
 
+    @MockitoBean
+    private LiveScoreBroadcaster liveScoreBroadcaster;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,6 +94,15 @@ class FixtureControllerTest {
                 .build();
     }
 
+    private JsonPayload payloadOf(List<FixtureDto> fixtures) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(fixtures);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(json);
+        }
+        return new JsonPayload(json, gzipped.toByteArray(), ResourceVersion.of(fixtures, FixtureDto::getUpdatedAt));
+    }
+
     @Test
     @WithAnonymousUser
     void listFixtures_isOk() throws Exception {
@@ -83,6 +117,61 @@ class FixtureControllerTest {
                 .andExpect(jsonPath("$.content[0].id", is("fix1"))); // ✅ and here
     }
 
+    @Test
+    @WithAnonymousUser
+    void scrollFixtures_isOk() throws Exception {
+        FixtureDto mockFixture = createMockFixtureDto("fixScroll");
+        when(fixtureService.scrollFixtures(null, "abc", 1)).thenReturn(CursorPageDto.<FixtureDto>builder()
+                .content(Collections.singletonList(mockFixture)).size(1).hasNext(true).nextCursor("def").build());
+
+        mockMvc.perform(get("/api/v1/fixtures/scroll").param("cursor", "abc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id", is("fixScroll")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is("def")));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void scrollFixtures_validatorsFollowThePageRows() throws Exception {
+        FixtureDto fixture = createMockFixtureDto("fixScrollTag");
+        when(fixtureService.scrollFixtures(null, null, 20)).thenReturn(CursorPageDto.<FixtureDto>builder()
+                .content(List.of(fixture)).size(20).hasNext(false).build());
+        String eTag = mockMvc.perform(get("/api/v1/fixtures/scroll"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/fixtures/scroll").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        fixture.setUpdatedAt(fixture.getUpdatedAt().plusSeconds(5));
+        mockMvc.perform(get("/api/v1/fixtures/scroll").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is("fixScrollTag")));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void scrollFixtures_rowReplacedByAnOlderOne_isServedAgain() throws Exception {
+        FixtureDto kept = createMockFixtureDto("fixKept");
+        FixtureDto deleted = createMockFixtureDto("fixDeleted");
+        deleted.setUpdatedAt(kept.getUpdatedAt().minusHours(1));
+        FixtureDto older = createMockFixtureDto("fixOlder");
+        older.setUpdatedAt(kept.getUpdatedAt().minusHours(2));
+        when(fixtureService.scrollFixtures(null, null, 2))
+                .thenReturn(CursorPageDto.<FixtureDto>builder().content(List.of(kept, deleted)).size(2).build())
+                .thenReturn(CursorPageDto.<FixtureDto>builder().content(List.of(kept, older)).size(2).build());
+        String eTag = mockMvc.perform(get("/api/v1/fixtures/scroll").param("size", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Same count and latest update, other rows
+        mockMvc.perform(get("/api/v1/fixtures/scroll").param("size", "2").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[1].id", is("fixOlder")));
+    }
+
     @Test
     @WithAnonymousUser
     void findFixtureById_isOk_whenFound() throws Exception {
@@ -115,19 +204,173 @@ class FixtureControllerTest {
                 .andExpect(jsonPath("$[0].id", is("fixUpcoming")));
     }
 
+    @Test
+    @WithAnonymousUser
+    void streamLiveScores_sendsDeltasAsServerSentEvents() throws Exception {
+        FixtureDeltaDto delta = FixtureDeltaDto.builder().id("fixLive").leagueId("39").goalsHome(2).goalsAway(1)
+                .build();
+        when(liveScoreBroadcaster.stream(List.of("39", "61"), null)).thenReturn(Flux.just(
+                ServerSentEvent.builder(delta).id("7").event("fixture-delta").build()));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/fixtures/live").param("leagueId", "39,61")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("id:7\nevent:fixture-delta\n")))
+                .andExpect(content().string(containsString("\"id\":\"fixLive\"")))
+                .andExpect(content().string(containsString("\"goalsHome\":2")));
+    }
+
     @Test
     @WithAnonymousUser
     void getFixturesByDate_isOk() throws Exception {
         FixtureDto mockFixture = createMockFixtureDto("fixByDate");
         LocalDate date = LocalDate.now();
-        when(fixtureService.getFixturesByDate(eq(date), any())).thenReturn(Collections.singletonList(mockFixture));
+        when(fixtureService.getFixturesByDateJson(eq(date), any()))
+                .thenReturn(payloadOf(Collections.singletonList(mockFixture)));
 
         mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", date.format(DateTimeFormatter.ISO_DATE)))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist("Content-Encoding"))
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].id", is("fixByDate")));
     }
 
+    @Test
+    @WithAnonymousUser
+    void getFixturesByDate_withCurrentETag_isNotModified() throws Exception {
+        LocalDate date = LocalDate.of(2025, 3, 8);
+        when(fixtureService.getFixturesByDateJson(eq(date), any()))
+                .thenReturn(payloadOf(Collections.singletonList(createMockFixtureDto("fixCached"))));
+
+        MvcResult first = mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-08"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andExpect(header().string("Cache-Control", containsString("max-age=15")))
+                .andExpect(header().string("Cache-Control", containsString("public")))
+                .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-08")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string("Cache-Control", containsString("max-age=15")))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void getFixturesByDate_notModified_variesByAcceptEncoding() throws Exception {
+        LocalDate date = LocalDate.of(2025, 3, 11);
+        when(fixtureService.getFixturesByDateJson(eq(date), any()))
+                .thenReturn(payloadOf(List.of(createMockFixtureDto("fixVary"))));
+        String eTag = mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-11")
+                .header("Accept-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem(containsString("Accept-Encoding"))))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-11")
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("Vary", hasItem(containsString("Accept-Encoding"))))
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void getFixturesByDate_afterTheCachedListChanged_isServedWithItsNewETag() throws Exception {
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        FixtureDto fixture = createMockFixtureDto("fixChanging");
+        when(fixtureService.getFixturesByDateJson(eq(date), any())).thenReturn(payloadOf(List.of(fixture)));
+        String eTag = mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-10"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        fixture.setUpdatedAt(fixture.getUpdatedAt().plusSeconds(30));
+        fixture.setGoalsHome(1);
+        JsonPayload changed = payloadOf(List.of(fixture));
+        when(fixtureService.getFixturesByDateJson(eq(date), any())).thenReturn(changed);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-10")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(changed.json()))
+                .andReturn();
+        assertNotEquals(eTag, result.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void getFixturesByDate_acceptingGzip_isServedThePrecompressedBytes() throws Exception {
+        LocalDate date = LocalDate.of(2025, 3, 9);
+        JsonPayload payload = payloadOf(Collections.singletonList(createMockFixtureDto("fixGzip")));
+        when(fixtureService.getFixturesByDateJson(eq(date), any())).thenReturn(payload);
+
+        mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-09")
+                .header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem(containsString("Accept-Encoding"))))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(payload.gzipped()));
+
+        mockMvc.perform(get("/api/v1/fixtures/by-date").param("date", "2025-03-09")
+                .header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(payload.json()));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void listFixtures_withStaleETag_isOk() throws Exception {
+        when(fixtureService.listFixtures(any(), any()))
+                .thenReturn(new PageImpl<>(Collections.singletonList(createMockFixtureDto("fixFresh"))));
+
+        mockMvc.perform(get("/api/v1/fixtures").header("If-None-Match", "W/\"-1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.content[0].id", is("fixFresh")));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void listFixtures_fixtureRescheduledOutOfThePage_isServedAgain() throws Exception {
+        FixtureDto first = createMockFixtureDto("fixFirst");
+        FixtureDto rescheduled = createMockFixtureDto("fixRescheduled");
+        rescheduled.setUpdatedAt(first.getUpdatedAt().minusHours(1));
+        FixtureDto next = createMockFixtureDto("fixNext");
+        next.setUpdatedAt(first.getUpdatedAt().minusHours(2));
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        when(fixtureService.listFixtures(any(), any()))
+                .thenReturn(new PageImpl<>(List.of(first, rescheduled), pageRequest, 3))
+                .thenReturn(new PageImpl<>(List.of(first, next), pageRequest, 3));
+        String eTag = mockMvc.perform(get("/api/v1/fixtures").param("size", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Same total and latest update on the page, other rows
+        mockMvc.perform(get("/api/v1/fixtures").param("size", "2").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[1].id", is("fixNext")));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void findFixtureById_isNotFound_withoutValidators() throws Exception {
+        when(fixtureService.findFixtureById("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/fixtures/{id}", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
     // --- Admin Endpoint Tests ---
     @Test
     @WithMockUser(roles = "ADMIN")
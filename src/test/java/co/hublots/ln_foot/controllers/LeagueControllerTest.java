@@ -18,6 +18,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -38,8 +40,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import co.hublots.ln_foot.dto.CreateLeagueDto;
 import co.hublots.ln_foot.dto.LeagueDto;
+import co.hublots.ln_foot.dto.SimpleTeamDto;
+import co.hublots.ln_foot.dto.StandingDto;
 import co.hublots.ln_foot.dto.UpdateLeagueDto;
 import co.hublots.ln_foot.services.LeagueService;
+import co.hublots.ln_foot.services.StandingsService;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -51,6 +56,9 @@ class LeagueControllerTest {
     @MockitoBean
     private LeagueService leagueService;
 
+    @MockitoBean
+    private StandingsService standingsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -104,6 +112,33 @@ class LeagueControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithAnonymousUser
+    void getStandings_isOk_returnsRankedTable() throws Exception {
+        StandingDto leader = StandingDto.builder().rank(1).leagueId("39").season(2024)
+                .team(SimpleTeamDto.builder().id("33").name("Leaders").build())
+                .played(2).won(2).points(6).goalsFor(4).goalsAgainst(1).goalDifference(3).form("WW").build();
+        when(standingsService.getStandings("39", 2024)).thenReturn(List.of(leader));
+
+        mockMvc.perform(get("/api/v1/leagues/{id}/standings", "39").param("season", "2024"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].rank", is(1)))
+                .andExpect(jsonPath("$[0].team.id", is("33")))
+                .andExpect(jsonPath("$[0].points", is(6)))
+                .andExpect(jsonPath("$[0].form", is("WW")));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void getStandings_isNotFound_forUnknownLeague() throws Exception {
+        when(standingsService.getStandings("404", null))
+                .thenThrow(new NoSuchElementException("League with apiLeagueId 404 not found"));
+
+        mockMvc.perform(get("/api/v1/leagues/{id}/standings", "404"))
+                .andExpect(status().isNotFound());
+    }
+
     // --- Admin Endpoint Tests ---
     @Test
     @WithMockUser(roles = "ADMIN")
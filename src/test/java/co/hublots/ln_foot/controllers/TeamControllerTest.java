@@ -2,25 +2,39 @@ package co.hublots.ln_foot.controllers;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import co.hublots.ln_foot.dto.FixtureDto;
+import co.hublots.ln_foot.dto.HeadToHeadDto;
+import co.hublots.ln_foot.dto.SimpleTeamDto;
 import co.hublots.ln_foot.dto.TeamDto;
+import co.hublots.ln_foot.dto.TeamFormDto;
+import co.hublots.ln_foot.services.FixtureService;
 import co.hublots.ln_foot.services.TeamService;
+import co.hublots.ln_foot.services.TeamStatsService;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -32,6 +46,12 @@ class TeamControllerTest {
     @MockitoBean
     private TeamService teamService;
 
+    @MockitoBean
+    private TeamStatsService teamStatsService;
+
+    @MockitoBean
+    private FixtureService fixtureService;
+
     private TeamDto createMockTeamDto(String id) {
         return TeamDto.builder()
                 .id(id)
@@ -74,4 +94,91 @@ class TeamControllerTest {
         mockMvc.perform(get("/api/v1/teams/{id}", "nonexistent"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @WithAnonymousUser // Endpoint is public
+    void listTeamFixtures_isOk_withWindowAndPage() throws Exception {
+        FixtureDto fixture = FixtureDto.builder().id("F1").homeTeam(SimpleTeamDto.builder().id("33").build()).build();
+        when(fixtureService.listTeamFixtures(eq("33"), eq(LocalDate.of(2024, 8, 1)), eq(LocalDate.of(2025, 5, 31)),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(fixture), PageRequest.of(1, 10), true));
+
+        mockMvc.perform(get("/api/v1/teams/{id}/fixtures", "33")
+                .param("from", "2024-08-01")
+                .param("to", "2025-05-31")
+                .param("page", "1")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id", is("F1")))
+                .andExpect(jsonPath("$.last", is(false)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @WithAnonymousUser // Endpoint is public
+    void listTeamFixtures_isBadRequest_whenFromIsAfterTo() throws Exception {
+        when(fixtureService.listTeamFixtures(eq("33"), any(), any(), any(Pageable.class)))
+                .thenThrow(new IllegalArgumentException("from must not be after to"));
+
+        mockMvc.perform(get("/api/v1/teams/{id}/fixtures", "33")
+                .param("from", "2025-06-01")
+                .param("to", "2025-05-31"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithAnonymousUser // Endpoint is public
+    void getTeamForm_isOk() throws Exception {
+        TeamFormDto form = TeamFormDto.builder()
+                .team(SimpleTeamDto.builder().id("33").name("Mock Team").build())
+                .form("WDL")
+                .overall(TeamFormDto.Tally.builder().played(3).won(1).drawn(1).lost(1).build())
+                .home(TeamFormDto.Tally.builder().played(2).won(1).drawn(1).build())
+                .away(TeamFormDto.Tally.builder().played(1).lost(1).build())
+                .build();
+        when(teamStatsService.getTeamForm("33")).thenReturn(form);
+
+        mockMvc.perform(get("/api/v1/teams/{id}/form", "33"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.team.id", is("33")))
+                .andExpect(jsonPath("$.form", is("WDL")))
+                .andExpect(jsonPath("$.home.played", is(2)))
+                .andExpect(jsonPath("$.away.lost", is(1)));
+    }
+
+    @Test
+    @WithAnonymousUser // Endpoint is public
+    void getTeamForm_isNotFound_forUnknownTeam() throws Exception {
+        when(teamStatsService.getTeamForm("404")).thenThrow(new NoSuchElementException("Team not found"));
+
+        mockMvc.perform(get("/api/v1/teams/{id}/form", "404"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithAnonymousUser // Endpoint is public
+    void getHeadToHead_isOk() throws Exception {
+        HeadToHeadDto headToHead = HeadToHeadDto.builder()
+                .team(SimpleTeamDto.builder().id("33").build())
+                .opponent(SimpleTeamDto.builder().id("34").build())
+                .played(4).wins(2).draws(1).losses(1)
+                .lastMeeting(HeadToHeadDto.LastMeeting.builder().homeTeamId("34").goalsHome(0).goalsAway(2).build())
+                .build();
+        when(teamStatsService.getHeadToHead("33", "34")).thenReturn(headToHead);
+
+        mockMvc.perform(get("/api/v1/teams/{id}/h2h/{opponentId}", "33", "34"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.opponent.id", is("34")))
+                .andExpect(jsonPath("$.wins", is(2)))
+                .andExpect(jsonPath("$.lastMeeting.homeTeamId", is("34")));
+    }
+
+    @Test
+    @WithAnonymousUser // Endpoint is public
+    void getHeadToHead_isBadRequest_forTheSameTeamTwice() throws Exception {
+        when(teamStatsService.getHeadToHead("33", "33")).thenThrow(new IllegalArgumentException("Same team"));
+
+        mockMvc.perform(get("/api/v1/teams/{id}/h2h/{opponentId}", "33", "33"))
+                .andExpect(status().isBadRequest());
+    }
 }
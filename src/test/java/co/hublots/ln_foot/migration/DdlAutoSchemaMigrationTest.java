@@ -0,0 +1,82 @@
+package co.hublots.ln_foot.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Migrates a database that was created by {@code ddl-auto} before Flyway owned
+ * the schema: the V1 tables with the constraint names Hibernate generates
+ * ({@code FK<hash>}, {@code UK<hash>}) and no history table, so Flyway
+ * baselines it at V1 and applies the later scripts. The schemas are dropped
+ * first, so it only runs against a throwaway Postgres database:
+ * {@code ./gradlew migrationTest -DmigrationTest.url=jdbc:postgresql://localhost/ln_foot_migration
+ * -DmigrationTest.username=... -DmigrationTest.password=...}
+ */
+@Tag("migration")
+class DdlAutoSchemaMigrationTest {
+
+    private static final String[] SCHEMAS = { "lnfoot_web", "lnfoot_api" };
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getProperty("migrationTest.url");
+        assumeTrue(url != null && url.startsWith("jdbc:postgresql:"), "migrationTest.url is not a Postgres URL");
+        dataSource = new DriverManagerDataSource(url, System.getProperty("migrationTest.username"),
+                System.getProperty("migrationTest.password"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String schema : SCHEMAS) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        }
+
+        // The V1 tables, recorded in a history table that is then thrown away
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMAS).table("ddl_auto_setup").target("1").load()
+                .migrate();
+        jdbcTemplate.execute("DROP TABLE lnfoot_web.ddl_auto_setup");
+        jdbcTemplate.execute("ALTER TABLE lnfoot_web.highlights "
+                + "RENAME CONSTRAINT fk_highlights_fixture TO fkq5y1rl7o1c8fvbbh6u0hye4bl");
+        jdbcTemplate.execute("ALTER TABLE lnfoot_web.fixtures "
+                + "RENAME CONSTRAINT uk_fixtures_api_fixture_id TO uk3mx1nfjl9h8wpn9v3x5a0t2tj");
+
+        jdbcTemplate.update("INSERT INTO lnfoot_web.leagues (id, league_name, api_league_id, created_at, updated_at) "
+                + "VALUES ('league-1', 'Premier League', '39', now(), now())");
+        jdbcTemplate.update("INSERT INTO lnfoot_web.web_teams (id, team_name, api_team_id, created_at, updated_at) "
+                + "VALUES ('team-1', 'Home', '1', now(), now()), ('team-2', 'Away', '2', now(), now())");
+        jdbcTemplate.update("INSERT INTO lnfoot_web.fixtures (id, match_datetime, status, api_fixture_id, league_id, "
+                + "team1_id, team2_id, created_at, updated_at) "
+                + "VALUES ('fixture-1', '2024-08-17 14:00:00+00', 'FT', '1001', 'league-1', 'team-1', 'team-2', "
+                + "now(), now())");
+        jdbcTemplate.update("INSERT INTO lnfoot_web.highlights (id, video_url, fixture_id, created_at, updated_at) "
+                + "VALUES ('highlight-1', 'https://videos.example/1', 'fixture-1', now(), now())");
+    }
+
+    @Test
+    void migrate_fromBaselinedDdlAutoSchema_replacesTheHighlightsForeignKeyWhateverItsName() {
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMAS).baselineOnMigrate(true).baselineVersion("1")
+                .load().migrate();
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM pg_constraint "
+                + "WHERE contype = 'f' AND conrelid = 'lnfoot_web.highlights'::regclass", Integer.class));
+        assertEquals("fixture-1", jdbcTemplate.queryForObject(
+                "SELECT fixture_id FROM lnfoot_web.highlights WHERE id = 'highlight-1'", String.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM lnfoot_web.fixtures WHERE id = 'fixture-1'", Integer.class));
+        // The triggers stand in for the foreign key
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO lnfoot_web.highlights (id, video_url, fixture_id, created_at, updated_at) "
+                        + "VALUES ('highlight-2', 'https://videos.example/2', 'missing', now(), now())"));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("DELETE FROM lnfoot_web.fixtures WHERE id = 'fixture-1'"));
+    }
+}
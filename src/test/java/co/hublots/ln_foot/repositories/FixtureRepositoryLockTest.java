@@ -0,0 +1,103 @@
+package co.hublots.ln_foot.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.models.Team;
+
+/**
+ * Two sync transactions diffing the same fixture: the second one waits for the
+ * first to commit and reads its result, so the result is applied once.
+ */
+@SpringBootTest
+class FixtureRepositoryLockTest {
+
+    private static final OffsetDateTime KICKOFF = OffsetDateTime.of(2025, 4, 12, 15, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private FixtureRepository fixtureRepository;
+    @Autowired
+    private LeagueRepository leagueRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        League league = leagueRepository.save(League.builder().leagueName("Lock League").apiLeagueId("lock-league")
+                .country("France").build());
+        Team home = teamRepository.save(Team.builder().teamName("Lock Home").apiTeamId("lock-home").build());
+        Team away = teamRepository.save(Team.builder().teamName("Lock Away").apiTeamId("lock-away").build());
+        fixtureRepository.save(Fixture.builder().apiFixtureId("lock-1").league(league).team1(home).team2(away)
+                .matchDatetime(KICKOFF).status("2H").goalsTeam1(1).goalsTeam2(0).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtureRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        leagueRepository.deleteAllInBatch();
+    }
+
+    // What the sync does: read the stored result under lock, then count the match if it was not finished yet
+    private int finishMatch(CountDownLatch locked, CountDownLatch release) {
+        return transactionTemplate.execute(status -> {
+            Fixture fixture = fixtureRepository.findForUpdateByApiFixtureIdIn(List.of("lock-1")).get(0);
+            locked.countDown();
+            await(release);
+            if ("FT".equals(fixture.getStatus())) {
+                return 0;
+            }
+            jdbcTemplate.update("UPDATE lnfoot_web.fixtures SET status = 'FT' WHERE id = ?", fixture.getId());
+            return 1;
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void findForUpdateByApiFixtureIdIn_overlappingSyncs_countTheResultOnce() throws Exception {
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondLocked = new CountDownLatch(1);
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> finishMatch(firstLocked, releaseFirst));
+        await(firstLocked);
+        CompletableFuture<Integer> second = CompletableFuture
+                .supplyAsync(() -> finishMatch(secondLocked, new CountDownLatch(0)));
+
+        // The second sync blocks on the row until the first one commits
+        assertFalse(secondLocked.await(300, TimeUnit.MILLISECONDS));
+        releaseFirst.countDown();
+
+        assertEquals(1, first.get(10, TimeUnit.SECONDS) + second.get(10, TimeUnit.SECONDS));
+        assertEquals("FT", fixtureRepository.findAll().get(0).getStatus());
+    }
+}
@@ -0,0 +1,157 @@
+package co.hublots.ln_foot.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.models.League;
+
+@ExtendWith(MockitoExtension.class)
+class SyncBatchWriterTest {
+
+    private static final LocalDateTime EXISTING_CREATED_AT = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplateMock;
+
+    private SyncConfigProperties syncConfigProperties;
+    private SyncBatchWriter syncBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        syncConfigProperties = new SyncConfigProperties();
+        syncBatchWriter = new SyncBatchWriter(jdbcTemplateMock, syncConfigProperties);
+    }
+
+    // Maps each returned row the way the database would hand it back: id, API id, created_at
+    private static Answer<List<Object>> returning(List<String[]> rows) {
+        return invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(2);
+            List<Object> mapped = new ArrayList<>();
+            for (String[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenReturn(row[0]);
+                when(rs.getString(2)).thenReturn(row[1]);
+                when(rs.getTimestamp(3)).thenReturn(Timestamp.valueOf(EXISTING_CREATED_AT));
+                mapped.add(mapper.mapRow(rs, mapped.size()));
+            }
+            return mapped;
+        };
+    }
+
+    @Test
+    void saveLeagues_conflictingInsert_adoptsTheIdOfTheExistingRow() {
+        League created = League.builder().apiLeagueId("39").leagueName("Premier League").build();
+        League concurrent = League.builder().apiLeagueId("140").leagueName("La Liga").build();
+        List<String[]> returned = new ArrayList<>();
+        when(jdbcTemplateMock.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    returned.add(new String[] { created.getId(), "39" });
+                    returned.add(new String[] { "existing-league-id", "140" });
+                    return returning(returned).answer(invocation);
+                });
+
+        int written = syncBatchWriter.saveLeagues(List.of(created, concurrent));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplateMock).query(sqlCaptor.capture(), any(PreparedStatementSetter.class), any(RowMapper.class));
+        assertTrue(sqlCaptor.getValue().contains("ON CONFLICT (api_league_id) DO UPDATE"));
+        assertTrue(sqlCaptor.getValue().contains("RETURNING id, api_league_id, created_at"));
+        assertEquals("existing-league-id", concurrent.getId());
+        assertEquals(EXISTING_CREATED_AT, concurrent.getCreatedAt());
+        assertEquals(2, written);
+    }
+
+    @Test
+    void saveLeagues_rowNotReturned_isLeftWithoutAnIdAndNotCounted() {
+        League league = League.builder().apiLeagueId("39").leagueName("Premier League").build();
+        when(jdbcTemplateMock.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenAnswer(returning(List.of()));
+
+        int written = syncBatchWriter.saveLeagues(List.of(league));
+
+        assertNull(league.getId());
+        assertEquals(0, written);
+    }
+
+    @Test
+    void saveLeagues_insertsInChunksOfTheBatchSize() {
+        syncConfigProperties.setBatchSize(2);
+        when(jdbcTemplateMock.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenAnswer(returning(List.of()));
+
+        syncBatchWriter.saveLeagues(List.of(
+                League.builder().apiLeagueId("1").leagueName("One").build(),
+                League.builder().apiLeagueId("2").leagueName("Two").build(),
+                League.builder().apiLeagueId("3").leagueName("Three").build()));
+
+        verify(jdbcTemplateMock, times(2)).query(anyString(), any(PreparedStatementSetter.class),
+                any(RowMapper.class));
+    }
+
+    @Test
+    void saveFixtures_conflictingInsert_leavesTheExistingRowToTheCaller() {
+        Fixture created = Fixture.builder().apiFixtureId("100").build();
+        Fixture concurrent = Fixture.builder().apiFixtureId("200").build();
+        when(jdbcTemplateMock.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> returning(List.<String[]>of(new String[] { created.getId(), "100" }))
+                        .answer(invocation));
+
+        int written = syncBatchWriter.saveFixtures(List.of(created, concurrent));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplateMock).query(sqlCaptor.capture(), any(PreparedStatementSetter.class), any(RowMapper.class));
+        assertTrue(sqlCaptor.getValue().contains("ON CONFLICT (api_fixture_id, match_datetime) DO NOTHING"));
+        assertNotNull(created.getId());
+        assertNull(concurrent.getId());
+        assertEquals(1, written);
+    }
+
+    @Test
+    void saveFixtures_countsTheRowsTheUpdatesAffected() {
+        List<Fixture> fixtures = List.of(
+                Fixture.builder().id("f1").apiFixtureId("1").build(),
+                Fixture.builder().id("f2").apiFixtureId("2").build(),
+                Fixture.builder().id("f3").apiFixtureId("3").build());
+        when(jdbcTemplateMock.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][] { { 1, 0, Statement.SUCCESS_NO_INFO } });
+
+        int written = syncBatchWriter.saveFixtures(fixtures);
+
+        verify(jdbcTemplateMock, never()).query(anyString(), any(PreparedStatementSetter.class),
+                any(RowMapper.class));
+        assertEquals(2, written);
+    }
+}
@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,12 +22,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import co.hublots.ln_foot.config.SyncConfigProperties;
 import co.hublots.ln_foot.dto.SyncStatusDto;
 import co.hublots.ln_foot.services.DataSyncService;
 
@@ -33,16 +38,28 @@ class DataSyncSchedulerTest {
 
     @Mock
     private DataSyncService dataSyncServiceMock;
+    @Mock
+    private SyncLeaseLock syncLeaseLockMock;
+    @Spy
+    private SyncConfigProperties syncConfigProperties = new SyncConfigProperties();
 
     @InjectMocks
     private DataSyncScheduler dataSyncScheduler;
 
+    private void leaseGranted() {
+        when(syncLeaseLockMock.runExclusively(anyString(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+
     @Test
     void scheduleDailyFullSync_callsSyncMainFixturesWithDateParam() {
+        leaseGranted();
         // Arrange
         ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
         when(dataSyncServiceMock.syncMainFixtures(paramsCaptor.capture()))
-            .thenReturn(any(SyncStatusDto.class)); // Mocking the return value to avoid any issues
+            .thenReturn(new SyncStatusDto());
 
         // Act
         dataSyncScheduler.scheduleDailyFullSync();
@@ -55,10 +72,11 @@ class DataSyncSchedulerTest {
 
     @Test
     void scheduleHourlyRecentFixturesSync_callsSyncMainFixturesWithLiveParam() {
+        leaseGranted();
         // Arrange
         ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
         when(dataSyncServiceMock.syncMainFixtures(paramsCaptor.capture()))
-            .thenReturn(any(SyncStatusDto.class)); // Mocking the return value to avoid any issues
+            .thenReturn(new SyncStatusDto());
 
         // Act
         dataSyncScheduler.scheduleHourlyRecentFixturesSync();
@@ -71,6 +89,7 @@ class DataSyncSchedulerTest {
 
     @Test
     void scheduleDailyFullSync_whenServiceThrowsException_logsError() {
+        leaseGranted();
         // Arrange
         doThrow(new RuntimeException("Test Sync Error")).when(dataSyncServiceMock).syncMainFixtures(anyMap());
 
@@ -97,6 +116,7 @@ class DataSyncSchedulerTest {
 
     @Test
     void scheduleHourlyRecentFixturesSync_whenServiceThrowsException_logsError() {
+        leaseGranted();
         // Arrange
         doThrow(new RuntimeException("Test Hourly Sync Error")).when(dataSyncServiceMock).syncMainFixtures(anyMap());
 
@@ -117,4 +137,13 @@ class DataSyncSchedulerTest {
 
         schedulerLogger.detachAppender(listAppender);
     }
+
+    @Test
+    void scheduleDailyFullSync_whenLeaseHeldElsewhere_skipsTheSync() {
+        when(syncLeaseLockMock.runExclusively(eq(DataSyncScheduler.DAILY_SYNC_LEASE), any(), any())).thenReturn(false);
+
+        dataSyncScheduler.scheduleDailyFullSync();
+
+        verify(dataSyncServiceMock, never()).syncMainFixtures(anyMap());
+    }
 }
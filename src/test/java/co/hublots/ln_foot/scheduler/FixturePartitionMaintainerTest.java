@@ -0,0 +1,78 @@
+package co.hublots.ln_foot.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+
+@ExtendWith(MockitoExtension.class)
+class FixturePartitionMaintainerTest {
+
+    // Late on the last day of the month: the current month is still May in UTC
+    private static final Instant NOW = Instant.parse("2025-05-31T23:30:00Z");
+    private static final String SQL = "SELECT lnfoot_web.ensure_fixture_partition(?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplateMock;
+
+    private SyncConfigProperties syncConfigProperties;
+    private FixturePartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        syncConfigProperties = new SyncConfigProperties();
+        syncConfigProperties.getPartitions().setMonthsAhead(2);
+        maintainer = new FixturePartitionMaintainer(jdbcTemplateMock, syncConfigProperties,
+                Clock.fixed(NOW, ZoneOffset.ofHours(2)));
+    }
+
+    @Test
+    void ensureUpcomingPartitions_ensuresCurrentAndUpcomingMonths() {
+        when(jdbcTemplateMock.queryForObject(eq(SQL), eq(Boolean.class), any(LocalDate.class)))
+                .thenReturn(false, false, true);
+
+        maintainer.ensureUpcomingPartitions();
+
+        verify(jdbcTemplateMock).queryForObject(SQL, Boolean.class, LocalDate.of(2025, 5, 1));
+        verify(jdbcTemplateMock).queryForObject(SQL, Boolean.class, LocalDate.of(2025, 6, 1));
+        verify(jdbcTemplateMock).queryForObject(SQL, Boolean.class, LocalDate.of(2025, 7, 1));
+        verify(jdbcTemplateMock, times(3)).queryForObject(anyString(), eq(Boolean.class), any(LocalDate.class));
+    }
+
+    @Test
+    void ensureUpcomingPartitions_whenDisabled_doesNothing() {
+        syncConfigProperties.getPartitions().setEnabled(false);
+
+        maintainer.ensureUpcomingPartitions();
+
+        verify(jdbcTemplateMock, never()).queryForObject(anyString(), eq(Boolean.class), any(LocalDate.class));
+    }
+
+    @Test
+    void ensureUpcomingPartitions_whenDatabaseFails_stopsWithoutThrowing() {
+        when(jdbcTemplateMock.queryForObject(eq(SQL), eq(Boolean.class), any(LocalDate.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        maintainer.ensureUpcomingPartitions();
+
+        verify(jdbcTemplateMock, times(1)).queryForObject(anyString(), eq(Boolean.class), any(LocalDate.class));
+    }
+}
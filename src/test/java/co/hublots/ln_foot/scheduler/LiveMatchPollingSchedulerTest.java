@@ -0,0 +1,244 @@
+package co.hublots.ln_foot.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.hublots.ln_foot.clients.RapidApiRateLimiter;
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.ApiQuotaDto;
+import co.hublots.ln_foot.dto.SyncStatusDto;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncStatus;
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.services.DataSyncService;
+
+@ExtendWith(MockitoExtension.class)
+class LiveMatchPollingSchedulerTest {
+
+    @Mock
+    private DataSyncService dataSyncServiceMock;
+    @Mock
+    private FixtureRepository fixtureRepositoryMock;
+    @Mock
+    private SyncLeaseLock syncLeaseLockMock;
+    @Mock
+    private RapidApiRateLimiter rateLimiterMock;
+
+    private SyncConfigProperties syncConfigProperties;
+    private LiveMatchPollingScheduler scheduler;
+
+    private final OffsetDateTime now = OffsetDateTime.of(2025, 5, 10, 18, 0, 0, 0, ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        syncConfigProperties = new SyncConfigProperties();
+        scheduler = new LiveMatchPollingScheduler(dataSyncServiceMock, fixtureRepositoryMock, syncConfigProperties,
+                syncLeaseLockMock, rateLimiterMock);
+    }
+
+    private void quota(int dailyRemaining, Duration untilReset) {
+        when(rateLimiterMock.getQuota()).thenReturn(ApiQuotaDto.builder().dailyRemaining(dailyRemaining)
+                .dailyResetAt(now.plus(untilReset).toInstant()).build());
+    }
+
+    private void leaseGranted() {
+        when(syncLeaseLockMock.runExclusively(anyString(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+
+    private Fixture fixture(String status, OffsetDateTime kickoff) {
+        return fixture("F1", status, kickoff);
+    }
+
+    private Fixture fixture(String apiFixtureId, String status, OffsetDateTime kickoff) {
+        return Fixture.builder().apiFixtureId(apiFixtureId).status(status).matchDatetime(kickoff).build();
+    }
+
+    @Test
+    void nextPollDelay_whenMatchInProgress_usesLivePollInterval() {
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture("2H", now.minusMinutes(70))));
+        quota(5000, Duration.ofHours(6));
+
+        assertEquals(Duration.ofSeconds(30), scheduler.nextPollDelay(now));
+    }
+
+    @Test
+    void nextPollDelay_whenBudgetWouldNotLastUntilReset_spacesPollsOut() {
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture("2H", now.minusMinutes(70))));
+        // 60 requests once the 30 reserved for the scheduled syncs are set aside, over 6 hours
+        quota(90, Duration.ofHours(6));
+
+        assertEquals(Duration.ofMinutes(6), scheduler.nextPollDelay(now));
+    }
+
+    @Test
+    void nextPollDelay_whenOnlyTheReserveIsLeft_waitsForTheReset() {
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture("2H", now.minusMinutes(70))));
+        quota(30, Duration.ofMinutes(10));
+
+        assertEquals(Duration.ofMinutes(10), scheduler.nextPollDelay(now));
+    }
+
+    @Test
+    void nextPollDelay_whenKickoffPassedButNotStarted_usesKickoffPollInterval() {
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture("NS", now.plusMinutes(2))));
+        quota(5000, Duration.ofHours(6));
+
+        assertEquals(Duration.ofSeconds(60), scheduler.nextPollDelay(now));
+    }
+
+    @Test
+    void nextPollDelay_whenNextKickoffIsSoon_sleepsUntilItsWindow() {
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(fixtureRepositoryMock.findFirstByMatchDatetimeAfterAndStatusInOrderByMatchDatetimeAsc(any(),
+                anyCollection()))
+                .thenReturn(Optional.of(fixture("NS", now.plusMinutes(12))));
+
+        // Kickoff in 12 minutes minus the 5 minute lead
+        assertEquals(Duration.ofMinutes(7), scheduler.nextPollDelay(now));
+    }
+
+    @Test
+    void nextPollDelay_whenNothingScheduled_backsOffToIdleInterval() {
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(fixtureRepositoryMock.findFirstByMatchDatetimeAfterAndStatusInOrderByMatchDatetimeAsc(any(),
+                anyCollection()))
+                .thenReturn(Optional.empty());
+
+        assertEquals(Duration.ofMinutes(15), scheduler.nextPollDelay(now));
+    }
+
+    @Test
+    void nextPollDelay_whenRepositoryFails_backsOffToIdleInterval() {
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenThrow(new RuntimeException("DB down"));
+
+        assertEquals(Duration.ofMinutes(15), scheduler.nextPollDelay(now));
+    }
+
+    @Test
+    void pollLiveFixtures_withFixturesInWindow_syncsThemById() {
+        leaseGranted();
+        OffsetDateTime kickoff = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(30);
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture("F1", "1H", kickoff), fixture("F2", "FT", kickoff)));
+        when(rateLimiterMock.remainingDailyRequests()).thenReturn(31);
+
+        scheduler.pollLiveFixtures();
+
+        verify(dataSyncServiceMock).syncMainFixtures(Map.of("ids", "F1-F2"));
+    }
+
+    @Test
+    void pollLiveFixtures_withMoreFixturesThanAnIdRequestTakes_splitsThem() {
+        leaseGranted();
+        OffsetDateTime kickoff = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(30);
+        List<Fixture> fixtures = IntStream.rangeClosed(1, 25)
+                .mapToObj(i -> fixture("F" + i, "1H", kickoff))
+                .toList();
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(fixtures);
+        when(rateLimiterMock.remainingDailyRequests()).thenReturn(32);
+
+        scheduler.pollLiveFixtures();
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
+        verify(dataSyncServiceMock, times(2)).syncMainFixtures(paramsCaptor.capture());
+        assertEquals(20, paramsCaptor.getAllValues().get(0).get("ids").split("-").length);
+        assertEquals("F21-F22-F23-F24-F25", paramsCaptor.getAllValues().get(1).get("ids"));
+    }
+
+    @Test
+    void pollLiveFixtures_whenTheIdRequestFails_syncsTheMatchDayInstead() {
+        leaseGranted();
+        OffsetDateTime kickoff = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(30);
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture("F1", "1H", kickoff)));
+        when(rateLimiterMock.remainingDailyRequests()).thenReturn(40);
+        when(dataSyncServiceMock.syncMainFixtures(Map.of("ids", "F1")))
+                .thenReturn(SyncStatusDto.builder().status(SyncStatus.ERROR).message("API Error").build());
+
+        scheduler.pollLiveFixtures();
+
+        verify(dataSyncServiceMock).syncMainFixtures(Map.of("date", kickoff.toLocalDate().toString()));
+    }
+
+    @Test
+    void pollLiveFixtures_fixtureWithoutApiId_syncsItsMatchDay() {
+        leaseGranted();
+        OffsetDateTime kickoff = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(30);
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture(null, "1H", kickoff)));
+        when(rateLimiterMock.remainingDailyRequests()).thenReturn(31);
+
+        scheduler.pollLiveFixtures();
+
+        verify(dataSyncServiceMock).syncMainFixtures(Map.of("date", kickoff.toLocalDate().toString()));
+        verify(dataSyncServiceMock, never()).syncMainFixtures(argThat(params -> params.containsKey("ids")));
+    }
+
+    @Test
+    void pollLiveFixtures_whenOnlyTheReserveIsLeft_makesNoApiCall() {
+        leaseGranted();
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(List.of(fixture("1H", OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(30))));
+        when(rateLimiterMock.remainingDailyRequests()).thenReturn(30);
+
+        scheduler.pollLiveFixtures();
+
+        verify(dataSyncServiceMock, never()).syncMainFixtures(anyMap());
+    }
+
+    @Test
+    void pollLiveFixtures_withoutFixturesInWindow_makesNoApiCall() {
+        leaseGranted();
+        when(fixtureRepositoryMock.findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection()))
+                .thenReturn(Collections.emptyList());
+
+        scheduler.pollLiveFixtures();
+
+        verify(dataSyncServiceMock, never()).syncMainFixtures(anyMap());
+    }
+
+    @Test
+    void pollLiveFixtures_whenLeaseHeldElsewhere_skipsThePoll() {
+        when(syncLeaseLockMock.runExclusively(anyString(), any(), any())).thenReturn(false);
+
+        scheduler.pollLiveFixtures();
+
+        verify(fixtureRepositoryMock, never()).findByMatchDatetimeBetweenAndStatusNotIn(any(), any(), anyCollection());
+        verify(dataSyncServiceMock, never()).syncMainFixtures(anyMap());
+    }
+}
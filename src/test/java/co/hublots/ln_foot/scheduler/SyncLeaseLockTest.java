@@ -0,0 +1,157 @@
+package co.hublots.ln_foot.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.repositories.SyncLeaseRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SyncLeaseLockTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-10T12:00:00Z");
+
+    @Mock
+    private SyncLeaseRepository syncLeaseRepositoryMock;
+    @Mock
+    private PlatformTransactionManager transactionManagerMock;
+    @Mock
+    private JdbcTemplate jdbcTemplateMock;
+
+    private SyncConfigProperties syncConfigProperties;
+    private SyncLeaseLock syncLeaseLock;
+
+    @BeforeEach
+    void setUp() {
+        syncConfigProperties = new SyncConfigProperties();
+        syncLeaseLock = new SyncLeaseLock(syncLeaseRepositoryMock, transactionManagerMock, jdbcTemplateMock,
+                syncConfigProperties);
+    }
+
+    private void stubDatabaseTime() {
+        when(jdbcTemplateMock.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class))
+                .thenReturn(Timestamp.from(NOW));
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncLeaseLock.shutdown();
+    }
+
+    @Test
+    void runExclusively_whenLeaseTaken_runsTaskAndKeepsLeaseForMinimumHold() {
+        stubDatabaseTime();
+        when(syncLeaseRepositoryMock.acquire(eq("daily"), anyString(), eq(NOW), eq(NOW.plus(Duration.ofMinutes(10)))))
+                .thenReturn(1);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(syncLeaseLock.runExclusively("daily", Duration.ofMinutes(1), () -> ran.set(true)));
+
+        assertTrue(ran.get());
+        verify(syncLeaseRepositoryMock).updateLockedUntil("daily", syncLeaseLock.owner(),
+                NOW.plus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void runExclusively_whenHeldByAnotherInstance_skipsTask() {
+        stubDatabaseTime();
+        when(syncLeaseRepositoryMock.acquire(anyString(), anyString(), any(), any())).thenReturn(0);
+        when(syncLeaseRepositoryMock.existsById("daily")).thenReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertFalse(syncLeaseLock.runExclusively("daily", Duration.ZERO, () -> ran.set(true)));
+
+        assertFalse(ran.get());
+        verify(syncLeaseRepositoryMock, never()).updateLockedUntil(anyString(), anyString(), any());
+    }
+
+    @Test
+    void runExclusively_firstRunAnywhere_createsTheLease() {
+        stubDatabaseTime();
+        when(syncLeaseRepositoryMock.acquire(anyString(), anyString(), any(), any())).thenReturn(0);
+        when(syncLeaseRepositoryMock.existsById("daily")).thenReturn(false);
+
+        assertTrue(syncLeaseLock.runExclusively("daily", Duration.ZERO, () -> {
+        }));
+
+        verify(syncLeaseRepositoryMock).saveAndFlush(any());
+    }
+
+    @Test
+    void runExclusively_whenAnotherInstanceCreatesTheLeaseFirst_skipsTask() {
+        stubDatabaseTime();
+        when(syncLeaseRepositoryMock.acquire(anyString(), anyString(), any(), any())).thenReturn(0);
+        when(syncLeaseRepositoryMock.existsById("daily")).thenReturn(false);
+        when(syncLeaseRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertFalse(syncLeaseLock.runExclusively("daily", Duration.ZERO, () -> {
+        }));
+    }
+
+    @Test
+    void runExclusively_whenTaskFails_releasesLeaseAndRethrows() {
+        stubDatabaseTime();
+        when(syncLeaseRepositoryMock.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> syncLeaseLock.runExclusively("daily", Duration.ZERO, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        verify(syncLeaseRepositoryMock).updateLockedUntil("daily", syncLeaseLock.owner(), NOW);
+    }
+
+    @Test
+    void runExclusively_whenTheLeaseIsTakenOver_interruptsTheTaskAndKeepsOffTheLease() {
+        stubDatabaseTime();
+        syncConfigProperties.getLock().setLeaseDuration(Duration.ofMillis(30));
+        when(syncLeaseRepositoryMock.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+        // Renewing finds the lease owned by another instance
+        when(syncLeaseRepositoryMock.updateLockedUntil(anyString(), anyString(), any())).thenReturn(0);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        assertTrue(syncLeaseLock.runExclusively("daily", Duration.ZERO, () -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        }));
+
+        assertTrue(interrupted.get());
+        assertFalse(Thread.currentThread().isInterrupted());
+        verify(syncLeaseRepositoryMock, never()).updateLockedUntil("daily", syncLeaseLock.owner(), NOW);
+    }
+
+    @Test
+    void runExclusively_whenDisabled_runsWithoutTouchingTheDatabase() {
+        syncConfigProperties.getLock().setEnabled(false);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(syncLeaseLock.runExclusively("daily", Duration.ZERO, () -> ran.set(true)));
+
+        assertTrue(ran.get());
+        verify(syncLeaseRepositoryMock, never()).acquire(anyString(), anyString(), any(), any());
+    }
+}
@@ -0,0 +1,77 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterNotificationsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplateMock;
+    @Mock
+    private DataSource dataSourceMock;
+
+    private ClusterNotifications clusterNotifications;
+    private final List<String> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clusterNotifications = new ClusterNotifications(jdbcTemplateMock, dataSourceMock, true, Duration.ofSeconds(1));
+        clusterNotifications.subscribe("lnfoot_test", received::add);
+    }
+
+    @Test
+    void publish_prefixesThePayloadWithTheInstance() {
+        clusterNotifications.publish("lnfoot_test", "hello");
+
+        verify(jdbcTemplateMock).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq("lnfoot_test"), eq(clusterNotifications.instanceId() + "|hello"));
+    }
+
+    @Test
+    void dispatch_skipsTheMessagesOfThisInstance() {
+        clusterNotifications.dispatch("lnfoot_test", clusterNotifications.instanceId() + "|mine");
+        clusterNotifications.dispatch("lnfoot_test", "other-instance|theirs");
+        clusterNotifications.dispatch("lnfoot_other", "other-instance|elsewhere");
+
+        assertEquals(List.of("theirs"), received);
+    }
+
+    @Test
+    void publish_rejectsOversizedPayloadsAndInvalidChannels() {
+        String oversized = "x".repeat(ClusterNotifications.MAX_PAYLOAD_BYTES + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> clusterNotifications.publish("lnfoot_test", oversized));
+        assertThrows(IllegalArgumentException.class, () -> clusterNotifications.publish("drop table", "x"));
+        verify(jdbcTemplateMock, never()).query(anyString(), any(ResultSetExtractor.class), any(Object[].class));
+    }
+
+    @Test
+    void publish_whenDisabled_sendsNothing() {
+        ClusterNotifications disabled = new ClusterNotifications(jdbcTemplateMock, dataSourceMock, false,
+                Duration.ofSeconds(1));
+
+        disabled.publish("lnfoot_test", "hello");
+
+        verify(jdbcTemplateMock, never()).query(anyString(), any(ResultSetExtractor.class), any(Object[].class));
+    }
+}
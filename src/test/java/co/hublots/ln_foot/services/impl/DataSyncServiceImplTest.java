@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -17,29 +19,34 @@ import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
+import co.hublots.ln_foot.clients.FixtureFetch;
+import co.hublots.ln_foot.clients.RapidApiFootballClient;
+import co.hublots.ln_foot.clients.RapidApiRateLimiter;
 import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
+import co.hublots.ln_foot.dto.FixtureDeltaDto.Change;
 import co.hublots.ln_foot.dto.SyncStatusDto;
 import co.hublots.ln_foot.dto.SyncStatusDto.SyncStatus;
 import co.hublots.ln_foot.dto.external.ExternalFixtureDetailsDto;
@@ -47,7 +54,6 @@ import co.hublots.ln_foot.dto.external.ExternalLeagueInFixtureDto;
 import co.hublots.ln_foot.dto.external.ExternalTeamInFixtureDto;
 import co.hublots.ln_foot.dto.external.FixtureResponseItemDto;
 import co.hublots.ln_foot.dto.external.GoalsDto;
-import co.hublots.ln_foot.dto.external.RapidApiFootballResponseDto;
 import co.hublots.ln_foot.dto.external.ScoreDto;
 import co.hublots.ln_foot.dto.external.StatusDto;
 import co.hublots.ln_foot.dto.external.TeamsInFixtureDto;
@@ -56,8 +62,13 @@ import co.hublots.ln_foot.models.Fixture;
 import co.hublots.ln_foot.models.League;
 import co.hublots.ln_foot.models.Team;
 import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
 import co.hublots.ln_foot.repositories.LeagueRepository;
+import co.hublots.ln_foot.repositories.SyncBatchWriter;
 import co.hublots.ln_foot.repositories.TeamRepository;
+import co.hublots.ln_foot.services.FixtureDeltasEvent;
+import co.hublots.ln_foot.services.StandingsService;
+import co.hublots.ln_foot.services.TeamStatsService;
 
 @ExtendWith(MockitoExtension.class)
 class DataSyncServiceImplTest {
@@ -71,34 +82,47 @@ class DataSyncServiceImplTest {
     @Mock
     private SyncConfigProperties syncConfigPropertiesMock;
     @Mock
-    private RestTemplate restTemplateMock;
+    private RapidApiFootballClient rapidApiFootballClientMock;
+    @Mock
+    private SyncBatchWriter syncBatchWriterMock;
+    @Mock
+    private SyncCheckpointStore syncCheckpointStoreMock;
+    @Mock
+    private PlatformTransactionManager transactionManagerMock;
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+    @Mock
+    private StandingsService standingsServiceMock;
+    @Mock
+    private TeamStatsService teamStatsServiceMock;
 
     @Captor
-    ArgumentCaptor<League> leagueCaptor;
+    ArgumentCaptor<Collection<League>> leagueListCaptor;
     @Captor
-    ArgumentCaptor<Team> teamCaptor;
+    ArgumentCaptor<Collection<Team>> teamListCaptor;
     @Captor
-    ArgumentCaptor<List<Fixture>> fixtureListCaptor;
+    ArgumentCaptor<Collection<Fixture>> fixtureListCaptor;
 
+    private RapidApiRateLimiter rapidApiRateLimiter;
     private DataSyncServiceImpl dataSyncService;
 
-    private final String MOCK_BASE_URL = "http://mockapi.com";
-    private final String MOCK_API_KEY = "mock_key";
-    private final String MOCK_API_HOST = "mock_host";
-
     @BeforeEach
     void setUp() {
+        rapidApiRateLimiter = new RapidApiRateLimiter(new SyncConfigProperties());
         dataSyncService = new DataSyncServiceImpl(
                 leagueRepositoryMock,
                 teamRepositoryMock,
                 fixtureRepositoryMock,
+                new InterestedLeagueMatcher(syncConfigPropertiesMock, leagueRepositoryMock),
+                rapidApiFootballClientMock,
+                rapidApiRateLimiter,
+                syncBatchWriterMock,
+                syncCheckpointStoreMock,
                 syncConfigPropertiesMock,
-                restTemplateMock);
-
-        // Set private fields using ReflectionTestUtils
-        ReflectionTestUtils.setField(dataSyncService, "baseUrl", MOCK_BASE_URL);
-        ReflectionTestUtils.setField(dataSyncService, "externalApiSportsKey", MOCK_API_KEY);
-        ReflectionTestUtils.setField(dataSyncService, "externalApiRapidApiHost", MOCK_API_HOST);
+                new TransactionTemplate(transactionManagerMock),
+                eventPublisherMock,
+                standingsServiceMock,
+                teamStatsServiceMock);
     }
 
     private FixtureResponseItemDto createMockFixtureResponseItem(long leagueApiId, String leagueName,
@@ -142,6 +166,12 @@ class DataSyncServiceImplTest {
                 .build();
     }
 
+    // The client applies the filter while streaming; the stub applies it to the given items the same way
+    private void stubApiResponse(List<FixtureResponseItemDto> apiItems) {
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenAnswer(
+                invocation -> FixtureFetch.filtered(apiItems, invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
     @Test
     void syncMainFixtures_successfulSync_withFiltering_newEntities() {
         // Arrange
@@ -156,35 +186,7 @@ class DataSyncServiceImplTest {
         apiItems.add(createMockFixtureResponseItem(2L, "Other League", "Otherland", 20L, "Team C", 21L, "Team D", 200L,
                 "NS"));
 
-        RapidApiFootballResponseDto<FixtureResponseItemDto> mockApiResponse = new RapidApiFootballResponseDto<>();
-        mockApiResponse.setResponse(apiItems);
-        mockApiResponse.setResults(apiItems.size());
-
-        ResponseEntity<RapidApiFootballResponseDto<FixtureResponseItemDto>> responseEntity = new ResponseEntity<>(
-                mockApiResponse, org.springframework.http.HttpStatus.OK);
-
-        when(restTemplateMock.exchange(
-                any(java.net.URI.class),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers
-                        .<ParameterizedTypeReference<RapidApiFootballResponseDto<FixtureResponseItemDto>>>any()))
-                .thenReturn(responseEntity);
-
-        // Mock repository save operations
-        when(leagueRepositoryMock.save(any(League.class))).thenAnswer(inv -> {
-            League l = inv.getArgument(0);
-            if (l.getId() == null)
-                l.setId(UUID.randomUUID().toString());
-            return l;
-        });
-        when(teamRepositoryMock.save(any(Team.class))).thenAnswer(inv -> {
-            Team t = inv.getArgument(0);
-            if (t.getId() == null)
-                t.setId(UUID.randomUUID().toString());
-            return t;
-        });
-        when(fixtureRepositoryMock.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        stubApiResponse(apiItems);
 
         // Act
         SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
@@ -193,26 +195,208 @@ class DataSyncServiceImplTest {
         assertNotNull(statusDto);
         assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
         assertEquals(1, statusDto.getItemsProcessed()); // Only one fixture matched the filter
+        assertEquals(1, statusDto.getItemsCreated());
+        assertEquals(0, statusDto.getItemsUpdated());
 
-        verify(fixtureRepositoryMock).deleteAllInBatch(any());
-        verify(teamRepositoryMock).deleteAllInBatch(any());
-        verify(leagueRepositoryMock).deleteAllInBatch(any());
+        // Existing rows are never wiped anymore
+        verify(fixtureRepositoryMock, never()).deleteAllInBatch(any());
+        verify(teamRepositoryMock, never()).deleteAllInBatch(any());
+        verify(leagueRepositoryMock, never()).deleteAllInBatch(any());
 
-        verify(leagueRepositoryMock, times(1)).save(leagueCaptor.capture());
-        assertEquals("Super League", leagueCaptor.getValue().getLeagueName());
+        verify(syncBatchWriterMock, times(1)).saveLeagues(leagueListCaptor.capture());
+        assertEquals(1, leagueListCaptor.getValue().size());
+        assertEquals("Super League", leagueListCaptor.getValue().iterator().next().getLeagueName());
 
-        verify(teamRepositoryMock, times(2)).save(teamCaptor.capture());
-        List<Team> savedTeams = teamCaptor.getAllValues();
+        verify(syncBatchWriterMock, times(1)).saveTeams(teamListCaptor.capture());
+        Collection<Team> savedTeams = teamListCaptor.getValue();
+        assertEquals(2, savedTeams.size());
         assertTrue(savedTeams.stream().anyMatch(t -> t.getTeamName().equals("Team A")));
         assertTrue(savedTeams.stream().anyMatch(t -> t.getTeamName().equals("Team B")));
 
-        verify(fixtureRepositoryMock).saveAll(fixtureListCaptor.capture());
-        List<Fixture> savedFixtures = fixtureListCaptor.getValue();
+        verify(syncBatchWriterMock).saveFixtures(fixtureListCaptor.capture());
+        List<Fixture> savedFixtures = new ArrayList<>(fixtureListCaptor.getValue());
         assertEquals(1, savedFixtures.size());
         assertEquals(String.valueOf(100L), savedFixtures.get(0).getApiFixtureId());
         assertEquals("FT", savedFixtures.get(0).getStatus());
     }
 
+    @Test
+    void syncMainFixtures_existingUnchangedFixture_writesNothing() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        FixtureResponseItemDto item = createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A",
+                11L, "Team B", 100L, "FT");
+        stubApiResponse(List.of(item));
+
+        League league = League.builder().id("league-uuid").apiLeagueId("1").leagueName("Super League")
+                .country("Mockland").build();
+        Team home = Team.builder().id("home-uuid").apiTeamId("10").teamName("Team A").logoUrl("home.png").build();
+        Team away = Team.builder().id("away-uuid").apiTeamId("11").teamName("Team B").logoUrl("away.png").build();
+        Fixture existing = Fixture.builder().id("fixture-uuid").apiFixtureId("100").league(league).team1(home)
+                .team2(away).status("FT").matchDatetime(item.getFixture().getDate()).goalsTeam1(1).goalsTeam2(0)
+                .season(2023).build();
+
+        when(leagueRepositoryMock.findByApiLeagueIdIn(anyCollection())).thenReturn(List.of(league));
+        when(teamRepositoryMock.findByApiTeamIdIn(anyCollection())).thenReturn(List.of(home, away));
+        when(fixtureRepositoryMock.findForUpdateByApiFixtureIdIn(anyCollection())).thenReturn(List.of(existing));
+
+        SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(1, statusDto.getItemsProcessed());
+        assertEquals(0, statusDto.getItemsCreated());
+        assertEquals(0, statusDto.getItemsUpdated());
+        verify(syncBatchWriterMock).saveLeagues(leagueListCaptor.capture());
+        assertTrue(leagueListCaptor.getValue().isEmpty());
+        verify(syncBatchWriterMock).saveTeams(teamListCaptor.capture());
+        assertTrue(teamListCaptor.getValue().isEmpty());
+        verify(syncBatchWriterMock).saveFixtures(fixtureListCaptor.capture());
+        assertTrue(fixtureListCaptor.getValue().isEmpty());
+    }
+
+    @Test
+    void syncMainFixtures_existingFixtureWithNewScore_updatesInPlaceKeepingId() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        FixtureResponseItemDto item = createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A",
+                11L, "Team B", 100L, "FT");
+        stubApiResponse(List.of(item));
+
+        League league = League.builder().id("league-uuid").apiLeagueId("1").leagueName("Super League")
+                .country("Mockland").build();
+        Team home = Team.builder().id("home-uuid").apiTeamId("10").teamName("Team A").logoUrl("home.png").build();
+        Team away = Team.builder().id("away-uuid").apiTeamId("11").teamName("Team B").logoUrl("away.png").build();
+        Fixture existing = Fixture.builder().id("fixture-uuid").apiFixtureId("100").league(league).team1(home)
+                .team2(away).status("2H").matchDatetime(item.getFixture().getDate()).goalsTeam1(0).goalsTeam2(0)
+                .season(2023).build();
+
+        when(leagueRepositoryMock.findByApiLeagueIdIn(anyCollection())).thenReturn(List.of(league));
+        when(teamRepositoryMock.findByApiTeamIdIn(anyCollection())).thenReturn(List.of(home, away));
+        when(fixtureRepositoryMock.findForUpdateByApiFixtureIdIn(anyCollection())).thenReturn(List.of(existing));
+
+        SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(0, statusDto.getItemsCreated());
+        assertEquals(1, statusDto.getItemsUpdated());
+        verify(syncBatchWriterMock).saveLeagues(leagueListCaptor.capture());
+        assertTrue(leagueListCaptor.getValue().isEmpty());
+        verify(syncBatchWriterMock).saveTeams(teamListCaptor.capture());
+        assertTrue(teamListCaptor.getValue().isEmpty());
+        verify(syncBatchWriterMock).saveFixtures(fixtureListCaptor.capture());
+        Fixture saved = fixtureListCaptor.getValue().iterator().next();
+        assertEquals("fixture-uuid", saved.getId());
+        assertEquals("FT", saved.getStatus());
+        assertEquals(1, saved.getGoalsTeam1());
+    }
+
+    @Test
+    void syncMainFixtures_existingFixtureWithNewScore_publishesTheDelta() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        FixtureResponseItemDto item = createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A",
+                11L, "Team B", 100L, "FT");
+        stubApiResponse(List.of(item));
+
+        League league = League.builder().id("league-uuid").apiLeagueId("1").leagueName("Super League")
+                .country("Mockland").build();
+        Team home = Team.builder().id("home-uuid").apiTeamId("10").teamName("Team A").logoUrl("home.png").build();
+        Team away = Team.builder().id("away-uuid").apiTeamId("11").teamName("Team B").logoUrl("away.png").build();
+        Fixture existing = Fixture.builder().id("fixture-uuid").apiFixtureId("100").league(league).team1(home)
+                .team2(away).status("2H").matchDatetime(item.getFixture().getDate()).goalsTeam1(0).goalsTeam2(0)
+                .season(2023).build();
+
+        when(leagueRepositoryMock.findByApiLeagueIdIn(anyCollection())).thenReturn(List.of(league));
+        when(teamRepositoryMock.findByApiTeamIdIn(anyCollection())).thenReturn(List.of(home, away));
+        when(fixtureRepositoryMock.findForUpdateByApiFixtureIdIn(anyCollection())).thenReturn(List.of(existing));
+
+        dataSyncService.syncMainFixtures(new HashMap<>());
+
+        // Published after the FixturesChangedEvent of the same chunk
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisherMock, times(2)).publishEvent(eventCaptor.capture());
+        FixtureDeltaDto delta = ((FixtureDeltasEvent) eventCaptor.getAllValues().get(1)).deltas().get(0);
+        assertEquals("100", delta.getId());
+        assertEquals("1", delta.getLeagueId());
+        assertEquals(Set.of(Change.STATUS, Change.GOALS), delta.getChanges());
+        assertEquals("2H", delta.getPreviousStatusShortCode());
+        assertEquals("FT", delta.getStatusShortCode());
+        assertEquals(1, delta.getGoalsHome());
+        assertEquals(0, delta.getGoalsAway());
+    }
+
+    @Test
+    void syncMainFixtures_newFixtureCreatedByAnOverlappingSync_updatesItsRowWithoutCountingTheResultTwice() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        FixtureResponseItemDto item = createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A",
+                11L, "Team B", 100L, "FT");
+        stubApiResponse(List.of(item));
+
+        League league = League.builder().id("league-uuid").apiLeagueId("1").leagueName("Super League")
+                .country("Mockland").build();
+        Team home = Team.builder().id("home-uuid").apiTeamId("10").teamName("Team A").logoUrl("home.png").build();
+        Team away = Team.builder().id("away-uuid").apiTeamId("11").teamName("Team B").logoUrl("away.png").build();
+        // Inserted and counted by the other sync after this one read the table
+        Fixture concurrent = Fixture.builder().id("concurrent-uuid").apiFixtureId("100").league(league)
+                .team1(home).team2(away).status("FT").matchDatetime(item.getFixture().getDate()).goalsTeam1(1)
+                .goalsTeam2(0).season(2023).build();
+
+        when(leagueRepositoryMock.findByApiLeagueIdIn(anyCollection())).thenReturn(List.of(league));
+        when(teamRepositoryMock.findByApiTeamIdIn(anyCollection())).thenReturn(List.of(home, away));
+        when(fixtureRepositoryMock.findForUpdateByApiFixtureIdIn(anyCollection()))
+                .thenReturn(List.of(), List.of(concurrent));
+        // The insert conflicts and leaves the fixture without an id
+        when(syncBatchWriterMock.saveFixtures(anyCollection())).thenAnswer(invocation -> {
+            Collection<Fixture> fixtures = invocation.getArgument(0);
+            fixtures.stream().filter(fixture -> !"concurrent-uuid".equals(fixture.getId()))
+                    .forEach(fixture -> fixture.setId(null));
+            return (int) fixtures.stream().filter(fixture -> fixture.getId() != null).count();
+        });
+
+        dataSyncService.syncMainFixtures(new HashMap<>());
+
+        verify(syncBatchWriterMock, times(2)).saveFixtures(fixtureListCaptor.capture());
+        Fixture updated = fixtureListCaptor.getAllValues().get(1).iterator().next();
+        assertEquals("concurrent-uuid", updated.getId());
+        verify(standingsServiceMock).applyResults(List.of(), List.of());
+        verify(teamStatsServiceMock).applyResults(List.of(), List.of());
+    }
+
+    @Test
+    void syncMainFixtures_fixtureReachingFullTime_addsItsResultToStandingsAndTeamStats() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        FixtureResponseItemDto item = createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A",
+                11L, "Team B", 100L, "FT");
+        stubApiResponse(List.of(item));
+
+        League league = League.builder().id("league-uuid").apiLeagueId("1").leagueName("Super League")
+                .country("Mockland").build();
+        Team home = Team.builder().id("home-uuid").apiTeamId("10").teamName("Team A").logoUrl("home.png").build();
+        Team away = Team.builder().id("away-uuid").apiTeamId("11").teamName("Team B").logoUrl("away.png").build();
+        Fixture existing = Fixture.builder().id("fixture-uuid").apiFixtureId("100").league(league).team1(home)
+                .team2(away).status("2H").matchDatetime(item.getFixture().getDate()).goalsTeam1(0).goalsTeam2(0)
+                .season(2023).build();
+
+        when(leagueRepositoryMock.findByApiLeagueIdIn(anyCollection())).thenReturn(List.of(league));
+        when(teamRepositoryMock.findByApiTeamIdIn(anyCollection())).thenReturn(List.of(home, away));
+        when(fixtureRepositoryMock.findForUpdateByApiFixtureIdIn(anyCollection())).thenReturn(List.of(existing));
+
+        dataSyncService.syncMainFixtures(new HashMap<>());
+
+        List<FixtureResult> added = List.of(new FixtureResult("league-uuid", 2023, "home-uuid", "away-uuid", 1, 0,
+                item.getFixture().getDate()));
+        verify(standingsServiceMock).applyResults(List.of(), added);
+        verify(teamStatsServiceMock).applyResults(List.of(), added);
+    }
+
+    @Test
+    void syncMainFixtures_newFixture_publishesNoDelta() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        stubApiResponse(List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A",
+                11L, "Team B", 100L, "1H")));
+
+        dataSyncService.syncMainFixtures(new HashMap<>());
+
+        verify(eventPublisherMock, never()).publishEvent(any(FixtureDeltasEvent.class));
+    }
+
     @Test
     void syncMainFixtures_noInterestedLeagues_usesFallback() {
         when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
@@ -222,24 +406,7 @@ class DataSyncServiceImplTest {
             apiItems.add(createMockFixtureResponseItem((long) i, "League " + i, "Country " + i, (long) (i * 10),
                     "Team Home" + i, (long) (i * 10 + 1), "Team Away" + i, (long) (i * 100), "NS"));
         }
-        RapidApiFootballResponseDto<FixtureResponseItemDto> mockApiResponse = new RapidApiFootballResponseDto<>();
-        mockApiResponse.setResponse(apiItems);
-        mockApiResponse.setResults(apiItems.size());
-
-        ResponseEntity<RapidApiFootballResponseDto<FixtureResponseItemDto>> responseEntity = new ResponseEntity<>(
-                mockApiResponse, org.springframework.http.HttpStatus.OK);
-
-        when(restTemplateMock.exchange(
-                any(java.net.URI.class),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers
-                        .<ParameterizedTypeReference<RapidApiFootballResponseDto<FixtureResponseItemDto>>>any()))
-                .thenReturn(responseEntity);
-
-        when(leagueRepositoryMock.save(any(League.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(teamRepositoryMock.save(any(Team.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(fixtureRepositoryMock.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        stubApiResponse(apiItems);
 
         SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
 
@@ -248,20 +415,18 @@ class DataSyncServiceImplTest {
         assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
         assertEquals(10, statusDto.getItemsProcessed()); // Fallback processes 10
 
-        verify(fixtureRepositoryMock).saveAll(anyList());
-        // Each fixture has 1 league, 2 teams. computeIfAbsent ensures unique saves
-        verify(leagueRepositoryMock, atMost(10)).save(any(League.class));
-        verify(teamRepositoryMock, atMost(20)).save(any(Team.class));
+        verify(syncBatchWriterMock).saveFixtures(fixtureListCaptor.capture());
+        assertEquals(10, fixtureListCaptor.getValue().size());
+        // Each fixture has 1 league, 2 teams, all written in one batch per entity type
+        verify(syncBatchWriterMock).saveLeagues(leagueListCaptor.capture());
+        assertTrue(leagueListCaptor.getValue().size() <= 10);
+        verify(syncBatchWriterMock).saveTeams(teamListCaptor.capture());
+        assertTrue(teamListCaptor.getValue().size() <= 20);
     }
 
     @Test
     void syncMainFixtures_apiError_logsAndReturns() {
-        when(restTemplateMock.exchange(
-                any(java.net.URI.class),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers.<ParameterizedTypeReference<FixtureResponseItemDto>>any()))
-                .thenThrow(new RestClientException("API Error"));
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenThrow(new RestClientException("API Error"));
 
         SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
 
@@ -272,25 +437,12 @@ class DataSyncServiceImplTest {
 
         // Verify no DB interactions after API error
         verify(fixtureRepositoryMock, never()).deleteAllInBatch();
-        verify(leagueRepositoryMock, never()).save(any(League.class));
+        verify(syncBatchWriterMock, never()).saveLeagues(anyCollection());
     }
 
     @Test
     void syncMainFixtures_emptyApiResponseList_SavesNothingNew() {
-        RapidApiFootballResponseDto<FixtureResponseItemDto> mockApiResponse = new RapidApiFootballResponseDto<>();
-        mockApiResponse.setResponse(Collections.emptyList());
-        mockApiResponse.setResults(0);
-
-        ResponseEntity<RapidApiFootballResponseDto<FixtureResponseItemDto>> responseEntity = new ResponseEntity<>(
-                mockApiResponse, org.springframework.http.HttpStatus.OK);
-
-        when(restTemplateMock.exchange(
-                any(java.net.URI.class),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers
-                        .<ParameterizedTypeReference<RapidApiFootballResponseDto<FixtureResponseItemDto>>>any()))
-                .thenReturn(responseEntity);
+        stubApiResponse(Collections.emptyList());
 
         SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
 
@@ -299,74 +451,397 @@ class DataSyncServiceImplTest {
         assertEquals(SyncStatus.NO_DATA, statusDto.getStatus());
         assertEquals(0, statusDto.getItemsProcessed());
 
-        verify(leagueRepositoryMock, never()).save(any(League.class));
-        verify(teamRepositoryMock, never()).save(any(Team.class));
-        verify(fixtureRepositoryMock, never()).saveAll(anyList());
+        verify(syncBatchWriterMock, never()).saveLeagues(anyCollection());
+        verify(syncBatchWriterMock, never()).saveTeams(anyCollection());
+        verify(syncBatchWriterMock, never()).saveFixtures(anyCollection());
     }
 
     @Test
-    void syncMainFixtures_nullApiResponse_SavesNothingNew() {
-        RapidApiFootballResponseDto<FixtureResponseItemDto> mockApiResponse = new RapidApiFootballResponseDto<>();
-        mockApiResponse.setResponse(null);
+    void syncMainFixtures_whenLeagueSaveFails_returnsErrorStatusDtoAndLogsError() {
+        // Arrange
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
 
-        ResponseEntity<RapidApiFootballResponseDto<FixtureResponseItemDto>> responseEntity = new ResponseEntity<>(
-                mockApiResponse, org.springframework.http.HttpStatus.OK);
+        List<FixtureResponseItemDto> apiItems = new ArrayList<>();
+        apiItems.add(createMockFixtureResponseItem(1L, "League Save Fail", "CountrySF", 10L, "Team SFH", 11L,
+                "Team SFA", 100L, "NS"));
 
-        when(restTemplateMock.exchange(
-                any(java.net.URI.class),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers
-                        .<ParameterizedTypeReference<RapidApiFootballResponseDto<FixtureResponseItemDto>>>any()))
-                .thenReturn(responseEntity);
+        stubApiResponse(apiItems);
 
+        when(syncBatchWriterMock.saveLeagues(anyCollection())).thenThrow(new RuntimeException("League save error"));
+
+        // Act
         SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
 
         // Assert
         assertNotNull(statusDto);
+        assertEquals(SyncStatus.ERROR, statusDto.getStatus());
+        assertTrue(statusDto.getMessage().contains("Sync Error: League save error"));
+
+        verify(syncBatchWriterMock).saveLeagues(anyCollection());
+        verify(syncBatchWriterMock, never()).saveTeams(anyCollection());
+        verify(syncBatchWriterMock, never()).saveFixtures(anyCollection());
+    }
+
+    private SyncConfigProperties.InterestedLeague interestedLeague(String name, String country, String apiLeagueId) {
+        SyncConfigProperties.InterestedLeague interestedLeague = new SyncConfigProperties.InterestedLeague();
+        interestedLeague.setName(name);
+        interestedLeague.setCountry(country);
+        interestedLeague.setApiLeagueId(apiLeagueId);
+        return interestedLeague;
+    }
+
+    // Answers each per-league fetch with the future registered for its "league" parameter
+    private void stubLeagueFetches(Map<String, CompletableFuture<List<FixtureResponseItemDto>>> fetchesByLeague) {
+        when(rapidApiFootballClientMock.fetchFixturesAsync(anyMap())).thenAnswer(
+                invocation -> fetchesByLeague.get(invocation.<Map<String, String>>getArgument(0).get("league"))
+                        .thenApply(FixtureFetch::of));
+    }
+
+    @Test
+    void syncInterestedLeagues_fetchesEachLeagueAndSavesItsPages() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(List.of(
+                interestedLeague("Super League", "Mockland", "1"),
+                interestedLeague("Second League", "Mockland", null),
+                interestedLeague("Unknown League", "Nowhere", null)));
+        when(leagueRepositoryMock.findAll()).thenReturn(List.of(League.builder().id("l2").apiLeagueId("2")
+                .leagueName("Second League").country("Mockland").build()));
+        stubLeagueFetches(Map.of(
+                "1", CompletableFuture.completedFuture(List.of(createMockFixtureResponseItem(1L, "Super League",
+                        "Mockland", 10L, "Team A", 11L, "Team B", 100L, "NS"))),
+                "2", CompletableFuture.completedFuture(List.of(createMockFixtureResponseItem(2L, "Second League",
+                        "Mockland", 20L, "Team C", 21L, "Team D", 200L, "NS")))));
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", Map.of("from", "2024-08-01"));
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(2, statusDto.getItemsProcessed());
+        assertNotNull(statusDto.getFetchDurationMs());
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
+        verify(rapidApiFootballClientMock, times(2)).fetchFixturesAsync(paramsCaptor.capture());
+        assertTrue(paramsCaptor.getAllValues().stream()
+                .allMatch(params -> "2024".equals(params.get("season")) && "2024-08-01".equals(params.get("from"))));
+
+        verify(syncBatchWriterMock, times(2)).saveFixtures(fixtureListCaptor.capture());
+        assertTrue(fixtureListCaptor.getAllValues().stream().allMatch(fixtures -> fixtures.size() == 1));
+        assertEquals(2, statusDto.getPages().size());
+    }
+
+    @Test
+    void syncInterestedLeagues_oneLeagueFails_savesTheOthersAndReportsIt() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(List.of(
+                interestedLeague("Super League", "Mockland", "1"),
+                interestedLeague("Second League", "Mockland", "2")));
+        stubLeagueFetches(Map.of(
+                "1", CompletableFuture.completedFuture(List.of(createMockFixtureResponseItem(1L, "Super League",
+                        "Mockland", 10L, "Team A", 11L, "Team B", 100L, "NS"))),
+                "2", CompletableFuture.failedFuture(new RestClientException("Timeout"))));
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", new HashMap<>());
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(1, statusDto.getItemsProcessed());
+        assertEquals(List.of("2"), statusDto.getFailedLeagues());
+        verify(syncBatchWriterMock).saveFixtures(anyCollection());
+    }
+
+    @Test
+    void syncInterestedLeagues_allLeaguesFail_returnsErrorWithoutWriting() {
+        when(syncConfigPropertiesMock.getInterestedLeagues())
+                .thenReturn(List.of(interestedLeague("Super League", "Mockland", "1")));
+        when(rapidApiFootballClientMock.fetchFixturesAsync(anyMap()))
+                .thenReturn(CompletableFuture.failedFuture(new RestClientException("Timeout")));
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", new HashMap<>());
+
+        assertEquals(SyncStatus.ERROR, statusDto.getStatus());
+        assertEquals(List.of("1"), statusDto.getFailedLeagues());
+        verify(syncBatchWriterMock, never()).saveFixtures(anyCollection());
+    }
+
+    @Test
+    void syncInterestedLeagues_dailyBudgetTooSmall_skipsLeaguesItCannotPayFor() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(List.of(
+                interestedLeague("Super League", "Mockland", "1"),
+                interestedLeague("Second League", "Mockland", "2")));
+        HttpHeaders quotaHeaders = new HttpHeaders();
+        quotaHeaders.set("x-ratelimit-requests-remaining", "1");
+        rapidApiRateLimiter.updateFromHeaders(quotaHeaders);
+        stubLeagueFetches(Map.of(
+                "1", CompletableFuture.completedFuture(List.of(createMockFixtureResponseItem(1L, "Super League",
+                        "Mockland", 10L, "Team A", 11L, "Team B", 100L, "NS")))));
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", new HashMap<>());
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(1, statusDto.getItemsProcessed());
+        assertEquals(List.of("2"), statusDto.getFailedLeagues());
+        verify(rapidApiFootballClientMock, times(1)).fetchFixturesAsync(anyMap());
+    }
+
+    @Test
+    void syncInterestedLeagues_dailyBudgetExhausted_returnsNoDataWithoutApiCall() {
+        when(syncConfigPropertiesMock.getInterestedLeagues())
+                .thenReturn(List.of(interestedLeague("Super League", "Mockland", "1")));
+        HttpHeaders quotaHeaders = new HttpHeaders();
+        quotaHeaders.set("x-ratelimit-requests-remaining", "0");
+        rapidApiRateLimiter.updateFromHeaders(quotaHeaders);
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", new HashMap<>());
+
         assertEquals(SyncStatus.NO_DATA, statusDto.getStatus());
-        assertEquals(0, statusDto.getItemsProcessed());
+        assertEquals(0, statusDto.getQuotaRemaining());
+        verify(rapidApiFootballClientMock, never()).fetchFixturesAsync(anyMap());
+    }
 
-        verify(fixtureRepositoryMock, never()).saveAll(anyList());
+    @Test
+    void syncMainFixtures_payloadNotModified_skipsAllDatabaseWork() {
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt()))
+                .thenReturn(FixtureFetch.notModified("key"));
+
+        SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
+
+        assertEquals(SyncStatus.NOT_MODIFIED, statusDto.getStatus());
+        verify(fixtureRepositoryMock, never()).findByApiFixtureIdIn(anyCollection());
+        verify(syncBatchWriterMock, never()).saveFixtures(anyCollection());
+        verify(rapidApiFootballClientMock, never()).markProcessed(any());
     }
 
     @Test
-    void syncMainFixtures_whenLeagueSaveFails_returnsErrorStatusDtoAndLogsError() {
-        // Arrange
+    void syncMainFixtures_afterSuccessfulSave_marksFetchAsProcessed() {
         when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        FixtureFetch fetch = FixtureFetch.of(List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland",
+                10L, "Team A", 11L, "Team B", 100L, "NS")));
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenReturn(fetch);
 
-        List<FixtureResponseItemDto> apiItems = new ArrayList<>();
-        apiItems.add(createMockFixtureResponseItem(1L, "League Save Fail", "CountrySF", 10L, "Team SFH", 11L,
-                "Team SFA", 100L, "NS"));
+        dataSyncService.syncMainFixtures(new HashMap<>());
 
-        RapidApiFootballResponseDto<FixtureResponseItemDto> mockApiResponse = new RapidApiFootballResponseDto<>();
-        mockApiResponse.setResponse(apiItems);
-        mockApiResponse.setResults(1);
+        verify(rapidApiFootballClientMock).markProcessed(fetch);
+    }
 
-        ResponseEntity<RapidApiFootballResponseDto<FixtureResponseItemDto>> responseEntity = new ResponseEntity<>(
-                mockApiResponse, org.springframework.http.HttpStatus.OK);
+    @Test
+    void syncMainFixtures_whenSaveFails_doesNotMarkFetchAsProcessed() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        stubApiResponse(List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A", 11L,
+                "Team B", 100L, "NS")));
+        when(syncBatchWriterMock.saveLeagues(anyCollection())).thenThrow(new RuntimeException("DB down"));
 
-        when(restTemplateMock.exchange(
-                any(java.net.URI.class),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers
-                        .<ParameterizedTypeReference<RapidApiFootballResponseDto<FixtureResponseItemDto>>>any()))
-                .thenReturn(responseEntity);
+        dataSyncService.syncMainFixtures(new HashMap<>());
 
-        when(leagueRepositoryMock.save(any(League.class))).thenThrow(new RuntimeException("League save error"));
+        verify(rapidApiFootballClientMock, never()).markProcessed(any());
+    }
+
+    @Test
+    void syncInterestedLeagues_everyLeagueUnchanged_returnsNotModified() {
+        when(syncConfigPropertiesMock.getInterestedLeagues())
+                .thenReturn(List.of(interestedLeague("Super League", "Mockland", "1")));
+        when(rapidApiFootballClientMock.fetchFixturesAsync(anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(FixtureFetch.notModified("key")));
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", new HashMap<>());
+
+        assertEquals(SyncStatus.NOT_MODIFIED, statusDto.getStatus());
+        verify(syncBatchWriterMock, never()).saveFixtures(anyCollection());
+    }
+
+    @Test
+    void syncMainFixtures_liveAllWithEveryInterestedLeagueResolved_requestsOnlyThoseLeagues() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(List.of(
+                interestedLeague("Super League", "Mockland", "61"),
+                interestedLeague("Second League", "Mockland", "39")));
+        stubApiResponse(Collections.emptyList());
+
+        dataSyncService.syncMainFixtures(Map.of("live", "all"));
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
+        verify(rapidApiFootballClientMock).fetchFixtures(paramsCaptor.capture(), any(), anyInt());
+        assertEquals("39-61", paramsCaptor.getValue().get("live"));
+    }
+
+    @Test
+    void syncMainFixtures_liveAllWithUnresolvedInterestedLeague_keepsLiveAll() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(List.of(
+                interestedLeague("Super League", "Mockland", "61"),
+                interestedLeague("Second League", "Mockland", null)));
+        stubApiResponse(Collections.emptyList());
+
+        dataSyncService.syncMainFixtures(Map.of("live", "all"));
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
+        verify(rapidApiFootballClientMock).fetchFixtures(paramsCaptor.capture(), any(), anyInt());
+        assertEquals("all", paramsCaptor.getValue().get("live"));
+    }
+
+    @Test
+    void syncInterestedLeagues_noResolvableLeague_returnsNoDataWithoutApiCall() {
+        when(syncConfigPropertiesMock.getInterestedLeagues())
+                .thenReturn(List.of(interestedLeague("Unknown League", "Nowhere", null)));
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", new HashMap<>());
+
+        assertEquals(SyncStatus.NO_DATA, statusDto.getStatus());
+        verify(rapidApiFootballClientMock, never()).fetchFixturesAsync(anyMap());
+    }
+
+    // Answers each later-page fetch with the future registered for its "page" parameter
+    private void stubLaterPages(int totalPages, Map<String, CompletableFuture<List<FixtureResponseItemDto>>> pages) {
+        when(rapidApiFootballClientMock.fetchFixturesAsync(anyMap(), any(), anyInt())).thenAnswer(invocation -> {
+            String page = invocation.<Map<String, String>>getArgument(0).get("page");
+            return pages.get(page).thenApply(items -> FixtureFetch.of(items, Integer.parseInt(page), totalPages));
+        });
+    }
+
+    @Test
+    void syncMainFixtures_multiplePages_fetchesRemainingPagesAndSavesEachInOrder() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenReturn(FixtureFetch.of(
+                List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A", 11L, "Team B",
+                        100L, "NS")),
+                1, 3));
+        stubLaterPages(3, Map.of(
+                "2", CompletableFuture.completedFuture(List.of(createMockFixtureResponseItem(1L, "Super League",
+                        "Mockland", 12L, "Team C", 13L, "Team D", 101L, "NS"))),
+                "3", CompletableFuture.completedFuture(List.of(createMockFixtureResponseItem(1L, "Super League",
+                        "Mockland", 14L, "Team E", 15L, "Team F", 102L, "NS")))));
+
+        SyncStatusDto statusDto = dataSyncService.syncMainFixtures(Map.of("league", "1", "season", "2024"));
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(3, statusDto.getItemsProcessed());
+        assertEquals(3, statusDto.getItemsCreated());
+        assertEquals(List.of(1, 2, 3), statusDto.getPages().stream().map(SyncStatusDto.PageProgress::getPage).toList());
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
+        verify(rapidApiFootballClientMock, times(2)).fetchFixturesAsync(paramsCaptor.capture(), any(), anyInt());
+        assertTrue(paramsCaptor.getAllValues().stream().allMatch(params -> "1".equals(params.get("league"))));
+        verify(syncBatchWriterMock, times(3)).saveFixtures(anyCollection());
+    }
+
+    @Test
+    void syncMainFixtures_multiplePages_keepsAtMostFetchParallelismPagesInFlight() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        when(syncConfigPropertiesMock.getFetchParallelism()).thenReturn(2);
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenReturn(FixtureFetch.of(
+                List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A", 11L, "Team B",
+                        100L, "NS")),
+                1, 5));
+        Map<String, CompletableFuture<List<FixtureResponseItemDto>>> laterPages = new HashMap<>();
+        for (int page = 2; page <= 5; page++) {
+            laterPages.put(String.valueOf(page), CompletableFuture.completedFuture(List.of(
+                    createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L + 2 * page, "Home " + page,
+                            11L + 2 * page, "Away " + page, 100L + page, "NS"))));
+        }
+        stubLaterPages(5, laterPages);
+
+        SyncStatusDto statusDto = dataSyncService.syncMainFixtures(Map.of("league", "1", "season", "2024"));
+
+        assertEquals(5, statusDto.getItemsProcessed());
+        // Pages 2 and 3 go out together, then each save makes room for the next request
+        InOrder inOrder = inOrder(rapidApiFootballClientMock, syncBatchWriterMock);
+        inOrder.verify(rapidApiFootballClientMock).fetchFixturesAsync(argThat(params -> "2".equals(params.get("page"))),
+                any(), anyInt());
+        inOrder.verify(rapidApiFootballClientMock).fetchFixturesAsync(argThat(params -> "3".equals(params.get("page"))),
+                any(), anyInt());
+        inOrder.verify(syncBatchWriterMock).saveFixtures(anyCollection());
+        inOrder.verify(rapidApiFootballClientMock).fetchFixturesAsync(argThat(params -> "4".equals(params.get("page"))),
+                any(), anyInt());
+        inOrder.verify(syncBatchWriterMock).saveFixtures(anyCollection());
+        inOrder.verify(rapidApiFootballClientMock).fetchFixturesAsync(argThat(params -> "5".equals(params.get("page"))),
+                any(), anyInt());
+    }
+
+    @Test
+    void syncMainFixtures_laterPageFails_keepsTheOtherPagesAndReportsIt() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenReturn(FixtureFetch.of(
+                List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A", 11L, "Team B",
+                        100L, "NS")),
+                1, 2));
+        stubLaterPages(2, Map.of("2", CompletableFuture.failedFuture(new RestClientException("Timeout"))));
 
-        // Act
         SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
 
-        // Assert
-        assertNotNull(statusDto);
-        assertEquals(SyncStatus.ERROR, statusDto.getStatus());
-        assertTrue(statusDto.getMessage().contains("Sync Error: League save error"));
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(1, statusDto.getItemsProcessed());
+        assertTrue(statusDto.getMessage().contains("1 page(s) failed"));
+        assertTrue(statusDto.getPages().get(1).isFailed());
+        verify(syncBatchWriterMock, times(1)).saveFixtures(anyCollection());
+    }
+
+    @Test
+    void syncInterestedLeagues_laterPageFails_reportsTheLeague() {
+        when(syncConfigPropertiesMock.getInterestedLeagues())
+                .thenReturn(List.of(interestedLeague("Super League", "Mockland", "1")));
+        when(rapidApiFootballClientMock.fetchFixturesAsync(anyMap())).thenReturn(CompletableFuture.completedFuture(
+                FixtureFetch.of(List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A",
+                        11L, "Team B", 100L, "NS")), 1, 2)));
+        stubLaterPages(2, Map.of("2", CompletableFuture.failedFuture(new RestClientException("Timeout"))));
+
+        SyncStatusDto statusDto = dataSyncService.syncInterestedLeagues("2024", new HashMap<>());
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(1, statusDto.getItemsProcessed());
+        assertEquals(List.of("1"), statusDto.getFailedLeagues());
+    }
+
+    @Test
+    void syncMainFixtures_pageLargerThanChunkSize_commitsEachChunkSeparately() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        when(syncConfigPropertiesMock.getChunkSize()).thenReturn(1);
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenReturn(FixtureFetch.of(List.of(
+                createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A", 11L, "Team B", 100L, "NS"),
+                createMockFixtureResponseItem(1L, "Super League", "Mockland", 12L, "Team C", 13L, "Team D", 101L,
+                        "NS"))));
 
-        verify(leagueRepositoryMock).save(any(League.class));
-        verify(teamRepositoryMock, never()).save(any(Team.class));
-        verify(fixtureRepositoryMock, never()).saveAll(anyList());
+        SyncStatusDto statusDto = dataSyncService.syncMainFixtures(new HashMap<>());
+
+        assertEquals(SyncStatus.SUCCESS, statusDto.getStatus());
+        assertEquals(2, statusDto.getItemsProcessed());
+        assertEquals(2, statusDto.getItemsCreated());
+        verify(syncBatchWriterMock, times(2)).saveFixtures(anyCollection());
+        verify(transactionManagerMock, times(2)).commit(any());
+        // Single-page sync: no checkpoint
+        verify(syncCheckpointStoreMock, never()).pageCommitted(anyMap(), anyInt(), anyInt());
+    }
+
+    @Test
+    void syncMainFixtures_laterPageFails_checkpointsTheLastCommittedPage() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenReturn(FixtureFetch.of(
+                List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A", 11L, "Team B",
+                        100L, "NS")),
+                1, 3));
+        stubLaterPages(3, Map.of(
+                "2", CompletableFuture.failedFuture(new RestClientException("Timeout")),
+                "3", CompletableFuture.completedFuture(List.of(createMockFixtureResponseItem(1L, "Super League",
+                        "Mockland", 14L, "Team E", 15L, "Team F", 102L, "NS")))));
+
+        dataSyncService.syncMainFixtures(Map.of("league", "1", "season", "2024"));
+
+        verify(syncCheckpointStoreMock).pageCommitted(Map.of("league", "1", "season", "2024"), 1, 3);
+        verify(syncCheckpointStoreMock, never()).pageCommitted(anyMap(), eq(3),
+                anyInt());
+        verify(syncCheckpointStoreMock, never()).completed(anyMap());
+        // Page 3 is still saved, it is only left out of the checkpoint
+        verify(syncBatchWriterMock, times(2)).saveFixtures(anyCollection());
+    }
+
+    @Test
+    void syncMainFixtures_withCheckpoint_resumesAfterTheLastCommittedPage() {
+        when(syncConfigPropertiesMock.getInterestedLeagues()).thenReturn(Collections.emptyList());
+        when(syncCheckpointStoreMock.resumePage(anyMap())).thenReturn(3);
+        when(rapidApiFootballClientMock.fetchFixtures(anyMap(), any(), anyInt())).thenReturn(FixtureFetch.of(
+                List.of(createMockFixtureResponseItem(1L, "Super League", "Mockland", 10L, "Team A", 11L, "Team B",
+                        100L, "NS")),
+                3, 3));
+
+        dataSyncService.syncMainFixtures(Map.of("league", "1", "season", "2024"));
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.captor();
+        verify(rapidApiFootballClientMock).fetchFixtures(paramsCaptor.capture(), any(), anyInt());
+        assertEquals("3", paramsCaptor.getValue().get("page"));
+        verify(rapidApiFootballClientMock, never()).fetchFixturesAsync(anyMap(), any(), anyInt());
+        verify(syncCheckpointStoreMock).completed(Map.of("league", "1", "season", "2024"));
     }
 
     @Test
@@ -0,0 +1,88 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
+import co.hublots.ln_foot.services.FixtureDeltasEvent;
+
+@ExtendWith(MockitoExtension.class)
+class FixtureDeltasRelayTest {
+
+    @Mock
+    private ClusterNotifications clusterNotificationsMock;
+    @Mock
+    private LiveScoreBroadcaster liveScoreBroadcasterMock;
+
+    private FixtureDeltasRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new FixtureDeltasRelay(clusterNotificationsMock, liveScoreBroadcasterMock,
+                Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private static FixtureDeltaDto delta(String apiFixtureId) {
+        return FixtureDeltaDto.builder().id(apiFixtureId).leagueId("39")
+                .changes(Set.of(FixtureDeltaDto.Change.GOALS)).statusShortCode("1H").goalsHome(1).goalsAway(0)
+                .detectedAt(OffsetDateTime.of(2025, 5, 10, 15, 12, 0, 0, ZoneOffset.UTC)).build();
+    }
+
+    @Test
+    void onFixtureDeltas_publishesDeltasThatOtherInstancesBroadcast() {
+        relay.onFixtureDeltas(new FixtureDeltasEvent(List.of(delta("100"), delta("200"))));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(clusterNotificationsMock).publish(eq(FixtureDeltasRelay.CHANNEL), payload.capture());
+        relay.broadcast(payload.getValue());
+        ArgumentCaptor<FixtureDeltasEvent> event = ArgumentCaptor.forClass(FixtureDeltasEvent.class);
+        verify(liveScoreBroadcasterMock).onFixtureDeltas(event.capture());
+        assertEquals(List.of(delta("100"), delta("200")), event.getValue().deltas());
+    }
+
+    @Test
+    void encode_splitsDeltasAcrossNotificationsWithinThePayloadLimit() {
+        List<FixtureDeltaDto> deltas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            deltas.add(delta("fixture-" + i));
+        }
+
+        List<String> payloads = relay.encode(deltas);
+
+        assertTrue(payloads.size() > 1);
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= ClusterNotifications.MAX_PAYLOAD_BYTES);
+            relay.broadcast(payload);
+        }
+        ArgumentCaptor<FixtureDeltasEvent> events = ArgumentCaptor.forClass(FixtureDeltasEvent.class);
+        verify(liveScoreBroadcasterMock, times(payloads.size())).onFixtureDeltas(events.capture());
+        assertEquals(deltas, events.getAllValues().stream().flatMap(event -> event.deltas().stream()).toList());
+    }
+
+    @Test
+    void broadcast_unreadablePayload_isDropped() {
+        relay.broadcast("[{not json");
+
+        verify(liveScoreBroadcasterMock, never()).onFixtureDeltas(any());
+    }
+}
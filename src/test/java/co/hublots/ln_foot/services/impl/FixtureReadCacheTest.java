@@ -0,0 +1,160 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.hublots.ln_foot.dto.CacheStatsDto;
+import co.hublots.ln_foot.dto.FixtureDto;
+import co.hublots.ln_foot.repositories.ResourceVersion;
+import co.hublots.ln_foot.services.FixturesChangedEvent;
+import co.hublots.ln_foot.services.JsonPayload;
+
+@ExtendWith(MockitoExtension.class)
+class FixtureReadCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 10);
+
+    @Mock
+    private PlatformTransactionManager transactionManagerMock;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private FixtureReadCache fixtureReadCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        fixtureReadCache = new FixtureReadCache(transactionManagerMock, objectMapper, 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<List<FixtureDto>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(FixtureDto.builder().id("fixture-" + loads.get()).build());
+        };
+    }
+
+    private static FixturesChangedEvent changed(LocalDate date, String leagueApiId) {
+        return new FixturesChangedEvent(Set.of(date), Set.of(leagueApiId), Set.of("100"));
+    }
+
+    @Test
+    void getFixturesByDate_secondCall_isServedFromCache() {
+        fixtureReadCache.getFixturesByDate(DAY, "39", loader());
+        List<FixtureDto> second = fixtureReadCache.getFixturesByDate(DAY, "39", loader());
+
+        assertEquals(1, loads.get());
+        assertEquals("fixture-1", second.get(0).getId());
+        CacheStatsDto stats = fixtureReadCache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void onFixturesChanged_evictsListsOfTheChangedDayAndLeague() {
+        fixtureReadCache.getFixturesByDate(DAY, "39", loader());
+        fixtureReadCache.getFixturesByDate(DAY, null, loader());
+        fixtureReadCache.getFixturesByDate(DAY, "61", loader());
+        fixtureReadCache.getFixturesByDate(DAY.plusDays(3), "39", loader());
+
+        fixtureReadCache.onFixturesChanged(changed(DAY, "39"));
+
+        fixtureReadCache.getFixturesByDate(DAY, "39", loader());
+        fixtureReadCache.getFixturesByDate(DAY, null, loader());
+        fixtureReadCache.getFixturesByDate(DAY, "61", loader());
+        fixtureReadCache.getFixturesByDate(DAY.plusDays(3), "39", loader());
+        assertEquals(6, loads.get());
+        assertEquals(2, fixtureReadCache.getStats().getInvalidationCount());
+    }
+
+    @Test
+    void getFixturesByDateJson_serializesAndGzipsTheCachedListOnce() throws IOException {
+        List<FixtureDto> list = fixtureReadCache.getFixturesByDate(DAY, "39", loader());
+        JsonPayload first = fixtureReadCache.getFixturesByDateJson(DAY, "39", loader());
+        JsonPayload second = fixtureReadCache.getFixturesByDateJson(DAY, "39", loader());
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(list), first.json());
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(first.gzipped()))) {
+            assertArrayEquals(first.json(), gunzip.readAllBytes());
+        }
+        JsonNode fixtures = objectMapper.readTree(first.json());
+        assertEquals("fixture-1", fixtures.get(0).get("id").asText());
+    }
+
+    @Test
+    void getFixturesByDateJson_carriesTheVersionOfTheCachedList() {
+        OffsetDateTime updatedAt = OffsetDateTime.of(2025, 5, 9, 18, 30, 0, 0, ZoneOffset.ofHours(2));
+        Supplier<List<FixtureDto>> loader = () -> List.of(
+                FixtureDto.builder().id("a").updatedAt(updatedAt).build(),
+                FixtureDto.builder().id("b").updatedAt(updatedAt.minusHours(1)).build());
+
+        JsonPayload payload = fixtureReadCache.getFixturesByDateJson(DAY, null, loader);
+
+        assertEquals(new ResourceVersion(2L, LocalDateTime.of(2025, 5, 9, 16, 30)), payload.version());
+    }
+
+    @Test
+    void onFixturesChanged_regeneratesTheJsonOfTheChangedDay() throws IOException {
+        JsonPayload before = fixtureReadCache.getFixturesByDateJson(DAY, "39", loader());
+
+        fixtureReadCache.onFixturesChanged(changed(DAY, "39"));
+        JsonPayload after = fixtureReadCache.getFixturesByDateJson(DAY, "39", loader());
+
+        assertNotSame(before, after);
+        assertEquals("fixture-2", objectMapper.readTree(after.json()).get(0).get("id").asText());
+    }
+
+    @Test
+    void onFixturesChanged_evictsEveryUpcomingList() {
+        fixtureReadCache.getUpcomingFixtures(7, null, loader());
+        fixtureReadCache.getUpcomingFixtures(7, "61", loader());
+
+        fixtureReadCache.onFixturesChanged(changed(DAY, "39"));
+
+        fixtureReadCache.getUpcomingFixtures(7, null, loader());
+        fixtureReadCache.getUpcomingFixtures(7, "61", loader());
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void get_whenFixturesChangeDuringLoad_doesNotCacheTheLoadedList() {
+        Supplier<List<FixtureDto>> racingLoader = () -> {
+            fixtureReadCache.onFixturesChanged(changed(DAY, "39"));
+            return loader().get();
+        };
+
+        fixtureReadCache.getFixturesByDate(DAY, "39", racingLoader);
+        fixtureReadCache.getFixturesByDate(DAY, "39", loader());
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,190 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import co.hublots.ln_foot.dto.CursorPageDto;
+import co.hublots.ln_foot.dto.FixtureDto;
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.models.Team;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.LeagueRepository;
+import co.hublots.ln_foot.repositories.TeamRepository;
+import co.hublots.ln_foot.services.FixtureService;
+import co.hublots.ln_foot.support.StatementCounter;
+import co.hublots.ln_foot.support.StatementCounter.Counted;
+
+/**
+ * Runs the fixture list endpoints against the database and checks that the
+ * number of statements does not grow with the number of fixtures returned.
+ */
+@SpringBootTest
+@Import(StatementCounter.Config.class)
+class FixtureServiceImplQueryCountTest {
+
+    @Autowired
+    private FixtureService fixtureService;
+    @Autowired
+    private FixtureRepository fixtureRepository;
+    @Autowired
+    private LeagueRepository leagueRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private League league;
+    private int teamSequence;
+
+    @BeforeEach
+    void setUp() {
+        league = leagueRepository.save(League.builder().leagueName("Query Count League").apiLeagueId("qc-league")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtureRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        leagueRepository.deleteAllInBatch();
+    }
+
+    // Every fixture gets its own teams, so a lazy load per row could not be served from the persistence context
+    private void saveFixtures(int count, OffsetDateTime kickoff) {
+        for (int i = 0; i < count; i++) {
+            Team home = teamRepository.save(Team.builder().teamName("Home " + teamSequence)
+                    .apiTeamId("qc-home-" + teamSequence).build());
+            Team away = teamRepository.save(Team.builder().teamName("Away " + teamSequence)
+                    .apiTeamId("qc-away-" + teamSequence).build());
+            fixtureRepository.save(Fixture.builder().apiFixtureId("qc-fixture-" + teamSequence).league(league)
+                    .team1(home).team2(away).matchDatetime(kickoff.plusMinutes(i)).status("NS").build());
+            teamSequence++;
+        }
+    }
+
+    @Test
+    void listFixtures_statementCountDoesNotDependOnPageSize() {
+        saveFixtures(8, OffsetDateTime.of(2025, 3, 1, 15, 0, 0, 0, ZoneOffset.UTC));
+        Sort byKickoff = Sort.by("matchDatetime");
+
+        Counted<Page<FixtureDto>> small = statementCounter
+                .count(() -> fixtureService.listFixtures(null, PageRequest.of(0, 2, byKickoff)));
+        Counted<Page<FixtureDto>> large = statementCounter
+                .count(() -> fixtureService.listFixtures(null, PageRequest.of(0, 8, byKickoff)));
+
+        assertEquals(2, small.result().getNumberOfElements());
+        assertEquals(8, large.result().getNumberOfElements());
+        assertEquals("Home 7", large.result().getContent().get(7).getHomeTeam().getName());
+        assertEquals(2, small.statements(), "page select and count");
+        assertEquals(small.statements(), large.statements());
+    }
+
+    @Test
+    void listFixtures_byLeague_statementCountDoesNotDependOnPageSize() {
+        saveFixtures(6, OffsetDateTime.of(2025, 3, 2, 15, 0, 0, 0, ZoneOffset.UTC));
+
+        Counted<Page<FixtureDto>> small = statementCounter
+                .count(() -> fixtureService.listFixtures("qc-league", PageRequest.of(0, 2)));
+        Counted<Page<FixtureDto>> large = statementCounter
+                .count(() -> fixtureService.listFixtures("qc-league", PageRequest.of(0, 6)));
+
+        assertEquals(6, large.result().getNumberOfElements());
+        assertEquals(small.statements(), large.statements());
+    }
+
+    @Test
+    void scrollFixtures_walksEveryFixtureInKickoffOrderWithOneSelectPerPage() {
+        saveFixtures(7, OffsetDateTime.of(2025, 2, 1, 15, 0, 0, 0, ZoneOffset.UTC));
+        // Same kickoff as the first one: the id breaks the tie
+        saveFixtures(1, OffsetDateTime.of(2025, 2, 1, 15, 0, 0, 0, ZoneOffset.UTC));
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String pageCursor = cursor;
+            Counted<CursorPageDto<FixtureDto>> page = statementCounter
+                    .count(() -> fixtureService.scrollFixtures("qc-league", pageCursor, 3));
+            assertEquals(1, page.statements(), "no count query, whatever the depth");
+            page.result().getContent().forEach(fixture -> seen.add(fixture.getId()));
+            cursor = page.result().getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(8, seen.size());
+        assertEquals(8, new HashSet<>(seen).size());
+        assertEquals("qc-fixture-6", seen.get(7));
+    }
+
+    @Test
+    void getFixturesByDate_issuesOneSelectWhateverTheNumberOfFixtures() {
+        saveFixtures(1, OffsetDateTime.of(2025, 3, 3, 15, 0, 0, 0, ZoneOffset.UTC));
+        saveFixtures(6, OffsetDateTime.of(2025, 3, 4, 15, 0, 0, 0, ZoneOffset.UTC));
+
+        Counted<List<FixtureDto>> oneFixture = statementCounter
+                .count(() -> fixtureService.getFixturesByDate(LocalDate.of(2025, 3, 3), null));
+        Counted<List<FixtureDto>> sixFixtures = statementCounter
+                .count(() -> fixtureService.getFixturesByDate(LocalDate.of(2025, 3, 4), null));
+
+        assertEquals(1, oneFixture.result().size());
+        assertEquals(6, sixFixtures.result().size());
+        assertEquals("qc-league", sixFixtures.result().get(5).getLeagueId());
+        assertEquals(1, oneFixture.statements());
+        assertEquals(1, sixFixtures.statements());
+    }
+
+    @Test
+    void getFixturesByDate_withLeague_addsOnlyTheLeagueLookup() {
+        saveFixtures(5, OffsetDateTime.of(2025, 3, 5, 15, 0, 0, 0, ZoneOffset.UTC));
+
+        Counted<List<FixtureDto>> counted = statementCounter
+                .count(() -> fixtureService.getFixturesByDate(LocalDate.of(2025, 3, 5), "qc-league"));
+
+        assertEquals(5, counted.result().size());
+        assertEquals(2, counted.statements());
+    }
+
+    @Test
+    void findFixtureById_issuesOneSelect() {
+        saveFixtures(1, OffsetDateTime.of(2025, 3, 6, 15, 0, 0, 0, ZoneOffset.UTC));
+
+        Counted<Optional<FixtureDto>> counted = statementCounter
+                .count(() -> fixtureService.findFixtureById("qc-fixture-0"));
+
+        assertEquals("Away 0", counted.result().orElseThrow().getAwayTeam().getName());
+        assertEquals(1, counted.statements());
+    }
+
+    @Test
+    void getUpcomingFixtures_statementCountDoesNotDependOnWindow() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        saveFixtures(1, now.plusHours(6));
+        saveFixtures(5, now.plusDays(3));
+
+        Counted<List<FixtureDto>> nextDay = statementCounter.count(() -> fixtureService.getUpcomingFixtures(1, null));
+        Counted<List<FixtureDto>> nextWeek = statementCounter.count(() -> fixtureService.getUpcomingFixtures(7, null));
+
+        assertEquals(1, nextDay.result().size());
+        assertEquals(6, nextWeek.result().size());
+        assertEquals(nextDay.statements(), nextWeek.statements());
+    }
+}
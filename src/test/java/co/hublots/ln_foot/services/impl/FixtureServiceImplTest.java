@@ -4,9 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -14,12 +16,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,20 +33,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import co.hublots.ln_foot.dto.CreateFixtureDto;
+import co.hublots.ln_foot.dto.CursorPageDto;
 import co.hublots.ln_foot.dto.FixtureDto;
 import co.hublots.ln_foot.dto.UpdateFixtureDto;
 import co.hublots.ln_foot.models.Fixture;
 import co.hublots.ln_foot.models.League;
 import co.hublots.ln_foot.models.Team;
 import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
+import co.hublots.ln_foot.repositories.FixtureRow;
 import co.hublots.ln_foot.repositories.LeagueRepository;
 import co.hublots.ln_foot.repositories.TeamRepository;
+import co.hublots.ln_foot.services.StandingsService;
+import co.hublots.ln_foot.services.TeamStatsService;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,12 +68,23 @@ class FixtureServiceImplTest {
     private LeagueRepository leagueRepository;
     @Mock
     private TeamRepository teamRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private StandingsService standingsService;
+    @Mock
+    private TeamStatsService teamStatsService;
 
     private FixtureServiceImpl fixtureService;
 
     @BeforeEach
     void setUp() {
-        fixtureService = new FixtureServiceImpl(fixtureRepository, leagueRepository, teamRepository);
+        fixtureService = new FixtureServiceImpl(fixtureRepository, leagueRepository, teamRepository,
+                new FixtureReadCache(transactionManager, Jackson2ObjectMapperBuilder.json().build(), 100,
+                        Duration.ofMinutes(5)), eventPublisher,
+                standingsService, teamStatsService);
     }
 
     private League createMockLeague(String internalId, String apiLeagueId, String name) {
@@ -90,23 +115,22 @@ class FixtureServiceImplTest {
                 .build();
     }
 
+    private FixtureRow createMockRow(String apiFixtureId, String leagueApiId, OffsetDateTime matchTime) {
+        return new FixtureRow(apiFixtureId + "-uuid", apiFixtureId, matchTime, "NS", "Test Round", "Test Venue", leagueApiId,
+                "TA_API", "Team A", "logo.png", "TB_API", "Team B", "logo.png", 0, 0,
+                null, null, null, null, null, null, null, null,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now());
+    }
+
     @Test
     void listFixtures_byLeagueApiId_returnsPagedDtos() { // Renamed and updated
         // Arrange
         String leagueApiId = "L1_API";
         Pageable pageable = PageRequest.of(0, 10);
-        // League mockLeague = createMockLeague(UUID.randomUUID().toString(),
-        // leagueApiId, "Mock League"); // Not directly used by service if repo handles
-        // league ID
-        Team teamA = createMockTeam(UUID.randomUUID().toString(), "TA_API", "Team A");
-        Team teamB = createMockTeam(UUID.randomUUID().toString(), "TB_API", "Team B");
-        // Need to associate the mockLeague with the fixture for the DTO mapping to get
-        // leagueApiId
-        League mockLeagueForFixture = createMockLeague(UUID.randomUUID().toString(), leagueApiId, "Mock League");
-        Fixture mockFixture = createMockFixture("FX1_API", mockLeagueForFixture, teamA, teamB, OffsetDateTime.now());
+        FixtureRow mockRow = createMockRow("FX1_API", leagueApiId, OffsetDateTime.now());
 
-        when(fixtureRepository.findByLeagueApiLeagueId(leagueApiId, pageable))
-                .thenReturn(new PageImpl<>(List.of(mockFixture), pageable, 1));
+        when(fixtureRepository.findFixtureRowsByLeagueApiId(leagueApiId, pageable))
+                .thenReturn(new PageImpl<>(List.of(mockRow), pageable, 1));
 
         // Act
         Page<FixtureDto> result = fixtureService.listFixtures(leagueApiId, pageable);
@@ -117,14 +141,15 @@ class FixtureServiceImplTest {
         assertFalse(result.getContent().isEmpty());
         assertEquals("FX1_API", result.getContent().get(0).getId());
         assertEquals(leagueApiId, result.getContent().get(0).getLeagueId()); // Check DTO mapping
-        verify(fixtureRepository).findByLeagueApiLeagueId(leagueApiId, pageable);
+        assertEquals("Team B", result.getContent().get(0).getAwayTeam().getName());
+        verify(fixtureRepository).findFixtureRowsByLeagueApiId(leagueApiId, pageable);
     }
 
     @Test
     void listFixtures_leagueApiIdProvidedButNoFixtures_returnsEmptyPage() { // Renamed
         String leagueApiId = "LEAGUE_WITH_NO_FIXTURES";
         Pageable pageable = PageRequest.of(0, 10);
-        when(fixtureRepository.findByLeagueApiLeagueId(leagueApiId, pageable)).thenReturn(Page.empty(pageable));
+        when(fixtureRepository.findFixtureRowsByLeagueApiId(leagueApiId, pageable)).thenReturn(Page.empty(pageable));
 
         // Act
         Page<FixtureDto> result = fixtureService.listFixtures(leagueApiId, pageable);
@@ -132,18 +157,15 @@ class FixtureServiceImplTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(fixtureRepository).findByLeagueApiLeagueId(leagueApiId, pageable);
+        verify(fixtureRepository).findFixtureRowsByLeagueApiId(leagueApiId, pageable);
     }
 
     @Test
     void listFixtures_noLeagueId_returnsAllFixturesPaged() { // Renamed
         Pageable pageable = PageRequest.of(0, 10);
-        Team teamA = createMockTeam(UUID.randomUUID().toString(), "TA_API", "Team A");
-        Team teamB = createMockTeam(UUID.randomUUID().toString(), "TB_API", "Team B");
-        League mockLeague = createMockLeague(UUID.randomUUID().toString(), "L1_API", "Mock League");
-        Fixture mockFixture = createMockFixture("FX1_API", mockLeague, teamA, teamB, OffsetDateTime.now());
+        FixtureRow mockRow = createMockRow("FX1_API", "L1_API", OffsetDateTime.now());
 
-        when(fixtureRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(mockFixture), pageable, 1));
+        when(fixtureRepository.findFixtureRows(pageable)).thenReturn(new PageImpl<>(List.of(mockRow), pageable, 1));
 
         // Act
         Page<FixtureDto> result = fixtureService.listFixtures(null, pageable);
@@ -152,18 +174,97 @@ class FixtureServiceImplTest {
         assertEquals(1, result.getTotalElements());
         assertFalse(result.getContent().isEmpty());
         assertEquals("FX1_API", result.getContent().get(0).getId());
-        verify(fixtureRepository).findAll(pageable);
+        verify(fixtureRepository).findFixtureRows(pageable);
+    }
+
+    @Test
+    void scrollFixtures_firstPage_returnsCursorAfterLastFixture() {
+        OffsetDateTime kickoff = OffsetDateTime.of(2025, 3, 1, 15, 0, 0, 0, ZoneOffset.UTC);
+        when(fixtureRepository.findFirstFixtureRows(Limit.of(3))).thenReturn(List.of(
+                createMockRow("FX1", "L1", kickoff),
+                createMockRow("FX2", "L1", kickoff.plusHours(2)),
+                createMockRow("FX3", "L1", kickoff.plusHours(4))));
+
+        CursorPageDto<FixtureDto> result = fixtureService.scrollFixtures(null, null, 2);
+
+        assertEquals(List.of("FX1", "FX2"), result.getContent().stream().map(FixtureDto::getId).toList());
+        assertTrue(result.isHasNext());
+        assertEquals(new FixtureCursor(kickoff.plusHours(2), "FX2-uuid"), FixtureCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void scrollFixtures_withCursor_continuesAfterItWithoutNextCursorOnLastPage() {
+        OffsetDateTime kickoff = OffsetDateTime.of(2025, 3, 1, 17, 0, 0, 0, ZoneOffset.UTC);
+        String cursor = new FixtureCursor(kickoff, "FX2-uuid").encode();
+        when(fixtureRepository.findFixtureRowsByLeagueApiIdAfter("L1", kickoff, "FX2-uuid", Limit.of(3)))
+                .thenReturn(List.of(createMockRow("FX3", "L1", kickoff.plusHours(2))));
+
+        CursorPageDto<FixtureDto> result = fixtureService.scrollFixtures("L1", cursor, 2);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void scrollFixtures_withMalformedCursor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> fixtureService.scrollFixtures(null, "not-a-cursor", 20));
+    }
+
+    @Test
+    void listTeamFixtures_secondPage_readsOneRowPastThePageFromEachTeamIndex() {
+        Team team = createMockTeam("team-uuid", "TA_API", "Team A");
+        when(teamRepository.findByApiTeamId("TA_API")).thenReturn(Optional.of(team));
+        OffsetDateTime from = LocalDate.of(2024, 8, 1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = LocalDate.of(2025, 5, 31).atTime(LocalTime.MAX).atOffset(ZoneOffset.UTC);
+        when(fixtureRepository.findTeamFixtureIds("team-uuid", from, to, 5L, 3, 2L))
+                .thenReturn(List.of("FX3_API-uuid", "FX4_API-uuid", "FX5_API-uuid"));
+        when(fixtureRepository.findFixtureRowsByIdIn(List.of("FX3_API-uuid", "FX4_API-uuid"), from, to))
+                .thenReturn(List.of(createMockRow("FX3_API", "L_API", from.plusDays(14)),
+                        createMockRow("FX4_API", "L_API", from.plusDays(21))));
+
+        Slice<FixtureDto> slice = fixtureService.listTeamFixtures("TA_API", LocalDate.of(2024, 8, 1),
+                LocalDate.of(2025, 5, 31), PageRequest.of(1, 2));
+
+        assertEquals(List.of("FX3_API", "FX4_API"), slice.getContent().stream().map(FixtureDto::getId).toList());
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    void listTeamFixtures_withoutWindowAndShortFirstPage_isTheLastSlice() {
+        Team team = createMockTeam("team-uuid", "TA_API", "Team A");
+        when(teamRepository.findByApiTeamId("TA_API")).thenReturn(Optional.of(team));
+        when(fixtureRepository.findTeamFixtureIds(eq("team-uuid"), any(OffsetDateTime.class),
+                any(OffsetDateTime.class), eq(21L), eq(21), eq(0L))).thenReturn(List.of());
+
+        Slice<FixtureDto> slice = fixtureService.listTeamFixtures("TA_API", null, null, PageRequest.of(0, 20));
+
+        assertTrue(slice.getContent().isEmpty());
+        assertFalse(slice.hasNext());
+        verify(fixtureRepository, never()).findFixtureRowsByIdIn(anyList(), any(), any());
+    }
+
+    @Test
+    void listTeamFixtures_unknownTeam_throwsNoSuchElementException() {
+        when(teamRepository.findByApiTeamId("UNKNOWN")).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class,
+                () -> fixtureService.listTeamFixtures("UNKNOWN", null, null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void listTeamFixtures_fromAfterTo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> fixtureService.listTeamFixtures("TA_API",
+                LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 1), PageRequest.of(0, 20)));
+        verify(teamRepository, never()).findByApiTeamId(anyString());
     }
 
     @Test
     void findFixtureById_whenFound_returnsOptionalDto() { // Param is apiFixtureId
         // Arrange
         String apiFixtureId = "fixture-api-123";
-        League mockLeague = createMockLeague(UUID.randomUUID().toString(), "L_API", "League");
-        Team teamA = createMockTeam(UUID.randomUUID().toString(), "TA_API", "Team A");
-        Team teamB = createMockTeam(UUID.randomUUID().toString(), "TB_API", "Team B");
-        Fixture mockFixture = createMockFixture(apiFixtureId, mockLeague, teamA, teamB, OffsetDateTime.now());
-        when(fixtureRepository.findByApiFixtureId(apiFixtureId)).thenReturn(Optional.of(mockFixture));
+        FixtureRow mockRow = createMockRow(apiFixtureId, "L_API", OffsetDateTime.now());
+        when(fixtureRepository.findFixtureRowsByApiFixtureId(apiFixtureId, Limit.of(1))).thenReturn(List.of(mockRow));
 
         // Act
         Optional<FixtureDto> result = fixtureService.findFixtureById(apiFixtureId);
@@ -171,17 +272,16 @@ class FixtureServiceImplTest {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(apiFixtureId, result.get().getId());
-        assertEquals(teamA.getApiTeamId(), result.get().getHomeTeam().getId());
-        verify(fixtureRepository).findByApiFixtureId(apiFixtureId);
+        assertEquals("TA_API", result.get().getHomeTeam().getId());
+        verify(fixtureRepository).findFixtureRowsByApiFixtureId(apiFixtureId, Limit.of(1));
     }
 
     @Test
     void getUpcomingFixtures_noLeagueId_returnsDtos() {
         OffsetDateTime startDate = OffsetDateTime.now();
-        Fixture mockFixture = createMockFixture("up1", null, null, null, startDate.plusDays(1)); // simplified for this
-                                                                                                 // test
-        when(fixtureRepository.findByMatchDatetimeBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(mockFixture));
+        FixtureRow mockRow = createMockRow("up1", "L1", startDate.plusDays(1));
+        when(fixtureRepository.findFixtureRowsBetween(any(OffsetDateTime.class), any(OffsetDateTime.class)))
+                .thenReturn(List.of(mockRow));
 
         List<FixtureDto> result = fixtureService.getUpcomingFixtures(7, null);
         assertEquals(1, result.size());
@@ -192,12 +292,12 @@ class FixtureServiceImplTest {
     void getUpcomingFixtures_withLeagueId_returnsDtos() {
         String leagueApiId = "L1";
         League mockLeague = createMockLeague(UUID.randomUUID().toString(), leagueApiId, "League");
-        Fixture mockFixture = createMockFixture("upL1", mockLeague, null, null, OffsetDateTime.now().plusDays(1));
+        FixtureRow mockRow = createMockRow("upL1", leagueApiId, OffsetDateTime.now().plusDays(1));
 
         when(leagueRepository.findByApiLeagueId(leagueApiId)).thenReturn(Optional.of(mockLeague));
-        when(fixtureRepository.findByLeague_IdAndMatchDatetimeBetween(eq(mockLeague.getId()), any(LocalDateTime.class),
-                any(LocalDateTime.class)))
-                .thenReturn(List.of(mockFixture));
+        when(fixtureRepository.findFixtureRowsByLeagueBetween(eq(mockLeague.getId()), any(OffsetDateTime.class),
+                any(OffsetDateTime.class)))
+                .thenReturn(List.of(mockRow));
 
         List<FixtureDto> result = fixtureService.getUpcomingFixtures(7, leagueApiId);
         assertEquals(1, result.size());
@@ -208,10 +308,10 @@ class FixtureServiceImplTest {
     void getFixturesByDate_noLeagueId_returnsDtos() {
         OffsetDateTime date = OffsetDateTime.now();
         LocalDate localDate = date.toLocalDate();
-        Fixture mockFixture = createMockFixture("dateFix1", null, null, null, date);
-        when(fixtureRepository.findByMatchDatetimeBetween(eq(localDate.atStartOfDay()),
-                eq(localDate.atTime(LocalTime.MAX))))
-                .thenReturn(List.of(mockFixture));
+        FixtureRow mockRow = createMockRow("dateFix1", "L1", date);
+        when(fixtureRepository.findFixtureRowsBetween(eq(localDate.atStartOfDay().atOffset(ZoneOffset.UTC)),
+                eq(localDate.atTime(LocalTime.MAX).atOffset(ZoneOffset.UTC))))
+                .thenReturn(List.of(mockRow));
 
         List<FixtureDto> result = fixtureService.getFixturesByDate(localDate, null);
         assertEquals(1, result.size());
@@ -233,7 +333,7 @@ class FixtureServiceImplTest {
         Team mockHomeTeam = createMockTeam(UUID.randomUUID().toString(), createDto.getHomeTeamId(), "Home Team");
         Team mockAwayTeam = createMockTeam(UUID.randomUUID().toString(), createDto.getAwayTeamId(), "Away Team");
 
-        when(fixtureRepository.findByApiFixtureId(createDto.getId())).thenReturn(Optional.empty());
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(createDto.getId())).thenReturn(Optional.empty());
         when(leagueRepository.findByApiLeagueId(createDto.getLeagueId())).thenReturn(Optional.of(mockLeague));
         when(teamRepository.findByApiTeamId(createDto.getHomeTeamId())).thenReturn(Optional.of(mockHomeTeam));
         when(teamRepository.findByApiTeamId(createDto.getAwayTeamId())).thenReturn(Optional.of(mockAwayTeam));
@@ -269,7 +369,7 @@ class FixtureServiceImplTest {
     void createFixture_whenLeagueNotFound_throwsException() {
         CreateFixtureDto createDto = CreateFixtureDto.builder().id("fix-league-fail").leagueId("L_FAIL").homeTeamId("H")
                 .awayTeamId("A").build();
-        when(fixtureRepository.findByApiFixtureId("fix-league-fail")).thenReturn(Optional.empty());
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc("fix-league-fail")).thenReturn(Optional.empty());
         when(leagueRepository.findByApiLeagueId("L_FAIL")).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> fixtureService.createFixture(createDto));
@@ -288,7 +388,7 @@ class FixtureServiceImplTest {
                 .build();
         League mockLeague = createMockLeague(UUID.randomUUID().toString(), "L_OK", "OK League");
 
-        when(fixtureRepository.findByApiFixtureId("fix-home-team-fail")).thenReturn(Optional.empty());
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc("fix-home-team-fail")).thenReturn(Optional.empty());
         when(leagueRepository.findByApiLeagueId("L_OK")).thenReturn(Optional.of(mockLeague));
         when(teamRepository.findByApiTeamId("HT_FAIL")).thenReturn(Optional.empty());
         // Optional: Mock away team if needed, but failure should happen before that
@@ -312,7 +412,7 @@ class FixtureServiceImplTest {
         League mockLeague = createMockLeague(UUID.randomUUID().toString(), "L_OK", "OK League");
         Team mockHomeTeam = createMockTeam(UUID.randomUUID().toString(), "HT_OK", "Home Team OK");
 
-        when(fixtureRepository.findByApiFixtureId("fix-away-team-fail")).thenReturn(Optional.empty());
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc("fix-away-team-fail")).thenReturn(Optional.empty());
         when(leagueRepository.findByApiLeagueId("L_OK")).thenReturn(Optional.of(mockLeague));
         when(teamRepository.findByApiTeamId("HT_OK")).thenReturn(Optional.of(mockHomeTeam));
         when(teamRepository.findByApiTeamId("AT_FAIL")).thenReturn(Optional.empty());
@@ -333,7 +433,7 @@ class FixtureServiceImplTest {
         Team teamB = createMockTeam(UUID.randomUUID().toString(), "TB_API", "Team B");
         Fixture existingFixture = createMockFixture(apiFixtureId, mockLeague, teamA, teamB, OffsetDateTime.now());
 
-        when(fixtureRepository.findByApiFixtureId(apiFixtureId)).thenReturn(Optional.of(existingFixture));
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId)).thenReturn(Optional.of(existingFixture));
 
         UpdateFixtureDto updateDto = UpdateFixtureDto.builder().statusShort("FT").goalsHome(2).goalsAway(1).build();
 
@@ -353,20 +453,65 @@ class FixtureServiceImplTest {
         assertEquals(2, resultDto.getGoalsHome());
         assertEquals(1, resultDto.getGoalsAway());
 
-        verify(fixtureRepository).findByApiFixtureId(apiFixtureId);
+        verify(fixtureRepository).findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId);
         ArgumentCaptor<Fixture> fixtureCaptor = ArgumentCaptor.forClass(Fixture.class);
         verify(fixtureRepository).save(fixtureCaptor.capture());
         assertEquals("FT", fixtureCaptor.getValue().getStatus());
     }
 
+    @Test
+    void updateFixture_correctingAFinalScore_movesStandingsAndTeamStats() {
+        League mockLeague = createMockLeague(UUID.randomUUID().toString(), "L_API", "League");
+        Team teamA = createMockTeam(UUID.randomUUID().toString(), "TA_API", "Team A");
+        Team teamB = createMockTeam(UUID.randomUUID().toString(), "TB_API", "Team B");
+        OffsetDateTime kickoff = OffsetDateTime.now(ZoneOffset.UTC).minusHours(3);
+        Fixture existingFixture = createMockFixture("fix-final", mockLeague, teamA, teamB, kickoff);
+        existingFixture.setStatus("FT");
+        existingFixture.setSeason(2024);
+        existingFixture.setGoalsTeam1(1);
+        existingFixture.setGoalsTeam2(0);
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc("fix-final")).thenReturn(Optional.of(existingFixture));
+        when(fixtureRepository.save(any(Fixture.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        fixtureService.updateFixture("fix-final", UpdateFixtureDto.builder().goalsHome(1).goalsAway(1).build());
+
+        List<FixtureResult> previous = List.of(
+                new FixtureResult(mockLeague.getId(), 2024, teamA.getId(), teamB.getId(), 1, 0, kickoff));
+        List<FixtureResult> current = List.of(
+                new FixtureResult(mockLeague.getId(), 2024, teamA.getId(), teamB.getId(), 1, 1, kickoff));
+        verify(standingsService).applyResults(previous, current);
+        verify(teamStatsService).applyResults(previous, current);
+    }
+
+    @Test
+    void updateFixture_lowerCaseStatus_isStoredUpperCasedAndCounted() {
+        League mockLeague = createMockLeague(UUID.randomUUID().toString(), "L_API", "League");
+        Team teamA = createMockTeam(UUID.randomUUID().toString(), "TA_API", "Team A");
+        Team teamB = createMockTeam(UUID.randomUUID().toString(), "TB_API", "Team B");
+        OffsetDateTime kickoff = OffsetDateTime.now(ZoneOffset.UTC).minusHours(3);
+        Fixture existingFixture = createMockFixture("fix-typed", mockLeague, teamA, teamB, kickoff);
+        existingFixture.setSeason(2024);
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc("fix-typed")).thenReturn(Optional.of(existingFixture));
+        when(fixtureRepository.save(any(Fixture.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        fixtureService.updateFixture("fix-typed",
+                UpdateFixtureDto.builder().statusShort(" ft ").goalsHome(2).goalsAway(0).build());
+
+        assertEquals("FT", existingFixture.getStatus());
+        List<FixtureResult> current = List.of(
+                new FixtureResult(mockLeague.getId(), 2024, teamA.getId(), teamB.getId(), 2, 0, kickoff));
+        verify(standingsService).applyResults(List.of(), current);
+        verify(teamStatsService).applyResults(List.of(), current);
+    }
+
     @Test
     void updateFixture_whenFixtureNotFound_throwsEntityNotFoundException() {
         String apiFixtureId = "non-existent-fix-id";
         UpdateFixtureDto updateDto = UpdateFixtureDto.builder().statusShort("FT").build();
-        when(fixtureRepository.findByApiFixtureId(apiFixtureId)).thenReturn(Optional.empty());
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> fixtureService.updateFixture(apiFixtureId, updateDto));
-        verify(fixtureRepository).findByApiFixtureId(apiFixtureId);
+        verify(fixtureRepository).findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId);
         verify(fixtureRepository, never()).save(any(Fixture.class));
     }
 
@@ -375,24 +520,24 @@ class FixtureServiceImplTest {
         // Arrange
         String apiFixtureId = "fix-to-delete";
         Fixture mockFixture = createMockFixture(apiFixtureId, null, null, null, OffsetDateTime.now());
-        when(fixtureRepository.findByApiFixtureId(apiFixtureId)).thenReturn(Optional.of(mockFixture));
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId)).thenReturn(Optional.of(mockFixture));
         doNothing().when(fixtureRepository).delete(mockFixture);
 
         // Act
         assertDoesNotThrow(() -> fixtureService.deleteFixture(apiFixtureId));
 
         // Assert
-        verify(fixtureRepository).findByApiFixtureId(apiFixtureId);
+        verify(fixtureRepository).findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId);
         verify(fixtureRepository).delete(mockFixture);
     }
 
     @Test
     void deleteFixture_whenFixtureNotFound_throwsEntityNotFoundException() {
         String apiFixtureId = "non-existent-fix-id-del";
-        when(fixtureRepository.findByApiFixtureId(apiFixtureId)).thenReturn(Optional.empty());
+        when(fixtureRepository.findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> fixtureService.deleteFixture(apiFixtureId));
-        verify(fixtureRepository).findByApiFixtureId(apiFixtureId);
+        verify(fixtureRepository).findFirstByApiFixtureIdOrderByUpdatedAtDesc(apiFixtureId);
         verify(fixtureRepository, never()).delete(any(Fixture.class));
         verify(fixtureRepository, never()).deleteById(anyString());
     }
@@ -0,0 +1,80 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import co.hublots.ln_foot.services.FixturesChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class FixturesChangedRelayTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 10);
+
+    @Mock
+    private ClusterNotifications clusterNotificationsMock;
+    @Mock
+    private FixtureReadCache fixtureReadCacheMock;
+
+    private FixturesChangedRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new FixturesChangedRelay(clusterNotificationsMock, fixtureReadCacheMock,
+                Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    @Test
+    void onFixturesChanged_publishesTheDaysAndLeaguesThatOtherInstancesEvict() {
+        relay.onFixturesChanged(new FixturesChangedEvent(Set.of(DAY), Set.of("39"), Set.of("100")));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(clusterNotificationsMock).publish(eq(FixturesChangedRelay.CHANNEL), payload.capture());
+        relay.evict(payload.getValue());
+        verify(fixtureReadCacheMock).evict(Set.of(DAY), Set.of("39"));
+    }
+
+    @Test
+    void encode_changeTooLargeForOneNotification_evictsEverything() {
+        Set<String> leagues = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            leagues.add("league-" + i);
+        }
+
+        String payload = relay.encode(new FixturesChangedEvent(Set.of(DAY), leagues, Set.of("100")));
+        relay.evict(payload);
+
+        assertEquals(FixturesChangedRelay.EVERYTHING, payload);
+        verify(fixtureReadCacheMock).invalidateAll();
+    }
+
+    @Test
+    void onReconnect_evictsEverything() {
+        ArgumentCaptor<ClusterNotifications.Subscriber> subscriber = ArgumentCaptor
+                .forClass(ClusterNotifications.Subscriber.class);
+        verify(clusterNotificationsMock).subscribe(eq(FixturesChangedRelay.CHANNEL), subscriber.capture());
+
+        subscriber.getValue().onReconnect();
+
+        verify(fixtureReadCacheMock).invalidateAll();
+    }
+
+    @Test
+    void evict_unreadablePayload_evictsEverything() {
+        relay.evict("{not json");
+
+        verify(fixtureReadCacheMock).invalidateAll();
+    }
+}
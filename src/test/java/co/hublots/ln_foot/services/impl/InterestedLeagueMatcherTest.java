@@ -0,0 +1,105 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.dto.external.ExternalLeagueInFixtureDto;
+import co.hublots.ln_foot.dto.external.FixtureResponseItemDto;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.repositories.LeagueRepository;
+
+@ExtendWith(MockitoExtension.class)
+class InterestedLeagueMatcherTest {
+
+    @Mock
+    private LeagueRepository leagueRepositoryMock;
+
+    private SyncConfigProperties syncConfigProperties;
+    private InterestedLeagueMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        syncConfigProperties = new SyncConfigProperties();
+        matcher = new InterestedLeagueMatcher(syncConfigProperties, leagueRepositoryMock);
+    }
+
+    private static SyncConfigProperties.InterestedLeague interestedLeague(String name, String country,
+            String apiLeagueId) {
+        SyncConfigProperties.InterestedLeague interestedLeague = new SyncConfigProperties.InterestedLeague();
+        interestedLeague.setName(name);
+        interestedLeague.setCountry(country);
+        interestedLeague.setApiLeagueId(apiLeagueId);
+        return interestedLeague;
+    }
+
+    private static FixtureResponseItemDto fixtureIn(long leagueApiId, String name, String country) {
+        return FixtureResponseItemDto.builder()
+                .league(ExternalLeagueInFixtureDto.builder().leagueApiId(leagueApiId).name(name).country(country)
+                        .build())
+                .build();
+    }
+
+    @Test
+    void matches_ignoresCaseAndExtraWhitespace() {
+        syncConfigProperties.setInterestedLeagues(List.of(interestedLeague("Premier League", "England", null)));
+
+        assertTrue(matcher.matches(fixtureIn(39, " premier  LEAGUE", "england ")));
+        assertFalse(matcher.matches(fixtureIn(40, "Championship", "England")));
+        assertFalse(matcher.matches(FixtureResponseItemDto.builder().build()));
+    }
+
+    @Test
+    void matches_resolvesApiLeagueIdOnFirstSighting() {
+        syncConfigProperties.setInterestedLeagues(List.of(interestedLeague("Premier League", "England", null)));
+        assertFalse(matcher.isFullyResolved());
+
+        matcher.matches(fixtureIn(39, "Premier League", "England"));
+
+        assertEquals(List.of("39"), matcher.resolvedApiLeagueIds());
+        assertTrue(matcher.isFullyResolved());
+        // Matched by id from now on, even if the API renames the league
+        assertTrue(matcher.matches(fixtureIn(39, "EPL", "England")));
+    }
+
+    @Test
+    void compile_usesConfiguredIdsAndStoredLeagues() {
+        syncConfigProperties.setInterestedLeagues(List.of(
+                interestedLeague("Premier League", "England", "39"),
+                interestedLeague("Ligue 1", "France", null),
+                interestedLeague("Elite One", "Cameroon", null)));
+        when(leagueRepositoryMock.findAll()).thenReturn(List.of(
+                League.builder().apiLeagueId("61").leagueName("Ligue 1").country("France").build(),
+                League.builder().apiLeagueId("140").leagueName("La Liga").country("Spain").build()));
+
+        assertEquals(List.of("39", "61"), matcher.resolvedApiLeagueIds());
+        assertFalse(matcher.isFullyResolved());
+    }
+
+    @Test
+    void compile_withEveryIdConfigured_doesNotQueryTheDatabase() {
+        syncConfigProperties.setInterestedLeagues(List.of(interestedLeague("Premier League", "England", "39")));
+
+        assertTrue(matcher.isFullyResolved());
+        verify(leagueRepositoryMock, never()).findAll();
+    }
+
+    @Test
+    void withoutInterestedLeagues_nothingMatches() {
+        assertFalse(matcher.hasInterestedLeagues());
+        assertFalse(matcher.matches(fixtureIn(39, "Premier League", "England")));
+        assertTrue(matcher.resolvedApiLeagueIds().isEmpty());
+    }
+}
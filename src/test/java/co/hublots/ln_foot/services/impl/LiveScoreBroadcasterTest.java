@@ -0,0 +1,126 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+
+import co.hublots.ln_foot.dto.FixtureDeltaDto;
+import co.hublots.ln_foot.services.FixtureDeltasEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.SignalType;
+
+class LiveScoreBroadcasterTest {
+
+    private LiveScoreBroadcaster broadcaster;
+    private final List<Disposable> subscriptions = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new LiveScoreBroadcaster(Duration.ofHours(1), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.forEach(Disposable::dispose);
+    }
+
+    private List<String> collectDeltaIds(List<String> leagueIds, List<String> fixtureIds) {
+        List<String> ids = new CopyOnWriteArrayList<>();
+        subscriptions.add(broadcaster.stream(leagueIds, fixtureIds)
+                .filter(event -> event.data() != null)
+                .subscribe(event -> ids.add(event.data().getId())));
+        return ids;
+    }
+
+    private static FixtureDeltaDto delta(String apiFixtureId, String leagueApiId) {
+        return FixtureDeltaDto.builder().id(apiFixtureId).leagueId(leagueApiId).build();
+    }
+
+    private void publish(FixtureDeltaDto... deltas) {
+        broadcaster.onFixtureDeltas(new FixtureDeltasEvent(List.of(deltas)));
+    }
+
+    @Test
+    void stream_withoutFilter_receivesEveryDelta() {
+        List<String> received = collectDeltaIds(null, null);
+
+        publish(delta("100", "39"), delta("200", "61"));
+
+        assertEquals(List.of("100", "200"), received);
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void stream_withLeagueAndFixtureFilters_receivesMatchingDeltasOnly() {
+        List<String> byLeague = collectDeltaIds(List.of("39"), null);
+        List<String> byLeagueOrFixture = collectDeltaIds(List.of("39"), List.of("300"));
+
+        publish(delta("100", "39"), delta("200", "61"), delta("300", "140"));
+
+        assertEquals(List.of("100"), byLeague);
+        assertEquals(List.of("100", "300"), byLeagueOrFixture);
+    }
+
+    @Test
+    void stream_startsWithACommentAndNumbersDeltas() {
+        List<ServerSentEvent<FixtureDeltaDto>> events = new CopyOnWriteArrayList<>();
+        subscriptions.add(broadcaster.stream(null, null).subscribe(events::add));
+
+        publish(delta("100", "39"), delta("200", "39"));
+
+        assertEquals("connected", events.get(0).comment());
+        assertEquals("1", events.get(1).id());
+        assertEquals(LiveScoreBroadcaster.EVENT_NAME, events.get(1).event());
+        assertEquals("2", events.get(2).id());
+    }
+
+    @Test
+    void stream_clientFallingBehindTheBuffer_isDisconnectedWithoutAffectingOthers() {
+        AtomicReference<SignalType> slowEnd = new AtomicReference<>();
+        // Reads the first event and then stops requesting, like a stalled connection
+        broadcaster.stream(null, null).subscribe(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnError(Throwable throwable) {
+                // Expected: the buffer overflowed
+            }
+
+            @Override
+            protected void hookFinally(SignalType type) {
+                slowEnd.set(type);
+            }
+        });
+        List<String> fast = collectDeltaIds(null, null);
+
+        publish(delta("1", "39"), delta("2", "39"), delta("3", "39"), delta("4", "39"));
+
+        assertEquals(SignalType.ON_ERROR, slowEnd.get());
+        assertEquals(List.of("1", "2", "3", "4"), fast);
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void shutdown_completesOpenStreams() {
+        AtomicReference<SignalType> end = new AtomicReference<>();
+        subscriptions.add(broadcaster.stream(null, null).doFinally(end::set).subscribe());
+
+        broadcaster.shutdown();
+
+        assertEquals(SignalType.ON_COMPLETE, end.get());
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+}
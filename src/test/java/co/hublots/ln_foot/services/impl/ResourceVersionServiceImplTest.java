@@ -0,0 +1,133 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import co.hublots.ln_foot.models.Fixture;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.models.Team;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.LeagueRepository;
+import co.hublots.ln_foot.repositories.ResourceVersion;
+import co.hublots.ln_foot.repositories.TeamRepository;
+import co.hublots.ln_foot.services.ResourceVersionService;
+import co.hublots.ln_foot.support.StatementCounter;
+import co.hublots.ln_foot.support.StatementCounter.Counted;
+
+/**
+ * Runs the version queries against the database: one statement each, and a
+ * different version after any insert, update or delete of the rows covered.
+ */
+@SpringBootTest
+@Import(StatementCounter.Config.class)
+class ResourceVersionServiceImplTest {
+
+    private static final OffsetDateTime KICKOFF = OffsetDateTime.of(2025, 4, 12, 15, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+    @Autowired
+    private FixtureRepository fixtureRepository;
+    @Autowired
+    private LeagueRepository leagueRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private League league;
+    private Team home;
+    private Team away;
+
+    @BeforeEach
+    void setUp() {
+        league = leagueRepository.save(League.builder().leagueName("Version League").apiLeagueId("rv-league")
+                .country("France").build());
+        leagueRepository.save(League.builder().leagueName("Other League").apiLeagueId("rv-other")
+                .country("Spain").build());
+        home = teamRepository.save(Team.builder().teamName("Version Home").apiTeamId("rv-home").build());
+        away = teamRepository.save(Team.builder().teamName("Version Away").apiTeamId("rv-away").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtureRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        leagueRepository.deleteAllInBatch();
+    }
+
+    private Fixture saveFixture(String apiFixtureId, League fixtureLeague, OffsetDateTime kickoff) {
+        return fixtureRepository.save(Fixture.builder().apiFixtureId(apiFixtureId).league(fixtureLeague)
+                .team1(home).team2(away).matchDatetime(kickoff).status("NS").build());
+    }
+
+    @Test
+    void getFixtureVersion_isOneStatementAndFollowsTheLatestUpdate() {
+        saveFixture("rv-1", league, KICKOFF);
+        Fixture fixture = saveFixture("rv-2", league, KICKOFF.plusHours(2));
+
+        Counted<ResourceVersion> before = statementCounter
+                .count(() -> resourceVersionService.getFixtureVersion("rv-2"));
+        fixture.setStatus("1H");
+        fixtureRepository.save(fixture);
+        ResourceVersion after = resourceVersionService.getFixtureVersion("rv-2");
+
+        assertEquals(1, before.statements());
+        assertEquals(1L, before.result().count());
+        assertEquals(1L, after.count());
+        assertEquals(fixtureRepository.findById(fixture.getId()).orElseThrow().getUpdatedAt(), after.lastModified());
+        assertNotEquals(before.result(), after);
+    }
+
+    @Test
+    void getFixtureVersion_changesWhenTheFixtureIsDeleted() {
+        Fixture fixture = saveFixture("rv-1", league, KICKOFF);
+        ResourceVersion before = resourceVersionService.getFixtureVersion("rv-1");
+
+        fixtureRepository.delete(fixture);
+        ResourceVersion after = resourceVersionService.getFixtureVersion("rv-1");
+
+        assertEquals(before.count() - 1, after.count());
+    }
+
+    @Test
+    void of_matchesTheVersionReadByTheAggregate() {
+        List<OffsetDateTime> updates = leagueRepository.findAll().stream()
+                .map(saved -> saved.getUpdatedAt().atOffset(ZoneOffset.UTC))
+                .toList();
+
+        assertEquals(resourceVersionService.getLeaguesVersion(null), ResourceVersion.of(updates, time -> time));
+        ResourceVersion empty = ResourceVersion.of(List.<OffsetDateTime>of(), time -> time);
+        assertEquals(0L, empty.count());
+        assertNull(empty.lastModified());
+    }
+
+    @Test
+    void getTeamsVersion_byLeague_countsTheTeamsOfItsFixtures() {
+        saveFixture("rv-1", league, KICKOFF);
+        saveFixture("rv-2", league, KICKOFF.plusDays(7));
+
+        assertEquals(1L, resourceVersionService.getTeamsVersion("rv-league").count());
+        assertEquals(0L, resourceVersionService.getTeamsVersion("rv-other").count());
+        assertEquals(1L, resourceVersionService.getTeamVersion("rv-away").count());
+    }
+
+    @Test
+    void getLeaguesVersion_filtersByCountry() {
+        assertEquals(1L, resourceVersionService.getLeaguesVersion("Spain").count());
+        assertEquals(1L, resourceVersionService.getLeagueVersion("rv-league").count());
+        assertEquals(0L, resourceVersionService.getLeagueVersion("rv-missing").count());
+    }
+}
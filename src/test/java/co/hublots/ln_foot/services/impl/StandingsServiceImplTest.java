@@ -0,0 +1,252 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import co.hublots.ln_foot.dto.StandingDto;
+import co.hublots.ln_foot.models.League;
+import co.hublots.ln_foot.models.Standing;
+import co.hublots.ln_foot.models.Team;
+import co.hublots.ln_foot.models.enums.FixtureStatus;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
+import co.hublots.ln_foot.repositories.LeagueRepository;
+import co.hublots.ln_foot.repositories.StandingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StandingsServiceImplTest {
+
+    private static final OffsetDateTime ROUND_1 = OffsetDateTime.of(2024, 8, 17, 14, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime ROUND_2 = ROUND_1.plusWeeks(1);
+
+    @Mock
+    private StandingRepository standingRepository;
+    @Mock
+    private FixtureRepository fixtureRepository;
+    @Mock
+    private LeagueRepository leagueRepository;
+
+    @Captor
+    private ArgumentCaptor<Collection<Standing>> standingsCaptor;
+
+    private StandingsServiceImpl standingsService;
+    private League league;
+    private Team home;
+    private Team away;
+
+    @BeforeEach
+    void setUp() {
+        standingsService = new StandingsServiceImpl(standingRepository, fixtureRepository, leagueRepository);
+        league = League.builder().id("league-uuid").apiLeagueId("39").leagueName("Premier League").build();
+        home = Team.builder().id("home-uuid").apiTeamId("33").teamName("Home FC").build();
+        away = Team.builder().id("away-uuid").apiTeamId("34").teamName("Away FC").build();
+    }
+
+    private static FixtureResult result(int homeGoals, int awayGoals, OffsetDateTime kickoff) {
+        return new FixtureResult("league-uuid", 2024, "home-uuid", "away-uuid", homeGoals, awayGoals, kickoff);
+    }
+
+    private Standing standing(Team team, int won, int drawn, int lost, int goalsFor, int goalsAgainst,
+            String form, OffsetDateTime lastResultAt) {
+        return Standing.builder().league(league).season(2024).team(team)
+                .played(won + drawn + lost).won(won).drawn(drawn).lost(lost)
+                .goalsFor(goalsFor).goalsAgainst(goalsAgainst).points(3 * won + drawn)
+                .form(form).lastResultAt(lastResultAt)
+                .build();
+    }
+
+    private Map<String, Standing> savedByTeam() {
+        verify(standingRepository).saveAll(standingsCaptor.capture());
+        return standingsCaptor.getValue().stream()
+                .collect(Collectors.toMap(standing -> standing.getTeam().getId(), Function.identity()));
+    }
+
+    @Test
+    void applyResults_firstResult_createsBothRowsWithTheResult() {
+        when(standingRepository.findForUpdate(eq("league-uuid"), eq(2024), anyCollection())).thenReturn(List.of(
+                standing(home, 0, 0, 0, 0, 0, null, null),
+                standing(away, 0, 0, 0, 0, 0, null, null)));
+
+        standingsService.applyResults(List.of(), List.of(result(2, 1, ROUND_1)));
+
+        verify(standingRepository).insertMissing("league-uuid", 2024, Set.of("home-uuid", "away-uuid"));
+        Map<String, Standing> saved = savedByTeam();
+        Standing winner = saved.get("home-uuid");
+        assertEquals(1, winner.getPlayed());
+        assertEquals(1, winner.getWon());
+        assertEquals(3, winner.getPoints());
+        assertEquals(2, winner.getGoalsFor());
+        assertEquals(1, winner.getGoalsAgainst());
+        assertEquals("W", winner.getForm());
+        assertEquals(ROUND_1, winner.getLastResultAt());
+        Standing loser = saved.get("away-uuid");
+        assertEquals(1, loser.getLost());
+        assertEquals(0, loser.getPoints());
+        assertEquals("L", loser.getForm());
+        verify(fixtureRepository, never()).findLatestResultsOfTeam(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void applyResults_laterResult_extendsTheFormInPlace() {
+        when(standingRepository.findForUpdate(eq("league-uuid"), eq(2024), anyCollection())).thenReturn(List.of(
+                standing(home, 4, 0, 0, 9, 2, "WWWW", ROUND_1),
+                standing(away, 0, 1, 4, 3, 10, "LLLLD", ROUND_1)));
+
+        standingsService.applyResults(List.of(), List.of(result(1, 1, ROUND_2)));
+
+        Map<String, Standing> saved = savedByTeam();
+        assertEquals(13, saved.get("home-uuid").getPoints());
+        assertEquals("DWWWW", saved.get("home-uuid").getForm());
+        assertEquals(ROUND_2, saved.get("home-uuid").getLastResultAt());
+        assertEquals(2, saved.get("away-uuid").getDrawn());
+        assertEquals("DLLLL", saved.get("away-uuid").getForm());
+        verify(fixtureRepository, never()).findLatestResultsOfTeam(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void applyResults_correctedResult_swapsTheCountersAndReloadsTheForm() {
+        when(standingRepository.findForUpdate(eq("league-uuid"), eq(2024), anyCollection())).thenReturn(List.of(
+                standing(home, 1, 0, 0, 1, 0, "W", ROUND_1),
+                standing(away, 0, 0, 1, 0, 1, "L", ROUND_1)));
+        when(fixtureRepository.findLatestResultsOfTeam(eq("league-uuid"), eq(2024), any(),
+                eq(FixtureStatus.resultShortCodes()), eq(Limit.of(StandingsServiceImpl.FORM_LENGTH))))
+                .thenReturn(List.of(result(1, 2, ROUND_1)));
+
+        standingsService.applyResults(List.of(result(1, 0, ROUND_1)), List.of(result(1, 2, ROUND_1)));
+
+        Map<String, Standing> saved = savedByTeam();
+        Standing formerWinner = saved.get("home-uuid");
+        assertEquals(1, formerWinner.getPlayed());
+        assertEquals(0, formerWinner.getWon());
+        assertEquals(1, formerWinner.getLost());
+        assertEquals(0, formerWinner.getPoints());
+        assertEquals(-1, formerWinner.getGoalDifference());
+        assertEquals("L", formerWinner.getForm());
+        Standing formerLoser = saved.get("away-uuid");
+        assertEquals(3, formerLoser.getPoints());
+        assertEquals("W", formerLoser.getForm());
+    }
+
+    @Test
+    void applyResults_removedResult_clearsTheFormOfTeamsWithNoOtherResult() {
+        when(standingRepository.findForUpdate(eq("league-uuid"), eq(2024), anyCollection())).thenReturn(List.of(
+                standing(home, 1, 0, 0, 3, 0, "W", ROUND_1),
+                standing(away, 0, 0, 1, 0, 3, "L", ROUND_1)));
+        when(fixtureRepository.findLatestResultsOfTeam(any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        standingsService.applyResults(List.of(result(3, 0, ROUND_1)), List.of());
+
+        Standing cleared = savedByTeam().get("home-uuid");
+        assertEquals(0, cleared.getPlayed());
+        assertEquals(0, cleared.getPoints());
+        assertNull(cleared.getForm());
+        assertNull(cleared.getLastResultAt());
+    }
+
+    @Test
+    void applyResults_nothingChanged_touchesNoRow() {
+        standingsService.applyResults(List.of(), List.of());
+
+        verify(standingRepository, never()).findForUpdate(any(), any(), anyCollection());
+        verify(standingRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void applyResults_rowDeletedMeanwhile_throwsIllegalStateException() {
+        when(standingRepository.findForUpdate(eq("league-uuid"), eq(2024), anyCollection())).thenReturn(List.of(
+                standing(home, 0, 0, 0, 0, 0, null, null)));
+
+        assertThrows(IllegalStateException.class,
+                () -> standingsService.applyResults(List.of(), List.of(result(1, 0, ROUND_1))));
+        verify(standingRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void applyResults_resultWithoutSeason_isNotCounted() {
+        standingsService.applyResults(List.of(),
+                List.of(new FixtureResult("league-uuid", null, "home-uuid", "away-uuid", 1, 0, ROUND_1)));
+
+        verify(standingRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void getStandings_withoutSeason_ranksTheLatestSeason() {
+        when(leagueRepository.findByApiLeagueId("39")).thenReturn(Optional.of(league));
+        when(standingRepository.findLatestSeason("league-uuid")).thenReturn(Optional.of(2024));
+        when(standingRepository.findTable("league-uuid", 2024)).thenReturn(List.of(
+                standing(home, 2, 0, 0, 5, 1, "WW", ROUND_2),
+                standing(away, 0, 0, 2, 1, 5, "LL", ROUND_2)));
+
+        List<StandingDto> table = standingsService.getStandings("39", null);
+
+        assertEquals(2, table.size());
+        assertEquals(1, table.get(0).getRank());
+        assertEquals("33", table.get(0).getTeam().getId());
+        assertEquals("39", table.get(0).getLeagueId());
+        assertEquals(4, table.get(0).getGoalDifference());
+        assertEquals(2, table.get(1).getRank());
+        assertEquals("34", table.get(1).getTeam().getId());
+    }
+
+    @Test
+    void getStandings_leagueWithoutStandings_returnsEmptyTable() {
+        when(leagueRepository.findByApiLeagueId("39")).thenReturn(Optional.of(league));
+        when(standingRepository.findLatestSeason("league-uuid")).thenReturn(Optional.empty());
+
+        assertTrue(standingsService.getStandings("39", null).isEmpty());
+    }
+
+    @Test
+    void getStandings_unknownLeague_throwsNoSuchElementException() {
+        when(leagueRepository.findByApiLeagueId("404")).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> standingsService.getStandings("404", 2024));
+    }
+
+    @Test
+    void rebuildStandings_replacesTheSeasonFromStoredResults() {
+        when(leagueRepository.findByApiLeagueId("39")).thenReturn(Optional.of(league));
+        when(fixtureRepository.findResults("league-uuid", 2024, FixtureStatus.resultShortCodes()))
+                .thenReturn(List.of(result(0, 0, ROUND_1), result(2, 0, ROUND_2)));
+        when(standingRepository.findForUpdate(eq("league-uuid"), eq(2024), anyCollection())).thenReturn(List.of(
+                standing(home, 0, 0, 0, 0, 0, null, null),
+                standing(away, 0, 0, 0, 0, 0, null, null)));
+
+        int results = standingsService.rebuildStandings("39", 2024);
+
+        assertEquals(2, results);
+        verify(standingRepository).deleteByLeagueAndSeason("league-uuid", 2024);
+        Standing rebuilt = savedByTeam().get("home-uuid");
+        assertEquals(2, rebuilt.getPlayed());
+        assertEquals(4, rebuilt.getPoints());
+        assertEquals("WD", rebuilt.getForm());
+    }
+}
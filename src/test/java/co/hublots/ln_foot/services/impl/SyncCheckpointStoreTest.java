@@ -0,0 +1,74 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.hublots.ln_foot.config.SyncConfigProperties;
+import co.hublots.ln_foot.models.SyncCheckpoint;
+import co.hublots.ln_foot.repositories.SyncCheckpointRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SyncCheckpointStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-10T12:00:00Z");
+    private static final Map<String, String> PARAMS = Map.of("league", "39", "season", "2024");
+
+    @Mock
+    private SyncCheckpointRepository syncCheckpointRepositoryMock;
+
+    private SyncCheckpointStore syncCheckpointStore;
+
+    @BeforeEach
+    void setUp() {
+        syncCheckpointStore = new SyncCheckpointStore(syncCheckpointRepositoryMock, new SyncConfigProperties(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void storedCheckpoint(int lastCompletedPage, int totalPages, Duration age) {
+        when(syncCheckpointRepositoryMock.findById("fixtures?league=39&season=2024"))
+                .thenReturn(Optional.of(SyncCheckpoint.builder()
+                        .syncKey("fixtures?league=39&season=2024")
+                        .lastCompletedPage(lastCompletedPage)
+                        .totalPages(totalPages)
+                        .updatedAt(NOW.minus(age))
+                        .build()));
+    }
+
+    @Test
+    void resumePage_withRecentCheckpoint_returnsNextPage() {
+        storedCheckpoint(2, 5, Duration.ofMinutes(10));
+
+        assertEquals(3, syncCheckpointStore.resumePage(PARAMS));
+    }
+
+    @Test
+    void resumePage_withStaleCheckpoint_startsOver() {
+        storedCheckpoint(2, 5, Duration.ofHours(7));
+
+        assertEquals(1, syncCheckpointStore.resumePage(PARAMS));
+    }
+
+    @Test
+    void resumePage_withoutCheckpoint_startsAtFirstPage() {
+        assertEquals(1, syncCheckpointStore.resumePage(PARAMS));
+    }
+
+    @Test
+    void syncKey_ignoresPageAndParameterOrder() {
+        assertEquals("fixtures?league=39&season=2024",
+                SyncCheckpointStore.syncKey(Map.of("season", "2024", "page", "4", "league", "39")));
+    }
+}
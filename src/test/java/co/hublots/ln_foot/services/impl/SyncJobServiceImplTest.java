@@ -0,0 +1,158 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.hublots.ln_foot.dto.SyncStatusDto;
+import co.hublots.ln_foot.dto.SyncStatusDto.PageProgress;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncPhase;
+import co.hublots.ln_foot.dto.SyncStatusDto.SyncStatus;
+import co.hublots.ln_foot.services.DataSyncService;
+import co.hublots.ln_foot.services.SyncProgressListener;
+import co.hublots.ln_foot.services.TeamStatsService;
+
+@ExtendWith(MockitoExtension.class)
+class SyncJobServiceImplTest {
+
+    @Mock
+    private DataSyncService dataSyncServiceMock;
+    @Mock
+    private TeamStatsService teamStatsServiceMock;
+
+    // Jobs are queued here and run explicitly by the tests
+    private final List<Runnable> queuedJobs = new ArrayList<>();
+    private SyncJobServiceImpl syncJobService;
+
+    @BeforeEach
+    void setUp() {
+        syncJobService = new SyncJobServiceImpl(dataSyncServiceMock, teamStatsServiceMock, queuedJobs::add,
+                Clock.fixed(Instant.parse("2025-05-10T12:00:00Z"), ZoneOffset.UTC));
+    }
+
+    private void runQueuedJobs() {
+        queuedJobs.forEach(Runnable::run);
+        queuedJobs.clear();
+    }
+
+    @Test
+    void submitMainFixturesSync_returnsQueuedJobWithoutRunningTheSync() {
+        SyncStatusDto job = syncJobService.submitMainFixturesSync(Map.of("date", "2025-05-10"));
+
+        assertNotNull(job.getJobId());
+        assertEquals(SyncPhase.QUEUED, job.getPhase());
+        assertNull(job.getStatus());
+        verify(dataSyncServiceMock, never()).syncMainFixtures(anyMap(), any());
+    }
+
+    @Test
+    void findJob_whileRunning_reportsSavedPages() {
+        SyncStatusDto job = syncJobService.submitMainFixturesSync(Map.of());
+        List<SyncStatusDto> seenWhileRunning = new ArrayList<>();
+        when(dataSyncServiceMock.syncMainFixtures(anyMap(), any())).thenAnswer(invocation -> {
+            SyncProgressListener listener = invocation.getArgument(1);
+            listener.pageCompleted(PageProgress.builder().page(1).totalPages(2).itemsProcessed(5).build());
+            listener.pageCompleted(PageProgress.builder().page(2).totalPages(2).failed(true).build());
+            listener.phaseChanged(SyncPhase.SAVING);
+            seenWhileRunning.add(syncJobService.findJob(job.getJobId()).orElseThrow());
+            return SyncStatusDto.builder().status(SyncStatus.SUCCESS).itemsProcessed(5).build();
+        });
+
+        runQueuedJobs();
+
+        SyncStatusDto running = seenWhileRunning.get(0);
+        assertEquals(SyncPhase.SAVING, running.getPhase());
+        assertEquals(5, running.getItemsProcessed());
+        assertEquals(2, running.getPages().size());
+        assertEquals(List.of("Page 2/2 failed"), running.getErrors());
+        assertNotNull(running.getItemsPerSecond());
+    }
+
+    @Test
+    void findJob_afterSuccess_returnsTheSyncResult() {
+        SyncStatusDto job = syncJobService.submitMainFixturesSync(Map.of());
+        when(dataSyncServiceMock.syncMainFixtures(anyMap(), any()))
+                .thenReturn(SyncStatusDto.builder().status(SyncStatus.SUCCESS).itemsProcessed(3).build());
+
+        runQueuedJobs();
+
+        SyncStatusDto finished = syncJobService.findJob(job.getJobId()).orElseThrow();
+        assertEquals(SyncPhase.COMPLETED, finished.getPhase());
+        assertEquals(SyncStatus.SUCCESS, finished.getStatus());
+        assertEquals(3, finished.getItemsProcessed());
+        assertNotNull(finished.getFinishedAt());
+    }
+
+    @Test
+    void findJob_whenSyncThrows_reportsFailedPhaseAndError() {
+        SyncStatusDto job = syncJobService.submitMainFixturesSync(Map.of());
+        when(dataSyncServiceMock.syncMainFixtures(anyMap(), any())).thenThrow(new RuntimeException("DB down"));
+
+        runQueuedJobs();
+
+        SyncStatusDto failed = syncJobService.findJob(job.getJobId()).orElseThrow();
+        assertEquals(SyncPhase.FAILED, failed.getPhase());
+        assertEquals(SyncStatus.ERROR, failed.getStatus());
+        assertTrue(failed.getErrors().get(0).contains("DB down"));
+    }
+
+    @Test
+    void submitInterestedLeaguesSync_runsThePerLeagueSyncAsAJob() {
+        SyncStatusDto job = syncJobService.submitInterestedLeaguesSync("2024", Map.of("from", "2025-05-01"));
+        when(dataSyncServiceMock.syncInterestedLeagues(eq("2024"), eq(Map.of("from", "2025-05-01")), any()))
+                .thenAnswer(invocation -> {
+                    SyncProgressListener listener = invocation.getArgument(2);
+                    listener.pageCompleted(PageProgress.builder().league("39").page(1).totalPages(1)
+                            .itemsProcessed(4).build());
+                    return SyncStatusDto.builder().status(SyncStatus.SUCCESS).itemsProcessed(4).build();
+                });
+
+        assertEquals(SyncPhase.QUEUED, job.getPhase());
+        verify(dataSyncServiceMock, never()).syncInterestedLeagues(any(), anyMap(), any());
+        runQueuedJobs();
+
+        SyncStatusDto finished = syncJobService.findJob(job.getJobId()).orElseThrow();
+        assertEquals(SyncPhase.COMPLETED, finished.getPhase());
+        assertEquals(SyncStatus.SUCCESS, finished.getStatus());
+        assertEquals(4, finished.getItemsProcessed());
+    }
+
+    @Test
+    void submitTeamStatsRebuild_rebuildsInTheBackground() {
+        SyncStatusDto job = syncJobService.submitTeamStatsRebuild();
+        when(teamStatsServiceMock.rebuildTeamStats()).thenReturn(12);
+
+        verify(teamStatsServiceMock, never()).rebuildTeamStats();
+        runQueuedJobs();
+
+        SyncStatusDto finished = syncJobService.findJob(job.getJobId()).orElseThrow();
+        assertEquals(SyncPhase.COMPLETED, finished.getPhase());
+        assertEquals(SyncStatus.SUCCESS, finished.getStatus());
+        assertEquals(12, finished.getItemsProcessed());
+    }
+
+    @Test
+    void findJob_unknownId_isEmpty() {
+        assertTrue(syncJobService.findJob("missing").isEmpty());
+    }
+}
@@ -0,0 +1,302 @@
+package co.hublots.ln_foot.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import co.hublots.ln_foot.dto.HeadToHeadDto;
+import co.hublots.ln_foot.dto.TeamFormDto;
+import co.hublots.ln_foot.models.HeadToHead;
+import co.hublots.ln_foot.models.Team;
+import co.hublots.ln_foot.models.TeamStats;
+import co.hublots.ln_foot.models.enums.FixtureStatus;
+import co.hublots.ln_foot.repositories.FixtureRepository;
+import co.hublots.ln_foot.repositories.FixtureResult;
+import co.hublots.ln_foot.repositories.HeadToHeadRepository;
+import co.hublots.ln_foot.repositories.TeamRepository;
+import co.hublots.ln_foot.repositories.TeamStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TeamStatsServiceImplTest {
+
+    private static final OffsetDateTime FIRST_MEETING = OffsetDateTime.of(2024, 8, 17, 14, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime SECOND_MEETING = FIRST_MEETING.plusMonths(5);
+
+    @Mock
+    private TeamStatsRepository teamStatsRepository;
+    @Mock
+    private HeadToHeadRepository headToHeadRepository;
+    @Mock
+    private FixtureRepository fixtureRepository;
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Captor
+    private ArgumentCaptor<Collection<TeamStats>> teamStatsCaptor;
+    @Captor
+    private ArgumentCaptor<Collection<HeadToHead>> headToHeadCaptor;
+
+    private TeamStatsServiceImpl teamStatsService;
+    // "a-uuid" sorts first, so alpha is teamA of their head-to-head row
+    private Team alpha;
+    private Team beta;
+
+    @BeforeEach
+    void setUp() {
+        teamStatsService = new TeamStatsServiceImpl(teamStatsRepository, headToHeadRepository, fixtureRepository,
+                teamRepository);
+        alpha = Team.builder().id("a-uuid").apiTeamId("33").teamName("Alpha FC").build();
+        beta = Team.builder().id("b-uuid").apiTeamId("34").teamName("Beta FC").build();
+    }
+
+    private static FixtureResult result(String homeTeamId, String awayTeamId, int homeGoals, int awayGoals,
+            OffsetDateTime kickoff) {
+        return new FixtureResult("league-uuid", 2024, homeTeamId, awayTeamId, homeGoals, awayGoals, kickoff);
+    }
+
+    // The empty rows insertMissing and insertIfMissing create for teams and a pair with no result yet
+    private void stubNewRows() {
+        when(teamStatsRepository.findForUpdate(anyCollection())).thenReturn(List.of(
+                TeamStats.builder().team(alpha).build(), TeamStats.builder().team(beta).build()));
+        when(headToHeadRepository.findForUpdate(anyCollection())).thenReturn(List.of(
+                HeadToHead.builder().teamA(alpha).teamB(beta).build()));
+    }
+
+    private Map<String, TeamStats> savedStatsByTeam() {
+        verify(teamStatsRepository).saveAll(teamStatsCaptor.capture());
+        return teamStatsCaptor.getValue().stream()
+                .collect(Collectors.toMap(stats -> stats.getTeam().getId(), Function.identity()));
+    }
+
+    private HeadToHead savedMeetings() {
+        verify(headToHeadRepository).saveAll(headToHeadCaptor.capture());
+        assertEquals(1, headToHeadCaptor.getValue().size());
+        return headToHeadCaptor.getValue().iterator().next();
+    }
+
+    @Test
+    void applyResults_resultsInKickoffOrder_countHomeAndAwayAndExtendForm() {
+        stubNewRows();
+
+        // Given out of order: the later meeting must still lead the form
+        teamStatsService.applyResults(List.of(), List.of(result("b-uuid", "a-uuid", 2, 2, SECOND_MEETING),
+                result("a-uuid", "b-uuid", 1, 0, FIRST_MEETING)));
+
+        verify(teamStatsRepository).insertMissing(Set.of("a-uuid", "b-uuid"));
+        verify(headToHeadRepository).insertIfMissing("a-uuid", "b-uuid");
+        Map<String, TeamStats> saved = savedStatsByTeam();
+        TeamStats alphaStats = saved.get("a-uuid");
+        assertEquals(1, alphaStats.getHomePlayed());
+        assertEquals(1, alphaStats.getHomeWon());
+        assertEquals(1, alphaStats.getAwayPlayed());
+        assertEquals(1, alphaStats.getAwayDrawn());
+        assertEquals(2, alphaStats.getAwayGoalsFor());
+        assertEquals("DW", alphaStats.getForm());
+        assertEquals(SECOND_MEETING, alphaStats.getLastResultAt());
+        assertEquals("DL", saved.get("b-uuid").getForm());
+
+        HeadToHead meetings = savedMeetings();
+        assertEquals("a-uuid", meetings.getTeamA().getId());
+        assertEquals(2, meetings.getPlayed());
+        assertEquals(1, meetings.getTeamAWins());
+        assertEquals(0, meetings.getTeamBWins());
+        assertEquals(1, meetings.getDraws());
+        assertEquals(3, meetings.getTeamAGoals());
+        assertEquals(2, meetings.getTeamBGoals());
+        assertEquals(SECOND_MEETING, meetings.getLastMatchAt());
+        assertFalse(meetings.getLastTeamAHome());
+        verify(fixtureRepository, never()).findLatestResultsOfTeamInAnyLeague(any(), any(), any());
+        verify(fixtureRepository, never()).findLatestResultsBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void applyResults_correctedResult_swapsTheCountersAndReloadsFormAndLastMeeting() {
+        TeamStats alphaStats = TeamStats.builder().team(alpha).homePlayed(1).homeWon(1).homeGoalsFor(1)
+                .form("W").lastResultAt(FIRST_MEETING).build();
+        TeamStats betaStats = TeamStats.builder().team(beta).awayPlayed(1).awayLost(1).awayGoalsAgainst(1)
+                .form("L").lastResultAt(FIRST_MEETING).build();
+        HeadToHead meetings = HeadToHead.builder().teamA(alpha).teamB(beta).played(1).teamAWins(1).teamAGoals(1)
+                .lastMatchAt(FIRST_MEETING).lastTeamAHome(true).lastTeamAGoals(1).lastTeamBGoals(0).build();
+        when(teamStatsRepository.findForUpdate(anyCollection())).thenReturn(List.of(alphaStats, betaStats));
+        when(headToHeadRepository.findForUpdate(anyCollection())).thenReturn(List.of(meetings));
+        FixtureResult corrected = result("a-uuid", "b-uuid", 1, 3, FIRST_MEETING);
+        when(fixtureRepository.findLatestResultsOfTeamInAnyLeague(any(), eq(FixtureStatus.resultShortCodes()),
+                eq(Limit.of(TeamStatsServiceImpl.FORM_LENGTH)))).thenReturn(List.of(corrected));
+        when(fixtureRepository.findLatestResultsBetween("a-uuid", "b-uuid", FixtureStatus.resultShortCodes(),
+                Limit.of(1))).thenReturn(List.of(corrected));
+
+        teamStatsService.applyResults(List.of(result("a-uuid", "b-uuid", 1, 0, FIRST_MEETING)), List.of(corrected));
+
+        Map<String, TeamStats> saved = savedStatsByTeam();
+        assertEquals(0, saved.get("a-uuid").getHomeWon());
+        assertEquals(1, saved.get("a-uuid").getHomeLost());
+        assertEquals(3, saved.get("a-uuid").getHomeGoalsAgainst());
+        assertEquals("L", saved.get("a-uuid").getForm());
+        assertEquals(1, saved.get("b-uuid").getAwayWon());
+        assertEquals("W", saved.get("b-uuid").getForm());
+        HeadToHead savedMeetings = savedMeetings();
+        assertEquals(1, savedMeetings.getPlayed());
+        assertEquals(0, savedMeetings.getTeamAWins());
+        assertEquals(1, savedMeetings.getTeamBWins());
+        assertEquals(3, savedMeetings.getLastTeamBGoals());
+    }
+
+    @Test
+    void applyResults_removedOnlyMeeting_clearsTheLastMeeting() {
+        HeadToHead meetings = HeadToHead.builder().teamA(alpha).teamB(beta).played(1).draws(1)
+                .lastMatchAt(FIRST_MEETING).lastTeamAHome(true).lastTeamAGoals(0).lastTeamBGoals(0).build();
+        when(teamStatsRepository.findForUpdate(anyCollection())).thenReturn(List.of(
+                TeamStats.builder().team(alpha).homePlayed(1).homeDrawn(1).form("D").build(),
+                TeamStats.builder().team(beta).awayPlayed(1).awayDrawn(1).form("D").build()));
+        when(headToHeadRepository.findForUpdate(anyCollection())).thenReturn(List.of(meetings));
+        when(fixtureRepository.findLatestResultsOfTeamInAnyLeague(any(), any(), any())).thenReturn(List.of());
+        when(fixtureRepository.findLatestResultsBetween(any(), any(), any(), any())).thenReturn(List.of());
+
+        teamStatsService.applyResults(List.of(result("a-uuid", "b-uuid", 0, 0, FIRST_MEETING)), List.of());
+
+        HeadToHead savedMeetings = savedMeetings();
+        assertEquals(0, savedMeetings.getPlayed());
+        assertEquals(0, savedMeetings.getDraws());
+        assertNull(savedMeetings.getLastMatchAt());
+        assertNull(savedMeetings.getLastTeamAHome());
+        assertNull(savedStatsByTeam().get("a-uuid").getForm());
+    }
+
+    @Test
+    void applyResults_nothingChanged_touchesNoRow() {
+        teamStatsService.applyResults(List.of(), List.of());
+
+        verify(teamStatsRepository, never()).findForUpdate(anyCollection());
+        verify(headToHeadRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void getTeamForm_sumsHomeAndAwayIntoOverall() {
+        when(teamRepository.findByApiTeamId("33")).thenReturn(Optional.of(alpha));
+        when(teamStatsRepository.findByTeam_Id("a-uuid")).thenReturn(Optional.of(TeamStats.builder().team(alpha)
+                .homePlayed(2).homeWon(2).homeGoalsFor(5).awayPlayed(1).awayLost(1).awayGoalsAgainst(2)
+                .form("LWW").build()));
+
+        TeamFormDto form = teamStatsService.getTeamForm("33");
+
+        assertEquals("33", form.getTeam().getId());
+        assertEquals("LWW", form.getForm());
+        assertEquals(3, form.getOverall().getPlayed());
+        assertEquals(2, form.getOverall().getWon());
+        assertEquals(1, form.getOverall().getLost());
+        assertEquals(5, form.getOverall().getGoalsFor());
+        assertEquals(2, form.getHome().getPlayed());
+        assertEquals(1, form.getAway().getPlayed());
+    }
+
+    @Test
+    void getTeamForm_teamWithoutResults_returnsEmptyRecord() {
+        when(teamRepository.findByApiTeamId("33")).thenReturn(Optional.of(alpha));
+        when(teamStatsRepository.findByTeam_Id("a-uuid")).thenReturn(Optional.empty());
+
+        TeamFormDto form = teamStatsService.getTeamForm("33");
+
+        assertEquals(0, form.getOverall().getPlayed());
+        assertNull(form.getForm());
+    }
+
+    @Test
+    void getHeadToHead_fromTheSecondTeamsPointOfView_swapsTheCounters() {
+        when(teamRepository.findByApiTeamId("34")).thenReturn(Optional.of(beta));
+        when(teamRepository.findByApiTeamId("33")).thenReturn(Optional.of(alpha));
+        when(headToHeadRepository.findByTeamA_IdAndTeamB_Id("a-uuid", "b-uuid")).thenReturn(Optional.of(
+                HeadToHead.builder().teamA(alpha).teamB(beta).played(3).teamAWins(2).draws(1).teamAGoals(5)
+                        .teamBGoals(2).lastMatchAt(SECOND_MEETING).lastTeamAHome(false).lastTeamAGoals(1)
+                        .lastTeamBGoals(1).build()));
+
+        HeadToHeadDto headToHead = teamStatsService.getHeadToHead("34", "33");
+
+        assertEquals("34", headToHead.getTeam().getId());
+        assertEquals("33", headToHead.getOpponent().getId());
+        assertEquals(0, headToHead.getWins());
+        assertEquals(2, headToHead.getLosses());
+        assertEquals(1, headToHead.getDraws());
+        assertEquals(2, headToHead.getGoalsFor());
+        assertEquals(5, headToHead.getGoalsAgainst());
+        assertEquals("34", headToHead.getLastMeeting().getHomeTeamId());
+        assertEquals(SECOND_MEETING, headToHead.getLastMeeting().getDate());
+    }
+
+    @Test
+    void getHeadToHead_teamsThatNeverMet_returnsNoLastMeeting() {
+        when(teamRepository.findByApiTeamId("33")).thenReturn(Optional.of(alpha));
+        when(teamRepository.findByApiTeamId("34")).thenReturn(Optional.of(beta));
+        when(headToHeadRepository.findByTeamA_IdAndTeamB_Id("a-uuid", "b-uuid")).thenReturn(Optional.empty());
+
+        HeadToHeadDto headToHead = teamStatsService.getHeadToHead("33", "34");
+
+        assertEquals(0, headToHead.getPlayed());
+        assertNull(headToHead.getLastMeeting());
+    }
+
+    @Test
+    void getHeadToHead_sameTeamTwice_throwsIllegalArgumentException() {
+        when(teamRepository.findByApiTeamId("33")).thenReturn(Optional.of(alpha));
+
+        assertThrows(IllegalArgumentException.class, () -> teamStatsService.getHeadToHead("33", "33"));
+    }
+
+    @Test
+    void getTeamForm_unknownTeam_throwsNoSuchElementException() {
+        when(teamRepository.findByApiTeamId("404")).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> teamStatsService.getTeamForm("404"));
+    }
+
+    @Test
+    void applyResults_teamDeletedMeanwhile_throwsIllegalStateException() {
+        when(teamStatsRepository.findForUpdate(anyCollection())).thenReturn(List.of(
+                TeamStats.builder().team(alpha).build()));
+
+        assertThrows(IllegalStateException.class, () -> teamStatsService.applyResults(List.of(),
+                List.of(result("a-uuid", "b-uuid", 1, 0, FIRST_MEETING))));
+        verify(teamStatsRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void rebuildTeamStats_replacesEveryRowFromStoredResults() {
+        stubNewRows();
+        when(fixtureRepository.findAllResults(FixtureStatus.resultShortCodes()))
+                .thenReturn(List.of(result("a-uuid", "b-uuid", 2, 0, FIRST_MEETING)));
+
+        int results = teamStatsService.rebuildTeamStats();
+
+        assertEquals(1, results);
+        verify(teamStatsRepository).deleteAllStats();
+        verify(headToHeadRepository).deleteAllMeetings();
+        assertEquals(1, savedStatsByTeam().get("a-uuid").getHomeWon());
+        assertEquals(1, savedMeetings().getTeamAWins());
+    }
+}
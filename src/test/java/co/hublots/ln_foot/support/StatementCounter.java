@@ -0,0 +1,53 @@
+package co.hublots.ln_foot.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Counts the SQL statements Hibernate prepares, so tests can assert how many
+ * queries a service call issues. Register it with
+ * {@code @Import(StatementCounter.Config.class)} and autowire the counter.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        count.incrementAndGet();
+        return sql;
+    }
+
+    /**
+     * Runs the call and returns its result along with the number of statements
+     * prepared meanwhile.
+     */
+    public <T> Counted<T> count(Supplier<T> call) {
+        int before = count.get();
+        T result = call.get();
+        return new Counted<>(result, count.get() - before);
+    }
+
+    public record Counted<T>(T result, int statements) {
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+        }
+    }
+}